@@ -0,0 +1,121 @@
+package com.signly.benchmark;
+
+import com.signly.contract.application.support.SignatureImageInjector;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+/**
+ * 계약서 PDF 벤치마크 공용 픽스처
+ * - 표준근로계약서 프리셋 HTML
+ * - 서명 패드 출력과 비슷한 실제 PNG 서명 이미지 (Data URL)
+ */
+public final class ContractBenchmarkFixtures {
+
+    public static final String PRESET_PATH = "/presets/templates/standard-employment-contract.html";
+    public static final String CSS_PATH = "/static/css/contract-common.css";
+
+    private static final int SIGNATURE_WIDTH = 600;
+    private static final int SIGNATURE_HEIGHT = 200;
+
+    private ContractBenchmarkFixtures() {
+    }
+
+    /**
+     * 표준근로계약서 프리셋 원문 (서명 플레이스홀더 포함)
+     */
+    public static String presetHtml() {
+        return readResource(PRESET_PATH);
+    }
+
+    /**
+     * PDF용 CSS 원문 (변환 전)
+     */
+    public static String contractCss() {
+        return readResource(CSS_PATH);
+    }
+
+    /**
+     * 서명 패드로 그린 것과 비슷한 PNG 서명 이미지 Data URL
+     *
+     * @param seed 획 모양을 결정하는 값 (당사자별로 다르게 지정)
+     */
+    public static String signatureDataUrl(long seed) {
+        BufferedImage image = new BufferedImage(SIGNATURE_WIDTH, SIGNATURE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setColor(Color.BLACK);
+            graphics.setStroke(new BasicStroke(3.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+
+            Random random = new Random(seed);
+            for (int stroke = 0; stroke < 4; stroke++) {
+                Path2D path = new Path2D.Double();
+                double x = 40 + stroke * 130 + random.nextInt(30);
+                double y = 60 + random.nextInt(80);
+                path.moveTo(x, y);
+                for (int segment = 0; segment < 6; segment++) {
+                    path.curveTo(
+                            x + random.nextInt(40), y - 50 + random.nextInt(100),
+                            x + 20 + random.nextInt(40), y - 50 + random.nextInt(100),
+                            x + 30 + random.nextInt(30), 40 + random.nextInt(120)
+                    );
+                    x += 20;
+                    y = 40 + random.nextInt(120);
+                }
+                graphics.draw(path);
+            }
+        } finally {
+            graphics.dispose();
+        }
+
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            ImageIO.write(image, "png", output);
+            return "data:image/png;base64," + Base64.getEncoder().encodeToString(output.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 서명 이미지가 이미 삽입된 계약서 HTML (저장된 완료 계약서와 같은 형태)
+     *
+     * @param employerImage 갑 서명 Data URL
+     * @param employeeImage 을 서명 Data URL, 없으면 null
+     */
+    public static String contractHtmlWithSignatures(
+            String employerImage,
+            String employeeImage
+    ) {
+        String html = presetHtml();
+        html = html.replace(SignatureImageInjector.EMPLOYER_PLACEHOLDER, imageTag(employerImage));
+        return html.replace(SignatureImageInjector.EMPLOYEE_PLACEHOLDER, employeeImage == null ? "" : imageTag(employeeImage));
+    }
+
+    private static String imageTag(String dataUrl) {
+        return "<img src=\"" + dataUrl + "\" class=\"signature-stamp-image-element\" alt=\"서명\"/>";
+    }
+
+    private static String readResource(String path) {
+        try (InputStream in = ContractBenchmarkFixtures.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("벤치마크 리소스를 찾을 수 없습니다: " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.signly.benchmark;
+
+import com.signly.common.html.HtmlEntityNormalizer;
+import com.signly.common.html.XhtmlNormalizer;
+import com.signly.contract.application.support.ContractHtmlSanitizer;
+import com.signly.contract.application.support.SignatureImageInjector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계약서 HTML 정규화 벤치마크
+ * 기존 정규식 체인(sanitize → placeholder 정규화 → 서명 삽입 → XHTML 변환)과
+ * 단일 파싱/직렬화 XhtmlNormalizer를 표준근로계약서 프리셋으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContractHtmlNormalizationBenchmark {
+
+    private String contractHtml;
+    private String employerImage;
+    private String employeeImage;
+
+    @Setup
+    public void setUp() {
+        contractHtml = ContractBenchmarkFixtures.presetHtml();
+        employerImage = ContractBenchmarkFixtures.signatureDataUrl(1L);
+        employeeImage = ContractBenchmarkFixtures.signatureDataUrl(2L);
+    }
+
+    @Benchmark
+    public String legacyRegexChain() {
+        return LegacyChain.normalize(contractHtml, employerImage, employeeImage);
+    }
+
+    @Benchmark
+    public String singlePassNormalizer() {
+        return XhtmlNormalizer.toXhtmlFragment(contractHtml, new SignatureImageInjector(employerImage, employeeImage));
+    }
+
+    /**
+     * 비교 기준: XhtmlNormalizer 도입 전 PDF 경로의 문자열 처리 체인
+     */
+    static final class LegacyChain {
+
+        private LegacyChain() {
+        }
+
+        static String normalize(
+                String html,
+                String employerImage,
+                String employeeImage
+        ) {
+            String result = HtmlEntityNormalizer.normalizePlaceholders(ContractHtmlSanitizer.sanitize(html));
+            result = inject(result, employerImage, SignatureImageInjector.EMPLOYER_PLACEHOLDER);
+            result = inject(result, employeeImage, SignatureImageInjector.EMPLOYEE_PLACEHOLDER);
+            return toXhtml(result);
+        }
+
+        private static String inject(
+                String html,
+                String dataUrl,
+                String placeholder
+        ) {
+            String imageTag = String.format("<img src=\"%s\" class=\"signature-stamp-image-element\" alt=\"서명\"/>", dataUrl);
+            if (html.contains(placeholder)) {
+                return html.replace(placeholder, imageTag);
+            }
+            String existingImagePattern = "<img[^>]*class=\"signature-stamp-image-element\"[^>]*>";
+            if (html.matches("(?s).*" + existingImagePattern + ".*")) {
+                return html.replaceFirst(existingImagePattern, imageTag);
+            }
+            return html;
+        }
+
+        private static String toXhtml(String html) {
+            String xhtml = html;
+            xhtml = xhtml.replaceAll("<br\\s*/?>", "<br/>");
+            xhtml = xhtml.replaceAll("</br>", "");
+            xhtml = xhtml.replaceAll("<hr\\s*/?>", "<hr/>");
+            xhtml = xhtml.replaceAll("<input([^>]*?)(?<!/)>", "<input$1/>");
+            xhtml = xhtml.replaceAll("<meta([^>]*?)(?<!/)>", "<meta$1/>");
+            xhtml = xhtml.replaceAll("<link([^>]*?)(?<!/)>", "<link$1/>");
+            return xhtml.replaceAll("<img([^>]*?)(?<!/)>", "<img$1/>");
+        }
+    }
+}
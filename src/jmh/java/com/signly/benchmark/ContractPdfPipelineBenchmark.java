@@ -0,0 +1,65 @@
+package com.signly.benchmark;
+
+import com.signly.common.html.HtmlEntityNormalizer;
+import com.signly.common.html.XhtmlNormalizer;
+import com.signly.contract.application.support.ContractHtmlSanitizer;
+import com.signly.contract.application.support.SignatureImageInjector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계약서 → PDF 경로의 문자열/DOM 처리 단계별 벤치마크
+ * 서명 1개(갑)와 2개(갑/을) 계약서로 처리량, p99(SampleTime), 할당량(-prof gc)을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ContractPdfPipelineBenchmark {
+
+    @Param({"1", "2"})
+    public int signatures;
+
+    private String presetHtml;
+    private String signedHtml;
+    private String employerImage;
+    private String employeeImage;
+
+    @Setup
+    public void setUp() {
+        presetHtml = ContractBenchmarkFixtures.presetHtml();
+        employerImage = ContractBenchmarkFixtures.signatureDataUrl(1L);
+        employeeImage = signatures > 1 ? ContractBenchmarkFixtures.signatureDataUrl(2L) : null;
+        signedHtml = ContractBenchmarkFixtures.contractHtmlWithSignatures(employerImage, employeeImage);
+    }
+
+    @Benchmark
+    public String sanitize() {
+        return ContractHtmlSanitizer.sanitize(signedHtml);
+    }
+
+    @Benchmark
+    public String normalizeEntities() {
+        return HtmlEntityNormalizer.normalizeEntities(signedHtml);
+    }
+
+    @Benchmark
+    public String normalizePlaceholders() {
+        return HtmlEntityNormalizer.normalizePlaceholders(presetHtml);
+    }
+
+    /**
+     * ContractPdfService.insertSignatureImages와 같은 구성 (정규화 + 서명 삽입 단일 패스)
+     */
+    @Benchmark
+    public String insertSignatureImages() {
+        return XhtmlNormalizer.toXhtmlFragment(presetHtml, new SignatureImageInjector(employerImage, employeeImage));
+    }
+}
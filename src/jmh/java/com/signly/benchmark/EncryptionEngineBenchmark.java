@@ -0,0 +1,188 @@
+package com.signly.benchmark;
+
+import com.signly.common.encryption.AesEncryptionService;
+import com.signly.common.encryption.EncryptionProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컬럼 암복호화/검색용 해시 벤치마크 (할당량은 gc 프로파일러의 gc.alloc.rate.norm)
+ * 목록 한 페이지에 해당하는 이름/이메일 값을 사용한다.
+ * - legacy*: 호출마다 Cipher/MessageDigest를 만들고 IV/암호문을 복사하던 기존 구현
+ * - 나머지: 스레드별 Cipher/MessageDigest를 재사용하는 현재 AesEncryptionService
+ * 공유 SecureRandom 경합을 보기 위해 4개 스레드로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class EncryptionEngineBenchmark {
+
+    private static final String KEY = Base64.getEncoder().encodeToString("12345678901234567890123456789012".getBytes());
+    private static final String SALT = "benchmarkSalt123";
+
+    /**
+     * 목록 한 페이지의 암호화 값 수 (20행 × 이름/이메일 등 5개 컬럼)
+     */
+    @Param({"100"})
+    private int values;
+
+    private AesEncryptionService service;
+    private Legacy legacy;
+    private String plainText;
+    private String cipherText;
+    private List<String> page;
+
+    @Setup
+    public void setUp() {
+        EncryptionProperties properties = new EncryptionProperties();
+        properties.setSecretKey(KEY);
+        properties.setSalt(SALT);
+        service = new AesEncryptionService(properties);
+        legacy = new Legacy(properties);
+
+        plainText = "홍길동 hong.gildong@example.com";
+        cipherText = service.encrypt(plainText);
+        page = new ArrayList<>(values);
+        for (int i = 0; i < values; i++) {
+            page.add(service.encrypt("서명자" + i + " signer" + i + "@example.com"));
+        }
+    }
+
+    @Benchmark
+    public String legacyEncrypt() {
+        return legacy.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return service.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String legacyDecrypt() {
+        return legacy.decrypt(cipherText);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return service.decrypt(cipherText);
+    }
+
+    @Benchmark
+    public String legacyHashEmail() {
+        return legacy.hash(plainText);
+    }
+
+    @Benchmark
+    public String hashEmail() {
+        return service.hash(plainText);
+    }
+
+    @Benchmark
+    public List<String> legacyDecryptPage() {
+        List<String> result = new ArrayList<>(page.size());
+        for (String value : page) {
+            result.add(legacy.decrypt(value));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> decryptPage() {
+        List<String> result = new ArrayList<>(page.size());
+        for (String value : page) {
+            result.add(service.decrypt(value));
+        }
+        return result;
+    }
+
+    /**
+     * 비교 기준: 엔진 도입 전 AesEncryptionService
+     */
+    static final class Legacy {
+
+        private static final String PREFIX = "{ENC}";
+
+        private final EncryptionProperties properties;
+        private final SecureRandom secureRandom = new SecureRandom();
+        private final SecretKey secretKey;
+
+        Legacy(EncryptionProperties properties) {
+            this.properties = properties;
+            this.secretKey = new SecretKeySpec(Base64.getDecoder().decode(properties.getSecretKey()), "AES");
+        }
+
+        String encrypt(String plainText) {
+            try {
+                byte[] iv = new byte[properties.getIvLength()];
+                secureRandom.nextBytes(iv);
+
+                Cipher cipher = Cipher.getInstance(properties.getAlgorithm());
+                cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(properties.getTagLength(), iv));
+                byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+
+                byte[] combined = new byte[iv.length + encrypted.length];
+                System.arraycopy(iv, 0, combined, 0, iv.length);
+                System.arraycopy(encrypted, 0, combined, iv.length, encrypted.length);
+                return PREFIX + Base64.getEncoder().encodeToString(combined);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        String decrypt(String encryptedText) {
+            try {
+                String textToDecode = encryptedText.startsWith(PREFIX) ? encryptedText.substring(PREFIX.length()) : encryptedText;
+                byte[] decoded = Base64.getDecoder().decode(textToDecode);
+
+                byte[] iv = new byte[properties.getIvLength()];
+                byte[] encrypted = new byte[decoded.length - properties.getIvLength()];
+                System.arraycopy(decoded, 0, iv, 0, properties.getIvLength());
+                System.arraycopy(decoded, properties.getIvLength(), encrypted, 0, encrypted.length);
+
+                Cipher cipher = Cipher.getInstance(properties.getAlgorithm());
+                cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(properties.getTagLength(), iv));
+                return new String(cipher.doFinal(encrypted), StandardCharsets.UTF_8);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        String hash(String rawText) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                byte[] hash = digest.digest((rawText + properties.getSalt()).getBytes(StandardCharsets.UTF_8));
+
+                StringBuilder hexString = new StringBuilder();
+                for (byte b : hash) {
+                    String hex = Integer.toHexString(0xff & b);
+                    if (hex.length() == 1) hexString.append('0');
+                    hexString.append(hex);
+                }
+                return hexString.toString();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.signly.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.domain.model.TemplateMetadata;
+import com.signly.template.domain.model.TemplateSection;
+import com.signly.template.domain.model.TemplateSectionType;
+import com.signly.template.domain.model.TemplateVariable;
+import com.signly.template.domain.model.TemplateVariableType;
+import com.signly.template.infrastructure.cache.TemplateContentSmileCodec;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 템플릿 콘텐츠 파싱/직렬화 벤치마크 (할당량은 gc 프로파일러의 gc.alloc.rate.norm)
+ * 표준근로계약서 프리셋을 실제 프리셋 초기화와 같은 방식으로 섹션으로 나눈 문서를 사용한다.
+ * - legacyTree*: JsonNode 트리 + convertValue / 중간 Map + writeValueAsString (기존 구현)
+ * - streaming*: JsonParser/JsonGenerator로 바로 읽고 쓰는 현재 구현
+ * - smile*: 같은 스트리밍 코드로 Smile 스냅샷 읽기/쓰기 (Redis 스냅샷 공유용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateContentCodecBenchmark {
+
+    /**
+     * 프리셋 조항 반복 횟수 (1 = 실제 프리셋 크기)
+     */
+    @Param({"1", "4"})
+    private int copies;
+
+    private TemplateContent content;
+    private String json;
+    private byte[] smile;
+
+    @Setup
+    public void setUp() {
+        content = presetContent(copies);
+        json = content.toJson();
+        smile = TemplateContentSmileCodec.encode(content);
+    }
+
+    @Benchmark
+    public TemplateContent legacyTreeParse() {
+        return LegacyCodec.parse(json);
+    }
+
+    @Benchmark
+    public TemplateContent streamingParse() {
+        return TemplateContent.fromJson(json);
+    }
+
+    @Benchmark
+    public TemplateContent smileParse() {
+        return TemplateContentSmileCodec.decode(smile);
+    }
+
+    @Benchmark
+    public String legacyTreeSerialize() {
+        return LegacyCodec.serialize(content);
+    }
+
+    @Benchmark
+    public String streamingSerialize() {
+        return content.toJson();
+    }
+
+    @Benchmark
+    public byte[] smileSerialize() {
+        return TemplateContentSmileCodec.encode(content);
+    }
+
+    /**
+     * 프리셋 HTML을 PresetInitializationService와 같은 규칙으로 섹션 분리
+     */
+    static TemplateContent presetContent(int copies) {
+        var doc = Jsoup.parse(ContractBenchmarkFixtures.presetHtml());
+        List<TemplateSection> sections = new ArrayList<>();
+        int order = 0;
+
+        Element title = doc.selectFirst("div.title");
+        if (title != null) {
+            sections.add(TemplateSection.of("preset-sec-title", TemplateSectionType.HEADER, order++,
+                    title.outerHtml(), Map.of("preset", true, "title", "표준근로계약서"), new ArrayList<>()));
+        }
+        Element intro = doc.selectFirst("div.contract-intro");
+        if (intro != null) {
+            sections.add(TemplateSection.of("preset-sec-intro", TemplateSectionType.PARAGRAPH, order++,
+                    intro.outerHtml(), Map.of("preset", true, "title", "서론"), new ArrayList<>()));
+        }
+        var clauses = doc.select("div.section");
+        for (int copy = 0; copy < copies; copy++) {
+            for (int i = 0; i < clauses.size(); i++) {
+                sections.add(TemplateSection.of("preset-sec-clause-" + copy + "-" + (i + 1), TemplateSectionType.PARAGRAPH,
+                        order++, clauses.get(i).outerHtml(),
+                        Map.of("preset", true, "title", "제" + (i + 1) + "조", "clauseNumber", i + 1), new ArrayList<>()));
+            }
+        }
+        Element signature = doc.selectFirst("div.signature-section");
+        if (signature != null) {
+            sections.add(TemplateSection.of("preset-sec-signature", TemplateSectionType.CUSTOM, order,
+                    signature.outerHtml(), Map.of("preset", true, "title", "서명"), new ArrayList<>()));
+        }
+
+        Map<String, TemplateVariable> variables = new HashMap<>();
+        variables.put("EMPLOYER", TemplateVariable.of("사업주", TemplateVariableType.TEXT, true, ""));
+        variables.put("EMPLOYEE", TemplateVariable.of("근로자", TemplateVariableType.TEXT, true, ""));
+        return TemplateContent.of(TemplateMetadata.of("표준 근로계약서", "프리셋 템플릿", "system", variables), sections);
+    }
+
+    /**
+     * 비교 기준: 스트리밍 도입 전 TemplateContentParser/TemplateContentSerializer
+     */
+    static final class LegacyCodec {
+
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+
+        private LegacyCodec() {
+        }
+
+        static TemplateContent parse(String jsonContent) {
+            try {
+                JsonNode root = MAPPER.readTree(jsonContent);
+                String version = root.has("version") ? root.get("version").asText() : "1.0";
+
+                JsonNode metadataNode = root.get("metadata");
+                Map<String, TemplateVariable> variables = new HashMap<>();
+                metadataNode.get("variables").fields().forEachRemaining(entry -> {
+                    JsonNode varNode = entry.getValue();
+                    variables.put(entry.getKey(), TemplateVariable.of(
+                            varNode.get("label").asText(),
+                            TemplateVariableType.valueOf(varNode.get("type").asText().toUpperCase()),
+                            varNode.get("required").asBoolean(),
+                            varNode.get("defaultValue").asText()));
+                });
+                TemplateMetadata metadata = TemplateMetadata.of(metadataNode.get("title").asText(),
+                        metadataNode.get("description").asText(), metadataNode.get("createdBy").asText(), variables);
+
+                List<TemplateSection> sections = new ArrayList<>();
+                for (JsonNode sectionNode : root.get("sections")) {
+                    Map<String, Object> sectionMetadata = MAPPER.convertValue(sectionNode.get("metadata"), new TypeReference<>() {});
+                    List<String> sectionVariables = new ArrayList<>();
+                    for (JsonNode varNode : sectionNode.get("variables")) {
+                        sectionVariables.add(varNode.asText());
+                    }
+                    sections.add(TemplateSection.of(sectionNode.get("sectionId").asText(),
+                            TemplateSectionType.valueOf(sectionNode.get("type").asText().toUpperCase()),
+                            sectionNode.get("order").asInt(), sectionNode.get("content").asText(),
+                            sectionMetadata, sectionVariables));
+                }
+                return new TemplateContent(version, metadata, sections);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        static String serialize(TemplateContent content) {
+            try {
+                Map<String, Object> metadataMap = new HashMap<>();
+                metadataMap.put("title", content.metadata().title());
+                metadataMap.put("description", content.metadata().description());
+                metadataMap.put("createdBy", content.metadata().createdBy());
+                Map<String, Map<String, Object>> variablesMap = new HashMap<>();
+                content.metadata().variables().forEach((key, var) -> {
+                    Map<String, Object> varMap = new HashMap<>();
+                    varMap.put("label", var.label());
+                    varMap.put("type", var.type().name().toLowerCase());
+                    varMap.put("required", var.required());
+                    varMap.put("defaultValue", var.defaultValue());
+                    variablesMap.put(key, varMap);
+                });
+                metadataMap.put("variables", variablesMap);
+
+                List<Map<String, Object>> sections = content.sections().stream()
+                        .sorted(Comparator.comparingInt(TemplateSection::getOrder))
+                        .map(section -> {
+                            Map<String, Object> sectionMap = new HashMap<>();
+                            sectionMap.put("sectionId", section.getSectionId());
+                            sectionMap.put("type", section.getType().name());
+                            sectionMap.put("order", section.getOrder());
+                            sectionMap.put("content", section.getContent());
+                            sectionMap.put("metadata", section.getMetadata());
+                            sectionMap.put("variables", section.getVariables());
+                            return sectionMap;
+                        })
+                        .toList();
+
+                Map<String, Object> root = new HashMap<>();
+                root.put("version", content.version());
+                root.put("metadata", metadataMap);
+                root.put("sections", sections);
+                return MAPPER.writeValueAsString(root);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.signly.benchmark;
+
+import com.signly.template.domain.model.CompiledTemplateLayout;
+import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.domain.model.TemplateMetadata;
+import com.signly.template.domain.model.TemplateSection;
+import com.signly.template.domain.model.TemplateSectionType;
+import com.signly.template.domain.service.TemplateLayoutCompiler;
+import com.signly.template.domain.service.TemplateLayoutHtmlRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 템플릿 변수 대입 벤치마크
+ * 기존 정규식 + StringBuffer + 이스케이프 체인 렌더링과 조각 단위로 컴파일된 레이아웃 렌더링을 비교한다.
+ * - compiledLayout: 템플릿 버전별 캐시에서 레이아웃을 재사용하는 경우
+ * - compileAndRender: 캐시 없이 매번 컴파일하는 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateVariableSubstitutionBenchmark {
+
+    @Param({"10", "40"})
+    private int sections;
+
+    private TemplateContent templateContent;
+    private CompiledTemplateLayout layout;
+    private Map<String, String> variableValues;
+
+    @Setup
+    public void setUp() {
+        List<TemplateSection> templateSections = new ArrayList<>();
+        templateSections.add(TemplateSection.of("title", TemplateSectionType.HEADER, 0, "표준근로계약서", Map.of("level", 1), List.of()));
+        for (int i = 1; i < sections; i++) {
+            TemplateSectionType type = i % 5 == 0 ? TemplateSectionType.DOTTED_BOX : TemplateSectionType.PARAGRAPH;
+            templateSections.add(TemplateSection.of("section-" + i, type, i,
+                    i + ". [EMPLOYER](이하 \"사업주\"라 함)과(와) [EMPLOYEE](이하 \"근로자\"라 함)은 다음과 같이 근로계약을 체결한다.\n" +
+                            "근로개시일: [CONTRACT_START_DATE] / 근무장소: [WORKPLACE] / 업무내용: [JOB_DESCRIPTION]",
+                    null, List.of()));
+        }
+        templateSections.add(TemplateSection.of("footer", TemplateSectionType.FOOTER, sections,
+                "[EMPLOYER] (서명) [EMPLOYER_SIGNATURE_IMAGE]", null, List.of()));
+
+        templateContent = TemplateContent.of(TemplateMetadata.of("벤치마크", "변수 대입", "bench", Map.of()), templateSections);
+        layout = TemplateLayoutCompiler.compile(templateContent);
+
+        variableValues = new HashMap<>();
+        variableValues.put("EMPLOYER", "주식회사 시그니 & 파트너스");
+        variableValues.put("EMPLOYEE", "홍길동");
+        variableValues.put("CONTRACT_START_DATE", "2026-01-01");
+        variableValues.put("WORKPLACE", "서울특별시 중구 세종대로 110");
+        variableValues.put("JOB_DESCRIPTION", "소프트웨어 개발 <백엔드>");
+    }
+
+    @Benchmark
+    public String legacyRegex() {
+        return LegacyRenderer.render(templateContent, variableValues);
+    }
+
+    @Benchmark
+    public String compiledLayout() {
+        return TemplateLayoutHtmlRenderer.render(layout, variableValues);
+    }
+
+    @Benchmark
+    public String compileAndRender() {
+        return TemplateLayoutHtmlRenderer.render(TemplateLayoutCompiler.compile(templateContent), variableValues);
+    }
+
+    /**
+     * 비교 기준: 컴파일된 레이아웃 도입 전 UnifiedTemplateRenderer.renderWithVariables (PARAGRAPH/DOTTED_BOX/HEADER/FOOTER)
+     */
+    static final class LegacyRenderer {
+
+        private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\[([^\\]]+)\\]");
+
+        private LegacyRenderer() {
+        }
+
+        static String render(
+                TemplateContent content,
+                Map<String, String> values
+        ) {
+            List<TemplateSection> sorted = content.sections().stream()
+                    .sorted(Comparator.comparingInt(TemplateSection::getOrder))
+                    .toList();
+
+            var html = new StringBuilder();
+            html.append("<div class=\"template-document\">\n");
+            for (TemplateSection section : sorted) {
+                String substituted = substitute(section.getContent(), values);
+                String escaped = HtmlUtils.htmlEscape(substituted);
+                html.append(switch (section.getType()) {
+                    case HEADER -> String.format("<section class=\"template-heading%s\"><h%d>%s</h%d></section>", " text-center", 1, escaped, 1);
+                    case DOTTED_BOX -> String.format("<section class=\"template-dotted-box%s\"><p>%s</p></section>", "", escaped.replace("\n", "<br>"));
+                    case FOOTER -> String.format("<section class=\"template-footer%s\"><p>%s</p></section>", " text-center", escaped.replace("\n", "<br>"));
+                    default -> String.format("<section class=\"template-paragraph%s%s\"><p>%s</p></section>", "", "", escaped.replace("\n", "<br>"));
+                });
+                html.append("\n");
+            }
+            return html.append("</div>").toString();
+        }
+
+        private static String substitute(
+                String content,
+                Map<String, String> values
+        ) {
+            Matcher matcher = VARIABLE_PATTERN.matcher(content);
+            StringBuffer result = new StringBuffer();
+            while (matcher.find()) {
+                String name = matcher.group(1);
+                String value = values.getOrDefault(name, "[" + name + "]");
+                matcher.appendReplacement(result, Matcher.quoteReplacement(escapeHtml(value)));
+            }
+            matcher.appendTail(result);
+            return result.toString();
+        }
+
+        private static String escapeHtml(String text) {
+            return text.replace("&", "&amp;")
+                    .replace("<", "&lt;")
+                    .replace(">", "&gt;")
+                    .replace("\"", "&quot;")
+                    .replace("'", "&#39;");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.signly.contract.infrastructure.pdf;
+
+import com.signly.benchmark.ContractBenchmarkFixtures;
+import com.signly.contract.domain.model.GeneratedPdf;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PDF 생성기 벤치마크
+ * - CSS 변환: contract-common.css를 PDF용으로 변환하는 비용 (자산 빌드/재로딩 시 실행)
+ * - generateFromHtml: 정규화 → XHTML 문서 구성 → Flying Saucer 레이아웃/PDF 출력 전체
+ * 렌더링 엔진은 워커 1개로 구성하여 요청 하나의 지연 시간을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HtmlToPdfGeneratorBenchmark {
+
+    @Param({"1", "2"})
+    public int signatures;
+
+    private String contractCss;
+    private String signedHtml;
+    private PdfRenderingEngine renderingEngine;
+    private HtmlToPdfGenerator generator;
+
+    @Setup
+    public void setUp() {
+        contractCss = ContractBenchmarkFixtures.contractCss();
+        signedHtml = ContractBenchmarkFixtures.contractHtmlWithSignatures(
+                ContractBenchmarkFixtures.signatureDataUrl(1L),
+                signatures > 1 ? ContractBenchmarkFixtures.signatureDataUrl(2L) : null
+        );
+
+        PdfRenderAssets renderAssets = new PdfRenderAssets();
+        renderingEngine = new PdfRenderingEngine(renderAssets, new SimpleMeterRegistry(), 1, 4, 60_000L, 60_000L, 50);
+        // 템플릿 기반 경로는 측정하지 않으므로 레이아웃 캐시 없이 생성
+        generator = new HtmlToPdfGenerator(renderAssets, renderingEngine, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        renderingEngine.shutdown();
+    }
+
+    @Benchmark
+    public String adaptCssForPdf() {
+        return PdfRenderAssets.adaptCssForPdf(contractCss);
+    }
+
+    @Benchmark
+    public GeneratedPdf generateFromHtml() {
+        return generator.generateFromHtml(signedHtml, "benchmark.pdf");
+    }
+}
@@ -0,0 +1,263 @@
+package com.signly.common.config;
+
+import com.signly.common.encryption.AesEncryptionService;
+import com.signly.common.html.XhtmlNormalizer;
+import com.signly.contract.application.support.SignatureImageInjector;
+import com.signly.contract.domain.service.PdfGenerator;
+import com.signly.notification.application.dto.EmailRequest;
+import com.signly.notification.domain.model.EmailTemplate;
+import com.signly.notification.infrastructure.gateway.SmtpEmailSender;
+import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.domain.model.TemplateMetadata;
+import com.signly.template.domain.model.TemplateSection;
+import com.signly.template.domain.model.TemplateSectionType;
+import com.signly.template.domain.service.UnifiedTemplateRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 직후 주요 처리 경로 워밍업
+ * - PDF 렌더링(Flying Saucer), 템플릿 변수 렌더링/JSON 직렬화(Jackson), AES 암복호화, 이메일 템플릿(Thymeleaf)을
+ *   합성 데이터로 반복 실행하여 클래스 로딩과 JIT 컴파일을 첫 요청 전에 끝낸다.
+ * - ApplicationReadyEvent 리스너에서 동기로 실행하므로 끝날 때까지 readiness가 ACCEPTING_TRAFFIC으로 바뀌지 않는다.
+ *   (Spring Boot는 ApplicationReadyEvent 리스너가 모두 끝난 뒤 readiness 상태를 게시)
+ * - 전체 실행 시간은 설정된 예산을 넘지 않으며, 결과는 WarmupMetrics로 기록한다.
+ */
+@Component
+public class ApplicationWarmupRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationWarmupRunner.class);
+    private static final String PRESET_LOCATION = "classpath:presets/templates/standard-employment-contract.html";
+    private static final String WARMUP_EMAIL = "warmup@signly.local";
+
+    private final PdfGenerator pdfGenerator;
+    private final UnifiedTemplateRenderer templateRenderer;
+    private final AesEncryptionService encryptionService;
+    private final ObjectProvider<SmtpEmailSender> emailSenderProvider;
+    private final ResourceLoader resourceLoader;
+    private final WarmupMetrics warmupMetrics;
+    private final boolean enabled;
+    private final long budgetMs;
+    private final int maxIterations;
+
+    public ApplicationWarmupRunner(
+            PdfGenerator pdfGenerator,
+            UnifiedTemplateRenderer templateRenderer,
+            AesEncryptionService encryptionService,
+            ObjectProvider<SmtpEmailSender> emailSenderProvider,
+            ResourceLoader resourceLoader,
+            WarmupMetrics warmupMetrics,
+            @Value("${app.warmup.enabled:true}") boolean enabled,
+            @Value("${app.warmup.budget-ms:20000}") long budgetMs,
+            @Value("${app.warmup.max-iterations:20}") int maxIterations
+    ) {
+        this.pdfGenerator = pdfGenerator;
+        this.templateRenderer = templateRenderer;
+        this.encryptionService = encryptionService;
+        this.emailSenderProvider = emailSenderProvider;
+        this.resourceLoader = resourceLoader;
+        this.warmupMetrics = warmupMetrics;
+        this.enabled = enabled;
+        this.budgetMs = budgetMs;
+        this.maxIterations = maxIterations;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void warmUp() {
+        if (!enabled) {
+            logger.info("워밍업 비활성화됨");
+            return;
+        }
+
+        List<WarmupStep> steps = prepareSteps();
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        int iterations = 0;
+
+        logger.info("워밍업 시작: steps={}, budget={}ms, maxIterations={}", steps.size(), budgetMs, maxIterations);
+
+        while (iterations < maxIterations && System.nanoTime() < deadline) {
+            boolean anyRunnable = false;
+            for (WarmupStep step : steps) {
+                if (System.nanoTime() >= deadline) {
+                    break;
+                }
+                if (step.failure == null) {
+                    anyRunnable = true;
+                    step.runOnce();
+                }
+            }
+            if (!anyRunnable) {
+                break;
+            }
+            iterations++;
+        }
+
+        for (WarmupStep step : steps) {
+            if (step.failure != null) {
+                warmupMetrics.recordWarmupFailure(step.elapsedMs(), step.name + ": " + step.failure);
+            } else if (step.runs > 0) {
+                warmupMetrics.recordWarmupSuccess(step.elapsedMs());
+            }
+            logger.info("워밍업 단계 결과: step={}, runs={}, elapsed={}ms, failure={}",
+                    step.name, step.runs, step.elapsedMs(), step.failure);
+        }
+
+        logger.info("워밍업 완료: iterations={}, elapsed={}ms",
+                iterations, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private List<WarmupStep> prepareSteps() {
+        List<WarmupStep> steps = new ArrayList<>();
+
+        steps.add(new WarmupStep("crypto", () -> {
+            String encrypted = encryptionService.encrypt("홍길동 " + WARMUP_EMAIL);
+            encryptionService.decrypt(encrypted);
+            encryptionService.hashEmail(WARMUP_EMAIL);
+        }));
+
+        TemplateContent templateContent = syntheticTemplate();
+        Map<String, String> variableValues = Map.of(
+                "EMPLOYER", "주식회사 워밍업",
+                "EMPLOYEE", "홍길동",
+                "CONTRACT_START_DATE", "2026-01-01",
+                "WORKPLACE", "서울특별시 중구"
+        );
+        steps.add(new WarmupStep("template", () -> {
+            // JSON 직렬화/역직렬화(Jackson) 후 변수 렌더링
+            TemplateContent parsed = TemplateContent.fromJson(templateContent.toJson());
+            templateRenderer.renderWithVariables(parsed, variableValues);
+        }));
+
+        try {
+            String presetHtml = loadPresetHtml();
+            String signatureImage = syntheticSignatureDataUrl();
+            steps.add(new WarmupStep("pdf", () -> {
+                String xhtml = XhtmlNormalizer.toXhtmlFragment(
+                        presetHtml, new SignatureImageInjector(signatureImage, signatureImage));
+                pdfGenerator.generateFromXhtml(xhtml, "warmup.pdf");
+            }));
+        } catch (IOException e) {
+            logger.warn("PDF 워밍업 데이터 준비 실패, PDF 단계 생략", e);
+        }
+
+        SmtpEmailSender emailSender = emailSenderProvider.getIfAvailable();
+        if (emailSender != null) {
+            Map<String, Object> variables = Map.of(
+                    "contractTitle", "표준근로계약서",
+                    "companyName", "주식회사 워밍업",
+                    "firstPartyName", "주식회사 워밍업",
+                    "secondPartyName", "홍길동",
+                    "signerName", "홍길동",
+                    "contractUrl", "https://signly.local/sign/warmup",
+                    "completedAt", LocalDateTime.now()
+            );
+            steps.add(new WarmupStep("email", () -> {
+                emailSender.renderTemplate(new EmailRequest(WARMUP_EMAIL, "홍길동", EmailTemplate.CONTRACT_SIGNING_REQUEST, variables));
+                emailSender.renderTemplate(new EmailRequest(WARMUP_EMAIL, "홍길동", EmailTemplate.CONTRACT_COMPLETED, variables));
+            }));
+        }
+
+        return steps;
+    }
+
+    private TemplateContent syntheticTemplate() {
+        List<TemplateSection> sections = List.of(
+                TemplateSection.of("warmup-header", TemplateSectionType.HEADER, 0, "표준근로계약서", Map.of("level", 1), List.of()),
+                TemplateSection.of("warmup-intro", TemplateSectionType.PARAGRAPH, 1,
+                        "[EMPLOYER](이하 \"사업주\"라 함)과(와) [EMPLOYEE](이하 \"근로자\"라 함)은 다음과 같이 근로계약을 체결한다.",
+                        null, List.of("EMPLOYER", "EMPLOYEE")),
+                TemplateSection.of("warmup-period", TemplateSectionType.DOTTED_BOX, 2,
+                        "근로개시일: [CONTRACT_START_DATE] / 근무장소: [WORKPLACE]",
+                        null, List.of("CONTRACT_START_DATE", "WORKPLACE")),
+                TemplateSection.of("warmup-footer", TemplateSectionType.FOOTER, 3, "[EMPLOYER] (서명)", null, List.of("EMPLOYER"))
+        );
+        return TemplateContent.of(TemplateMetadata.of("워밍업", "기동 워밍업용 합성 템플릿", "system", Map.of()), sections);
+    }
+
+    private String loadPresetHtml() throws IOException {
+        try (InputStream inputStream = resourceLoader.getResource(PRESET_LOCATION).getInputStream()) {
+            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        }
+    }
+
+    private String syntheticSignatureDataUrl() throws IOException {
+        BufferedImage image = new BufferedImage(300, 100, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.BLACK);
+            graphics.setStroke(new BasicStroke(3f));
+            graphics.drawLine(20, 70, 120, 30);
+            graphics.drawLine(120, 30, 200, 80);
+            graphics.drawLine(200, 80, 280, 20);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return "data:image/png;base64," + Base64.getEncoder().encodeToString(output.toByteArray());
+    }
+
+    /**
+     * 워밍업 단계 (첫 실패 후에는 다시 실행하지 않음)
+     */
+    private static final class WarmupStep {
+        private final String name;
+        private final Runnable action;
+        private int runs;
+        private long elapsedNanos;
+        private String failure;
+
+        WarmupStep(
+                String name,
+                Runnable action
+        ) {
+            this.name = name;
+            this.action = action;
+        }
+
+        void runOnce() {
+            long start = System.nanoTime();
+            try {
+                action.run();
+                runs++;
+            } catch (Exception e) {
+                failure = e.getClass().getSimpleName() + ": " + e.getMessage();
+                logger.warn("워밍업 단계 실패: step={}", name, e);
+            } finally {
+                elapsedNanos += System.nanoTime() - start;
+            }
+        }
+
+        long elapsedMs() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.signly.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -23,4 +25,64 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * 서명 완료 계약서 후처리(PDF 생성/저장, 완료 알림) 전용 실행기
+     * 가득 차면 거절되며, 거절된 작업은 후처리 워커의 폴링이 다시 처리한다.
+     */
+    @Bean(name = "contractFinalizationExecutor")
+    public Executor contractFinalizationExecutor(
+            @Value("${app.pdf.finalization.workers:2}") int workers,
+            @Value("${app.pdf.finalization.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("contract-finalize-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(20);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 계약서 PDF 일괄 내보내기의 누락 PDF 렌더링 실행기
+     * 가득 차면 내보내기 요청 스레드에서 직접 처리하여 자연스럽게 속도가 조절된다.
+     */
+    @Bean(name = "contractExportExecutor")
+    public Executor contractExportExecutor(
+            @Value("${app.pdf.export.workers:2}") int workers,
+            @Value("${app.pdf.export.queue-capacity:20}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("contract-export-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 계약서 일괄 발송의 계약서 렌더링 실행기
+     * 렌더링은 CPU 작업이므로 코어 수만큼만 동시에 실행하고, 가득 차면 요청 스레드에서 직접 처리한다.
+     */
+    @Bean(name = "contractBulkExecutor")
+    public Executor contractBulkExecutor(
+            @Value("${app.contract.bulk.workers:0}") int workers
+    ) {
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setThreadNamePrefix("contract-bulk-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
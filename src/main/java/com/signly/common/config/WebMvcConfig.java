@@ -1,6 +1,7 @@
 package com.signly.common.config;
 
 import com.signly.common.interceptor.LoggingInterceptor;
+import com.signly.template.presentation.cache.ReferenceDataCacheInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -9,9 +10,14 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final LoggingInterceptor loggingInterceptor;
+    private final ReferenceDataCacheInterceptor referenceDataCacheInterceptor;
 
-    public WebMvcConfig(LoggingInterceptor loggingInterceptor) {
+    public WebMvcConfig(
+            LoggingInterceptor loggingInterceptor,
+            ReferenceDataCacheInterceptor referenceDataCacheInterceptor
+    ) {
         this.loggingInterceptor = loggingInterceptor;
+        this.referenceDataCacheInterceptor = referenceDataCacheInterceptor;
     }
 
     @Override
@@ -19,5 +25,14 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addInterceptor(loggingInterceptor)
                 .addPathPatterns("/**")
                 .excludePathPatterns("/actuator/**", "/static/**", "/css/**", "/js/**", "/images/**");
+
+        // 참조 데이터 조건부 요청은 컨트롤러 전에 304로 응답
+        registry.addInterceptor(referenceDataCacheInterceptor)
+                .addPathPatterns(
+                        ReferenceDataCacheInterceptor.VARIABLES_PATH,
+                        ReferenceDataCacheInterceptor.GROUPED_VARIABLES_PATH,
+                        ReferenceDataCacheInterceptor.PRESETS_PATH,
+                        "/api/templates/preset/*"
+                );
     }
-}
\ No newline at end of file
+}
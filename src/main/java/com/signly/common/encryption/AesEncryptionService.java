@@ -8,21 +8,36 @@ import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HexFormat;
 
+/**
+ * AES-GCM 암복호화와 검색용 해시
+ * - Cipher/MessageDigest/SecureRandom은 스레드마다 하나씩 만들어 재사용한다 (호출마다 getInstance 하지 않음).
+ * - 복호화는 IV와 암호문을 따로 복사하지 않고 디코딩한 배열의 오프셋으로 바로 처리한다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class AesEncryptionService {
 
     private static final String ENCRYPTION_PREFIX = "{ENC}";
+    private static final HexFormat HEX = HexFormat.of();
 
     private final EncryptionProperties properties;
-    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(this::newCipher);
+    private final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(AesEncryptionService::newSha256);
+    private final ThreadLocal<SecureRandom> randoms = ThreadLocal.withInitial(SecureRandom::new);
 
     private SecretKey secretKey;
+    private byte[] saltBytes;
     
     private SecretKey getSecretKey() {
         if (secretKey == null) {
@@ -37,6 +52,13 @@ public class AesEncryptionService {
         }
         return secretKey;
     }
+
+    private byte[] getSaltBytes() {
+        if (saltBytes == null) {
+            saltBytes = properties.getSalt().getBytes(StandardCharsets.UTF_8);
+        }
+        return saltBytes;
+    }
     
     public String encrypt(String plainText) {
         if (!properties.isEnabled() || plainText == null) {
@@ -44,20 +66,21 @@ public class AesEncryptionService {
         }
         
         try {
-            byte[] iv = generateRandomIV();
-            
-            Cipher cipher = Cipher.getInstance(properties.getAlgorithm());
-            GCMParameterSpec spec = new GCMParameterSpec(properties.getTagLength(), iv);
-            cipher.init(Cipher.ENCRYPT_MODE, getSecretKey(), spec);
-            
-            byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-            
-            byte[] combined = new byte[iv.length + encrypted.length];
-            System.arraycopy(iv, 0, combined, 0, iv.length);
-            System.arraycopy(encrypted, 0, combined, iv.length, encrypted.length);
+            int ivLength = properties.getIvLength();
+            byte[] iv = new byte[ivLength];
+            randoms.get().nextBytes(iv);
+            byte[] plain = plainText.getBytes(StandardCharsets.UTF_8);
 
-            String base64Encoded = Base64.getEncoder().encodeToString(combined);
-            return ENCRYPTION_PREFIX + base64Encoded;
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.ENCRYPT_MODE, getSecretKey(), new GCMParameterSpec(properties.getTagLength(), iv));
+
+            // IV 뒤에 암호문을 바로 기록해 결합용 복사를 없앰
+            byte[] combined = new byte[ivLength + cipher.getOutputSize(plain.length)];
+            System.arraycopy(iv, 0, combined, 0, ivLength);
+            int written = cipher.doFinal(plain, 0, plain.length, combined, ivLength);
+
+            return ENCRYPTION_PREFIX + Base64.getEncoder().encodeToString(
+                    written + ivLength == combined.length ? combined : Arrays.copyOf(combined, ivLength + written));
             
         } catch (Exception e) {
             log.error("Failed to encrypt data", e);
@@ -69,44 +92,52 @@ public class AesEncryptionService {
         if (!properties.isEnabled() || encryptedText == null) {
             return encryptedText;
         }
+        return decryptValue(encryptedText);
+    }
 
+    private String decryptValue(String encryptedText) {
         try {
             // Handle both new format {ENC}base64 and legacy format (plain base64)
-            String textToDecode = encryptedText;
-            if (encryptedText.startsWith(ENCRYPTION_PREFIX)) {
-                textToDecode = encryptedText.substring(ENCRYPTION_PREFIX.length());
-            }
+            int offset = encryptedText.startsWith(ENCRYPTION_PREFIX) ? ENCRYPTION_PREFIX.length() : 0;
+            byte[] ascii = encryptedText.getBytes(StandardCharsets.ISO_8859_1);
+            ByteBuffer decoded = Base64.getDecoder().decode(ByteBuffer.wrap(ascii, offset, ascii.length - offset));
 
-            byte[] decoded = Base64.getDecoder().decode(textToDecode);
-            
-            if (decoded.length < properties.getIvLength()) {
+            int ivLength = properties.getIvLength();
+            if (decoded.remaining() < ivLength) {
                 log.warn("Invalid encrypted data: too short");
                 return null;
             }
-            
-            byte[] iv = new byte[properties.getIvLength()];
-            byte[] encrypted = new byte[decoded.length - properties.getIvLength()];
-            
-            System.arraycopy(decoded, 0, iv, 0, properties.getIvLength());
-            System.arraycopy(decoded, properties.getIvLength(), encrypted, 0, encrypted.length);
-            
-            Cipher cipher = Cipher.getInstance(properties.getAlgorithm());
-            GCMParameterSpec spec = new GCMParameterSpec(properties.getTagLength(), iv);
-            cipher.init(Cipher.DECRYPT_MODE, getSecretKey(), spec);
-            
-            byte[] decrypted = cipher.doFinal(encrypted);
-            return new String(decrypted, StandardCharsets.UTF_8);
+
+            byte[] buffer = decoded.array();
+            int start = decoded.arrayOffset() + decoded.position();
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.DECRYPT_MODE, getSecretKey(), new GCMParameterSpec(properties.getTagLength(), buffer, start, ivLength));
+
+            int encryptedLength = decoded.remaining() - ivLength;
+            byte[] plain = new byte[cipher.getOutputSize(encryptedLength)];
+            int written = cipher.doFinal(buffer, start + ivLength, encryptedLength, plain, 0);
+            return new String(plain, 0, written, StandardCharsets.UTF_8);
             
         } catch (Exception e) {
             log.warn("Failed to decrypt data: {}", e.getMessage());
             return null;
         }
     }
-    
-    private byte[] generateRandomIV() {
-        byte[] iv = new byte[properties.getIvLength()];
-        secureRandom.nextBytes(iv);
-        return iv;
+
+    private Cipher newCipher() {
+        try {
+            return Cipher.getInstance(properties.getAlgorithm());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher not available: " + properties.getAlgorithm(), e);
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
     
     /**
@@ -135,19 +166,12 @@ public class AesEncryptionService {
             return null;
         }
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            MessageDigest digest = digests.get();
+            digest.reset();
             // Salt를 섞어서 레인보우 테이블 공격 방지
-            String input = rawText + properties.getSalt();
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-
-            // Hex String 변환
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) hexString.append('0');
-                hexString.append(hex);
-            }
-            return hexString.toString();
+            digest.update(rawText.getBytes(StandardCharsets.UTF_8));
+            digest.update(getSaltBytes());
+            return HEX.formatHex(digest.digest());
         } catch (Exception e) {
             log.error("Failed to generate hash", e);
             throw new RuntimeException("Hash generation failed", e);
@@ -0,0 +1,72 @@
+package com.signly.common.encryption;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 복호화 호출 계측
+ * - encryption.decrypt: 컬럼 복호화 횟수 (mode=eager: 로딩 시 복호화, mode=lazy: 접근 시 복호화)
+ * - encryption.decrypt.per_request: 요청 하나가 수행한 복호화 횟수 분포
+ */
+public class DecryptionMetrics {
+
+    private static final ThreadLocal<int[]> REQUEST_COUNT = new ThreadLocal<>();
+
+    private final Counter eagerDecrypts;
+    private final Counter lazyDecrypts;
+    private final DistributionSummary perRequest;
+
+    public DecryptionMetrics(MeterRegistry meterRegistry) {
+        this.eagerDecrypts = Counter.builder("encryption.decrypt")
+                .tag("mode", "eager")
+                .description("엔티티 로딩 시 수행한 컬럼 복호화 횟수")
+                .register(meterRegistry);
+        this.lazyDecrypts = Counter.builder("encryption.decrypt")
+                .tag("mode", "lazy")
+                .description("값에 처음 접근할 때 수행한 컬럼 복호화 횟수")
+                .register(meterRegistry);
+        this.perRequest = DistributionSummary.builder("encryption.decrypt.per_request")
+                .description("요청당 컬럼 복호화 횟수")
+                .register(meterRegistry);
+    }
+
+    public void recordEager() {
+        eagerDecrypts.increment();
+        countInRequest();
+    }
+
+    public void recordLazy() {
+        lazyDecrypts.increment();
+        countInRequest();
+    }
+
+    /**
+     * 요청 단위 집계 시작 (요청 스레드에서만 호출)
+     */
+    public void beginRequest() {
+        REQUEST_COUNT.set(new int[1]);
+    }
+
+    /**
+     * 요청 단위 집계 종료 후 분포에 기록
+     *
+     * @return 요청 동안 수행한 복호화 횟수
+     */
+    public int endRequest() {
+        int[] count = REQUEST_COUNT.get();
+        REQUEST_COUNT.remove();
+        if (count == null) {
+            return 0;
+        }
+        perRequest.record(count[0]);
+        return count[0];
+    }
+
+    private static void countInRequest() {
+        int[] count = REQUEST_COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
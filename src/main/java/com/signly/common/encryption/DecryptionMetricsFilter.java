@@ -0,0 +1,46 @@
+package com.signly.common.encryption;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나가 수행한 컬럼 복호화 횟수를 encryption.decrypt.per_request로 기록
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DecryptionMetricsFilter extends OncePerRequestFilter {
+
+    private final DecryptionMetrics decryptionMetrics;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    )
+            throws ServletException, IOException {
+
+        decryptionMetrics.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int decrypts = decryptionMetrics.endRequest();
+            if (decrypts > 0) {
+                log.debug("Decrypted {} column values - {} {}", decrypts, request.getMethod(), request.getRequestURI());
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith("/css/") || uri.startsWith("/js/") || uri.startsWith("/images/") || uri.startsWith("/actuator/");
+    }
+}
@@ -0,0 +1,125 @@
+package com.signly.common.encryption;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 접근 시점에 복호화하는 암호화 컬럼 값
+ * - DB에서 읽은 값은 암호문만 들고 있다가 {@link #get()}이 처음 호출될 때 한 번 복호화한다.
+ * - 값이 바뀌지 않았으면 저장 시 읽어온 암호문을 그대로 돌려주므로 재암호화하지 않는다.
+ *   암호화 도입 이전의 평문 값은 저장 시 암호화한다.
+ * - 동등성/해시는 복호화하지 않는다. DB에서 읽은 값끼리는 저장된 값으로, 새 값끼리는 평문으로 비교하며
+ *   둘이 섞이면 다른 값으로 본다 (dirty checking에서 새 값을 넣은 경우에만 UPDATE가 나간다).
+ * - 불변 객체이며, 값 변경은 새 인스턴스로 교체한다.
+ */
+public final class EncryptedString implements Supplier<String> {
+
+    private final String stored;
+    private final UnaryOperator<String> decryptor;
+    private final boolean storedAsPlaintext;
+    private volatile String plaintext;
+
+    private EncryptedString(
+            String stored,
+            UnaryOperator<String> decryptor,
+            String plaintext,
+            boolean storedAsPlaintext
+    ) {
+        this.stored = stored;
+        this.decryptor = decryptor;
+        this.plaintext = plaintext;
+        this.storedAsPlaintext = storedAsPlaintext;
+    }
+
+    /**
+     * 새로 저장할 평문 값 (null이면 null)
+     */
+    public static EncryptedString ofPlaintext(String plaintext) {
+        return plaintext != null ? new EncryptedString(null, null, plaintext, false) : null;
+    }
+
+    /**
+     * DB에서 읽은 값 (복호화는 첫 접근까지 미룸)
+     */
+    static EncryptedString ofStored(
+            String stored,
+            UnaryOperator<String> decryptor
+    ) {
+        return new EncryptedString(stored, decryptor, null, false);
+    }
+
+    /**
+     * DB에서 읽은 값이 암호화되지 않은 평문인 경우 (암호화 도입 이전 데이터)
+     */
+    static EncryptedString ofStoredPlaintext(String stored) {
+        return new EncryptedString(stored, null, stored, true);
+    }
+
+    /**
+     * null 안전 평문 조회
+     */
+    public static String plaintextOf(EncryptedString value) {
+        return value != null ? value.get() : null;
+    }
+
+    @Override
+    public String get() {
+        String value = plaintext;
+        if (value == null) {
+            synchronized (this) {
+                value = plaintext;
+                if (value == null) {
+                    value = decryptor.apply(stored);
+                    plaintext = value;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 평문을 이미 가지고 있는지 여부 (새 값이거나 한 번 이상 접근한 값)
+     */
+    public boolean isDecrypted() {
+        return plaintext != null;
+    }
+
+    /**
+     * DB에서 읽은 그대로의 값 (새로 만든 값이면 null)
+     */
+    String storedValue() {
+        return stored;
+    }
+
+    /**
+     * DB에 암호화되지 않은 평문으로 저장되어 있던 값인지 여부 (저장 시 암호화 대상)
+     */
+    boolean isStoredAsPlaintext() {
+        return storedAsPlaintext;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EncryptedString other)) {
+            return false;
+        }
+        if (stored != null || other.stored != null) {
+            return Objects.equals(stored, other.stored);
+        }
+        return Objects.equals(plaintext, other.plaintext);
+    }
+
+    @Override
+    public int hashCode() {
+        return stored != null ? stored.hashCode() : Objects.hashCode(plaintext);
+    }
+
+    @Override
+    public String toString() {
+        return "EncryptedString[" + (isDecrypted() ? "decrypted" : "encrypted") + "]";
+    }
+}
@@ -0,0 +1,67 @@
+package com.signly.common.encryption;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
+
+/**
+ * 암호화 컬럼을 {@link EncryptedString}으로 매핑
+ * - 로딩 시에는 암호문만 감싸고, 복호화는 값에 처음 접근할 때 수행한다.
+ * - 읽어온 암호문은 그대로 저장하고, 새 값과 암호화 이전 평문 값은 암호화해 저장한다.
+ * - 불변 타입으로 선언해 dirty checking 스냅샷이 값을 복호화/재암호화하지 않도록 한다.
+ */
+@Slf4j
+@Converter
+@Mutability(Immutability.class)
+@RequiredArgsConstructor
+public class EncryptedStringConverter implements AttributeConverter<EncryptedString, String> {
+
+    private final AesEncryptionService encryptionService;
+    private final DecryptionMetrics decryptionMetrics;
+
+    @Override
+    public String convertToDatabaseColumn(EncryptedString attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        if (attribute.storedValue() != null && !attribute.isStoredAsPlaintext()) {
+            return attribute.storedValue();
+        }
+
+        try {
+            return encryptionService.encrypt(attribute.get());
+        } catch (Exception e) {
+            log.error("Failed to encrypt attribute for database storage", e);
+            throw new RuntimeException("Encryption failed during database conversion", e);
+        }
+    }
+
+    @Override
+    public EncryptedString convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        if (!encryptionService.isEncrypted(dbData)) {
+            return EncryptedString.ofStoredPlaintext(dbData);
+        }
+        return EncryptedString.ofStored(dbData, this::decrypt);
+    }
+
+    private String decrypt(String dbData) {
+        decryptionMetrics.recordLazy();
+        try {
+            String decrypted = encryptionService.decrypt(dbData);
+            if (decrypted == null) {
+                log.warn("Failed to decrypt database data, returning original value");
+                return dbData;
+            }
+            return decrypted;
+        } catch (Exception e) {
+            log.error("Failed to decrypt database data", e);
+            return dbData;
+        }
+    }
+}
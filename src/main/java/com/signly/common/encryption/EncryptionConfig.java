@@ -1,9 +1,14 @@
 package com.signly.common.encryption;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 @Configuration
 @EnableConfigurationProperties(EncryptionProperties.class)
@@ -16,9 +21,36 @@ public class EncryptionConfig {
     public AesEncryptionService aesEncryptionService() {
         return new AesEncryptionService(encryptionProperties);
     }
+
+    @Bean
+    public DecryptionMetrics decryptionMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new DecryptionMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
     
     @Bean
-    public StringEncryptionConverter stringEncryptionConverter(AesEncryptionService aesEncryptionService) {
-        return new StringEncryptionConverter(aesEncryptionService);
+    public StringEncryptionConverter stringEncryptionConverter(
+            AesEncryptionService aesEncryptionService,
+            DecryptionMetrics decryptionMetrics
+    ) {
+        return new StringEncryptionConverter(aesEncryptionService, decryptionMetrics);
+    }
+
+    @Bean
+    public EncryptedStringConverter encryptedStringConverter(
+            AesEncryptionService aesEncryptionService,
+            DecryptionMetrics decryptionMetrics
+    ) {
+        return new EncryptedStringConverter(aesEncryptionService, decryptionMetrics);
+    }
+
+    /**
+     * 인증 필터의 사용자 조회까지 포함해 집계하도록 보안 필터 체인보다 먼저 실행
+     */
+    @Bean
+    public FilterRegistrationBean<DecryptionMetricsFilter> decryptionMetricsFilter(DecryptionMetrics decryptionMetrics) {
+        FilterRegistrationBean<DecryptionMetricsFilter> registration =
+                new FilterRegistrationBean<>(new DecryptionMetricsFilter(decryptionMetrics));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
     }
-}
\ No newline at end of file
+}
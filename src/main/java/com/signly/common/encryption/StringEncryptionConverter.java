@@ -11,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 public class StringEncryptionConverter implements AttributeConverter<String, String> {
 
     private final AesEncryptionService encryptionService;
+    private final DecryptionMetrics decryptionMetrics;
 
     @Override
     public String convertToDatabaseColumn(String attribute) {
@@ -36,6 +37,7 @@ public class StringEncryptionConverter implements AttributeConverter<String, Str
             return dbData;
         }
 
+        decryptionMetrics.recordEager();
         try {
             String decrypted = encryptionService.decrypt(dbData);
             if (decrypted == null) {
@@ -0,0 +1,8 @@
+package com.signly.common.exception;
+
+public class ConflictException extends BusinessException {
+
+    public ConflictException(String message) {
+        super("CONFLICT", message);
+    }
+}
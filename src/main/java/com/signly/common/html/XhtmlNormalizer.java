@@ -0,0 +1,95 @@
+package com.signly.common.html;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Entities;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeTraversor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * HTML → XHTML 본문 조각 정규화 유틸리티
+ * 정규식 체인(문서 헤더 제거, entity 치환, self-closing 태그 변환)을 대신하여
+ * jsoup 파서로 한 번 파싱하고 하나의 버퍼에 XHTML로 직렬화한다.
+ *
+ * <p>처리 내용:
+ * <ul>
+ *   <li>DOCTYPE, html/head/body 래퍼 제거 (head 안의 style 등 나머지 요소는 본문 앞에 유지)</li>
+ *   <li>script, meta, title 요소 및 BOM 제거</li>
+ *   <li>텍스트에 남은 이중 인코딩 대괄호/중괄호 entity 정규화 ({@link HtmlEntityNormalizer})</li>
+ *   <li>호출자가 지정한 DOM 변환 (예: 서명 플레이스홀더 치환)</li>
+ *   <li>XML 문법으로 직렬화: void 요소는 self-closing, 특수문자는 XML에서 유효한 형태로 escape</li>
+ * </ul>
+ */
+public final class XhtmlNormalizer {
+
+    private static final String REMOVED_ELEMENTS = "script, meta, title";
+    private static final char BOM = '\uFEFF';
+
+    private XhtmlNormalizer() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * HTML을 XHTML 본문 조각으로 정규화
+     *
+     * @param html 원본 HTML (조각 또는 완전한 문서)
+     * @return XHTML 본문 조각, 입력이 비어 있으면 빈 문자열
+     */
+    public static String toXhtmlFragment(String html) {
+        return toXhtmlFragment(html, body -> {
+        });
+    }
+
+    /**
+     * HTML을 XHTML 본문 조각으로 정규화하면서 직렬화 전에 본문 DOM을 변환
+     *
+     * @param html        원본 HTML (조각 또는 완전한 문서)
+     * @param transformer 본문(body) 요소에 적용할 변환
+     * @return XHTML 본문 조각, 입력이 비어 있으면 빈 문자열
+     */
+    public static String toXhtmlFragment(
+            String html,
+            Consumer<Element> transformer
+    ) {
+        if (html == null || html.isBlank()) {
+            return "";
+        }
+
+        Document document = Jsoup.parse(html);
+        document.select(REMOVED_ELEMENTS).remove();
+        normalizeText(document);
+
+        transformer.accept(document.body());
+
+        document.outputSettings()
+                .syntax(Document.OutputSettings.Syntax.xml)
+                .escapeMode(Entities.EscapeMode.xhtml)
+                .charset(StandardCharsets.UTF_8)
+                .prettyPrint(false);
+
+        StringBuilder out = new StringBuilder(html.length() + 256);
+        document.head().html(out);
+        document.body().html(out);
+        return out.toString().strip();
+    }
+
+    /**
+     * 텍스트 노드의 BOM 제거 및 남은 entity 정규화
+     * 파서가 한 번 디코딩하므로 여기에는 이중 인코딩(&amp;#91; 등)으로 들어온 값만 남는다.
+     */
+    private static void normalizeText(Document document) {
+        NodeTraversor.traverse((node, depth) -> {
+            if (node instanceof TextNode textNode) {
+                String text = textNode.getWholeText();
+                if (text.indexOf('&') >= 0 || text.indexOf(BOM) >= 0) {
+                    String normalized = HtmlEntityNormalizer.normalizeEntities(text.replace(String.valueOf(BOM), ""));
+                    textNode.text(normalized);
+                }
+            }
+        }, document);
+    }
+}
@@ -79,6 +79,21 @@ public class ImageResizer {
         }
     }
 
+    /**
+     * PDF용 서명 렌디션 생성: 표준 크기 이내로 축소한 PNG (투명도 유지)
+     * 업로드 시점에 한 번만 호출되며, 렌더링 경로에서는 저장된 결과만 사용한다.
+     *
+     * @param imageBytes 원본 이미지 바이트
+     * @return 렌디션 PNG 바이트
+     */
+    public byte[] toSignatureRendition(byte[] imageBytes) throws IOException {
+        BufferedImage originalImage = readImage(imageBytes);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(scaleToFit(originalImage), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
     /**
      * 이미지 바이트 배열을 받아서 리사이즈
      */
@@ -87,11 +102,32 @@ public class ImageResizer {
             String formatName
     ) throws IOException {
         // 원본 이미지 로드
-        BufferedImage originalImage = ImageIO.read(new ByteArrayInputStream(imageBytes));
-        if (originalImage == null) {
+        BufferedImage originalImage = readImage(imageBytes);
+        BufferedImage resizedImage = scaleToFit(originalImage);
+
+        // 이미 작은 이미지면 그대로 반환
+        if (resizedImage == originalImage) {
+            return imageBytes;
+        }
+
+        // PNG로 변환 (투명도 유지)
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(resizedImage, formatName, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private BufferedImage readImage(byte[] imageBytes) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageBytes));
+        if (image == null) {
             throw new IOException("이미지를 읽을 수 없습니다");
         }
+        return image;
+    }
 
+    /**
+     * 표준 서명 크기 이내로 비율을 유지하며 축소 (이미 작으면 원본 그대로 반환)
+     */
+    private BufferedImage scaleToFit(BufferedImage originalImage) {
         int originalWidth = originalImage.getWidth();
         int originalHeight = originalImage.getHeight();
 
@@ -100,10 +136,9 @@ public class ImageResizer {
         double heightRatio = (double) SIGNATURE_MAX_HEIGHT / originalHeight;
         double ratio = Math.min(widthRatio, heightRatio);
 
-        // 이미 작은 이미지면 그대로 반환
         if (ratio >= 1.0) {
             logger.debug("이미지가 이미 작음, 리사이징 생략: {}x{}", originalWidth, originalHeight);
-            return imageBytes;
+            return originalImage;
         }
 
         // 새 크기 계산
@@ -125,10 +160,7 @@ public class ImageResizer {
         graphics.drawImage(originalImage, 0, 0, newWidth, newHeight, null);
         graphics.dispose();
 
-        // PNG로 변환 (투명도 유지)
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        ImageIO.write(resizedImage, formatName, outputStream);
-        return outputStream.toByteArray();
+        return resizedImage;
     }
 
     /**
@@ -0,0 +1,56 @@
+package com.signly.common.pagination;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지네이션 결과 (전체 건수 조회 없음)
+ * JSP EL에서 접근할 수 있도록 record 대신 getter를 제공한다.
+ */
+@Getter
+public class CursorSlice<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+
+    private CursorSlice(
+            List<T> content,
+            String nextCursor
+    ) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 한 건 더 읽은 조회 결과로 슬라이스 생성
+     *
+     * @param rows  최대 size + 1건의 조회 결과
+     * @param size  페이지 크기
+     * @param keyOf 행의 정렬 키
+     */
+    public static <T> CursorSlice<T> of(
+            List<T> rows,
+            int size,
+            Function<T, KeysetCursor> keyOf
+    ) {
+        if (rows.size() <= size) {
+            return new CursorSlice<>(List.copyOf(rows), null);
+        }
+        List<T> content = List.copyOf(rows.subList(0, size));
+        return new CursorSlice<>(content, keyOf.apply(content.get(size - 1)).encode());
+    }
+
+    public <R> CursorSlice<R> map(Function<T, R> mapper) {
+        return new CursorSlice<>(content.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+}
@@ -0,0 +1,63 @@
+package com.signly.common.pagination;
+
+import com.signly.common.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서
+ * 목록 정렬 키 (정렬 우선순위 DESC, 생성 시각 DESC, ID DESC)의 마지막 값을 담으며,
+ * 다음 페이지는 이 키보다 뒤에 오는 행만 인덱스 범위로 읽으므로 깊은 페이지도 첫 페이지와 비용이 같다.
+ */
+public record KeysetCursor(
+        int sortPriority,
+        LocalDateTime createdAt,
+        String id
+) {
+
+    private static final KeysetCursor FIRST = new KeysetCursor(
+            Integer.MAX_VALUE, LocalDateTime.of(9999, 12, 31, 23, 59, 59), "");
+    private static final char SEPARATOR = '|';
+
+    /**
+     * 첫 페이지 (모든 행보다 앞서는 키)
+     */
+    public static KeysetCursor first() {
+        return FIRST;
+    }
+
+    /**
+     * 요청 파라미터의 커서 문자열 해석 (비어 있으면 첫 페이지)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int second = raw.indexOf(SEPARATOR, first + 1);
+            if (first < 0 || second < 0) {
+                throw new ValidationException("잘못된 페이지 커서입니다");
+            }
+            return new KeysetCursor(
+                    Integer.parseInt(raw.substring(0, first)),
+                    LocalDateTime.parse(raw.substring(first + 1, second)),
+                    raw.substring(second + 1)
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("잘못된 페이지 커서입니다");
+        }
+    }
+
+    /**
+     * URL에 그대로 넣을 수 있는 커서 문자열
+     */
+    public String encode() {
+        String raw = String.valueOf(sortPriority) + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -79,7 +79,7 @@ public class SecurityConfig {
                         .requestMatchers("/oauth2/**", "/login/oauth2/**").permitAll()
                         // 개발 도구는 공개 허용
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
-                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/liveness", "/actuator/health/readiness").permitAll()
                         // 에러 페이지는 공개 허용 (인증 실패 시 리다이렉트 방지)
                         .requestMatchers("/error").permitAll()
                         // JSP Forward를 위한 뷰 경로는 permitAll (실제 접근은 컨트롤러에서 제어)
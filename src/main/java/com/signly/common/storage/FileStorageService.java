@@ -1,16 +1,31 @@
 package com.signly.common.storage;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.signly.common.storage.strategy.LocalFileStorageStrategy;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 @Service
 public class FileStorageService {
 
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+
     private final FileStorageStrategy strategy;
+    // 저장된 파일은 고유한 이름으로 기록되고 덮어쓰지 않으므로 경로별 체크섬을 재사용할 수 있음
+    private final Cache<String, String> checksums = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
 
     public FileStorageService(
             @Value("${app.storage.type:local}") String storageType,
@@ -53,15 +68,60 @@ public class FileStorageService {
         return strategy.storeFile(data, originalFilename, contentType, category);
     }
 
+    /**
+     * 지정한 이름으로 저장 (같은 이름이 있으면 기존 파일 유지)
+     */
+    public StoredFile storeFileAs(
+            byte[] data,
+            String storedName,
+            String contentType,
+            String category
+    ) {
+        return strategy.storeFileAs(data, storedName, contentType, category);
+    }
+
     public byte[] loadFile(String filePath) {
         return strategy.loadFile(filePath);
     }
 
+    /**
+     * 파일을 byte[]로 읽지 않고 Resource로 반환 (스트리밍, Range 전송용)
+     */
+    public Resource loadAsResource(String filePath) {
+        return strategy.loadAsResource(filePath);
+    }
+
+    /**
+     * 저장된 파일의 SHA-256 체크섬 (최초 1회만 스트리밍으로 계산)
+     */
+    public String getChecksum(String filePath) {
+        return checksums.get(filePath, this::calculateChecksum);
+    }
+
     public void deleteFile(String filePath) {
+        checksums.invalidate(filePath);
         strategy.deleteFile(filePath);
     }
 
     public boolean fileExists(String filePath) {
         return strategy.fileExists(filePath);
     }
+
+    private String calculateChecksum(String filePath) {
+        MessageDigest digest = newDigest();
+        try (InputStream in = new DigestInputStream(loadAsResource(filePath).getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new RuntimeException("파일 체크섬 계산 중 오류가 발생했습니다", e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("체크섬 계산을 위한 알고리즘을 찾을 수 없습니다", e);
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.signly.common.storage;
 
+import org.springframework.core.io.Resource;
+
 public interface FileStorageStrategy {
 
     StoredFile storeFile(
@@ -9,6 +11,23 @@ public interface FileStorageStrategy {
             String category
     );
 
+    /**
+     * 호출자가 정한 이름(예: 내용 체크섬)으로 파일을 저장합니다.
+     * 같은 이름의 파일이 이미 있으면 다시 쓰지 않으므로 내용 주소 기반 저장에 사용합니다.
+     *
+     * @param data        파일 데이터
+     * @param storedName  확장자를 제외한 저장 파일명 (영문, 숫자, 언더스코어, 하이픈)
+     * @param contentType MIME 타입
+     * @param category    저장 카테고리
+     * @return 저장된 파일 정보
+     */
+    StoredFile storeFileAs(
+            byte[] data,
+            String storedName,
+            String contentType,
+            String category
+    );
+
     /**
      * 파일을 저장소에서 읽어옵니다.
      *
@@ -17,6 +36,14 @@ public interface FileStorageStrategy {
      */
     byte[] loadFile(String filePath);
 
+    /**
+     * 파일을 메모리에 올리지 않고 스트리밍/부분 전송할 수 있는 Resource로 반환합니다.
+     *
+     * @param filePath 파일 경로
+     * @return 파일 Resource
+     */
+    Resource loadAsResource(String filePath);
+
     /**
      * 파일을 저장소에서 삭제합니다.
      *
@@ -6,20 +6,26 @@ import com.signly.common.storage.StoredFile;
 import com.signly.common.storage.util.FileSecurityValidator;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Component
 public class LocalFileStorageStrategy implements FileStorageStrategy {
 
+    private static final Pattern SAFE_STORED_NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-]+");
+
     private final Path uploadPath;
     @Getter private final Set<String> allowedContentTypes;
     private final long maxFileSize;
@@ -96,6 +102,49 @@ public class LocalFileStorageStrategy implements FileStorageStrategy {
         );
     }
 
+    @Override
+    public StoredFile storeFileAs(
+            byte[] data,
+            String storedName,
+            String contentType,
+            String category
+    ) {
+        validateFileBasics(storedName, data.length);
+        if (!SAFE_STORED_NAME_PATTERN.matcher(storedName).matches()) {
+            throw new ValidationException("파일명이 유효하지 않습니다");
+        }
+        fileSecurityValidator.validateCategory(category);
+        String validatedMimeType = fileSecurityValidator.detectAndValidateMimeType(data, contentType);
+        String storedFilename = storedName + fileSecurityValidator.getSafeExtension(validatedMimeType);
+        Path categoryPath = uploadPath.resolve(category).normalize();
+        Path targetLocation = categoryPath.resolve(storedFilename).normalize();
+
+        if (!categoryPath.startsWith(uploadPath) || !targetLocation.startsWith(uploadPath)) {
+            throw new ValidationException("잘못된 파일 경로입니다");
+        }
+
+        if (!Files.exists(targetLocation)) {
+            try {
+                Files.createDirectories(categoryPath);
+                // 임시 파일에 쓴 뒤 원자적으로 이동하여 동시 읽기에서 일부만 쓰인 파일이 보이지 않게 함
+                Path tempFile = Files.createTempFile(categoryPath, storedName, ".tmp");
+                Files.write(tempFile, data);
+                Files.move(tempFile, targetLocation, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new RuntimeException("파일 저장 중 오류가 발생했습니다", e);
+            }
+        }
+
+        return new StoredFile(
+                storedFilename,
+                storedFilename,
+                category + "/" + storedFilename,
+                validatedMimeType,
+                data.length,
+                LocalDateTime.now()
+        );
+    }
+
     @Override
     public byte[] loadFile(String filePath) {
         try {
@@ -115,6 +164,21 @@ public class LocalFileStorageStrategy implements FileStorageStrategy {
         }
     }
 
+    @Override
+    public Resource loadAsResource(String filePath) {
+        Path file = uploadPath.resolve(filePath).normalize();
+
+        if (!file.startsWith(uploadPath)) {
+            throw new ValidationException("잘못된 파일 경로입니다");
+        }
+
+        if (!Files.isRegularFile(file)) {
+            throw new ValidationException("파일을 찾을 수 없습니다");
+        }
+
+        return new FileSystemResource(file);
+    }
+
     @Override
     public void deleteFile(String filePath) {
         try {
@@ -0,0 +1,298 @@
+package com.signly.contract.application;
+
+import com.signly.common.exception.ForbiddenException;
+import com.signly.common.exception.NotFoundException;
+import com.signly.common.exception.ValidationException;
+import com.signly.contract.application.dto.BulkIssuanceCommand;
+import com.signly.contract.application.dto.BulkIssuanceRecipient;
+import com.signly.contract.application.dto.BulkIssuanceResult;
+import com.signly.contract.application.dto.BulkIssuanceRowResult;
+import com.signly.contract.application.support.ContractHtmlSanitizer;
+import com.signly.contract.application.support.TemplateVariableValidator;
+import com.signly.contract.domain.model.Contract;
+import com.signly.contract.domain.model.ContractContent;
+import com.signly.contract.domain.model.ContractTemplateData;
+import com.signly.contract.domain.model.PartyInfo;
+import com.signly.contract.domain.repository.ContractRepository;
+import com.signly.notification.application.EmailNotificationService;
+import com.signly.signature.application.FirstPartySignatureService;
+import com.signly.signature.application.SignatureService;
+import com.signly.template.application.CompiledTemplateCache;
+import com.signly.template.domain.model.CompiledTemplateLayout;
+import com.signly.template.domain.model.ContractTemplate;
+import com.signly.template.domain.model.TemplateId;
+import com.signly.template.domain.repository.TemplateRepository;
+import com.signly.template.domain.service.UnifiedTemplateRenderer;
+import com.signly.user.domain.model.User;
+import com.signly.user.domain.model.UserId;
+import com.signly.user.domain.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 템플릿 하나로 여러 수신자에게 계약서를 일괄 발송
+ * - 모든 행을 먼저 검증하고, 하나라도 실패하면 아무것도 저장하지 않고 행별 사유를 반환
+ * - 컴파일된 템플릿 레이아웃에 행별 변수 값만 채워 전용 실행기에서 병렬 렌더링
+ * - 계약서/제1 당사자 서명/이메일 Outbox를 각각 JDBC 배치 INSERT로 저장 (한 트랜잭션)
+ * 계약서는 저장 전에 서명 대기 상태로 전환되므로 건별 생성 → 발송처럼 INSERT 후 UPDATE가 발생하지 않는다.
+ */
+@Service
+public class ContractBulkIssuanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractBulkIssuanceService.class);
+    private static final int MAX_TITLE_LENGTH = 200;
+
+    private final ContractRepository contractRepository;
+    private final UserRepository userRepository;
+    private final TemplateRepository templateRepository;
+    private final FirstPartySignatureService firstPartySignatureService;
+    private final SignatureService signatureService;
+    private final EmailNotificationService emailNotificationService;
+    private final UnifiedTemplateRenderer unifiedTemplateRenderer;
+    private final CompiledTemplateCache compiledTemplateCache;
+    private final ContractAuthorizationService authorizationService;
+    private final ContractCountCache contractCountCache;
+    private final Executor bulkExecutor;
+    private final int maxRecipients;
+
+    public ContractBulkIssuanceService(
+            ContractRepository contractRepository,
+            UserRepository userRepository,
+            TemplateRepository templateRepository,
+            FirstPartySignatureService firstPartySignatureService,
+            SignatureService signatureService,
+            EmailNotificationService emailNotificationService,
+            UnifiedTemplateRenderer unifiedTemplateRenderer,
+            CompiledTemplateCache compiledTemplateCache,
+            ContractAuthorizationService authorizationService,
+            ContractCountCache contractCountCache,
+            @Qualifier("contractBulkExecutor") Executor bulkExecutor,
+            @Value("${app.contract.bulk.max-recipients:1000}") int maxRecipients
+    ) {
+        this.contractRepository = contractRepository;
+        this.userRepository = userRepository;
+        this.templateRepository = templateRepository;
+        this.firstPartySignatureService = firstPartySignatureService;
+        this.signatureService = signatureService;
+        this.emailNotificationService = emailNotificationService;
+        this.unifiedTemplateRenderer = unifiedTemplateRenderer;
+        this.compiledTemplateCache = compiledTemplateCache;
+        this.authorizationService = authorizationService;
+        this.contractCountCache = contractCountCache;
+        this.bulkExecutor = bulkExecutor;
+        this.maxRecipients = maxRecipients;
+    }
+
+    @Transactional
+    public BulkIssuanceResult issue(
+            String userId,
+            BulkIssuanceCommand command
+    ) {
+        List<BulkIssuanceRecipient> recipients = command.recipients() != null ? command.recipients() : List.of();
+        if (recipients.isEmpty()) {
+            throw new ValidationException("발송할 수신자가 없습니다");
+        }
+        if (recipients.size() > maxRecipients) {
+            throw new ValidationException("한 번에 발송할 수 있는 계약서는 최대 " + maxRecipients + "건입니다");
+        }
+        if (!StringUtils.hasText(command.templateId())) {
+            throw new ValidationException("템플릿을 선택해주세요");
+        }
+
+        User user = validateUserAndPermissions(userId);
+        firstPartySignatureService.ensureSignatureExists(userId);
+
+        ContractTemplate template = templateRepository.findById(TemplateId.of(command.templateId().trim()))
+                .orElseThrow(() -> new NotFoundException("템플릿을 찾을 수 없습니다"));
+        authorizationService.validateTemplateOwnership(userId, template);
+
+        var firstParty = PartyInfo.of(user.getName(), user.getEmail().value(), firstPartyOrganization(user));
+        var expiresAt = command.expiresAt() != null ?
+                command.expiresAt() : LocalDateTime.now().plusHours(24);
+        String baseTitle = StringUtils.hasText(command.title()) ? command.title().trim() : template.getTitle();
+
+        // 1. 모든 행 검증 (계약서는 렌더링한 내용으로 생성)
+        var drafts = new ArrayList<DraftRow>(recipients.size());
+        var invalidRows = new ArrayList<BulkIssuanceRowResult>();
+        Set<String> recipientEmails = new HashSet<>(recipients.size() * 2);
+
+        for (int i = 0; i < recipients.size(); i++) {
+            BulkIssuanceRecipient recipient = recipients.get(i);
+            try {
+                drafts.add(prepareDraft(template, baseTitle, firstParty, expiresAt, recipient, recipientEmails));
+            } catch (ValidationException e) {
+                drafts.add(null);
+                invalidRows.add(BulkIssuanceRowResult.invalid(i + 1, recipientEmail(recipient), e.getMessage()));
+            }
+        }
+
+        if (!invalidRows.isEmpty()) {
+            logger.info("계약서 일괄 발송 검증 실패, 발송하지 않음: templateId={}, rows={}, invalid={}",
+                    command.templateId(), recipients.size(), invalidRows.size());
+            return rejected(command.templateId(), recipients, invalidRows);
+        }
+
+        long startedAt = System.nanoTime();
+
+        // 2. 컴파일된 레이아웃으로 병렬 렌더링 후 렌더링 결과로 계약서 생성
+        List<String> contents = renderAll(compiledTemplateCache.layout(template), recipients);
+        var contracts = new ArrayList<Contract>(drafts.size());
+        for (int i = 0; i < drafts.size(); i++) {
+            DraftRow draft = drafts.get(i);
+            Contract contract = Contract.create(
+                    UserId.of(userId),
+                    template.getTemplateId(),
+                    draft.title(),
+                    ContractContent.of(contents.get(i)),
+                    firstParty,
+                    draft.secondParty(),
+                    expiresAt
+            );
+            contract.recordTemplateData(ContractTemplateData.of(template.getVersion(), variableValues(recipients.get(i))));
+            contract.sendForSigning();
+            contracts.add(contract);
+        }
+
+        // 3. 계약서, 제1 당사자 서명, 서명 요청 이메일을 배치 저장
+        contractRepository.insertAll(contracts);
+        contractCountCache.evict(UserId.of(userId));
+        signatureService.createServerSignatures(
+                contracts.stream().map(Contract::getId).toList(),
+                firstPartySignatureService.getSignatureDataUrl(userId),
+                firstParty.email(),
+                firstParty.name()
+        );
+        emailNotificationService.sendContractSigningRequests(contracts);
+
+        logger.info("계약서 일괄 발송 완료: templateId={}, count={}, elapsedMs={}",
+                command.templateId(), contracts.size(), (System.nanoTime() - startedAt) / 1_000_000);
+
+        var rows = new ArrayList<BulkIssuanceRowResult>(contracts.size());
+        for (int i = 0; i < contracts.size(); i++) {
+            Contract contract = contracts.get(i);
+            rows.add(BulkIssuanceRowResult.issued(i + 1, contract.getSecondParty().email(), contract.getId().value()));
+        }
+        return new BulkIssuanceResult(command.templateId(), recipients.size(), contracts.size(), rows);
+    }
+
+    /**
+     * 렌더링 전 행 검증 결과 (계약서 생성에 필요한 행별 값)
+     */
+    private record DraftRow(String title, PartyInfo secondParty) {}
+
+    private DraftRow prepareDraft(
+            ContractTemplate template,
+            String baseTitle,
+            PartyInfo firstParty,
+            LocalDateTime expiresAt,
+            BulkIssuanceRecipient recipient,
+            Set<String> recipientEmails
+    ) {
+        if (recipient == null) {
+            throw new ValidationException("수신자 정보가 비어 있습니다");
+        }
+
+        var secondParty = PartyInfo.of(recipient.name(), recipient.email(), recipient.organization());
+        if (!recipientEmails.add(secondParty.email())) {
+            throw new ValidationException("같은 수신자 이메일이 이미 다른 행에 있습니다");
+        }
+
+        TemplateVariableValidator.validate(template.getContent(), variableValues(recipient));
+
+        String title = rowTitle(baseTitle, secondParty.name());
+        Contract.validateCreation(title, firstParty, secondParty, expiresAt);
+        return new DraftRow(title, secondParty);
+    }
+
+    /**
+     * 행별 렌더링을 전용 실행기에 분산 (실행기가 가득 차면 요청 스레드에서 직접 렌더링)
+     */
+    private List<String> renderAll(
+            CompiledTemplateLayout layout,
+            List<BulkIssuanceRecipient> recipients
+    ) {
+        List<CompletableFuture<String>> futures = recipients.stream()
+                .map(recipient -> CompletableFuture.supplyAsync(
+                        () -> ContractHtmlSanitizer.sanitize(
+                                unifiedTemplateRenderer.renderWithVariables(layout, variableValues(recipient))),
+                        bulkExecutor))
+                .toList();
+
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private BulkIssuanceResult rejected(
+            String templateId,
+            List<BulkIssuanceRecipient> recipients,
+            List<BulkIssuanceRowResult> invalidRows
+    ) {
+        var rows = new ArrayList<BulkIssuanceRowResult>(recipients.size());
+        int next = 0;
+        for (int i = 0; i < recipients.size(); i++) {
+            if (next < invalidRows.size() && invalidRows.get(next).rowNumber() == i + 1) {
+                rows.add(invalidRows.get(next++));
+            } else {
+                rows.add(BulkIssuanceRowResult.skipped(i + 1, recipientEmail(recipients.get(i))));
+            }
+        }
+        return new BulkIssuanceResult(templateId, recipients.size(), 0, rows);
+    }
+
+    private User validateUserAndPermissions(String userId) {
+        var user = userRepository.findById(UserId.of(userId))
+                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
+
+        if (!user.canCreateContract()) {
+            throw new ForbiddenException("계약서를 생성할 권한이 없습니다");
+        }
+
+        return user;
+    }
+
+    private static String firstPartyOrganization(User user) {
+        if (user.getCompany() == null) {
+            return null;
+        }
+        String address = user.getCompany().address();
+        return StringUtils.hasText(address) ? address : user.getCompany().name();
+    }
+
+    private static String rowTitle(
+            String baseTitle,
+            String recipientName
+    ) {
+        String title = baseTitle + " - " + recipientName;
+        return title.length() > MAX_TITLE_LENGTH ? title.substring(0, MAX_TITLE_LENGTH) : title;
+    }
+
+    private static Map<String, String> variableValues(BulkIssuanceRecipient recipient) {
+        return recipient.variableValues() != null ? recipient.variableValues() : Map.of();
+    }
+
+    private static String recipientEmail(BulkIssuanceRecipient recipient) {
+        return recipient != null ? recipient.email() : null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.signly.contract.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.signly.contract.domain.model.ContractStatus;
+import com.signly.contract.domain.repository.ContractRepository;
+import com.signly.user.domain.model.UserId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 작성자별 계약서 수 캐시
+ * - 상태별 건수를 GROUP BY 한 번으로 적재하고 목록 총건수와 대시보드 통계가 함께 사용한다.
+ * - 생성/삭제/일괄 발행과 모든 상태 전이(발송/서명/취소/만료) 시 해당 작성자 항목을 비운다.
+ * - 비우기는 트랜잭션 커밋 후에 수행하여 커밋 전 다른 요청이 이전 건수를 다시 적재하지 않게 한다.
+ */
+@Component
+public class ContractCountCache {
+
+    private final ContractRepository contractRepository;
+    private final Cache<String, Map<ContractStatus, Long>> counts;
+
+    public ContractCountCache(
+            ContractRepository contractRepository,
+            @Value("${app.contract.list.count-cache-ttl:30s}") Duration ttl,
+            @Value("${app.contract.list.count-cache-max-size:10000}") long maxSize
+    ) {
+        this.contractRepository = contractRepository;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 작성자의 계약서 수
+     *
+     * @param status 상태 (null이면 전체)
+     */
+    public long count(
+            UserId creatorId,
+            ContractStatus status
+    ) {
+        Map<ContractStatus, Long> byStatus = counts.get(creatorId.value(),
+                key -> Collections.unmodifiableMap(contractRepository.countByCreatorIdGroupByStatus(creatorId)));
+        if (status == null) {
+            return byStatus.values().stream().mapToLong(Long::longValue).sum();
+        }
+        return byStatus.getOrDefault(status, 0L);
+    }
+
+    /**
+     * 작성자 항목 비우기 (트랜잭션 안이면 커밋 후, 밖이면 즉시)
+     */
+    public void evict(UserId creatorId) {
+        String key = creatorId.value();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counts.invalidate(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counts.invalidate(key);
+            }
+        });
+    }
+}
@@ -6,13 +6,15 @@ import com.signly.common.exception.ValidationException;
 import com.signly.contract.application.dto.CreateContractCommand;
 import com.signly.contract.application.dto.UpdateContractCommand;
 import com.signly.contract.application.support.ContractHtmlSanitizer;
+import com.signly.contract.application.support.TemplateVariableValidator;
 import com.signly.contract.domain.model.Contract;
 import com.signly.contract.domain.model.ContractContent;
+import com.signly.contract.domain.model.ContractTemplateData;
 import com.signly.contract.domain.model.ContractId;
 import com.signly.contract.domain.model.PartyInfo;
 import com.signly.contract.domain.repository.ContractRepository;
 import com.signly.signature.application.FirstPartySignatureService;
-import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.application.CompiledTemplateCache;
 import com.signly.template.domain.model.TemplateId;
 import com.signly.template.domain.repository.TemplateRepository;
 import com.signly.template.domain.service.UnifiedTemplateRenderer;
@@ -28,7 +30,6 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.Map;
 
 /**
  * 계약서 생성 서비스
@@ -45,7 +46,9 @@ public class ContractCreationService {
     private final TemplateRepository templateRepository;
     private final FirstPartySignatureService firstPartySignatureService;
     private final UnifiedTemplateRenderer unifiedTemplateRenderer;
+    private final CompiledTemplateCache compiledTemplateCache;
     private final ContractAuthorizationService authorizationService;
+    private final ContractCountCache contractCountCache;
 
     public Contract createContract(
             String userId,
@@ -57,7 +60,7 @@ public class ContractCreationService {
             firstPartySignatureService.ensureSignatureExists(userId);
         }
 
-        var content = prepareContent(userId, command);
+        var prepared = prepareContent(userId, command);
         var firstParty = createPartyInfo(
                 command.firstPartyName(),
                 command.firstPartyEmail(),
@@ -79,14 +82,18 @@ public class ContractCreationService {
                 UserId.of(userId),
                 templateId,
                 command.title(),
-                content,
+                prepared.content(),
                 firstParty,
                 secondParty,
                 expiresAt,
                 command.presetType()
         );
+        if (prepared.templateData() != null) {
+            contract.recordTemplateData(prepared.templateData());
+        }
 
         var savedContract = contractRepository.save(contract);
+        contractCountCache.evict(savedContract.getCreatorId());
 
         return savedContract;
     }
@@ -129,6 +136,7 @@ public class ContractCreationService {
         }
 
         contractRepository.delete(contract);
+        contractCountCache.evict(contract.getCreatorId());
 
         log.info("Deleted contract: {} for user: {}", contractId, userId);
     }
@@ -145,13 +153,13 @@ public class ContractCreationService {
         return user;
     }
 
-    private ContractContent prepareContent(
+    private PreparedContent prepareContent(
             String userId,
             CreateContractCommand command
     ) {
         if (!StringUtils.hasText(command.templateId())) {
             String sanitizedContent = ContractHtmlSanitizer.sanitize(command.content());
-            return ContractContent.of(sanitizedContent);
+            return new PreparedContent(ContractContent.of(sanitizedContent), null);
         }
 
         var templateId = TemplateId.of(command.templateId().trim());
@@ -163,14 +171,28 @@ public class ContractCreationService {
         var variableValues = command.variableValues() != null ?
                 command.variableValues() : new HashMap<String, String>();
 
-        validateTemplateVariables(template.getContent(), variableValues);
+        TemplateVariableValidator.validate(template.getContent(), variableValues);
 
-        String renderedHtml = unifiedTemplateRenderer.renderWithVariables(template.getContent(), variableValues);
+        // 템플릿 버전별로 컴파일된 레이아웃에 값만 채워 렌더링
+        String renderedHtml = unifiedTemplateRenderer.renderWithVariables(
+                compiledTemplateCache.layout(template), variableValues);
         String sanitizedContent = ContractHtmlSanitizer.sanitize(renderedHtml);
 
-        return ContractContent.of(sanitizedContent);
+        // 같은 템플릿 버전과 값으로 PDF를 레이아웃에서 바로 렌더링할 수 있도록 기록
+        return new PreparedContent(
+                ContractContent.of(sanitizedContent),
+                ContractTemplateData.of(template.getVersion(), variableValues)
+        );
     }
 
+    /**
+     * 계약서 본문과 (템플릿으로 렌더링한 경우) 렌더링 원본
+     */
+    private record PreparedContent(
+            ContractContent content,
+            ContractTemplateData templateData
+    ) {}
+
     private PartyInfo createPartyInfo(
             String name,
             String email,
@@ -178,34 +200,4 @@ public class ContractCreationService {
     ) {
         return PartyInfo.of(name, email, organization);
     }
-
-    private void validateTemplateVariables(
-            TemplateContent templateContent,
-            Map<String, String> variableValues
-    ) {
-        var templateVariables = templateContent.metadata().variables();
-
-        for (var entry : templateVariables.entrySet()) {
-            String varName = entry.getKey();
-            com.signly.template.domain.model.TemplateVariable varDef = entry.getValue();
-
-            String value = variableValues.get(varName);
-
-            if (varDef.required() && (value == null || value.trim().isEmpty())) {
-                throw new ValidationException(
-                        String.format("필수 변수 '%s'의 값이 제공되지 않았습니다.", varDef.label())
-                );
-            }
-
-            if (value != null && !value.trim().isEmpty()) {
-                try {
-                    varDef.validateValue(value);
-                } catch (ValidationException e) {
-                    throw new ValidationException(
-                            String.format("변수 '%s'의 값이 유효하지 않습니다: %s", varDef.label(), e.getMessage())
-                    );
-                }
-            }
-        }
-    }
 }
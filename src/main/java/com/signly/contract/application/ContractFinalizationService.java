@@ -0,0 +1,125 @@
+package com.signly.contract.application;
+
+import com.signly.common.exception.NotFoundException;
+import com.signly.contract.domain.event.ContractFinalizationRequestedEvent;
+import com.signly.contract.domain.model.Contract;
+import com.signly.contract.domain.model.ContractFinalizationJob;
+import com.signly.contract.domain.model.ContractId;
+import com.signly.contract.domain.repository.ContractFinalizationJobRepository;
+import com.signly.contract.domain.repository.ContractRepository;
+import com.signly.notification.application.EmailNotificationService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 서명 완료 계약서 후처리 작업 서비스
+ * - 서명 트랜잭션에서는 작업 등록만 하고, PDF 생성/저장과 완료 알림은 워커가 처리
+ * - 각 단계는 별도 트랜잭션으로 완료 여부를 기록하여 재시도 시 끝난 단계를 반복하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class ContractFinalizationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractFinalizationService.class);
+
+    private final ContractFinalizationJobRepository jobRepository;
+    private final ContractRepository contractRepository;
+    private final ContractPdfService contractPdfService;
+    private final EmailNotificationService emailNotificationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 후처리 작업 등록 (호출한 트랜잭션에 참여)
+     * 계약서당 한 건만 등록되며, 커밋 후 워커가 즉시 처리를 시작한다.
+     */
+    @Transactional
+    public void enqueue(Contract contract) {
+        ContractId contractId = contract.getId();
+        if (jobRepository.existsByContractId(contractId)) {
+            logger.info("이미 등록된 계약서 후처리 작업: contractId={}", contractId.value());
+            return;
+        }
+
+        jobRepository.save(ContractFinalizationJob.create(contractId));
+
+        // 이벤트 발행 - 트랜잭션 커밋 후 처리됨
+        eventPublisher.publishEvent(new ContractFinalizationRequestedEvent(contractId));
+
+        logger.info("계약서 후처리 작업 등록: contractId={}", contractId.value());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ContractId> findDueJobs(int limit) {
+        return jobRepository.findDueContractIds(limit);
+    }
+
+    /**
+     * 작업 점유 후 현재 상태 조회
+     * 다른 워커가 처리 중이거나 처리 시각 전이면 empty
+     */
+    @Transactional
+    public Optional<ContractFinalizationJob> claim(
+            ContractId contractId,
+            LocalDateTime leaseUntil
+    ) {
+        if (!jobRepository.claim(contractId, leaseUntil)) {
+            return Optional.empty();
+        }
+        return jobRepository.findByContractId(contractId);
+    }
+
+    /**
+     * 1단계: PDF 생성 및 저장 (이미 저장된 PDF가 있으면 재사용)
+     */
+    @Transactional
+    public void storePdf(ContractFinalizationJob job) {
+        String path = contractPdfService.ensureStoredPdf(job.getContractId().value());
+
+        job.markPdfStored();
+        jobRepository.save(job);
+
+        logger.info("계약서 후처리 PDF 저장 완료: contractId={}, path={}", job.getContractId().value(), path);
+    }
+
+    /**
+     * 2단계: 완료 알림 이메일 Outbox 등록
+     * Outbox 저장과 단계 완료 기록을 같은 트랜잭션에서 커밋하여 알림이 중복 등록되지 않게 한다.
+     */
+    @Transactional
+    public void sendCompletionNotice(ContractFinalizationJob job) {
+        Contract contract = contractRepository.findById(job.getContractId())
+                .orElseThrow(() -> new NotFoundException("계약서를 찾을 수 없습니다: " + job.getContractId().value()));
+
+        emailNotificationService.sendContractCompleted(contract);
+
+        job.markNotificationSent();
+        job.markCompleted();
+        jobRepository.save(job);
+    }
+
+    /**
+     * 실패 기록
+     * 실패한 단계의 트랜잭션은 롤백되었으므로 메모리 상태가 아닌 저장된 작업을 기준으로 기록한다.
+     *
+     * @return 실패가 기록된 작업 (없으면 empty)
+     */
+    @Transactional
+    public Optional<ContractFinalizationJob> markFailed(
+            ContractId contractId,
+            Exception cause
+    ) {
+        return jobRepository.findByContractId(contractId)
+                .map(job -> {
+                    job.markFailed(cause.getMessage());
+                    return jobRepository.save(job);
+                });
+    }
+}
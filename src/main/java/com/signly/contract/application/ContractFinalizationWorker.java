@@ -0,0 +1,121 @@
+package com.signly.contract.application;
+
+import com.signly.contract.domain.event.ContractFinalizationRequestedEvent;
+import com.signly.contract.domain.model.ContractFinalizationJob;
+import com.signly.contract.domain.model.ContractId;
+import com.signly.contract.domain.model.FinalizationJobStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 계약서 후처리 작업 워커
+ * - 작업 등록 이벤트(커밋 후)로 즉시 처리하고, 놓친 작업/재시도는 주기적 폴링으로 처리
+ * - 동시 처리량은 전용 실행기 크기로 제한되며, 실행기가 가득 차면 다음 폴링에서 다시 시도
+ * - 조건부 UPDATE로 작업을 점유하므로 여러 인스턴스가 같은 작업을 중복 처리하지 않음
+ */
+@Component
+public class ContractFinalizationWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractFinalizationWorker.class);
+    private static final int BATCH_SIZE = 20;
+
+    private final ContractFinalizationService finalizationService;
+    private final Executor executor;
+    private final long leaseMinutes;
+    private final Set<String> submitted = ConcurrentHashMap.newKeySet();
+
+    public ContractFinalizationWorker(
+            ContractFinalizationService finalizationService,
+            @Qualifier("contractFinalizationExecutor") Executor executor,
+            @Value("${app.pdf.finalization.lease-minutes:10}") long leaseMinutes
+    ) {
+        this.finalizationService = finalizationService;
+        this.executor = executor;
+        this.leaseMinutes = leaseMinutes;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFinalizationRequested(ContractFinalizationRequestedEvent event) {
+        submit(event.getContractId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.pdf.finalization.poll-interval-ms:30000}")
+    public void processDueJobs() {
+        try {
+            var dueJobs = finalizationService.findDueJobs(BATCH_SIZE);
+            if (dueJobs.isEmpty()) {
+                return;
+            }
+
+            logger.info("계약서 후처리 대기 작업 처리: {} 건", dueJobs.size());
+            dueJobs.forEach(this::submit);
+        } catch (Exception e) {
+            logger.error("계약서 후처리 작업 폴링 중 오류 발생", e);
+        }
+    }
+
+    private void submit(ContractId contractId) {
+        // 이미 실행기에 들어간 작업은 다시 넣지 않음
+        if (!submitted.add(contractId.value())) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    finalizeContract(contractId);
+                } finally {
+                    submitted.remove(contractId.value());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            submitted.remove(contractId.value());
+            logger.warn("계약서 후처리 실행기 포화, 다음 폴링에서 처리 예정: contractId={}", contractId.value());
+        }
+    }
+
+    void finalizeContract(ContractId contractId) {
+        Optional<ContractFinalizationJob> claimed = finalizationService.claim(
+                contractId, LocalDateTime.now().plusMinutes(leaseMinutes));
+        if (claimed.isEmpty()) {
+            logger.debug("점유할 수 없는 후처리 작업 (처리 중이거나 대기 시간 전): contractId={}", contractId.value());
+            return;
+        }
+
+        ContractFinalizationJob job = claimed.get();
+        try {
+            if (!job.isPdfStored()) {
+                finalizationService.storePdf(job);
+            }
+            if (!job.isNotificationSent()) {
+                finalizationService.sendCompletionNotice(job);
+            }
+
+            logger.info("계약서 후처리 완료: contractId={}, attempts={}", contractId.value(), job.getAttempts());
+        } catch (Exception e) {
+            logger.error("계약서 후처리 실패: contractId={}, attempts={}/{}",
+                    contractId.value(), job.getAttempts(), job.getMaxAttempts(), e);
+            try {
+                finalizationService.markFailed(contractId, e)
+                        .filter(failed -> failed.getStatus() == FinalizationJobStatus.FAILED)
+                        .ifPresent(failed -> logger.error("계약서 후처리 최대 재시도 초과: contractId={}", contractId.value()));
+            } catch (Exception markEx) {
+                // 상태 기록 실패 시 lease 만료 후 다시 점유됨
+                logger.error("계약서 후처리 실패 상태 기록 실패: contractId={}", contractId.value(), markEx);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.signly.contract.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.signly.contract.domain.model.GeneratedPdf;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 생성된 계약서 PDF의 내용 주소 기반 캐시
+ * - 키: (계약서 본문, 서명 체크섬, 렌더링 자산 버전)의 해시
+ * - single-flight: 같은 키에 대한 동시 요청은 하나의 렌더링 결과를 공유
+ * - 용량 제한: PDF 바이트 크기 기준 가중치로 제한
+ */
+@Component
+public class ContractPdfCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractPdfCache.class);
+
+    private final Cache<String, GeneratedPdf> pdfs;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter sharedCounter;
+
+    public ContractPdfCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.pdf.cache.max-bytes:67108864}") long maxBytes,
+            @Value("${app.pdf.cache.expire-after-access-minutes:30}") long expireAfterAccessMinutes
+    ) {
+        this.pdfs = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, GeneratedPdf pdf) -> (int) Math.min(Integer.MAX_VALUE, pdf.sizeInBytes()))
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build();
+
+        this.hitCounter = Counter.builder("pdf.cache.requests")
+                .tag("result", "hit")
+                .description("Contract PDF cache lookups")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("pdf.cache.requests")
+                .tag("result", "miss")
+                .description("Contract PDF cache lookups")
+                .register(meterRegistry);
+        this.sharedCounter = Counter.builder("pdf.cache.requests")
+                .tag("result", "shared")
+                .description("Contract PDF cache lookups")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 있으면 반환하고, 없으면 렌더링하여 캐시에 저장
+     * 같은 키로 이미 렌더링 중이면 그 결과를 기다려 공유한다.
+     *
+     * @param cacheKey 내용 주소 키
+     * @param renderer 캐시 미스 시 실행할 렌더링
+     * @return 생성된 PDF
+     */
+    public GeneratedPdf getOrRender(
+            String cacheKey,
+            Supplier<GeneratedPdf> renderer
+    ) {
+        GeneratedPdf cached = pdfs.getIfPresent(cacheKey);
+        if (cached != null) {
+            hitCounter.increment();
+            logger.debug("계약서 PDF 캐시 적중: key={}", cacheKey);
+            return cached;
+        }
+
+        return singleFlight("render:" + cacheKey, () -> {
+            GeneratedPdf rendered = pdfs.getIfPresent(cacheKey);
+            if (rendered != null) {
+                hitCounter.increment();
+                return rendered;
+            }
+
+            missCounter.increment();
+            GeneratedPdf pdf = renderer.get();
+            pdfs.put(cacheKey, pdf);
+            return pdf;
+        });
+    }
+
+    /**
+     * 같은 키의 작업을 한 번만 실행하고, 동시에 들어온 호출자는 그 결과를 공유
+     *
+     * @param key  작업 키
+     * @param work 실행할 작업
+     * @return 작업 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T singleFlight(
+            String key,
+            Supplier<T> work
+    ) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            sharedCounter.increment();
+            logger.debug("진행 중인 작업 결과 공유: key={}", key);
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            T result = work.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public void invalidate(String cacheKey) {
+        pdfs.invalidate(cacheKey);
+    }
+}
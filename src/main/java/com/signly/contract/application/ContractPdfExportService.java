@@ -0,0 +1,270 @@
+package com.signly.contract.application;
+
+import com.signly.common.exception.ValidationException;
+import com.signly.common.storage.FileStorageService;
+import com.signly.contract.application.dto.StoredContractPdf;
+import com.signly.contract.domain.model.ContractId;
+import com.signly.contract.domain.repository.ContractRepository;
+import com.signly.user.domain.model.UserId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 서명 완료 계약서 PDF 일괄 내보내기 (ZIP 스트리밍)
+ * - 저장된 PDF는 파일 스트림을 그대로 ZIP 엔트리로 복사하며 메모리에 올리지 않음
+ * - 저장되지 않은 PDF는 전용 실행기에서 제한된 개수만 동시에 렌더링하고, 끝난 순서대로 기록
+ * - 동시에 진행 중인 작업 수가 고정되어 있어 보관 파일 크기와 무관하게 메모리 사용량이 일정
+ * - Micrometer 지표: 진행 중인 내보내기/남은 엔트리 수, 엔트리 결과별 건수, 기록 바이트, 소요 시간
+ */
+@Service
+public class ContractPdfExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractPdfExportService.class);
+    private static final String ERROR_REPORT_ENTRY = "export-errors.txt";
+    private static final Pattern UNSAFE_ENTRY_CHARS = Pattern.compile("[\\\\/:*?\"<>|\\p{Cntrl}]");
+    private static final int MAX_TITLE_LENGTH = 80;
+
+    private final ContractRepository contractRepository;
+    private final ContractPdfService contractPdfService;
+    private final FileStorageService fileStorageService;
+    private final Executor exportExecutor;
+    private final int parallelism;
+    private final int maxContracts;
+
+    private final AtomicInteger activeExports = new AtomicInteger();
+    private final AtomicLong pendingEntries = new AtomicLong();
+    private final Counter storedCounter;
+    private final Counter renderedCounter;
+    private final Counter failedCounter;
+    private final Counter bytesCounter;
+    private final Timer exportTimer;
+
+    public ContractPdfExportService(
+            ContractRepository contractRepository,
+            ContractPdfService contractPdfService,
+            FileStorageService fileStorageService,
+            @Qualifier("contractExportExecutor") Executor exportExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${app.pdf.export.parallelism:2}") int parallelism,
+            @Value("${app.pdf.export.max-contracts:2000}") int maxContracts
+    ) {
+        this.contractRepository = contractRepository;
+        this.contractPdfService = contractPdfService;
+        this.fileStorageService = fileStorageService;
+        this.exportExecutor = exportExecutor;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxContracts = maxContracts;
+
+        this.storedCounter = Counter.builder("contract.export.entries")
+                .tag("result", "stored")
+                .description("Contract PDFs written to bulk export archives")
+                .register(meterRegistry);
+        this.renderedCounter = Counter.builder("contract.export.entries")
+                .tag("result", "rendered")
+                .description("Contract PDFs written to bulk export archives")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("contract.export.entries")
+                .tag("result", "failed")
+                .description("Contract PDFs written to bulk export archives")
+                .register(meterRegistry);
+        this.bytesCounter = Counter.builder("contract.export.bytes")
+                .baseUnit("bytes")
+                .description("PDF bytes written to bulk export archives")
+                .register(meterRegistry);
+        this.exportTimer = Timer.builder("contract.export.time")
+                .description("Bulk contract PDF export duration")
+                .register(meterRegistry);
+        Gauge.builder("contract.export.active", activeExports, AtomicInteger::get)
+                .description("Bulk contract PDF exports in progress")
+                .register(meterRegistry);
+        Gauge.builder("contract.export.pending", pendingEntries, AtomicLong::get)
+                .description("Contract PDFs not yet written by in-progress exports")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 내보낼 계약서 ID 조회 (기간 내 서명 완료된 본인 계약서)
+     *
+     * @param userId 요청 사용자 ID
+     * @param from   시작일 (포함)
+     * @param to     종료일 (포함)
+     * @return 계약서 ID 목록 (생성 순)
+     */
+    public List<ContractId> findExportTargets(
+            String userId,
+            LocalDate from,
+            LocalDate to
+    ) {
+        if (from == null || to == null) {
+            throw new ValidationException("내보내기 기간을 입력해주세요");
+        }
+        if (to.isBefore(from)) {
+            throw new ValidationException("종료일은 시작일 이후여야 합니다");
+        }
+
+        List<ContractId> contractIds = contractRepository.findSignedContractIds(
+                UserId.of(userId),
+                from.atStartOfDay(),
+                to.plusDays(1).atStartOfDay()
+        );
+
+        if (contractIds.size() > maxContracts) {
+            throw new ValidationException(
+                    "한 번에 내보낼 수 있는 계약서는 최대 " + maxContracts + "건입니다. 기간을 나누어 요청해주세요");
+        }
+        return contractIds;
+    }
+
+    /**
+     * 계약서 PDF를 ZIP으로 출력 스트림에 기록
+     * 실패한 계약서는 건너뛰고 마지막에 오류 목록 엔트리로 기록한다.
+     *
+     * @param contractIds 내보낼 계약서 ID
+     * @param output      응답 출력 스트림
+     * @throws IOException 출력 중 오류 (클라이언트 연결 종료 등)
+     */
+    public void writeZip(
+            List<ContractId> contractIds,
+            OutputStream output
+    ) throws IOException {
+        Timer.Sample sample = Timer.start();
+        activeExports.incrementAndGet();
+        pendingEntries.addAndGet(contractIds.size());
+
+        CompletionService<StoredContractPdf> completion = new ExecutorCompletionService<>(exportExecutor);
+        Map<Future<StoredContractPdf>, ContractId> inFlight = new HashMap<>();
+        Iterator<ContractId> remaining = contractIds.iterator();
+        List<String> failures = new ArrayList<>();
+        int unwritten = contractIds.size();
+        int written = 0;
+
+        try {
+            ZipOutputStream zip = new ZipOutputStream(output, StandardCharsets.UTF_8);
+            // PDF 본문은 이미 압축되어 있으므로 재압축하지 않음
+            zip.setLevel(Deflater.NO_COMPRESSION);
+
+            while (remaining.hasNext() && inFlight.size() < parallelism) {
+                submit(completion, inFlight, remaining.next());
+            }
+
+            while (!inFlight.isEmpty()) {
+                Future<StoredContractPdf> done = completion.take();
+                ContractId contractId = inFlight.remove(done);
+
+                // 기록하는 동안 다음 계약서 렌더링이 진행되도록 먼저 제출
+                if (remaining.hasNext()) {
+                    submit(completion, inFlight, remaining.next());
+                }
+
+                StoredContractPdf pdf = null;
+                InputStream input = null;
+                try {
+                    pdf = done.get();
+                    input = fileStorageService.loadAsResource(pdf.pdfPath()).getInputStream();
+                } catch (ExecutionException | IOException | RuntimeException e) {
+                    Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+                    logger.warn("일괄 내보내기 중 계약서 PDF 준비 실패: contractId={}", contractId.value(), cause);
+                    failures.add(contractId.value() + "\t" + cause.getMessage());
+                    failedCounter.increment();
+                }
+
+                if (input != null) {
+                    try (InputStream pdfInput = input) {
+                        writeEntry(zip, entryName(pdf), pdfInput);
+                    }
+                    (pdf.rendered() ? renderedCounter : storedCounter).increment();
+                    written++;
+                }
+                unwritten--;
+                pendingEntries.decrementAndGet();
+            }
+
+            if (!failures.isEmpty()) {
+                writeErrorReport(zip, failures);
+            }
+            zip.finish();
+            zip.flush();
+
+            logger.info("계약서 PDF 일괄 내보내기 완료: total={}, written={}, failed={}",
+                    contractIds.size(), written, failures.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("계약서 PDF 일괄 내보내기가 중단되었습니다", e);
+        } finally {
+            inFlight.keySet().forEach(future -> future.cancel(true));
+            pendingEntries.addAndGet(-unwritten);
+            activeExports.decrementAndGet();
+            sample.stop(exportTimer);
+        }
+    }
+
+    private void submit(
+            CompletionService<StoredContractPdf> completion,
+            Map<Future<StoredContractPdf>, ContractId> inFlight,
+            ContractId contractId
+    ) {
+        Future<StoredContractPdf> future = completion.submit(
+                () -> contractPdfService.ensureStoredPdfForExport(contractId));
+        inFlight.put(future, contractId);
+    }
+
+    private void writeEntry(
+            ZipOutputStream zip,
+            String entryName,
+            InputStream input
+    ) throws IOException {
+        zip.putNextEntry(new ZipEntry(entryName));
+        long bytes = input.transferTo(zip);
+        zip.closeEntry();
+        bytesCounter.increment(bytes);
+    }
+
+    private void writeErrorReport(
+            ZipOutputStream zip,
+            List<String> failures
+    ) throws IOException {
+        zip.putNextEntry(new ZipEntry(ERROR_REPORT_ENTRY));
+        zip.write(("contractId\terror\n" + String.join("\n", failures) + "\n").getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private String entryName(StoredContractPdf pdf) {
+        String title = pdf.title() == null ? "" : UNSAFE_ENTRY_CHARS.matcher(pdf.title()).replaceAll("_").strip();
+        if (title.length() > MAX_TITLE_LENGTH) {
+            title = title.substring(0, MAX_TITLE_LENGTH);
+        }
+        // 같은 제목의 계약서가 겹치지 않도록 계약서 ID를 포함
+        return title.isEmpty()
+                ? pdf.contractId() + ".pdf"
+                : title + "_" + pdf.contractId() + ".pdf";
+    }
+}
@@ -1,27 +1,42 @@
 package com.signly.contract.application;
 
 import com.signly.common.exception.NotFoundException;
-import com.signly.common.html.HtmlEntityNormalizer;
-import com.signly.common.image.ImageResizer;
+import com.signly.common.html.XhtmlNormalizer;
 import com.signly.common.storage.FileStorageService;
-import com.signly.contract.application.support.ContractHtmlSanitizer;
+import com.signly.contract.application.dto.StoredContractPdf;
+import com.signly.contract.application.support.SignatureImageInjector;
+import com.signly.contract.domain.model.Contract;
 import com.signly.contract.domain.model.ContractId;
 import com.signly.contract.domain.model.ContractPdfData;
+import com.signly.contract.domain.model.ContractTemplateData;
 import com.signly.contract.domain.model.GeneratedPdf;
 import com.signly.contract.domain.model.Signature;
 import com.signly.contract.domain.repository.ContractRepository;
 import com.signly.contract.domain.repository.SignatureRepository;
 import com.signly.contract.domain.service.PdfGenerator;
+import com.signly.document.application.DocumentService;
 import com.signly.signature.application.FirstPartySignatureService;
+import com.signly.signature.application.SignatureRenditionService;
+import com.signly.template.application.TemplateService;
+import com.signly.template.domain.model.CompiledTemplateLayout;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Base64;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -35,297 +50,384 @@ import java.util.Optional;
 public class ContractPdfService {
 
     private static final Logger logger = LoggerFactory.getLogger(ContractPdfService.class);
+    private static final String COMPLETED_PDF_CATEGORY = "contracts/completed";
+    private static final String CACHE_KEY_ALGORITHM = "SHA-256";
     private final ContractRepository contractRepository;
     private final SignatureRepository signatureRepository;
     private final PdfGenerator pdfGenerator;
     private final FileStorageService fileStorageService;
-    private final ImageResizer imageResizer;
     private final FirstPartySignatureService firstPartySignatureService;
+    private final SignatureRenditionService signatureRenditionService;
+    private final ContractPdfCache pdfCache;
+    private final DocumentService documentService;
+    private final TemplateService templateService;
 
     /**
      * 계약서 ID로 PDF 생성
+     * 같은 내용/서명/렌더링 자산이면 캐시된 결과를 반환하고, 동시 요청은 하나의 렌더링을 공유한다.
      *
      * @param contractId 계약서 ID
      * @return 생성된 PDF
      */
     public GeneratedPdf generateContractPdf(String contractId) {
-        logger.info("계약서 PDF 생성 시작: contractId={}", contractId);
-
         var cId = ContractId.of(contractId);
         var contract = contractRepository.findById(cId)
                 .orElseThrow(() -> new NotFoundException("계약서를 찾을 수 없습니다: " + contractId));
 
-        // 갑(사업주) 서명 이미지 조회 - FirstPartySignatureService 사용
-        String firstPartySignatureImage = getFirstPartySignatureImage(contract.getCreatorId().value());
+        return generateContractPdf(contract);
+    }
 
-        // 을(근로자) 서명 이미지 조회 - SignatureRepository 사용
-        String secondPartySignatureImage = getSecondPartySignatureImage(cId, contract.getSecondParty().email());
+    /**
+     * PDF를 생성(또는 캐시에서 조회)하고 저장소에 보관한 뒤 계약서에 경로를 기록
+     * 이미 저장된 PDF가 있으면 렌더링/저장 없이 기존 경로를 반환한다.
+     * 전달받은 계약서는 먼저 읽은 값일 수 있으므로 단일 실행 안에서 저장된 경로를 다시 확인한다.
+     *
+     * @param contract 계약서
+     * @return 저장된 PDF 경로
+     */
+    public String storeContractPdf(Contract contract) {
+        String contractId = contract.getId().value();
+        if (hasStoredPdf(contract.getPdfPath())) {
+            return contract.getPdfPath();
+        }
 
-        // PDF 데이터 구성
-        var pdfData = ContractPdfData.builder()
-                .contractId(contract.getId())
-                .title(contract.getTitle())
-                .htmlContent(contract.getContent().content())
-                .firstPartySignatureImage(firstPartySignatureImage)
-                .secondPartySignatureImage(secondPartySignatureImage)
-                .presetType(contract.getPresetType())
-                .build();
+        return pdfCache.singleFlight("store:" + contractId, () -> {
+            // 앞선 실행(다른 요청/노드)이 그 사이 저장했으면 다시 렌더링하지 않고 그 경로를 사용
+            String storedPath = contractRepository.findPdfPath(contract.getId()).orElse(null);
+            if (hasStoredPdf(storedPath)) {
+                if (!storedPath.equals(contract.getPdfPath())) {
+                    contract.setPdfPath(storedPath);
+                }
+                logger.debug("이미 저장된 계약서 PDF 사용: contractId={}, path={}", contractId, storedPath);
+                return storedPath;
+            }
 
-        if (!pdfData.hasBothSignatures()) {
-            logger.warn("양측 서명이 모두 존재하지 않습니다: contractId={}", contractId);
-        }
+            GeneratedPdf pdf = generateContractPdf(contract);
 
-        // HTML에 서명 이미지를 삽입한 최종 HTML 생성
-        String finalHtml = insertSignatureImages(pdfData);
+            var storedFile = fileStorageService.storeFile(
+                    pdf.content(),
+                    pdf.fileName(),
+                    pdf.getContentType(),
+                    COMPLETED_PDF_CATEGORY
+            );
 
-        GeneratedPdf pdf;
-        try {
-            pdf = pdfGenerator.generateFromHtml(finalHtml, pdfData.generateFileName());
-        } catch (Exception ex) {
-            dumpPdfHtmlDebug(contractId, finalHtml);
-            throw ex;
-        }
+            contract.setPdfPath(storedFile.filePath());
+            contractRepository.save(contract);
 
-        logger.info("계약서 PDF 생성 완료: contractId={}, fileName={}, size={}bytes",
-                contractId, pdf.fileName(), pdf.sizeInBytes());
+            // 저장 시점에 체크섬을 기록해 다운로드 ETag 계산 시 파일을 다시 읽지 않음
+            List<String> replacedPaths = documentService.registerContractPdf(contract, storedFile.filePath(),
+                    pdf.fileName(), pdf.sizeInBytes(), checksum(pdf.content()));
+            deleteAfterCommit(replacedPaths);
 
-        return pdf;
+            logger.info("계약서 PDF 저장 완료: contractId={}, path={}", contractId, storedFile.filePath());
+            return storedFile.filePath();
+        });
     }
 
     /**
-     * 갑(사업주) 서명 이미지 조회 - FirstPartySignatureService 사용
+     * 저장된 PDF 경로를 보장 (없거나 읽을 수 없으면 한 번 렌더링하여 저장)
      *
-     * @param ownerId 사업주 ID
-     * @return 서명 이미지 Data URL, 없으면 null
+     * @param contractId 계약서 ID
+     * @return 저장된 PDF 경로
      */
-    private String getFirstPartySignatureImage(String ownerId) {
-        try {
-            // FirstPartySignatureService를 통해 파일에서 원본 서명 로드
-            String dataUrl = firstPartySignatureService.getSignatureDataUrl(ownerId);
-            return imageResizer.resizeSignatureImage(dataUrl);
-        } catch (Exception e) {
-            logger.warn("갑(사업주) 서명을 찾을 수 없습니다: ownerId={}", ownerId);
-            return null;
-        }
+    public String ensureStoredPdf(String contractId) {
+        var contract = contractRepository.findById(ContractId.of(contractId))
+                .orElseThrow(() -> new NotFoundException("계약서를 찾을 수 없습니다: " + contractId));
+
+        return storeContractPdf(contract);
     }
 
     /**
-     * 을(근로자) 서명 이미지 조회 - SignatureRepository 사용
+     * 저장된 PDF 내용 조회 (없으면 한 번 렌더링하여 저장)
+     * 노드 로컬 렌더링 캐시와 무관하게 재시작/재시도/다른 노드에서도 저장본을 사용한다.
      *
-     * @param contractId  계약서 ID
-     * @param signerEmail 서명자 이메일
-     * @return 서명 이미지 Data URL, 없으면 null
+     * @param contractId 계약서 ID
+     * @return 저장된 PDF
      */
-    private String getSecondPartySignatureImage(
-            ContractId contractId,
-            String signerEmail
-    ) {
-        String normalizedEmail = normalizeEmail(signerEmail);
-        var signature = signatureRepository.findByContractIdAndSignerEmail(contractId, normalizedEmail);
+    public GeneratedPdf loadStoredPdf(String contractId) {
+        var contract = contractRepository.findById(ContractId.of(contractId))
+                .orElseThrow(() -> new NotFoundException("계약서를 찾을 수 없습니다: " + contractId));
 
-        return signature
-                .flatMap(this::buildSignatureDataUrl)
-                .map(imageResizer::resizeSignatureImage)
-                .orElse(null);
+        return loadStoredPdf(contract);
     }
 
     /**
-     * 서명 이미지 조회 및 리사이징 (없으면 null 반환)
+     * 계약서에 기록된 저장 PDF 내용 조회 (경로가 없거나 파일이 없을 때만 한 번 렌더링하여 저장)
      *
-     * @deprecated 하위 호환성을 위해 유지, getFirstPartySignatureImage 또는 getSecondPartySignatureImage 사용 권장
+     * @param contract 계약서
+     * @return 저장된 PDF
      */
-    @Deprecated
-    private String getSignatureImage(
-            ContractId contractId,
-            String signerEmail
-    ) {
-        String normalizedEmail = normalizeEmail(signerEmail);
-        var signature = signatureRepository.findByContractIdAndSignerEmail(contractId, normalizedEmail);
-
-        return signature
-                .flatMap(this::buildSignatureDataUrl)
-                .map(imageResizer::resizeSignatureImage) // 리사이징 적용
-                .orElse(null);
+    public GeneratedPdf loadStoredPdf(Contract contract) {
+        String pdfPath = storeContractPdf(contract);
+        return GeneratedPdf.of(
+                fileStorageService.loadFile(pdfPath),
+                ContractPdfData.fileName(contract.getId(), contract.getTitle())
+        );
     }
 
     /**
-     * HTML에 서명 이미지 삽입
-     * SRP: 템플릿 치환 로직 분리
+     * 저장된 PDF의 SHA-256 체크섬 (다운로드 ETag용)
+     * 저장 시 기록한 FileMetadata 체크섬을 사용하고, 기록 이전에 저장된 PDF만 파일을 읽어 계산한다.
      */
-    private String insertSignatureImages(ContractPdfData pdfData) {
-        String html = normalizeSignaturePlaceholders(pdfData.htmlContent());
-        if (html == null) {
-            return "";
-        }
-
-        html = injectSignatureImage(
-                html,
-                pdfData.firstPartySignatureImage(),
-                "[EMPLOYER_SIGNATURE_IMAGE]",
-                1
-        );
+    @Transactional(readOnly = true)
+    public String storedPdfChecksum(
+            String contractId,
+            String pdfPath
+    ) {
+        return documentService.findContractPdfChecksum(ContractId.of(contractId), pdfPath)
+                .orElseGet(() -> fileStorageService.getChecksum(pdfPath));
+    }
 
-        html = injectSignatureImage(
-                html,
-                pdfData.secondPartySignatureImage(),
-                "[EMPLOYEE_SIGNATURE_IMAGE]",
-                2
-        );
+    /**
+     * 일괄 내보내기용 저장 PDF 조회 (없으면 한 번 렌더링하여 저장)
+     *
+     * @param contractId 계약서 ID
+     * @return 저장된 PDF 정보
+     */
+    public StoredContractPdf ensureStoredPdfForExport(ContractId contractId) {
+        var contract = contractRepository.findById(contractId)
+                .orElseThrow(() -> new NotFoundException("계약서를 찾을 수 없습니다: " + contractId.value()));
 
-        return html;
+        boolean rendered = !hasStoredPdf(contract.getPdfPath());
+        String pdfPath = storeContractPdf(contract);
+        return new StoredContractPdf(contractId.value(), contract.getTitle(), pdfPath, rendered);
     }
 
-    private String normalizeSignaturePlaceholders(String html) {
-        String sanitized = ContractHtmlSanitizer.sanitize(html);
+    private GeneratedPdf generateContractPdf(Contract contract) {
+        ContractId cId = contract.getId();
+        String ownerId = contract.getCreatorId().value();
 
-        if (sanitized.isBlank()) {
-            return sanitized;
-        }
+        // 을(근로자) 서명은 캐시 키와 렌더링 모두에 사용하므로 한 번만 조회
+        Optional<Signature> secondPartySignature = signatureRepository.findByContractIdAndSignerEmail(
+                cId, normalizeEmail(contract.getSecondParty().email()));
 
-        // HtmlEntityNormalizer를 사용하여 플레이스홀더 정규화
-        return HtmlEntityNormalizer.normalizePlaceholders(sanitized);
+        String cacheKey = buildCacheKey(
+                contract,
+                firstPartySignatureService.findSignatureChecksum(ownerId).orElse(null),
+                secondPartySignature.orElse(null)
+        );
+
+        return pdfCache.getOrRender(cacheKey, () -> renderContractPdf(contract, secondPartySignature));
     }
 
-    private String injectSignatureImage(
-            String html,
-            String dataUrl,
-            String placeholder,
-            int wrapperIndex
+    private GeneratedPdf renderContractPdf(
+            Contract contract,
+            Optional<Signature> secondPartySignature
     ) {
-        if (dataUrl == null || dataUrl.isBlank()) {
-            // 서명이 없으면 placeholder만 제거
-            return html.replace(placeholder, "");
-        }
+        String contractId = contract.getId().value();
+        logger.info("계약서 PDF 생성 시작: contractId={}", contractId);
 
-        String imageTag = createImageTag(dataUrl);
+        // 갑(사업주) 서명 이미지 조회 - FirstPartySignatureService 사용
+        String firstPartySignatureImage = getFirstPartySignatureImage(contract.getCreatorId().value());
 
-        // 1. placeholder가 있으면 교체 (새 계약서)
-        if (html.contains(placeholder)) {
-            logger.debug("플레이스홀더 발견, 서명 이미지로 교체: {}", placeholder);
-            return html.replace(placeholder, imageTag);
-        }
+        // 을(근로자) 서명 이미지 - SignatureRepository에서 조회한 서명 사용
+        String secondPartySignatureImage = getSecondPartySignatureImage(contractId, secondPartySignature);
 
-        // 2. 기존 이미지 태그가 있으면 교체 (기존 계약서 품질 개선)
-        String existingImagePattern = "<img[^>]*class=\"signature-stamp-image-element\"[^>]*>";
-        if (html.matches("(?s).*" + existingImagePattern + ".*")) {
-            logger.debug("기존 서명 이미지 발견, 새 고품질 이미지로 교체");
-            return html.replaceFirst(existingImagePattern, imageTag);
+        // PDF 데이터 구성
+        var pdfData = ContractPdfData.builder()
+                .contractId(contract.getId())
+                .title(contract.getTitle())
+                .htmlContent(contract.getContent().content())
+                .firstPartySignatureImage(firstPartySignatureImage)
+                .secondPartySignatureImage(secondPartySignatureImage)
+                .presetType(contract.getPresetType())
+                .build();
+
+        if (!pdfData.hasBothSignatures()) {
+            logger.warn("양측 서명이 모두 존재하지 않습니다: contractId={}", contractId);
         }
 
-        // 3. placeholder도 없고 이미지도 없으면 wrapper에 삽입 시도 (fallback)
-        logger.debug("플레이스홀더와 기존 이미지 없음, wrapper에 삽입 시도");
-        return insertIntoWrapper(html, imageTag, wrapperIndex);
-    }
+        GeneratedPdf pdf = renderFromTemplate(contract, pdfData)
+                .orElseGet(() -> renderFromContent(contractId, pdfData));
 
-    private String insertIntoWrapper(
-            String html,
-            String imageTag,
-            int occurrence
-    ) {
-        int searchIndex = 0;
+        logger.info("계약서 PDF 생성 완료: contractId={}, fileName={}, size={}bytes",
+                contractId, pdf.fileName(), pdf.sizeInBytes());
 
-        for (int i = 0; i < occurrence; i++) {
-            int marker = html.indexOf("signature-stamp-wrapper", searchIndex);
-            if (marker == -1) {
-                return html;
-            }
+        return pdf;
+    }
 
-            int tagStart = html.lastIndexOf('<', marker);
-            int openingEnd = html.indexOf('>', marker);
-            if (tagStart == -1 || openingEnd == -1) {
-                return html;
-            }
+    /**
+     * 템플릿으로 만든 계약서는 본문을 렌더링한 버전의 컴파일된 레이아웃과 변수 값으로 바로 PDF 생성
+     * (저장된 본문 HTML의 정규화/파싱 생략). 본문을 직접 수정했거나, 템플릿이 그 뒤에 수정되었거나,
+     * 레이아웃에 넣어야 할 서명 자리가 없으면 empty를 반환하여 저장된 본문으로 렌더링한다.
+     */
+    private Optional<GeneratedPdf> renderFromTemplate(
+            Contract contract,
+            ContractPdfData pdfData
+    ) {
+        ContractTemplateData templateData = contract.getTemplateData();
+        if (contract.getTemplateId() == null || templateData == null) {
+            return Optional.empty();
+        }
 
-            int wrapperEnd = findMatchingSpanEnd(html, openingEnd + 1);
-            if (wrapperEnd == -1) {
-                return html;
-            }
+        String templateId = contract.getTemplateId().value();
+        Optional<CompiledTemplateLayout> layout = templateService.findCompiledLayout(
+                templateId, templateData.templateVersion());
+        if (layout.isEmpty()
+                || !canPlaceSignature(layout.get(), SignatureImageInjector.EMPLOYER_VARIABLE, pdfData.firstPartySignatureImage())
+                || !canPlaceSignature(layout.get(), SignatureImageInjector.EMPLOYEE_VARIABLE, pdfData.secondPartySignatureImage())) {
+            logger.debug("템플릿 레이아웃으로 렌더링할 수 없어 저장된 본문 사용: contractId={}, templateId={}",
+                    contract.getId().value(), templateId);
+            return Optional.empty();
+        }
 
-            if (i == occurrence - 1) {
-                String inner = html.substring(openingEnd + 1, wrapperEnd - "</span>".length());
-                String innerText = inner
-                        .replace("&nbsp;", "")
-                        .replace("&#160;", "")
-                        .replaceAll("<[^>]+>", "")
-                        .trim();
+        // 서명이 없으면 본문 경로와 같이 서명 자리를 비움
+        Map<String, Object> variables = new HashMap<>(templateData.values());
+        variables.put(SignatureImageInjector.EMPLOYER_VARIABLE, Objects.toString(pdfData.firstPartySignatureImage(), ""));
+        variables.put(SignatureImageInjector.EMPLOYEE_VARIABLE, Objects.toString(pdfData.secondPartySignatureImage(), ""));
+        return Optional.of(pdfGenerator.generateFromTemplate(templateId, variables, pdfData.generateFileName()));
+    }
 
-                if (!innerText.isEmpty()) {
-                    return html;
-                }
+    private static boolean canPlaceSignature(
+            CompiledTemplateLayout layout,
+            String variableName,
+            String signatureImage
+    ) {
+        return signatureImage == null || signatureImage.isBlank() || layout.hasVariable(variableName);
+    }
 
-                return html.substring(0, openingEnd + 1) + imageTag + "</span>" + html.substring(wrapperEnd);
-            }
+    private GeneratedPdf renderFromContent(
+            String contractId,
+            ContractPdfData pdfData
+    ) {
+        // HTML 정규화 및 서명 이미지 삽입 (XHTML 본문 조각)
+        String finalHtml = insertSignatureImages(pdfData);
 
-            searchIndex = wrapperEnd;
+        try {
+            return pdfGenerator.generateFromXhtml(finalHtml, pdfData.generateFileName());
+        } catch (Exception ex) {
+            dumpPdfHtmlDebug(contractId, finalHtml);
+            throw ex;
         }
-
-        return html;
     }
 
-    private int findMatchingSpanEnd(
-            String html,
-            int searchFrom
+    /**
+     * PDF 캐시 키: (계약서 본문 체크섬, 서명 체크섬, 렌더링 자산 버전)의 SHA-256
+     * 저장된 본문 해시와 서명 렌디션 체크섬을 사용하므로 캐시 조회에 본문/서명 데이터를 복호화하지 않는다.
+     * 렌디션 체크섬이 없는 기존 서명은 서명 시각으로 구분한다 (서명 행은 서명 후 바뀌지 않음).
+     */
+    private String buildCacheKey(
+            Contract contract,
+            String firstPartySignatureChecksum,
+            Signature secondPartySignature
     ) {
-        int depth = 1;
-        int index = searchFrom;
-
-        while (index < html.length()) {
-            int nextOpen = html.indexOf("<span", index);
-            int nextClose = html.indexOf("</span>", index);
+        MessageDigest digest = newDigest();
+        updateDigest(digest, contract.getId().value());
+        updateDigest(digest, contract.getTitle());
+        updateDigest(digest, contract.getContent().checksum());
+        updateDigest(digest, firstPartySignatureChecksum);
+        if (secondPartySignature != null) {
+            updateDigest(digest, secondPartySignature.signerEmail());
+            updateDigest(digest, secondPartySignature.renditionChecksum() != null
+                    ? secondPartySignature.renditionChecksum()
+                    : String.valueOf(secondPartySignature.signedAt()));
+        } else {
+            updateDigest(digest, null);
+        }
+        updateDigest(digest, pdfGenerator.renderVersion());
+        return HexFormat.of().formatHex(digest.digest());
+    }
 
-            if (nextClose == -1) {
-                return -1;
-            }
+    private String checksum(byte[] content) {
+        return HexFormat.of().formatHex(newDigest().digest(content));
+    }
 
-            if (nextOpen != -1 && nextOpen < nextClose) {
-                depth++;
-                index = nextOpen + 5;
-            } else {
-                depth--;
-                index = nextClose + "</span>".length();
-                if (depth == 0) {
-                    return index;
-                }
-            }
+    private void updateDigest(
+            MessageDigest digest,
+            String value
+    ) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
         }
+        // 필드 경계 구분자 (null과 빈 문자열도 구분)
+        digest.update(value == null ? (byte) 0 : (byte) 1);
+    }
 
-        return -1;
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(CACHE_KEY_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("체크섬 계산을 위한 알고리즘이 없습니다", e);
+        }
     }
 
     /**
-     * Data URL을 img 태그로 변환
+     * 대체된 이전 PDF 파일을 저장한 공용 저장소에서 삭제 (롤백 시 문서 행이 되살아나므로 커밋 후 수행)
      */
-    private String createImageTag(String dataUrl) {
-        return String.format("<img src=\"%s\" class=\"signature-stamp-image-element\" alt=\"서명\"/>", dataUrl);
+    private void deleteAfterCommit(List<String> pdfPaths) {
+        if (pdfPaths.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteStoredPdfs(pdfPaths);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteStoredPdfs(pdfPaths);
+            }
+        });
     }
 
-    private Optional<String> buildSignatureDataUrl(Signature signature) {
-        String signaturePath = signature.signaturePath();
-        String originalDataUrl = signature.signatureData();
-
-        if (signaturePath != null && !signaturePath.isBlank()) {
+    private void deleteStoredPdfs(List<String> pdfPaths) {
+        for (String pdfPath : pdfPaths) {
             try {
-                byte[] imageBytes = fileStorageService.loadFile(signaturePath);
-                String contentType = extractContentType(originalDataUrl);
-                String base64 = Base64.getEncoder().encodeToString(imageBytes);
-                return Optional.of("data:" + contentType + ";base64," + base64);
+                fileStorageService.deleteFile(pdfPath);
+                logger.info("이전 계약서 PDF 삭제: path={}", pdfPath);
             } catch (Exception e) {
-                logger.warn("서명 이미지 파일을 로드할 수 없어 DB 데이터를 사용합니다: path={}", signaturePath, e);
+                logger.warn("이전 계약서 PDF 삭제 실패: path={}", pdfPath, e);
             }
         }
+    }
 
-        return Optional.ofNullable(originalDataUrl);
+    private boolean hasStoredPdf(String pdfPath) {
+        return pdfPath != null && !pdfPath.isBlank() && fileStorageService.fileExists(pdfPath);
     }
 
-    private String extractContentType(String dataUrl) {
-        if (dataUrl == null || !dataUrl.startsWith("data:")) {
-            return "image/png";
-        }
-        int semicolonIndex = dataUrl.indexOf(';');
-        if (semicolonIndex > 5) {
-            return dataUrl.substring(5, semicolonIndex);
+    /**
+     * 갑(사업주) 서명 이미지 조회 - 업로드 시 생성된 PDF용 렌디션 사용
+     *
+     * @param ownerId 사업주 ID
+     * @return 서명 이미지 Data URL, 없으면 null
+     */
+    private String getFirstPartySignatureImage(String ownerId) {
+        try {
+            return firstPartySignatureService.findSignatureRenditionDataUrl(ownerId).orElse(null);
+        } catch (Exception e) {
+            logger.warn("갑(사업주) 서명을 찾을 수 없습니다: ownerId={}", ownerId);
+            return null;
         }
-        return "image/png";
+    }
+
+    /**
+     * 을(근로자) 서명 이미지 - 서명 시 생성된 PDF용 렌디션 사용
+     *
+     * @param contractId 계약서 ID
+     * @param signature  을(근로자) 서명
+     * @return 서명 이미지 Data URL, 없으면 null
+     */
+    private String getSecondPartySignatureImage(
+            String contractId,
+            Optional<Signature> signature
+    ) {
+        return signature
+                .map(found -> signatureRenditionService.renditionDataUrl(contractId, found))
+                .orElse(null);
+    }
+
+    /**
+     * HTML 정규화와 서명 이미지 삽입을 한 번의 파싱/직렬화로 수행하여 XHTML 본문 조각 생성
+     * SRP: 템플릿 치환 로직 분리
+     */
+    private String insertSignatureImages(ContractPdfData pdfData) {
+        return XhtmlNormalizer.toXhtmlFragment(
+                pdfData.htmlContent(),
+                new SignatureImageInjector(
+                        pdfData.firstPartySignatureImage(),
+                        pdfData.secondPartySignatureImage()
+                )
+        );
     }
 
     private String normalizeEmail(String email) {
@@ -2,19 +2,21 @@ package com.signly.contract.application;
 
 import com.signly.common.exception.NotFoundException;
 import com.signly.common.exception.ValidationException;
+import com.signly.common.pagination.CursorSlice;
+import com.signly.common.pagination.KeysetCursor;
 import com.signly.contract.application.dto.ContractResponse;
+import com.signly.contract.application.dto.ContractSummaryResponse;
 import com.signly.contract.application.mapper.ContractDtoMapper;
 import com.signly.contract.domain.model.Contract;
 import com.signly.contract.domain.model.ContractId;
 import com.signly.contract.domain.model.ContractStatus;
+import com.signly.contract.domain.model.ContractSummary;
 import com.signly.contract.domain.model.SignToken;
 import com.signly.contract.domain.repository.ContractRepository;
 import com.signly.template.domain.model.TemplateId;
 import com.signly.user.domain.model.UserId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,8 +33,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ContractQueryService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ContractRepository contractRepository;
     private final ContractDtoMapper contractDtoMapper;
+    private final ContractCountCache contractCountCache;
 
     public Contract findById(String contractId) {
         var contractIdObj = ContractId.of(contractId);
@@ -45,40 +50,46 @@ public class ContractQueryService {
         return contractDtoMapper.toResponse(contract);
     }
 
-    public Page<ContractResponse> getContractsByCreator(
-            String userId,
-            Pageable pageable
-    ) {
-        var userIdObj = UserId.of(userId);
-        var contracts = contractRepository.findByCreatorId(userIdObj, pageable);
-        return contracts.map(contractDtoMapper::toResponse);
-    }
-
-    public Page<ContractResponse> getContractsByCreatorAndStatus(
+    /**
+     * 작성자의 계약서 목록 한 페이지
+     *
+     * @param status 상태 필터 (null이면 전체)
+     * @param cursor 이전 페이지가 준 다음 커서 (비어 있으면 첫 페이지)
+     */
+    public CursorSlice<ContractSummaryResponse> getContractsByCreator(
             String userId,
             ContractStatus status,
-            Pageable pageable
+            String cursor,
+            int size
     ) {
         var userIdObj = UserId.of(userId);
-        var contracts = contractRepository.findByCreatorIdAndStatus(userIdObj, status, pageable);
-        return contracts.map(contractDtoMapper::toResponse);
+        int pageSize = clampPageSize(size);
+        var rows = contractRepository.findSummariesByCreatorId(userIdObj, status, KeysetCursor.decode(cursor), pageSize + 1);
+        return CursorSlice.of(rows, pageSize, ContractSummary::cursor).map(contractDtoMapper::toSummaryResponse);
     }
 
-    public Page<ContractResponse> getContractsByParty(
+    /**
+     * 당사자로 참여한 계약서 목록 한 페이지
+     */
+    public CursorSlice<ContractSummaryResponse> getContractsByParty(
             String email,
-            Pageable pageable
+            ContractStatus status,
+            String cursor,
+            int size
     ) {
-        var contracts = contractRepository.findByPartyEmail(email, pageable);
-        return contracts.map(contractDtoMapper::toResponse);
+        int pageSize = clampPageSize(size);
+        var rows = contractRepository.findSummariesByPartyEmail(email, status, KeysetCursor.decode(cursor), pageSize + 1);
+        return CursorSlice.of(rows, pageSize, ContractSummary::cursor).map(contractDtoMapper::toSummaryResponse);
     }
 
-    public Page<ContractResponse> getContractsByPartyAndStatus(
-            String email,
-            ContractStatus status,
-            Pageable pageable
+    /**
+     * 작성자의 계약서 수 (캐시)
+     */
+    public long countContractsByCreator(
+            String userId,
+            ContractStatus status
     ) {
-        var contracts = contractRepository.findByPartyEmailAndStatus(email, status, pageable);
-        return contracts.map(contractDtoMapper::toResponse);
+        return contractCountCache.count(UserId.of(userId), status);
     }
 
     public List<ContractResponse> getContractsByTemplate(String templateId) {
@@ -112,4 +123,8 @@ public class ContractQueryService {
         var signToken = SignToken.of(token);
         return contractRepository.findBySignToken(signToken).orElseThrow(() -> new NotFoundException("유효하지 않은 서명 링크입니다"));
     }
+
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 }
@@ -3,15 +3,15 @@ package com.signly.contract.application;
 import com.signly.common.audit.aop.Auditable;
 import com.signly.common.audit.domain.model.AuditAction;
 import com.signly.common.audit.domain.model.EntityType;
+import com.signly.common.pagination.CursorSlice;
 import com.signly.contract.application.dto.ContractResponse;
+import com.signly.contract.application.dto.ContractSummaryResponse;
 import com.signly.contract.application.dto.CreateContractCommand;
 import com.signly.contract.application.dto.UpdateContractCommand;
 import com.signly.contract.application.mapper.ContractDtoMapper;
 import com.signly.contract.domain.model.Contract;
 import com.signly.contract.domain.model.ContractStatus;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -143,20 +143,20 @@ public class ContractService {
     }
 
     @Transactional(readOnly = true)
-    public Page<ContractResponse> getContractsByCreator(
+    public CursorSlice<ContractSummaryResponse> getContractsByCreator(
             String userId,
-            Pageable pageable
+            ContractStatus status,
+            String cursor,
+            int size
     ) {
-        return queryService.getContractsByCreator(userId, pageable);
+        return queryService.getContractsByCreator(userId, status, cursor, size);
     }
 
-    @Transactional(readOnly = true)
-    public Page<ContractResponse> getContractsByCreatorAndStatus(
+    public long countContractsByCreator(
             String userId,
-            ContractStatus status,
-            Pageable pageable
+            ContractStatus status
     ) {
-        return queryService.getContractsByCreatorAndStatus(userId, status, pageable);
+        return queryService.countContractsByCreator(userId, status);
     }
 
     @Transactional(readOnly = true)
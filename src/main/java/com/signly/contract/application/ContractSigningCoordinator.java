@@ -2,7 +2,6 @@ package com.signly.contract.application;
 
 import com.signly.common.exception.NotFoundException;
 import com.signly.common.exception.ValidationException;
-import com.signly.common.storage.FileStorageService;
 import com.signly.contract.application.dto.CreateSignatureCommand;
 import com.signly.contract.application.dto.SignContractCommand;
 import com.signly.contract.domain.model.Contract;
@@ -40,8 +39,8 @@ public class ContractSigningCoordinator {
     private final SignatureRepository signatureRepository;
     private final EmailNotificationService emailNotificationService;
     private final ContractAuthorizationService authorizationService;
-    private final ContractPdfService contractPdfService;
-    private final FileStorageService fileStorageService;
+    private final ContractFinalizationService finalizationService;
+    private final ContractCountCache contractCountCache;
 
     public void sendForSigning(
             String userId,
@@ -59,6 +58,7 @@ public class ContractSigningCoordinator {
         // 3. 계약서 상태 변경
         contract.sendForSigning();
         Contract savedContract = contractRepository.save(contract);
+        contractCountCache.evict(savedContract.getCreatorId());
 
         // 4. 제2 당사자에게 이메일 발송
         emailNotificationService.sendContractSigningRequest(savedContract);
@@ -101,18 +101,11 @@ public class ContractSigningCoordinator {
 
         var result = contractSigningService.processSigning(contract, request);
         var savedContract = contractRepository.save(contract);
+        contractCountCache.evict(savedContract.getCreatorId());
 
         if (result.isFullySigned()) {
-            // PDF 생성 및 저장
-            try {
-                savePdfForCompletedContract(savedContract);
-            } catch (Exception pdfEx) {
-                logger.error("PDF 저장 중 오류 발생 (서명 처리는 완료됨): contractId={}",
-                        contract.getId().value(), pdfEx);
-            }
-
-            // 완료 알림 이메일 발송
-            emailNotificationService.sendContractCompleted(savedContract);
+            // PDF 생성/저장 및 완료 알림은 커밋 후 후처리 워커가 수행
+            finalizationService.enqueue(savedContract);
         }
 
         return savedContract;
@@ -131,7 +124,7 @@ public class ContractSigningCoordinator {
 
         var contractId = contract.getId();
 
-        // 서명 데이터 저장
+        // 서명 이미지 저장 후 계약서에 추가 (서명 행은 계약서와 함께 한 번만 저장)
         var command = new CreateSignatureCommand(
                 contractId.value(),
                 signatureData,
@@ -140,80 +133,22 @@ public class ContractSigningCoordinator {
                 ipAddress,
                 deviceInfo
         );
-        signatureService.createSignature(command);
+        var signature = signatureService.prepareSignature(command);
 
-        // 저장된 서명에서 signaturePath 가져오기
-        var savedSignature = signatureRepository.findByContractIdAndSignerEmail(
-                contractId, 
-                signerEmail
-        ).orElseThrow(() -> new NotFoundException("저장된 서명을 찾을 수 없습니다"));
-
-        // 서명 처리 및 상태 업데이트
-        var request = new ContractSigningService.SigningRequest(
-                signerEmail, 
-                signerName, 
-                signatureData, 
-                ipAddress,
-                deviceInfo,
-                savedSignature.signaturePath()
-        );
-
-        var result = contractSigningService.processSigning(contract, request);
+        var result = contractSigningService.processSigning(contract, signature);
         var savedContract = contractRepository.save(contract);
+        contractCountCache.evict(savedContract.getCreatorId());
 
         if (result.isFullySigned()) {
-            logger.info("모든 서명 완료, PDF 저장 및 완료 알림 이메일 발송: contractId={}", contract.getId().value());
-
-            // PDF 생성 및 저장
-            try {
-                savePdfForCompletedContract(savedContract);
-            } catch (Exception pdfEx) {
-                logger.error("PDF 저장 중 오류 발생 (서명 처리는 완료됨): contractId={}",
-                        contract.getId().value(), pdfEx);
-            }
-
-            // 완료 알림 이메일 발송
-            try {
-                emailNotificationService.sendContractCompleted(savedContract);
-            } catch (Exception emailEx) {
-                logger.error("완료 알림 이메일 발송 중 오류 발생 (서명 처리는 완료됨): contractId={}",
-                        contract.getId().value(), emailEx);
-            }
+            logger.info("모든 서명 완료, 후처리 작업 등록 (PDF 저장 및 완료 알림): contractId={}", contract.getId().value());
+
+            // PDF 생성/저장 및 완료 알림은 커밋 후 후처리 워커가 수행
+            finalizationService.enqueue(savedContract);
         }
 
         return savedContract;
     }
 
-    /**
-     * 완료된 계약서의 PDF를 생성하고 저장
-     */
-    private void savePdfForCompletedContract(Contract contract) {
-        try {
-            String contractId = contract.getId().value();
-            logger.info("완료된 계약서 PDF 생성 시작: contractId={}", contractId);
-
-            // PDF 생성
-            var pdf = contractPdfService.generateContractPdf(contractId);
-
-            // 파일 저장
-            var storedFile = fileStorageService.storeFile(
-                    pdf.content(),
-                    pdf.fileName(),
-                    "application/pdf",
-                    "contracts/completed"
-            );
-
-            // 계약서에 PDF 경로 저장
-            contract.setPdfPath(storedFile.filePath());
-            contractRepository.save(contract);
-
-            logger.info("완료된 계약서 PDF 저장 완료: contractId={}, path={}", contractId, storedFile.filePath());
-        } catch (Exception e) {
-            logger.error("PDF 저장 실패: contractId={}", contract.getId().value(), e);
-            throw new RuntimeException("PDF 저장 중 오류가 발생했습니다", e);
-        }
-    }
-
     public void cancelContract(
             String userId,
             String contractId
@@ -223,6 +158,7 @@ public class ContractSigningCoordinator {
 
         contract.cancel();
         var savedContract = contractRepository.save(contract);
+        contractCountCache.evict(savedContract.getCreatorId());
 
         emailNotificationService.sendContractCancelled(savedContract);
 
@@ -235,6 +171,7 @@ public class ContractSigningCoordinator {
         expiredContracts.forEach(contract -> {
             contract.expire();
             Contract savedContract = contractRepository.save(contract);
+            contractCountCache.evict(savedContract.getCreatorId());
             emailNotificationService.sendContractExpired(savedContract);
         });
     }
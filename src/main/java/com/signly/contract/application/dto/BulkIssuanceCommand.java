@@ -0,0 +1,20 @@
+package com.signly.contract.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 템플릿 하나로 여러 수신자에게 계약서 일괄 발송
+ *
+ * @param templateId 템플릿 ID
+ * @param title      계약서 제목 (수신자 이름이 덧붙음)
+ * @param expiresAt  서명 만료 시각 (없으면 24시간 후)
+ * @param recipients 수신자 목록 (행 번호는 1부터)
+ */
+public record BulkIssuanceCommand(
+        String templateId,
+        String title,
+        LocalDateTime expiresAt,
+        List<BulkIssuanceRecipient> recipients
+) {
+}
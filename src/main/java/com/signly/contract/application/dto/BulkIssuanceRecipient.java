@@ -0,0 +1,19 @@
+package com.signly.contract.application.dto;
+
+import java.util.Map;
+
+/**
+ * 일괄 발송 수신자 한 행
+ *
+ * @param name           수신자(을) 이름
+ * @param email          수신자 이메일
+ * @param organization   수신자 소속/주소 (선택)
+ * @param variableValues 이 수신자의 템플릿 변수 값
+ */
+public record BulkIssuanceRecipient(
+        String name,
+        String email,
+        String organization,
+        Map<String, String> variableValues
+) {
+}
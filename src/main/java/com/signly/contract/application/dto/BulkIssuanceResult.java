@@ -0,0 +1,24 @@
+package com.signly.contract.application.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 발송 결과
+ * 한 행이라도 검증에 실패하면 아무것도 발송하지 않으며(issuedCount=0), 실패한 행은 INVALID, 나머지는 SKIPPED로 표시된다.
+ *
+ * @param templateId  템플릿 ID
+ * @param totalRows   전체 행 수
+ * @param issuedCount 발송된 계약서 수
+ * @param rows        행별 결과 (입력 순서)
+ */
+public record BulkIssuanceResult(
+        String templateId,
+        int totalRows,
+        int issuedCount,
+        List<BulkIssuanceRowResult> rows
+) {
+
+    public boolean allIssued() {
+        return issuedCount == totalRows;
+    }
+}
@@ -0,0 +1,51 @@
+package com.signly.contract.application.dto;
+
+/**
+ * 일괄 발송 행별 결과
+ *
+ * @param rowNumber      행 번호 (1부터)
+ * @param recipientEmail 수신자 이메일
+ * @param status         처리 결과
+ * @param contractId     발송된 계약서 ID (ISSUED일 때만)
+ * @param message        검증 실패 사유 (INVALID일 때만)
+ */
+public record BulkIssuanceRowResult(
+        int rowNumber,
+        String recipientEmail,
+        Status status,
+        String contractId,
+        String message
+) {
+
+    public enum Status {
+        /** 계약서 생성 및 서명 요청 완료 */
+        ISSUED,
+        /** 행 검증 실패 */
+        INVALID,
+        /** 다른 행의 검증 실패로 발송하지 않음 */
+        SKIPPED
+    }
+
+    public static BulkIssuanceRowResult issued(
+            int rowNumber,
+            String recipientEmail,
+            String contractId
+    ) {
+        return new BulkIssuanceRowResult(rowNumber, recipientEmail, Status.ISSUED, contractId, null);
+    }
+
+    public static BulkIssuanceRowResult invalid(
+            int rowNumber,
+            String recipientEmail,
+            String message
+    ) {
+        return new BulkIssuanceRowResult(rowNumber, recipientEmail, Status.INVALID, null, message);
+    }
+
+    public static BulkIssuanceRowResult skipped(
+            int rowNumber,
+            String recipientEmail
+    ) {
+        return new BulkIssuanceRowResult(rowNumber, recipientEmail, Status.SKIPPED, null, null);
+    }
+}
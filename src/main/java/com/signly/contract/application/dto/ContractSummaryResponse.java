@@ -0,0 +1,61 @@
+package com.signly.contract.application.dto;
+
+import com.signly.contract.domain.model.ContractStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * 계약서 목록 항목 응답 DTO (본문/서명 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class ContractSummaryResponse {
+    private final String id;
+    private final String title;
+    private final String firstPartyName;
+    private final String secondPartyName;
+    private final ContractStatus status;
+    private final int signatureCount;
+    @Getter(AccessLevel.NONE)
+    private final LocalDateTime expiresAt;
+    @Getter(AccessLevel.NONE)
+    private final LocalDateTime createdAt;
+    @Getter(AccessLevel.NONE)
+    private final LocalDateTime updatedAt;
+
+    public Date getExpiresAt() {
+        return toDate(expiresAt);
+    }
+
+    public Date getCreatedAt() {
+        return toDate(createdAt);
+    }
+
+    public Date getUpdatedAt() {
+        return toDate(updatedAt);
+    }
+
+    public LocalDateTime getExpiresAtLocalDateTime() {
+        return expiresAt;
+    }
+
+    public LocalDateTime getCreatedAtLocalDateTime() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAtLocalDateTime() {
+        return updatedAt;
+    }
+
+    private Date toDate(LocalDateTime value) {
+        if (value == null) {
+            return null;
+        }
+        return Date.from(value.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
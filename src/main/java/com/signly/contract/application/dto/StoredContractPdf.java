@@ -0,0 +1,17 @@
+package com.signly.contract.application.dto;
+
+/**
+ * 저장소에 보관된 계약서 PDF 정보
+ *
+ * @param contractId 계약서 ID
+ * @param title      계약서 제목
+ * @param pdfPath    저장된 PDF 경로
+ * @param rendered   이번 요청에서 새로 렌더링했는지 여부
+ */
+public record StoredContractPdf(
+        String contractId,
+        String title,
+        String pdfPath,
+        boolean rendered
+) {
+}
@@ -1,9 +1,11 @@
 package com.signly.contract.application.mapper;
 
 import com.signly.contract.application.dto.ContractResponse;
+import com.signly.contract.application.dto.ContractSummaryResponse;
 import com.signly.contract.application.dto.PartyInfoResponse;
 import com.signly.contract.application.dto.SignatureResponse;
 import com.signly.contract.domain.model.Contract;
+import com.signly.contract.domain.model.ContractSummary;
 import com.signly.contract.domain.model.PartyInfo;
 import com.signly.contract.domain.model.Signature;
 import org.springframework.stereotype.Component;
@@ -34,6 +36,20 @@ public class ContractDtoMapper {
         );
     }
 
+    public ContractSummaryResponse toSummaryResponse(ContractSummary summary) {
+        return new ContractSummaryResponse(
+                summary.id(),
+                summary.title(),
+                summary.firstPartyName(),
+                summary.secondPartyName(),
+                summary.status(),
+                summary.signatureCount(),
+                summary.expiresAt(),
+                summary.createdAt(),
+                summary.updatedAt()
+        );
+    }
+
     private PartyInfoResponse toPartyInfoResponse(PartyInfo partyInfo) {
         return new PartyInfoResponse(
                 partyInfo.name(),
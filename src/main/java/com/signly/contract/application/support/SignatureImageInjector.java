@@ -0,0 +1,136 @@
+package com.signly.contract.application.support;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.Elements;
+import org.jsoup.select.NodeTraversor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 계약서 본문 DOM에 서명 이미지를 삽입하는 변환
+ * {@link com.signly.common.html.XhtmlNormalizer}의 파싱/직렬화 사이에서 실행되어 문자열 복사 없이 동작한다.
+ *
+ * <p>당사자별 삽입 순서:
+ * <ol>
+ *   <li>플레이스홀더 텍스트가 있으면 이미지로 교체 (새 계약서)</li>
+ *   <li>기존 서명 이미지 요소가 있으면 교체 (기존 계약서 품질 개선)</li>
+ *   <li>둘 다 없으면 n번째 비어 있는 서명 wrapper에 삽입</li>
+ * </ol>
+ * 서명이 없으면 플레이스홀더만 제거한다.
+ */
+public final class SignatureImageInjector implements Consumer<Element> {
+
+    public static final String EMPLOYER_VARIABLE = "EMPLOYER_SIGNATURE_IMAGE";
+    public static final String EMPLOYEE_VARIABLE = "EMPLOYEE_SIGNATURE_IMAGE";
+    public static final String EMPLOYER_PLACEHOLDER = "[" + EMPLOYER_VARIABLE + "]";
+    public static final String EMPLOYEE_PLACEHOLDER = "[" + EMPLOYEE_VARIABLE + "]";
+
+    private static final String IMAGE_CLASS = "signature-stamp-image-element";
+    private static final String WRAPPER_CLASS = "signature-stamp-wrapper";
+
+    private final String employerImage;
+    private final String employeeImage;
+    private final Set<Element> insertedImages = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public SignatureImageInjector(
+            String employerImage,
+            String employeeImage
+    ) {
+        this.employerImage = employerImage;
+        this.employeeImage = employeeImage;
+    }
+
+    @Override
+    public void accept(Element body) {
+        inject(body, employerImage, EMPLOYER_PLACEHOLDER, 1);
+        inject(body, employeeImage, EMPLOYEE_PLACEHOLDER, 2);
+    }
+
+    private void inject(
+            Element body,
+            String dataUrl,
+            String placeholder,
+            int wrapperIndex
+    ) {
+        List<TextNode> placeholderNodes = findTextNodes(body, placeholder);
+        boolean hasImage = dataUrl != null && !dataUrl.isBlank();
+
+        if (!hasImage) {
+            // 서명이 없으면 placeholder만 제거
+            placeholderNodes.forEach(node -> node.text(node.getWholeText().replace(placeholder, "")));
+            return;
+        }
+
+        if (!placeholderNodes.isEmpty()) {
+            placeholderNodes.forEach(node -> replacePlaceholder(node, placeholder, dataUrl));
+            return;
+        }
+
+        for (Element existing : body.getElementsByClass(IMAGE_CLASS)) {
+            if ("img".equals(existing.normalName()) && !insertedImages.contains(existing)) {
+                existing.replaceWith(createImage(dataUrl));
+                return;
+            }
+        }
+
+        Elements wrappers = body.getElementsByClass(WRAPPER_CLASS);
+        if (wrappers.size() >= wrapperIndex) {
+            Element wrapper = wrappers.get(wrapperIndex - 1);
+            if (wrapper.text().replace('\u00A0', ' ').isBlank()) {
+                wrapper.appendChild(createImage(dataUrl));
+            }
+        }
+    }
+
+    private void replacePlaceholder(
+            TextNode node,
+            String placeholder,
+            String dataUrl
+    ) {
+        String text = node.getWholeText();
+        int start = 0;
+        int index;
+        while ((index = text.indexOf(placeholder, start)) >= 0) {
+            if (index > start) {
+                node.before(new TextNode(text.substring(start, index)));
+            }
+            node.before(createImage(dataUrl));
+            start = index + placeholder.length();
+        }
+
+        if (start < text.length()) {
+            node.text(text.substring(start));
+        } else {
+            node.remove();
+        }
+    }
+
+    private Element createImage(String dataUrl) {
+        Element image = new Element("img")
+                .attr("src", dataUrl)
+                .attr("class", IMAGE_CLASS)
+                .attr("alt", "서명");
+        insertedImages.add(image);
+        return image;
+    }
+
+    private static List<TextNode> findTextNodes(
+            Element root,
+            String needle
+    ) {
+        List<TextNode> found = new ArrayList<>();
+        NodeTraversor.traverse((Node node, int depth) -> {
+            if (node instanceof TextNode textNode && textNode.getWholeText().contains(needle)) {
+                found.add(textNode);
+            }
+        }, root);
+        return found;
+    }
+}
@@ -0,0 +1,46 @@
+package com.signly.contract.application.support;
+
+import com.signly.common.exception.ValidationException;
+import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.domain.model.TemplateVariable;
+
+import java.util.Map;
+
+/**
+ * 계약서 생성 시 템플릿 변수 값 검증 (필수 여부 및 변수별 형식)
+ */
+public final class TemplateVariableValidator {
+
+    private TemplateVariableValidator() {
+    }
+
+    public static void validate(
+            TemplateContent templateContent,
+            Map<String, String> variableValues
+    ) {
+        var templateVariables = templateContent.metadata().variables();
+
+        for (var entry : templateVariables.entrySet()) {
+            String varName = entry.getKey();
+            TemplateVariable varDef = entry.getValue();
+
+            String value = variableValues.get(varName);
+
+            if (varDef.required() && (value == null || value.trim().isEmpty())) {
+                throw new ValidationException(
+                        String.format("필수 변수 '%s'의 값이 제공되지 않았습니다.", varDef.label())
+                );
+            }
+
+            if (value != null && !value.trim().isEmpty()) {
+                try {
+                    varDef.validateValue(value);
+                } catch (ValidationException e) {
+                    throw new ValidationException(
+                            String.format("변수 '%s'의 값이 유효하지 않습니다: %s", varDef.label(), e.getMessage())
+                    );
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.signly.contract.domain.event;
+
+import com.signly.contract.domain.model.ContractId;
+
+/**
+ * 계약서 후처리 작업 등록 이벤트
+ * 트랜잭션 커밋 직후 발행되어 워커의 즉시 처리를 트리거
+ */
+public class ContractFinalizationRequestedEvent {
+    private final ContractId contractId;
+
+    public ContractFinalizationRequestedEvent(ContractId contractId) {
+        this.contractId = contractId;
+    }
+
+    public ContractId getContractId() {
+        return contractId;
+    }
+}
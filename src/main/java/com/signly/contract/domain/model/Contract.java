@@ -25,6 +25,7 @@ public class Contract extends AggregateRoot {
     private LocalDateTime expiresAt;
     private final PresetType presetType;
     private String pdfPath;  // 완료된 계약서 PDF 파일 경로
+    private ContractTemplateData templateData;  // 템플릿으로 렌더링한 본문의 원본 (본문 수정 시 제거)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -43,6 +44,7 @@ public class Contract extends AggregateRoot {
         this.expiresAt = null;
         this.presetType = null;
         this.pdfPath = null;
+        this.templateData = null;
         this.createdAt = null;
         this.updatedAt = null;
     }
@@ -105,9 +107,7 @@ public class Contract extends AggregateRoot {
             LocalDateTime expiresAt,
             PresetType presetType
     ) {
-        validateTitle(title);
-        validateExpirationDate(expiresAt);
-        validateParties(firstParty, secondParty);
+        validateCreation(title, firstParty, secondParty, expiresAt);
 
         return new Contract(
                 ContractId.generate(),
@@ -138,6 +138,28 @@ public class Contract extends AggregateRoot {
             String pdfPath,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
+    ) {
+        return restore(id, creatorId, templateId, title, content, firstParty, secondParty, status, signatures,
+                signToken, expiresAt, presetType, pdfPath, null, createdAt, updatedAt);
+    }
+
+    public static Contract restore(
+            ContractId id,
+            UserId creatorId,
+            TemplateId templateId,
+            String title,
+            ContractContent content,
+            PartyInfo firstParty,
+            PartyInfo secondParty,
+            ContractStatus status,
+            List<Signature> signatures,
+            SignToken signToken,
+            LocalDateTime expiresAt,
+            PresetType presetType,
+            String pdfPath,
+            ContractTemplateData templateData,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
     ) {
         Contract contract = new Contract(
                 id,
@@ -154,11 +176,26 @@ public class Contract extends AggregateRoot {
         contract.signatures.addAll(signatures);
         contract.signToken = signToken;
         contract.pdfPath = pdfPath;
+        contract.templateData = templateData;
         contract.createdAt = createdAt;
         contract.updatedAt = updatedAt;
         return contract;
     }
 
+    /**
+     * 생성 조건 검증 (내용을 렌더링하기 전에 행을 먼저 검증하는 일괄 발송에서도 사용)
+     */
+    public static void validateCreation(
+            String title,
+            PartyInfo firstParty,
+            PartyInfo secondParty,
+            LocalDateTime expiresAt
+    ) {
+        validateTitle(title);
+        validateExpirationDate(expiresAt);
+        validateParties(firstParty, secondParty);
+    }
+
     private static void validateTitle(String title) {
         if (title == null || title.trim().isEmpty()) {
             throw new ValidationException("계약서 제목은 필수입니다");
@@ -196,10 +233,24 @@ public class Contract extends AggregateRoot {
         if (!status.canUpdate()) {
             throw new ValidationException("초안 상태에서만 내용을 수정할 수 있습니다");
         }
+        // 직접 수정한 본문은 더 이상 템플릿 렌더링 결과가 아님 (체크섬 비교로 본문 복호화 없이 판단)
+        if (templateData != null && !newContent.checksum().equals(content.checksum())) {
+            this.templateData = null;
+        }
         this.content = newContent;
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 본문을 렌더링한 템플릿 버전과 변수 값 기록 (템플릿으로 생성할 때만 사용)
+     */
+    public void recordTemplateData(ContractTemplateData templateData) {
+        if (templateId == null) {
+            throw new ValidationException("템플릿 없이 만든 계약서에는 템플릿 데이터를 기록할 수 없습니다");
+        }
+        this.templateData = templateData;
+    }
+
     public void updateExpirationDate(LocalDateTime newExpiresAt) {
         if (!status.canUpdate()) {
             throw new ValidationException("초안 상태에서만 만료일을 수정할 수 있습니다");
@@ -2,15 +2,41 @@ package com.signly.contract.domain.model;
 
 import com.signly.common.exception.ValidationException;
 
-public record ContractContent(String content) {
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.function.Supplier;
 
-    public ContractContent {
+/**
+ * 계약서 본문
+ * - 새 본문은 생성 시 검증하고, 저장소에서 복원한 본문은 처음 읽을 때까지 값을 가져오지 않는다.
+ * - 저장된 본문 체크섬이 있으면 체크섬 조회에 본문을 읽지 않는다.
+ */
+public final class ContractContent {
+
+    private final Supplier<String> source;
+    private String content;
+    private String checksum;
+
+    public ContractContent(String content) {
         if (content == null || content.trim().isEmpty()) {
             throw new ValidationException("계약서 내용은 필수입니다");
         }
         if (content.length() > 100000) {
             throw new ValidationException("계약서 내용은 100,000자를 초과할 수 없습니다");
         }
+        this.source = null;
+        this.content = content;
+    }
+
+    private ContractContent(
+            Supplier<String> source,
+            String checksum
+    ) {
+        this.source = source;
+        this.checksum = checksum;
     }
 
     public static ContractContent of(String content) {
@@ -20,20 +46,95 @@ public record ContractContent(String content) {
         return new ContractContent(content.trim());
     }
 
+    /**
+     * 저장된 본문 복원 (이미 검증된 값이므로 다시 검증하지 않고, 처음 읽을 때 값을 가져옴)
+     */
+    public static ContractContent restore(Supplier<String> source) {
+        return restore(source, null);
+    }
+
+    /**
+     * 저장된 본문과 체크섬 복원 (체크섬이 없는 기존 본문은 처음 요청될 때 본문으로 계산)
+     */
+    public static ContractContent restore(
+            Supplier<String> source,
+            String checksum
+    ) {
+        Objects.requireNonNull(source, "source");
+        return new ContractContent(source, checksum);
+    }
+
+    /**
+     * 주어진 저장 값에서 복원된 본문인지 여부 (본문을 읽지 않고 변경 여부를 판단할 때 사용)
+     */
+    public boolean isRestoredFrom(Supplier<String> source) {
+        return this.source != null && this.source == source;
+    }
+
+    public String content() {
+        String value = content;
+        if (value == null) {
+            value = source.get();
+            content = value;
+        }
+        return value;
+    }
+
+    /**
+     * 본문을 이미 읽었는지 여부 (다시 읽지 않고 체크섬을 계산할 수 있는지 판단할 때 사용)
+     */
+    public boolean isLoaded() {
+        return content != null;
+    }
+
+    /**
+     * 본문 SHA-256 체크섬
+     */
+    public String checksum() {
+        String value = checksum;
+        if (value == null) {
+            value = sha256(content());
+            checksum = value;
+        }
+        return value;
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("체크섬 계산을 위한 알고리즘이 없습니다", e);
+        }
+    }
+
     public int getLength() {
-        return content.length();
+        return content().length();
     }
 
     public boolean isEmpty() {
-        return content.trim().isEmpty();
+        return content().trim().isEmpty();
     }
 
     public String getValue() {
-        return content;
+        return content();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof ContractContent other && content().equals(other.content());
+    }
+
+    @Override
+    public int hashCode() {
+        return content().hashCode();
     }
 
     @Override
     public String toString() {
-        return content;
+        return content();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.signly.contract.domain.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서명 완료 계약서의 후처리 작업 (PDF 생성/저장 → 완료 알림)
+ * 계약서당 하나만 존재하며, 단계별 완료 여부를 기록하여 재시도 시 끝난 단계는 건너뛴다.
+ */
+@Getter
+public class ContractFinalizationJob {
+    private static final int DEFAULT_MAX_ATTEMPTS = 5;
+
+    private final ContractId contractId;
+    private FinalizationJobStatus status;
+    private boolean pdfStored;
+    private boolean notificationSent;
+    private int attempts;
+    private final int maxAttempts;
+    private String lastError;
+    private LocalDateTime nextAttemptAt;
+    private final LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    private ContractFinalizationJob(
+            ContractId contractId,
+            int maxAttempts,
+            LocalDateTime createdAt
+    ) {
+        this.contractId = contractId;
+        this.status = FinalizationJobStatus.PENDING;
+        this.maxAttempts = maxAttempts;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt; // 즉시 처리 대상
+    }
+
+    public static ContractFinalizationJob create(ContractId contractId) {
+        return new ContractFinalizationJob(contractId, DEFAULT_MAX_ATTEMPTS, LocalDateTime.now());
+    }
+
+    public static ContractFinalizationJob restore(
+            ContractId contractId,
+            FinalizationJobStatus status,
+            boolean pdfStored,
+            boolean notificationSent,
+            int attempts,
+            int maxAttempts,
+            String lastError,
+            LocalDateTime nextAttemptAt,
+            LocalDateTime createdAt,
+            LocalDateTime completedAt
+    ) {
+        ContractFinalizationJob job = new ContractFinalizationJob(contractId, maxAttempts, createdAt);
+        job.status = status;
+        job.pdfStored = pdfStored;
+        job.notificationSent = notificationSent;
+        job.attempts = attempts;
+        job.lastError = lastError;
+        job.nextAttemptAt = nextAttemptAt;
+        job.completedAt = completedAt;
+        return job;
+    }
+
+    public void markPdfStored() {
+        this.pdfStored = true;
+    }
+
+    public void markNotificationSent() {
+        this.notificationSent = true;
+    }
+
+    public void markCompleted() {
+        this.status = FinalizationJobStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+        this.nextAttemptAt = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 처리 실패 기록
+     * 시도 횟수는 점유 시점에 이미 증가하므로 여기서는 다음 시도 시각만 정한다.
+     */
+    public void markFailed(String errorMessage) {
+        this.lastError = errorMessage;
+
+        if (this.attempts >= this.maxAttempts) {
+            this.status = FinalizationJobStatus.FAILED;
+            this.nextAttemptAt = null;
+        } else {
+            // Exponential backoff: 2분, 4분, 8분...
+            this.status = FinalizationJobStatus.PENDING;
+            this.nextAttemptAt = LocalDateTime.now().plusMinutes((long) Math.pow(2, this.attempts));
+        }
+    }
+
+    public boolean isCompleted() {
+        return status == FinalizationJobStatus.COMPLETED;
+    }
+}
@@ -45,6 +45,16 @@ public record ContractPdfData(
      * PDF 파일명 생성 (비즈니스 규칙)
      */
     public String generateFileName() {
+        return fileName(contractId, title);
+    }
+
+    /**
+     * PDF 파일명 규칙 (저장된 PDF를 다시 첨부할 때도 같은 이름 사용)
+     */
+    public static String fileName(
+            ContractId contractId,
+            String title
+    ) {
         String sanitizedTitle = title.replaceAll("[^a-zA-Z0-9가-힣\\s-]", "")
                 .replaceAll("\\s+", "_");
         return String.format("%s_%s.pdf", sanitizedTitle, contractId.value());
@@ -0,0 +1,28 @@
+package com.signly.contract.domain.model;
+
+import com.signly.common.pagination.KeysetCursor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계약서 목록 읽기 모델
+ * 목록에 표시하는 컬럼만 담으며 본문, 템플릿 데이터, 당사자 이메일, 서명 이미지는 조회하지 않는다.
+ * 정렬 키(sortPriority, createdAt, id)는 다음 페이지 커서를 만드는 데 쓴다.
+ */
+public record ContractSummary(
+        String id,
+        String title,
+        String firstPartyName,
+        String secondPartyName,
+        ContractStatus status,
+        LocalDateTime expiresAt,
+        int signatureCount,
+        int sortPriority,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public KeysetCursor cursor() {
+        return new KeysetCursor(sortPriority, createdAt, id);
+    }
+}
@@ -0,0 +1,69 @@
+package com.signly.contract.domain.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 템플릿으로 만든 계약서의 렌더링 원본 (템플릿 버전 + 변수 값)
+ * - 본문이 이 버전의 템플릿과 변수 값으로 렌더링되었음을 나타내며, 본문을 직접 수정하면 버린다.
+ * - 저장소에서 복원한 변수 값은 처음 읽을 때 가져온다.
+ */
+public final class ContractTemplateData {
+
+    private final int templateVersion;
+    private final Supplier<Map<String, String>> source;
+    private Map<String, String> values;
+
+    private ContractTemplateData(
+            int templateVersion,
+            Supplier<Map<String, String>> source,
+            Map<String, String> values
+    ) {
+        this.templateVersion = templateVersion;
+        this.source = source;
+        this.values = values;
+    }
+
+    public static ContractTemplateData of(
+            int templateVersion,
+            Map<String, String> values
+    ) {
+        Map<String, String> copy = new LinkedHashMap<>();
+        if (values != null) {
+            values.forEach((name, value) -> {
+                if (name != null && value != null) {
+                    copy.put(name, value);
+                }
+            });
+        }
+        return new ContractTemplateData(templateVersion, null, Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * 저장된 값 복원 (변수 값은 처음 읽을 때 가져옴)
+     */
+    public static ContractTemplateData restore(
+            int templateVersion,
+            Supplier<Map<String, String>> source
+    ) {
+        Objects.requireNonNull(source, "source");
+        return new ContractTemplateData(templateVersion, source, null);
+    }
+
+    public int templateVersion() {
+        return templateVersion;
+    }
+
+    public Map<String, String> values() {
+        Map<String, String> value = values;
+        if (value == null) {
+            Map<String, String> loaded = source.get();
+            value = loaded != null ? loaded : Map.of();
+            values = value;
+        }
+        return value;
+    }
+}
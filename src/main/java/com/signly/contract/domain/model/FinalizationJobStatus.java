@@ -0,0 +1,8 @@
+package com.signly.contract.domain.model;
+
+public enum FinalizationJobStatus {
+    PENDING,      // 처리 대기 (재시도 대기 포함)
+    PROCESSING,   // 워커가 점유 중 (lease 만료 시 다시 점유 가능)
+    COMPLETED,    // PDF 저장 및 완료 알림 등록 완료
+    FAILED        // 최대 재시도 초과
+}
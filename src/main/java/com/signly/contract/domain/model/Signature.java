@@ -3,16 +3,74 @@ package com.signly.contract.domain.model;
 import com.signly.common.exception.ValidationException;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Supplier;
 
-public record Signature(
-        String signerEmail,
-        String signerName,
-        LocalDateTime signedAt,
-        String signatureData,
-        String ipAddress,
-        String deviceInfo,
-        String signaturePath
-) {
+/**
+ * 서명
+ * - 서명 이미지, 기기 정보, 서명 파일 경로는 용량이 크거나 드물게 쓰이므로
+ *   저장소에서 복원한 서명은 해당 값을 처음 읽을 때 가져온다.
+ */
+public final class Signature {
+
+    private final String signerEmail;
+    private final String signerName;
+    private final LocalDateTime signedAt;
+    private final String ipAddress;
+    private final Lazy signatureData;
+    private final Lazy deviceInfo;
+    private final Lazy signaturePath;
+    private final String renditionChecksum;
+
+    public Signature(
+            String signerEmail,
+            String signerName,
+            LocalDateTime signedAt,
+            String signatureData,
+            String ipAddress,
+            String deviceInfo,
+            String signaturePath
+    ) {
+        this(signerEmail, signerName, signedAt, ipAddress,
+                Lazy.of(signatureData), Lazy.of(deviceInfo), Lazy.of(signaturePath), null);
+    }
+
+    private Signature(
+            String signerEmail,
+            String signerName,
+            LocalDateTime signedAt,
+            String ipAddress,
+            Lazy signatureData,
+            Lazy deviceInfo,
+            Lazy signaturePath,
+            String renditionChecksum
+    ) {
+        this.signerEmail = signerEmail;
+        this.signerName = signerName;
+        this.signedAt = signedAt;
+        this.ipAddress = ipAddress;
+        this.signatureData = signatureData;
+        this.deviceInfo = deviceInfo;
+        this.signaturePath = signaturePath;
+        this.renditionChecksum = renditionChecksum;
+    }
+
+    /**
+     * 저장된 서명 복원 (서명 시각을 유지하고, 서명 데이터/기기 정보/파일 경로는 처음 읽을 때 가져옴)
+     */
+    public static Signature restore(
+            String signerEmail,
+            String signerName,
+            LocalDateTime signedAt,
+            Supplier<String> signatureData,
+            String ipAddress,
+            Supplier<String> deviceInfo,
+            Supplier<String> signaturePath,
+            String renditionChecksum
+    ) {
+        return new Signature(signerEmail, signerName, signedAt, ipAddress,
+                Lazy.from(signatureData), Lazy.from(deviceInfo), Lazy.from(signaturePath), renditionChecksum);
+    }
 
     public static Signature create(
             String signerEmail,
@@ -30,14 +88,31 @@ public record Signature(
             String ipAddress,
             String deviceInfo,
             String signaturePath
+    ) {
+        return create(signerEmail, signerName, signatureData, ipAddress, deviceInfo, signaturePath, null);
+    }
+
+    /**
+     * 새 서명 생성
+     *
+     * @param renditionChecksum 업로드 시 계산한 서명 원본 체크섬 (PDF 렌디션 조회 키)
+     */
+    public static Signature create(
+            String signerEmail,
+            String signerName,
+            String signatureData,
+            String ipAddress,
+            String deviceInfo,
+            String signaturePath,
+            String renditionChecksum
     ) {
         validateSignerEmail(signerEmail);
         validateSignerName(signerName);
         validateSignatureData(signatureData);
         validateIpAddress(ipAddress);
 
-        return new Signature(signerEmail.trim().toLowerCase(), signerName.trim(),
-                LocalDateTime.now(), signatureData, ipAddress, deviceInfo, signaturePath);
+        return new Signature(signerEmail.trim().toLowerCase(), signerName.trim(), LocalDateTime.now(), ipAddress,
+                Lazy.of(signatureData), Lazy.of(deviceInfo), Lazy.of(signaturePath), renditionChecksum);
     }
 
     private static void validateSignerEmail(String signerEmail) {
@@ -69,13 +144,109 @@ public record Signature(
     }
 
     public boolean validate() {
-        return !signatureData.isEmpty() &&
+        return !signatureData().isEmpty() &&
                 signerEmail != null &&
                 signerName != null &&
                 ipAddress != null;
     }
 
     public boolean verifyIntegrity() {
-        return validate() && signatureData != null && !signatureData.isEmpty();
+        return validate() && signatureData() != null && !signatureData().isEmpty();
+    }
+
+    public String signerEmail() {
+        return signerEmail;
+    }
+
+    public String signerName() {
+        return signerName;
+    }
+
+    public LocalDateTime signedAt() {
+        return signedAt;
+    }
+
+    public String signatureData() {
+        return signatureData.get();
+    }
+
+    public String ipAddress() {
+        return ipAddress;
+    }
+
+    public String deviceInfo() {
+        return deviceInfo.get();
+    }
+
+    public String signaturePath() {
+        return signaturePath.get();
+    }
+
+    public String renditionChecksum() {
+        return renditionChecksum;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Signature other
+                && Objects.equals(signerEmail, other.signerEmail)
+                && Objects.equals(signerName, other.signerName)
+                && Objects.equals(signedAt, other.signedAt)
+                && Objects.equals(ipAddress, other.ipAddress)
+                && Objects.equals(signatureData(), other.signatureData())
+                && Objects.equals(deviceInfo(), other.deviceInfo())
+                && Objects.equals(signaturePath(), other.signaturePath())
+                && Objects.equals(renditionChecksum, other.renditionChecksum);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(signerEmail, signerName, signedAt, ipAddress);
+    }
+
+    @Override
+    public String toString() {
+        return "Signature[signerEmail=" + signerEmail + ", signerName=" + signerName + ", signedAt=" + signedAt + "]";
+    }
+
+    /**
+     * 처음 읽을 때 한 번만 값을 가져오는 필드
+     */
+    private static final class Lazy {
+
+        private static final Lazy NULL = new Lazy(null, true, null);
+
+        private final Supplier<String> source;
+        private boolean loaded;
+        private String value;
+
+        private Lazy(
+                Supplier<String> source,
+                boolean loaded,
+                String value
+        ) {
+            this.source = source;
+            this.loaded = loaded;
+            this.value = value;
+        }
+
+        static Lazy of(String value) {
+            return value != null ? new Lazy(null, true, value) : NULL;
+        }
+
+        static Lazy from(Supplier<String> source) {
+            return source != null ? new Lazy(source, false, null) : NULL;
+        }
+
+        String get() {
+            if (!loaded) {
+                value = source.get();
+                loaded = true;
+            }
+            return value;
+        }
     }
-}
\ No newline at end of file
+}
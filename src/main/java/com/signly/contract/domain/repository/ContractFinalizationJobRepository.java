@@ -0,0 +1,34 @@
+package com.signly.contract.domain.repository;
+
+import com.signly.contract.domain.model.ContractFinalizationJob;
+import com.signly.contract.domain.model.ContractId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ContractFinalizationJobRepository {
+
+    ContractFinalizationJob save(ContractFinalizationJob job);
+
+    Optional<ContractFinalizationJob> findByContractId(ContractId contractId);
+
+    boolean existsByContractId(ContractId contractId);
+
+    /**
+     * 처리 시각이 도래한 작업의 계약서 ID 조회 (PENDING 및 lease가 만료된 PROCESSING)
+     */
+    List<ContractId> findDueContractIds(int limit);
+
+    /**
+     * 작업 점유 (조건부 UPDATE)
+     * 다른 워커가 이미 점유했거나 처리 시각 전이면 false
+     *
+     * @param contractId 계약서 ID
+     * @param leaseUntil 점유 만료 시각 (워커가 비정상 종료하면 이후 다시 점유 가능)
+     */
+    boolean claim(
+            ContractId contractId,
+            LocalDateTime leaseUntil
+    );
+}
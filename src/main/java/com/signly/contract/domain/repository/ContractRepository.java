@@ -1,47 +1,61 @@
 package com.signly.contract.domain.repository;
 
+import com.signly.common.pagination.KeysetCursor;
 import com.signly.contract.domain.model.Contract;
 import com.signly.contract.domain.model.ContractId;
 import com.signly.contract.domain.model.ContractStatus;
+import com.signly.contract.domain.model.ContractSummary;
 import com.signly.contract.domain.model.SignToken;
 import com.signly.template.domain.model.TemplateId;
 import com.signly.user.domain.model.UserId;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ContractRepository {
     Contract save(Contract contract);
 
+    /**
+     * 신규 계약서 일괄 저장 (기존 행 조회 없이 JDBC 배치 INSERT)
+     * 아직 저장된 적 없는 계약서에만 사용해야 한다.
+     */
+    void insertAll(List<Contract> contracts);
+
     Optional<Contract> findById(ContractId contractId);
 
     Optional<Contract> findBySignToken(SignToken signToken);
 
-    void delete(Contract contract);
+    /**
+     * 현재 저장된 PDF 경로 조회 (같은 트랜잭션에서 먼저 읽은 계약서와 무관하게 저장소 값을 읽음)
+     */
+    Optional<String> findPdfPath(ContractId contractId);
 
-    Page<Contract> findByCreatorId(
-            UserId creatorId,
-            Pageable pageable
-    );
+    void delete(Contract contract);
 
-    Page<Contract> findByCreatorIdAndStatus(
+    /**
+     * 작성자의 계약서 목록 (목록 표시 컬럼만, 키셋 페이지네이션)
+     *
+     * @param status 상태 필터 (null이면 전체)
+     * @param after  이 커서 다음 행부터 조회
+     * @param limit  최대 조회 건수
+     */
+    List<ContractSummary> findSummariesByCreatorId(
             UserId creatorId,
             ContractStatus status,
-            Pageable pageable
-    );
-
-    Page<Contract> findByPartyEmail(
-            String email,
-            Pageable pageable
+            KeysetCursor after,
+            int limit
     );
 
-    Page<Contract> findByPartyEmailAndStatus(
+    /**
+     * 당사자 이메일로 계약서 목록 조회 (목록 표시 컬럼만, 키셋 페이지네이션)
+     */
+    List<ContractSummary> findSummariesByPartyEmail(
             String email,
             ContractStatus status,
-            Pageable pageable
+            KeysetCursor after,
+            int limit
     );
 
     List<Contract> findByTemplateId(TemplateId templateId);
@@ -53,6 +67,15 @@ public interface ContractRepository {
             LocalDateTime dateTime
     );
 
+    /**
+     * 마지막 서명 시각이 [signedFrom, signedTo) 구간인 서명 완료 계약서 ID (생성 순)
+     */
+    List<ContractId> findSignedContractIds(
+            UserId creatorId,
+            LocalDateTime signedFrom,
+            LocalDateTime signedTo
+    );
+
     boolean existsByCreatorIdAndTitle(
             UserId creatorId,
             String title
@@ -65,5 +88,10 @@ public interface ContractRepository {
             ContractStatus status
     );
 
+    /**
+     * 작성자의 상태별 계약서 수 (계약서가 없는 상태는 포함하지 않음)
+     */
+    Map<ContractStatus, Long> countByCreatorIdGroupByStatus(UserId creatorId);
+
     long countByTemplateId(TemplateId templateId);
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.signly.contract.domain.model.ContractId;
 import com.signly.contract.domain.model.Signature;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface SignatureRepository {
@@ -12,6 +13,11 @@ public interface SignatureRepository {
             Signature signature
     );
 
+    /**
+     * 계약서별 신규 서명 일괄 저장 (JDBC 배치 INSERT)
+     */
+    void insertAll(Map<ContractId, Signature> signatures);
+
     Optional<Signature> findById(String signatureId);
 
     List<Signature> findByContractId(ContractId contractId);
@@ -26,5 +32,14 @@ public interface SignatureRepository {
             String signerEmail
     );
 
+    /**
+     * 렌디션 체크섬이 없는 기존 서명에 체크섬 저장 (이미 저장된 값은 바꾸지 않음)
+     */
+    void saveRenditionChecksum(
+            ContractId contractId,
+            Signature signature,
+            String checksum
+    );
+
     void delete(String signatureId);
 }
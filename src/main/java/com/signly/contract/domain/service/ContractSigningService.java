@@ -23,9 +23,30 @@ public class ContractSigningService {
             Contract contract,
             SigningRequest request
     ) {
-        validateSigningRequest(contract, request);
+        validateSigningRequest(contract, request.signerEmail());
+        return applySignature(contract, createSignature(request));
+    }
+
+    /**
+     * 외부에서 준비한 서명(파일/렌디션 저장 완료)으로 계약서 서명 처리
+     * 서명 행은 계약서와 함께 저장되므로 호출 측에서 따로 저장하지 않는다.
+     *
+     * @param contract  서명할 계약서
+     * @param signature 준비된 서명
+     * @return 서명 처리 결과
+     */
+    public SigningResult processSigning(
+            Contract contract,
+            Signature signature
+    ) {
+        validateSigningRequest(contract, signature.signerEmail());
+        return applySignature(contract, signature);
+    }
 
-        var signature = createSignature(request);
+    private SigningResult applySignature(
+            Contract contract,
+            Signature signature
+    ) {
         contract.addSignature(signature);
 
         boolean isFullySigned = contract.isFullySigned();
@@ -60,10 +81,10 @@ public class ContractSigningService {
      */
     private void validateSigningRequest(
             Contract contract,
-            SigningRequest request
+            String signerEmail
     ) {
-        validateSigningEligibility(contract, request.signerEmail());
-        validateDuplicateSigning(contract, request.signerEmail());
+        validateSigningEligibility(contract, signerEmail);
+        validateDuplicateSigning(contract, signerEmail);
     }
 
     /**
@@ -25,10 +25,24 @@ public interface PdfGenerator {
     );
 
     /**
-     * HTML 템플릿과 변수를 사용하여 PDF 생성
+     * 이미 정규화된 XHTML 본문 조각을 PDF로 변환
+     * 호출자가 XHTML 정규화를 끝낸 경우 다시 파싱하지 않고 문서로 감싸서 렌더링만 한다.
      *
-     * @param templateName 템플릿 파일명
-     * @param variables    템플릿 변수
+     * @param xhtmlFragment XHTML 본문 조각 (html/head/body 래퍼 없음)
+     * @param fileName      PDF 파일명
+     * @return 생성된 PDF
+     */
+    GeneratedPdf generateFromXhtml(
+            String xhtmlFragment,
+            String fileName
+    );
+
+    /**
+     * 저장된 계약서 템플릿과 변수 값으로 PDF 생성
+     * 값이 없는 변수는 [변수명] 그대로 출력된다.
+     *
+     * @param templateName 템플릿 ID
+     * @param variables    변수명 → 값
      * @param fileName     PDF 파일명
      * @return 생성된 PDF
      */
@@ -37,4 +51,14 @@ public interface PdfGenerator {
             Map<String, Object> variables,
             String fileName
     );
+
+    /**
+     * 렌더링 결과에 영향을 주는 공통 자산(CSS, 폰트 등)의 버전
+     * 생성된 PDF 캐시 키에 포함되어 자산이 바뀌면 캐시가 자연스럽게 무효화된다.
+     *
+     * @return 렌더링 자산 버전
+     */
+    default String renderVersion() {
+        return "default";
+    }
 }
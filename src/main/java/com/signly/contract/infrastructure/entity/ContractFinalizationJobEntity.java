@@ -0,0 +1,71 @@
+package com.signly.contract.infrastructure.entity;
+
+import com.signly.contract.domain.model.FinalizationJobStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "contract_finalization_jobs",
+        indexes = {
+                @Index(name = "idx_finalization_status_next_attempt", columnList = "status, next_attempt_at")
+        })
+public class ContractFinalizationJobEntity {
+
+    @Id
+    @Column(name = "contract_id", length = 26)
+    private String contractId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private FinalizationJobStatus status;
+
+    @Column(name = "pdf_stored", nullable = false)
+    private boolean pdfStored;
+
+    @Column(name = "notification_sent", nullable = false)
+    private boolean notificationSent;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "max_attempts", nullable = false)
+    private Integer maxAttempts;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    public void prePersist() {
+        var now = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
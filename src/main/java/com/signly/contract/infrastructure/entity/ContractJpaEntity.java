@@ -1,6 +1,8 @@
 package com.signly.contract.infrastructure.entity;
 
 import com.signly.common.domain.BaseEntity;
+import com.signly.common.encryption.EncryptedString;
+import com.signly.common.encryption.EncryptedStringConverter;
 import com.signly.common.encryption.StringEncryptionConverter;
 import com.signly.contract.domain.model.ContractStatus;
 import com.signly.contract.domain.model.PresetType;
@@ -9,6 +11,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -24,7 +27,11 @@ import java.util.List;
         @Index(name = "idx_contract_expires_at", columnList = "expires_at"),
         @Index(name = "idx_contract_sign_token", columnList = "sign_token"),
         @Index(name = "idx_contract_creator_status", columnList = "creator_id, status"),
-        @Index(name = "idx_contract_status_expires", columnList = "status, expires_at")
+        @Index(name = "idx_contract_status_expires", columnList = "status, expires_at"),
+        @Index(name = "idx_contract_creator_sort", columnList = "creator_id, sort_priority, created_at, id"),
+        @Index(name = "idx_contract_creator_status_sort", columnList = "creator_id, status, sort_priority, created_at, id"),
+        @Index(name = "idx_contract_first_party_sort", columnList = "first_party_email_hash, sort_priority, created_at, id"),
+        @Index(name = "idx_contract_second_party_sort", columnList = "second_party_email_hash, sort_priority, created_at, id")
         // email 인덱스는 V14 마이그레이션에서 emailHash 기반으로 추가됨
 })
 public class ContractJpaEntity extends BaseEntity {
@@ -44,16 +51,29 @@ public class ContractJpaEntity extends BaseEntity {
     @Column(name = "title", nullable = false, length = 200)
     private String title;
 
-    @Setter
+    // 본문/템플릿 데이터는 목록·만료 처리에서 쓰이지 않으므로 접근 시점에 복호화
+    @Getter(AccessLevel.NONE)
     @Lob
-    @Convert(converter = StringEncryptionConverter.class)
+    @Convert(converter = EncryptedStringConverter.class)
     @Column(name = "content", nullable = false, columnDefinition = "TEXT")
-    private String content;
+    private EncryptedString content;
 
+    // 본문 SHA-256 (본문을 복호화하지 않고 변경 여부/PDF 캐시 키를 판단)
     @Setter
-    @Convert(converter = StringEncryptionConverter.class)
-    @Column(name = "template_data", columnDefinition = "JSON")
-    private String templateData;
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 템플릿 변수 값 JSON - PDF를 템플릿 레이아웃으로 렌더링할 때만 쓰이므로 접근 시점에 복호화
+    @Getter(AccessLevel.NONE)
+    @Lob
+    @Convert(converter = EncryptedStringConverter.class)
+    @Column(name = "template_data", columnDefinition = "LONGTEXT")
+    private EncryptedString templateData;
+
+    // 본문을 렌더링한 템플릿 버전 (템플릿 데이터가 없거나 본문을 직접 수정하면 NULL)
+    @Setter
+    @Column(name = "template_version")
+    private Integer templateVersion;
 
     @Convert(converter = StringEncryptionConverter.class)
     @Column(name = "first_party_name", nullable = false, length = 500)
@@ -111,6 +131,10 @@ public class ContractJpaEntity extends BaseEntity {
     @Column(name = "preset_type", length = 50, nullable = false)
     private PresetType presetType = PresetType.NONE;
 
+    // 목록 정렬 우선순위 (표준근로계약서가 먼저, 키셋 페이지네이션 인덱스의 선두 정렬 키)
+    @Column(name = "sort_priority", nullable = false)
+    private int sortPriority;
+
     @Setter
     @Convert(converter = StringEncryptionConverter.class)
     @Column(name = "pdf_path", length = 1000)
@@ -138,8 +162,8 @@ public class ContractJpaEntity extends BaseEntity {
         this.creatorId = creatorId;
         this.templateId = templateId;
         this.title = title;
-        this.content = content;
-        this.templateData = templateData;
+        this.content = EncryptedString.ofPlaintext(content);
+        this.templateData = EncryptedString.ofPlaintext(templateData);
         this.firstPartyName = firstPartyName;
         this.firstPartyEmail = firstPartyEmail;
         this.firstPartyOrganization = firstPartyOrganization;
@@ -150,6 +174,30 @@ public class ContractJpaEntity extends BaseEntity {
         this.signToken = signToken;
         this.expiresAt = expiresAt;
         this.presetType = presetType != null ? presetType : PresetType.NONE;
+        this.sortPriority = sortPriorityOf(this.presetType);
+    }
+
+    public String getContent() {
+        return EncryptedString.plaintextOf(content);
+    }
+
+    /**
+     * 복호화하지 않은 본문 (도메인 복원 시 지연 조회용)
+     */
+    public EncryptedString getEncryptedContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = EncryptedString.ofPlaintext(content);
+    }
+
+    public String getTemplateData() {
+        return EncryptedString.plaintextOf(templateData);
+    }
+
+    public void setTemplateData(String templateData) {
+        this.templateData = EncryptedString.ofPlaintext(templateData);
     }
 
     public void addSignature(SignatureEntity signature) {
@@ -157,8 +205,48 @@ public class ContractJpaEntity extends BaseEntity {
         signature.setContract(this);
     }
 
+    public void removeSignature(SignatureEntity signature) {
+        signatures.remove(signature);
+        signature.setContract(null);
+    }
+
+    /**
+     * 갑 정보 변경 (이메일 해시는 이메일이 바뀐 경우에만 호출자가 다시 계산해 전달)
+     */
+    public void updateFirstParty(
+            String name,
+            String email,
+            String organization,
+            String emailHash
+    ) {
+        this.firstPartyName = name;
+        this.firstPartyEmail = email;
+        this.firstPartyOrganization = organization;
+        this.firstPartyEmailHash = emailHash;
+    }
+
+    /**
+     * 을 정보 변경 (이메일 해시는 이메일이 바뀐 경우에만 호출자가 다시 계산해 전달)
+     */
+    public void updateSecondParty(
+            String name,
+            String email,
+            String organization,
+            String emailHash
+    ) {
+        this.secondPartyName = name;
+        this.secondPartyEmail = email;
+        this.secondPartyOrganization = organization;
+        this.secondPartyEmailHash = emailHash;
+    }
+
     public void setPresetType(PresetType presetType) {
         this.presetType = presetType != null ? presetType : PresetType.NONE;
+        this.sortPriority = sortPriorityOf(this.presetType);
+    }
+
+    private static int sortPriorityOf(PresetType presetType) {
+        return presetType == PresetType.LABOR_STANDARD ? 1 : 0;
     }
 
 }
\ No newline at end of file
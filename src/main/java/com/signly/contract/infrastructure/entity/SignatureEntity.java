@@ -1,6 +1,8 @@
 package com.signly.contract.infrastructure.entity;
 
 import com.signly.common.domain.BaseEntity;
+import com.signly.common.encryption.EncryptedString;
+import com.signly.common.encryption.EncryptedStringConverter;
 import com.signly.common.encryption.StringEncryptionConverter;
 import jakarta.persistence.*;
 import lombok.*;
@@ -9,7 +11,6 @@ import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor
 @Entity
 @Table(name = "contract_signatures")
 public class SignatureEntity extends BaseEntity {
@@ -30,10 +31,12 @@ public class SignatureEntity extends BaseEntity {
     @Column(name = "signer_name", length = 500, nullable = false)
     private String signerName;
 
+    // 서명 이미지/기기 정보/파일 경로는 PDF 생성·서명 조회 때만 쓰이므로 접근 시점에 복호화
+    @Getter(AccessLevel.NONE)
     @Lob
-    @Convert(converter = StringEncryptionConverter.class)
+    @Convert(converter = EncryptedStringConverter.class)
     @Column(name = "signature_data", columnDefinition = "LONGTEXT", nullable = false)
-    private String signatureData;
+    private EncryptedString signatureData;
 
     @Column(name = "signed_at", nullable = false)
     private LocalDateTime signedAt;
@@ -42,13 +45,70 @@ public class SignatureEntity extends BaseEntity {
     @Column(name = "ip_address", length = 200)
     private String ipAddress;
 
+    @Getter(AccessLevel.NONE)
     @Lob
     @Column(name = "device_info", columnDefinition = "LONGTEXT")
-    @Convert(converter = StringEncryptionConverter.class)
-    private String deviceInfo;
+    @Convert(converter = EncryptedStringConverter.class)
+    private EncryptedString deviceInfo;
 
+    @Getter(AccessLevel.NONE)
     @Column(name = "signature_path", length = 1000)
-    @Convert(converter = StringEncryptionConverter.class)
-    private String signaturePath;
+    @Convert(converter = EncryptedStringConverter.class)
+    private EncryptedString signaturePath;
+
+    // 서명 원본 체크섬 (렌디션 파일 이름) - 렌더링 시 서명 데이터를 복호화하지 않고 렌디션을 찾는 키
+    @Column(name = "rendition_checksum", length = 64)
+    private String renditionChecksum;
+
+    public SignatureEntity(
+            String signatureId,
+            ContractJpaEntity contract,
+            String signerEmail,
+            String signerName,
+            String signatureData,
+            LocalDateTime signedAt,
+            String ipAddress,
+            String deviceInfo,
+            String signaturePath,
+            String renditionChecksum
+    ) {
+        this.signatureId = signatureId;
+        this.contract = contract;
+        this.signerEmail = signerEmail;
+        this.signerName = signerName;
+        this.signatureData = EncryptedString.ofPlaintext(signatureData);
+        this.signedAt = signedAt;
+        this.ipAddress = ipAddress;
+        this.deviceInfo = EncryptedString.ofPlaintext(deviceInfo);
+        this.signaturePath = EncryptedString.ofPlaintext(signaturePath);
+        this.renditionChecksum = renditionChecksum;
+    }
+
+    public String getSignatureData() {
+        return EncryptedString.plaintextOf(signatureData);
+    }
+
+    public String getDeviceInfo() {
+        return EncryptedString.plaintextOf(deviceInfo);
+    }
+
+    public String getSignaturePath() {
+        return EncryptedString.plaintextOf(signaturePath);
+    }
+
+    /**
+     * 복호화하지 않은 서명 데이터 (도메인 복원 시 지연 조회용)
+     */
+    public EncryptedString getEncryptedSignatureData() {
+        return signatureData;
+    }
+
+    public EncryptedString getEncryptedDeviceInfo() {
+        return deviceInfo;
+    }
+
+    public EncryptedString getEncryptedSignaturePath() {
+        return signaturePath;
+    }
 
 }
@@ -1,5 +1,8 @@
 package com.signly.contract.infrastructure.mapper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.signly.common.encryption.AesEncryptionService;
 import com.signly.common.util.UlidGenerator;
 import com.signly.contract.domain.model.*;
@@ -10,12 +13,20 @@ import com.signly.user.domain.model.UserId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class ContractEntityMapper {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, String>> TEMPLATE_VALUES_TYPE = new TypeReference<>() {
+    };
+
     private final AesEncryptionService encryptionService;
 
     public ContractJpaEntity toEntity(Contract contract) {
@@ -47,6 +58,8 @@ public class ContractEntityMapper {
         entity.setSecondPartyEmailHash(secondPartyEmailHash);
 
         entity.setPdfPath(contract.getPdfPath());
+        entity.setContentHash(contract.getContent().checksum());
+        applyTemplateData(contract.getTemplateData(), entity);
 
         var signatureEntities = contract.getSignatures().stream()
                 .map(this::toSignatureEntity)
@@ -57,11 +70,131 @@ public class ContractEntityMapper {
         return entity;
     }
 
+    /**
+     * 영속 상태 엔티티에 도메인 모델의 변경분만 반영 (dirty checking으로 바뀐 컬럼만 UPDATE)
+     * - 값이 같은 필드는 건드리지 않으므로 재암호화되지 않음
+     * - 엔티티에서 복원한 본문은 복호화하지 않고 그대로 둠 (본문이 바뀌면 본문 해시도 갱신)
+     * - 이메일 해시는 이메일이 바뀐 경우에만 다시 계산
+     * - 템플릿 데이터는 템플릿 버전이 바뀐 경우(본문 수정으로 제거된 경우 포함)에만 다시 씀
+     * - 기존 서명 행은 (서명자 이메일, 서명 시각)으로 맞춰 그대로 두고, 새 서명만 추가
+     *
+     * @return 변경된 내용이 있으면 true
+     */
+    public boolean applyChanges(
+            Contract contract,
+            ContractJpaEntity entity
+    ) {
+        boolean changed = false;
+
+        if (!Objects.equals(entity.getTitle(), contract.getTitle())) {
+            entity.setTitle(contract.getTitle());
+            changed = true;
+        }
+        // 엔티티에서 복원한 본문 그대로면 복호화해 비교하지 않음
+        if (!contract.getContent().isRestoredFrom(entity.getEncryptedContent())
+                && !Objects.equals(entity.getContent(), contract.getContent().content())) {
+            entity.setContent(contract.getContent().content());
+            entity.setContentHash(contract.getContent().checksum());
+            changed = true;
+        } else if (entity.getContentHash() == null && contract.getContent().isLoaded()) {
+            // 해시가 없는 기존 본문은 이미 읽은 경우에만 채움 (복호화를 위해 본문을 읽지는 않음)
+            entity.setContentHash(contract.getContent().checksum());
+        }
+        if (entity.getStatus() != contract.getStatus()) {
+            entity.setStatus(contract.getStatus());
+            changed = true;
+        }
+        if (!Objects.equals(entity.getSignToken(), contract.getSignToken().value())) {
+            entity.setSignToken(contract.getSignToken().value());
+            changed = true;
+        }
+        if (!Objects.equals(entity.getExpiresAt(), contract.getExpiresAt())) {
+            entity.setExpiresAt(contract.getExpiresAt());
+            changed = true;
+        }
+        if (!Objects.equals(entity.getPdfPath(), contract.getPdfPath())) {
+            entity.setPdfPath(contract.getPdfPath());
+            changed = true;
+        }
+        if (!Objects.equals(entity.getTemplateVersion(), templateVersionOf(contract.getTemplateData()))) {
+            applyTemplateData(contract.getTemplateData(), entity);
+            changed = true;
+        }
+        if (entity.getPresetType() != contract.getPresetType()) {
+            entity.setPresetType(contract.getPresetType());
+            changed = true;
+        }
+
+        PartyInfo firstParty = contract.getFirstParty();
+        if (!sameParty(firstParty, entity.getFirstPartyName(), entity.getFirstPartyEmail(), entity.getFirstPartyOrganization())) {
+            String emailHash = Objects.equals(entity.getFirstPartyEmail(), firstParty.email()) ?
+                    entity.getFirstPartyEmailHash() : encryptionService.hashEmail(firstParty.email());
+            entity.updateFirstParty(firstParty.name(), firstParty.email(), firstParty.organizationName(), emailHash);
+            changed = true;
+        }
+        PartyInfo secondParty = contract.getSecondParty();
+        if (!sameParty(secondParty, entity.getSecondPartyName(), entity.getSecondPartyEmail(), entity.getSecondPartyOrganization())) {
+            String emailHash = Objects.equals(entity.getSecondPartyEmail(), secondParty.email()) ?
+                    entity.getSecondPartyEmailHash() : encryptionService.hashEmail(secondParty.email());
+            entity.updateSecondParty(secondParty.name(), secondParty.email(), secondParty.organizationName(), emailHash);
+            changed = true;
+        }
+
+        changed |= applySignatureChanges(contract, entity);
+
+        if (changed) {
+            entity.updateTimestamp();
+        }
+        return changed;
+    }
+
+    private boolean applySignatureChanges(
+            Contract contract,
+            ContractJpaEntity entity
+    ) {
+        Map<String, SignatureEntity> existing = new HashMap<>();
+        for (SignatureEntity signatureEntity : entity.getSignatures()) {
+            existing.put(signatureKey(signatureEntity.getSignerEmail(), signatureEntity.getSignedAt()), signatureEntity);
+        }
+
+        boolean changed = false;
+        for (Signature signature : contract.getSignatures()) {
+            if (existing.remove(signatureKey(signature.signerEmail(), signature.signedAt())) == null) {
+                entity.addSignature(toSignatureEntity(signature));
+                changed = true;
+            }
+        }
+        // 도메인에 없는 서명 행은 고아 제거로 삭제
+        for (SignatureEntity removed : existing.values()) {
+            entity.removeSignature(removed);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static boolean sameParty(
+            PartyInfo party,
+            String name,
+            String email,
+            String organization
+    ) {
+        return Objects.equals(party.name(), name)
+                && Objects.equals(party.email(), email)
+                && Objects.equals(party.organizationName(), organization);
+    }
+
+    private static String signatureKey(
+            String signerEmail,
+            LocalDateTime signedAt
+    ) {
+        return signerEmail + '|' + signedAt;
+    }
+
     public Contract toDomain(ContractJpaEntity entity) {
         var creatorId = UserId.of(entity.getCreatorId());
         var templateId = entity.getTemplateId() != null ? TemplateId.of(entity.getTemplateId()) : null;
         var contractId = ContractId.of(entity.getId());
-        var content = ContractContent.of(entity.getContent());
+        var content = ContractContent.restore(entity.getEncryptedContent(), entity.getContentHash());
 
         var firstParty = PartyInfo.of(
                 entity.getFirstPartyName(),
@@ -95,11 +228,54 @@ public class ContractEntityMapper {
                 entity.getExpiresAt(),
                 entity.getPresetType(),
                 entity.getPdfPath(),
+                toDomainTemplateData(entity),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
     }
 
+    private void applyTemplateData(
+            ContractTemplateData templateData,
+            ContractJpaEntity entity
+    ) {
+        if (templateData == null) {
+            entity.setTemplateVersion(null);
+            entity.setTemplateData(null);
+            return;
+        }
+        try {
+            entity.setTemplateData(OBJECT_MAPPER.writeValueAsString(templateData.values()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("템플릿 변수 값을 저장할 수 없습니다", e);
+        }
+        entity.setTemplateVersion(templateData.templateVersion());
+    }
+
+    private static Integer templateVersionOf(ContractTemplateData templateData) {
+        return templateData != null ? templateData.templateVersion() : null;
+    }
+
+    /**
+     * 템플릿 데이터 복원 (변수 값은 PDF 렌더링 때만 쓰이므로 처음 읽을 때 복호화/파싱)
+     */
+    private ContractTemplateData toDomainTemplateData(ContractJpaEntity entity) {
+        if (entity.getTemplateVersion() == null) {
+            return null;
+        }
+        return ContractTemplateData.restore(entity.getTemplateVersion(), () -> readTemplateValues(entity.getTemplateData()));
+    }
+
+    private static Map<String, String> readTemplateValues(String json) {
+        if (json == null || json.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, TEMPLATE_VALUES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 템플릿 변수 값을 읽을 수 없습니다", e);
+        }
+    }
+
     private SignatureEntity toSignatureEntity(Signature signature) {
         return new SignatureEntity(
                 UlidGenerator.generate(),
@@ -110,18 +286,22 @@ public class ContractEntityMapper {
                 signature.signedAt(),
                 signature.ipAddress(),
                 signature.deviceInfo(),
-                signature.signaturePath()
+                signature.signaturePath(),
+                signature.renditionChecksum()
         );
     }
 
     private Signature toDomainSignature(SignatureEntity entity) {
-        return Signature.create(
+        // 저장된 서명 시각을 유지해야 저장 시 기존 서명 행과 맞출 수 있음
+        return Signature.restore(
                 entity.getSignerEmail(),
                 entity.getSignerName(),
-                entity.getSignatureData(),
+                entity.getSignedAt(),
+                entity.getEncryptedSignatureData(),
                 entity.getIpAddress(),
-                entity.getDeviceInfo(),
-                entity.getSignaturePath()
+                entity.getEncryptedDeviceInfo(),
+                entity.getEncryptedSignaturePath(),
+                entity.getRenditionChecksum()
         );
     }
 
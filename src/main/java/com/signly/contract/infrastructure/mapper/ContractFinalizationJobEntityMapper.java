@@ -0,0 +1,43 @@
+package com.signly.contract.infrastructure.mapper;
+
+import com.signly.contract.domain.model.ContractFinalizationJob;
+import com.signly.contract.domain.model.ContractId;
+import com.signly.contract.infrastructure.entity.ContractFinalizationJobEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+public class ContractFinalizationJobEntityMapper {
+
+    public ContractFinalizationJobEntity toEntity(ContractFinalizationJob job) {
+        ContractFinalizationJobEntity entity = new ContractFinalizationJobEntity();
+        entity.setContractId(job.getContractId().value());
+        entity.setStatus(job.getStatus());
+        entity.setPdfStored(job.isPdfStored());
+        entity.setNotificationSent(job.isNotificationSent());
+        entity.setAttempts(job.getAttempts());
+        entity.setMaxAttempts(job.getMaxAttempts());
+        entity.setLastError(job.getLastError());
+        entity.setNextAttemptAt(job.getNextAttemptAt());
+        entity.setCreatedAt(job.getCreatedAt());
+        entity.setUpdatedAt(LocalDateTime.now());
+        entity.setCompletedAt(job.getCompletedAt());
+        return entity;
+    }
+
+    public ContractFinalizationJob toDomain(ContractFinalizationJobEntity entity) {
+        return ContractFinalizationJob.restore(
+                ContractId.of(entity.getContractId()),
+                entity.getStatus(),
+                entity.isPdfStored(),
+                entity.isNotificationSent(),
+                entity.getAttempts(),
+                entity.getMaxAttempts(),
+                entity.getLastError(),
+                entity.getNextAttemptAt(),
+                entity.getCreatedAt(),
+                entity.getCompletedAt()
+        );
+    }
+}
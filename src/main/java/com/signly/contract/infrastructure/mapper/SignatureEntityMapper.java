@@ -18,18 +18,22 @@ public class SignatureEntityMapper {
                 signature.signedAt(),
                 signature.ipAddress(),
                 signature.deviceInfo(),
-                signature.signaturePath()
+                signature.signaturePath(),
+                signature.renditionChecksum()
         );
     }
 
     public Signature toDomain(SignatureEntity entity) {
-        return Signature.create(
+        // 서명 데이터/기기 정보/파일 경로는 처음 읽을 때 복호화
+        return Signature.restore(
                 entity.getSignerEmail(),
                 entity.getSignerName(),
-                entity.getSignatureData(),
+                entity.getSignedAt(),
+                entity.getEncryptedSignatureData(),
                 entity.getIpAddress(),
-                entity.getDeviceInfo(),
-                entity.getSignaturePath()
+                entity.getEncryptedDeviceInfo(),
+                entity.getEncryptedSignaturePath(),
+                entity.getRenditionChecksum()
         );
     }
 }
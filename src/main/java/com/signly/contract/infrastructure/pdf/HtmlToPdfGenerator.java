@@ -1,144 +1,82 @@
 package com.signly.contract.infrastructure.pdf;
 
-import com.lowagie.text.pdf.BaseFont;
+import com.signly.common.exception.NotFoundException;
+import com.signly.common.html.XhtmlNormalizer;
 import com.signly.contract.domain.model.GeneratedPdf;
 import com.signly.contract.domain.service.PdfGenerator;
+import com.signly.template.application.TemplateService;
+import com.signly.template.domain.model.CompiledTemplateLayout;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StreamUtils;
-import org.xhtmlrenderer.pdf.ITextRenderer;
+import org.w3c.dom.Document;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Flying Saucer를 사용한 PDF 생성 구현체
  * DDD 원칙: Infrastructure Layer에서 기술적 구현 담당
  * DIP: PdfGenerator 인터페이스를 구현하여 도메인에 의존성 주입
- * SRP: HTML to PDF 변환만 담당
+ * SRP: HTML to PDF 변환만 담당 (공통 자산은 PdfRenderAssets, 실제 레이아웃은 PdfRenderingEngine 워커 풀에서 수행)
+ * 템플릿 기반 생성은 컴파일된 레이아웃으로 DOM을 직접 구성하여 HTML 직렬화/정규화를 생략한다.
  */
 @Component
+@RequiredArgsConstructor
 public class HtmlToPdfGenerator implements PdfGenerator {
 
     private static final Logger logger = LoggerFactory.getLogger(HtmlToPdfGenerator.class);
-    private static final List<String> PDF_CSS_RESOURCES = List.of("static/css/contract-common.css");
-    private static final List<String> FONT_RESOURCES = List.of("fonts/NanumGothic-Regular.ttf", "fonts/NanumGothic-Bold.ttf");
+
+    private final PdfRenderAssets renderAssets;
+    private final PdfRenderingEngine renderingEngine;
+    private final TemplateService templateService;
 
     @Override
     public GeneratedPdf generateFromHtml(
             String htmlContent,
             String fileName
+    ) {
+        // HTML을 XHTML로 정리 (Flying Saucer는 엄격한 XHTML 요구)
+        return generateFromXhtml(XhtmlNormalizer.toXhtmlFragment(htmlContent), fileName);
+    }
+
+    @Override
+    public GeneratedPdf generateFromXhtml(
+            String xhtmlFragment,
+            String fileName
     ) {
         try {
             logger.info("PDF 생성 시작: fileName={}", fileName);
 
-            // HTML을 XHTML로 정리 (Flying Saucer는 엄격한 XHTML 요구)
-            String xhtmlContent = sanitizeHtmlToXhtml(htmlContent);
-
-            var outputStream = new ByteArrayOutputStream();
-            var renderer = new ITextRenderer();
-
-            registerFonts(renderer);
+            String xhtmlContent = renderAssets.wrapInXhtmlDocument(xhtmlFragment == null ? "" : xhtmlFragment);
 
-            // HTML을 PDF로 렌더링
+            // 전용 워커 풀에서 렌더링 (대기열 초과 시 PdfRenderRejectedException)
+            byte[] pdfBytes;
             try {
-                renderer.setDocumentFromString(xhtmlContent);
-                renderer.layout();
-                renderer.createPDF(outputStream);
+                pdfBytes = renderingEngine.render(xhtmlContent);
+            } catch (PdfRenderRejectedException rejected) {
+                throw rejected;
             } catch (Exception renderEx) {
                 dumpFailureHtml(fileName, xhtmlContent);
                 throw renderEx;
             }
 
-            byte[] pdfBytes = outputStream.toByteArray();
-            outputStream.close();
-
             GeneratedPdf pdf = GeneratedPdf.of(pdfBytes, fileName);
             logger.info("PDF 생성 완료: fileName={}, size={}bytes", fileName, pdf.sizeInBytes());
 
             return pdf;
 
+        } catch (PdfRenderRejectedException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("PDF 생성 실패: fileName={}", fileName, e);
             throw new PdfGenerationException("PDF 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
 
-    /**
-     * HTML을 XHTML로 정리
-     * Flying Saucer는 엄격한 XHTML을 요구하므로, 닫히지 않은 태그들을 self-closing 태그로 변환
-     * SRP: HTML 정규화 로직 분리
-     */
-    private String sanitizeHtmlToXhtml(String html) {
-        if (html == null || html.isBlank()) {
-            return wrapInXhtmlDocument("");
-        }
-
-        String xhtml = html;
-
-        // Self-closing 태그들을 XHTML 형식으로 변환
-        xhtml = xhtml.replaceAll("<br\\s*/?>", "<br/>");
-        xhtml = xhtml.replaceAll("</br>", ""); // 잘못된 </br> 태그 제거
-        xhtml = xhtml.replaceAll("<hr\\s*/?>", "<hr/>");
-        xhtml = xhtml.replaceAll("<input([^>]*?)(?<!/)>", "<input$1/>");
-        xhtml = xhtml.replaceAll("<meta([^>]*?)(?<!/)>", "<meta$1/>");
-        xhtml = xhtml.replaceAll("<link([^>]*?)(?<!/)>", "<link$1/>");
-
-        // img 태그 처리 (이미 />로 닫혀있지 않은 경우만)
-        xhtml = xhtml.replaceAll("<img([^>]*?)(?<!/)>", "<img$1/>");
-
-        // HTML이 완전한 문서가 아니면 XHTML 문서로 감싸기
-        if (isAlreadyCompleteDocument(xhtml)) {
-            logger.debug("이미 완전한 HTML 문서, 감싸지 않음");
-        } else {
-            xhtml = wrapInXhtmlDocument(xhtml);
-        }
-
-        logger.debug("HTML을 XHTML로 정리 완료");
-        return xhtml;
-    }
-
-    /**
-     * 이미 완전한 HTML 문서인지 확인
-     */
-    private boolean isAlreadyCompleteDocument(String html) {
-        String trimmed = html.trim().toLowerCase();
-        return trimmed.startsWith("<!doctype") ||
-                trimmed.startsWith("<html") ||
-                (trimmed.contains("<html") && trimmed.contains("</html>"));
-    }
-
-    /**
-     * HTML 내용을 완전한 XHTML 문서로 감싸기
-     * Flying Saucer는 완전한 XML 문서를 요구함
-     */
-    private String wrapInXhtmlDocument(String bodyContent) {
-        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
-                "<!DOCTYPE html PUBLIC \"-//W3C//DTD XHTML 1.0 Strict//EN\" " +
-                "\"http://www.w3.org/TR/xhtml1/DTD/xhtml1-strict.dtd\">\n" +
-                "<html xmlns=\"http://www.w3.org/1999/xhtml\">\n" +
-                "<head>\n" +
-                "  <meta http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\"/>\n" +
-                "  <title>Contract PDF</title>\n" +
-                "  <style type=\"text/css\">\n" +
-                getContractCssStyles() +
-                "  </style>\n" +
-                "</head>\n" +
-                "<body>\n" +
-                bodyContent +
-                "\n</body>\n" +
-                "</html>";
-    }
-
     private void dumpFailureHtml(
             String fileName,
             String xhtmlContent
@@ -155,24 +93,9 @@ public class HtmlToPdfGenerator implements PdfGenerator {
         }
     }
 
-    /**
-     * 계약서 CSS 스타일을 통일된 contract-common.css에서 로드
-     */
-    private String getContractCssStyles() {
-        StringBuilder cssBuilder = new StringBuilder();
-
-        for (String resourcePath : PDF_CSS_RESOURCES) {
-            loadResourceAsString(resourcePath)
-                    .map(this::adaptCssForPdf)
-                    .ifPresent(css -> appendCss(cssBuilder, css));
-        }
-
-        if (cssBuilder.length() == 0) {
-            logger.error("PDF용 통일 CSS(contract-common.css)를 로드하지 못했습니다.");
-            throw new PdfGenerationException("CSS 파일을 찾을 수 없습니다: " + PDF_CSS_RESOURCES);
-        }
-
-        return cssBuilder.toString();
+    @Override
+    public String renderVersion() {
+        return renderAssets.version();
     }
 
     @Override
@@ -181,140 +104,40 @@ public class HtmlToPdfGenerator implements PdfGenerator {
             Map<String, Object> variables,
             String fileName
     ) {
-        // 현재는 미구현 (필요시 Thymeleaf 템플릿 엔진 연동)
-        throw new UnsupportedOperationException("Template-based PDF generation is not yet implemented");
-    }
-
-    private Optional<String> loadResourceAsString(String path) {
-        ClassPathResource resource = new ClassPathResource(path);
-        if (!resource.exists()) {
-            logger.warn("리소스를 찾을 수 없습니다: {}", path);
-            return Optional.empty();
-        }
-
-        try (InputStream inputStream = resource.getInputStream()) {
-            return Optional.of(StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
-        } catch (IOException e) {
-            logger.error("리소스 로딩 실패: {}", path, e);
-            return Optional.empty();
-        }
-    }
-
-    private String adaptCssForPdf(String css) {
-        // 1. @media print 콘텐츠 추출 (밑줄 제거 등 PDF 전용 스타일)
-        String printStyles = extractMediaPrintStyles(css);
-
-        // 2. 웹 전용 스타일 필터링 (모든 @media 쿼리 제거 포함)
-        String adapted = filterWebOnlyStyles(css);
-
-        // 3. 기존 폰트 변환 로직
-        adapted = adapted.replace("body:not(:has(.navbar))", "body");
-        adapted = adapted.replace("'Malgun Gothic'", "'NanumGothic', 'Nanum Gothic', 'Malgun Gothic'");
-        adapted = adapted.replace("\"Malgun Gothic\"", "'NanumGothic', 'Nanum Gothic', 'Malgun Gothic'");
-        adapted = adapted.replace("font-family: Malgun Gothic", "font-family: NanumGothic, Nanum Gothic, Malgun Gothic");
-
-        // 4. PDF 전용 스타일을 일반 CSS로 추가
-        return adapted + "\n\n/* PDF 전용 스타일 (추출됨) */\n" + printStyles;
-    }
-
-    /**
-     * @media print {...} 내부 콘텐츠만 추출
-     * PDF에서는 @media 쿼리가 필요 없으므로 내부 스타일만 가져옴
-     */
-    private String extractMediaPrintStyles(String css) {
-        StringBuilder printStyles = new StringBuilder();
-
-        // @media print { ... } 패턴 찾기
-        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(
-                "@media\\s+print\\s*\\{([^}]*(?:\\{[^}]*\\}[^}]*)*)\\}",
-                java.util.regex.Pattern.DOTALL
-        );
+        try {
+            logger.info("템플릿 PDF 생성 시작: templateId={}, fileName={}", templateName, fileName);
 
-        java.util.regex.Matcher matcher = pattern.matcher(css);
-        while (matcher.find()) {
-            String innerStyles = matcher.group(1);
-            if (innerStyles != null && !innerStyles.trim().isEmpty()) {
-                printStyles.append(innerStyles.trim()).append("\n");
+            PdfRenderAssets.Snapshot assets = renderAssets.current();
+            if (!assets.hasStylesheet()) {
+                throw new PdfGenerationException("PDF용 CSS를 찾을 수 없습니다");
             }
-        }
-
-        return printStyles.toString();
-    }
-
-    /**
-     * PDF에 불필요한 웹 전용 스타일 필터링
-     */
-    private String filterWebOnlyStyles(String css) {
-        // .template-preview 관련 스타일 제거
-        css = css.replaceAll("(?s)/\\* 템플릿 미리보기.*?\\*/", "");
-        css = css.replaceAll("(?s)\\.template-preview[^}]*\\}", "");
-        css = css.replaceAll("(?s)\\.preset-preview-body[^}]*\\}", "");
-        // #presetHtmlContainer 스타일 제거 - 더 이상 존재하지 않음
-
-        // !important 속성 제거 (PDF에서는 불필요)
-        css = css.replaceAll("\\s*!important\\s*", "");
-
-        // 웹 전용 미디어 쿼리 제거
-        css = css.replaceAll("(?s)@media[^{]*\\{[^}]*\\}", "");
 
-        // 웹 전용 가상 클래스 제거
-        css = css.replaceAll(":hover[^{]*\\{[^}]*\\}", "");
-        css = css.replaceAll(":focus[^{]*\\{[^}]*\\}", "");
+            CompiledTemplateLayout layout = templateService.getCompiledLayout(templateName);
+            Document document = TemplateLayoutDocumentBuilder.build(layout, toStringValues(variables), assets.stylesheet());
 
-        // cursor 관련 속성 제거
-        css = css.replaceAll("cursor:[^;]*;", "");
+            GeneratedPdf pdf = GeneratedPdf.of(renderingEngine.render(document), fileName);
+            logger.info("템플릿 PDF 생성 완료: templateId={}, size={}bytes", templateName, pdf.sizeInBytes());
 
-        // transition 관련 속성 제거
-        css = css.replaceAll("transition:[^;]*;", "");
-
-        // transform 관련 속성 제거
-        css = css.replaceAll("transform:[^;]*;", "");
-
-        // box-shadow 관련 속성 제거 (PDF에서는 지원 안됨)
-        css = css.replaceAll("box-shadow:[^;]*;", "");
-
-        // background 관련 복잡한 속성 단순화
-        css = css.replaceAll("background:[^;]*gradient[^;]*;", "background: #fff;");
-        css = css.replaceAll("background:[^;]*rgba[^;]*;", "background: #fff;");
-
-        // PDF에서 문제가 되는 page-break 속성 정교화
-        css = css.replaceAll("page-break-after:\\s*auto;", "page-break-after: avoid;");
-        css = css.replaceAll("page-break-before:\\s*auto;", "page-break-before: avoid;");
-
-        return css;
-    }
+            return pdf;
 
-    private void appendCss(
-            StringBuilder builder,
-            String css
-    ) {
-        if (builder.length() > 0) {
-            builder.append('\n');
+        } catch (PdfRenderRejectedException | NotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("템플릿 PDF 생성 실패: templateId={}, fileName={}", templateName, fileName, e);
+            throw new PdfGenerationException("PDF 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
-        builder.append(css);
     }
 
-    private void registerFonts(ITextRenderer renderer) {
-        for (String fontResource : FONT_RESOURCES) {
-            try {
-                ClassPathResource resource = new ClassPathResource(fontResource);
-                if (!resource.exists()) {
-                    logger.warn("PDF 폰트 리소스를 찾을 수 없습니다: {}", fontResource);
-                    continue;
-                }
-
-                String fontPath;
-                if (resource.isFile()) {
-                    fontPath = resource.getFile().getAbsolutePath();
-                } else {
-                    fontPath = resource.getURL().toExternalForm();
-                }
-
-                renderer.getFontResolver().addFont(fontPath, BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
-                logger.debug("PDF 폰트 등록 완료: {}", fontResource);
-            } catch (Exception e) {
-                logger.warn("PDF 폰트 등록 실패: {}", fontResource, e);
-            }
+    private static Map<String, String> toStringValues(Map<String, Object> variables) {
+        if (variables == null || variables.isEmpty()) {
+            return Map.of();
         }
+        Map<String, String> values = new HashMap<>(variables.size() * 2);
+        variables.forEach((name, value) -> {
+            if (name != null && value != null) {
+                values.put(name, String.valueOf(value));
+            }
+        });
+        return values;
     }
 }
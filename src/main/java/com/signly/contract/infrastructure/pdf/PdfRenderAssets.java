@@ -0,0 +1,381 @@
+package com.signly.contract.infrastructure.pdf;
+
+import com.lowagie.text.pdf.BaseFont;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PDF 렌더링 공통 자산 (PDF용 CSS, XHTML 머리말, 파싱된 폰트)
+ * 기동 시 한 번 빌드하여 모든 렌더링이 공유하고, 리소스 체크섬이 바뀐 경우에만 다시 빌드한다.
+ * SRP: 렌더링마다 반복되던 리소스 로딩/CSS 변환/폰트 파싱을 한 곳으로 모음
+ */
+@Component
+public class PdfRenderAssets {
+
+    private static final Logger logger = LoggerFactory.getLogger(PdfRenderAssets.class);
+    private static final List<String> PDF_CSS_RESOURCES = List.of("static/css/contract-common.css");
+    private static final List<String> FONT_RESOURCES = List.of("fonts/NanumGothic-Regular.ttf", "fonts/NanumGothic-Bold.ttf");
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+
+    private static final Pattern MEDIA_PRINT_PATTERN = Pattern.compile(
+            "@media\\s+print\\s*\\{([^}]*(?:\\{[^}]*\\}[^}]*)*)\\}",
+            Pattern.DOTALL
+    );
+
+    private static final String XHTML_TAIL = "\n</body>\n</html>";
+
+    private final Object reloadLock = new Object();
+    private volatile Snapshot snapshot;
+    private volatile Map<String, String> resourceFingerprints = Map.of();
+
+    public PdfRenderAssets() {
+        this.resourceFingerprints = fingerprintResources();
+        this.snapshot = build(loadResources());
+        logger.info("PDF 렌더링 자산 준비 완료: version={}, cssLength={}, fonts={}",
+                snapshot.version(), snapshot.stylesheet().length(), snapshot.fonts().size());
+    }
+
+    /**
+     * 현재 렌더링 자산 스냅샷
+     */
+    public Snapshot current() {
+        return snapshot;
+    }
+
+    /**
+     * 자산 버전 (CSS/폰트 리소스 체크섬)
+     * 생성된 PDF의 캐시 키 등 렌더링 결과가 자산에 의존하는 곳에서 사용
+     */
+    public String version() {
+        return snapshot.version();
+    }
+
+    /**
+     * 본문을 PDF용 XHTML 문서로 감싸기
+     */
+    public String wrapInXhtmlDocument(String bodyContent) {
+        Snapshot current = snapshot;
+        if (!current.hasStylesheet()) {
+            throw new PdfGenerationException("CSS 파일을 찾을 수 없습니다: " + PDF_CSS_RESOURCES);
+        }
+
+        String head = current.documentHead();
+        StringBuilder builder = new StringBuilder(head.length() + bodyContent.length() + XHTML_TAIL.length());
+        return builder.append(head).append(bodyContent).append(XHTML_TAIL).toString();
+    }
+
+    /**
+     * 미리 파싱된 폰트를 렌더러에 등록
+     * 폰트는 기동 시 iText 폰트 캐시에 경로 기준으로 올려두므로 여기서는 캐시 조회만 일어난다.
+     */
+    public void registerFonts(ITextRenderer renderer) {
+        for (LoadedFont font : snapshot.fonts()) {
+            try {
+                renderer.getFontResolver().addFont(font.path(), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+            } catch (Exception e) {
+                logger.warn("PDF 폰트 등록 실패: {}", font.resource(), e);
+            }
+        }
+    }
+
+    /**
+     * 리소스가 변경되었으면 자산을 다시 빌드
+     * 수정 시각/크기가 바뀐 경우에만 내용을 읽고, 체크섬이 실제로 다를 때만 교체한다.
+     * 폰트는 iText 전역 캐시에 경로 기준으로 보관되므로 폰트 파일 자체의 변경은 재기동 후 반영된다.
+     */
+    @Scheduled(fixedDelayString = "${app.pdf.assets.check-interval-ms:60000}")
+    public void refreshIfChanged() {
+        Map<String, String> fingerprints = fingerprintResources();
+        if (fingerprints.equals(resourceFingerprints)) {
+            return;
+        }
+
+        synchronized (reloadLock) {
+            resourceFingerprints = fingerprints;
+            LoadedResources resources = loadResources();
+            if (resources.checksum().equals(snapshot.version())) {
+                return;
+            }
+
+            Snapshot previous = snapshot;
+            snapshot = build(resources);
+            logger.info("PDF 렌더링 자산 재로딩: {} -> {}", previous.version(), snapshot.version());
+        }
+    }
+
+    private Snapshot build(LoadedResources resources) {
+        StringBuilder cssBuilder = new StringBuilder();
+        for (String css : resources.stylesheets()) {
+            if (cssBuilder.length() > 0) {
+                cssBuilder.append('\n');
+            }
+            cssBuilder.append(adaptCssForPdf(css));
+        }
+
+        String stylesheet = cssBuilder.toString();
+        if (stylesheet.isEmpty()) {
+            logger.error("PDF용 통일 CSS(contract-common.css)를 로드하지 못했습니다.");
+        }
+
+        return new Snapshot(
+                resources.checksum(),
+                stylesheet,
+                buildDocumentHead(stylesheet),
+                parseFonts(resources.fonts())
+        );
+    }
+
+    private String buildDocumentHead(String stylesheet) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<!DOCTYPE html PUBLIC \"-//W3C//DTD XHTML 1.0 Strict//EN\" " +
+                "\"http://www.w3.org/TR/xhtml1/DTD/xhtml1-strict.dtd\">\n" +
+                "<html xmlns=\"http://www.w3.org/1999/xhtml\">\n" +
+                "<head>\n" +
+                "  <meta http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\"/>\n" +
+                "  <title>Contract PDF</title>\n" +
+                "  <style type=\"text/css\">\n" +
+                stylesheet +
+                "  </style>\n" +
+                "</head>\n" +
+                "<body>\n";
+    }
+
+    private List<LoadedFont> parseFonts(Map<String, byte[]> fontData) {
+        List<LoadedFont> fonts = new ArrayList<>();
+        for (Map.Entry<String, byte[]> entry : fontData.entrySet()) {
+            String fontResource = entry.getKey();
+            try {
+                String fontPath = resolveFontPath(new ClassPathResource(fontResource));
+                BaseFont baseFont = BaseFont.createFont(
+                        fontPath, BaseFont.IDENTITY_H, BaseFont.EMBEDDED, BaseFont.CACHED, entry.getValue(), null);
+                fonts.add(new LoadedFont(fontResource, fontPath, baseFont));
+                logger.debug("PDF 폰트 파싱 완료: {}", fontResource);
+            } catch (Exception e) {
+                logger.warn("PDF 폰트 파싱 실패: {}", fontResource, e);
+            }
+        }
+        return List.copyOf(fonts);
+    }
+
+    private String resolveFontPath(ClassPathResource resource) throws IOException {
+        if (resource.isFile()) {
+            return resource.getFile().getAbsolutePath();
+        }
+        return resource.getURL().toExternalForm();
+    }
+
+    private LoadedResources loadResources() {
+        MessageDigest digest = newDigest();
+        List<String> stylesheets = new ArrayList<>();
+        Map<String, byte[]> fonts = new LinkedHashMap<>();
+
+        for (String resourcePath : PDF_CSS_RESOURCES) {
+            byte[] data = loadResource(resourcePath);
+            if (data != null) {
+                digest.update(data);
+                stylesheets.add(new String(data, StandardCharsets.UTF_8));
+            }
+        }
+
+        for (String fontResource : FONT_RESOURCES) {
+            byte[] data = loadResource(fontResource);
+            if (data == null) {
+                logger.warn("PDF 폰트 리소스를 찾을 수 없습니다: {}", fontResource);
+                continue;
+            }
+            digest.update(data);
+            fonts.put(fontResource, data);
+        }
+
+        return new LoadedResources(HexFormat.of().formatHex(digest.digest()), stylesheets, fonts);
+    }
+
+    private byte[] loadResource(String path) {
+        ClassPathResource resource = new ClassPathResource(path);
+        if (!resource.exists()) {
+            logger.warn("리소스를 찾을 수 없습니다: {}", path);
+            return null;
+        }
+
+        try (InputStream inputStream = resource.getInputStream()) {
+            return StreamUtils.copyToByteArray(inputStream);
+        } catch (IOException e) {
+            logger.error("리소스 로딩 실패: {}", path, e);
+            return null;
+        }
+    }
+
+    private Map<String, String> fingerprintResources() {
+        Map<String, String> fingerprints = new LinkedHashMap<>();
+        for (String path : PDF_CSS_RESOURCES) {
+            fingerprints.put(path, fingerprint(path));
+        }
+        for (String path : FONT_RESOURCES) {
+            fingerprints.put(path, fingerprint(path));
+        }
+        return fingerprints;
+    }
+
+    private String fingerprint(String path) {
+        ClassPathResource resource = new ClassPathResource(path);
+        try {
+            return resource.exists() ? resource.lastModified() + ":" + resource.contentLength() : "missing";
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new PdfGenerationException("체크섬 계산을 위한 알고리즘이 없습니다", e);
+        }
+    }
+
+    /**
+     * 웹용 CSS를 Flying Saucer가 처리할 수 있는 PDF용 CSS로 변환
+     */
+    static String adaptCssForPdf(String css) {
+        // 1. @media print 콘텐츠 추출 (밑줄 제거 등 PDF 전용 스타일)
+        String printStyles = extractMediaPrintStyles(css);
+
+        // 2. 웹 전용 스타일 필터링 (모든 @media 쿼리 제거 포함)
+        String adapted = filterWebOnlyStyles(css);
+
+        // 3. 기존 폰트 변환 로직
+        adapted = adapted.replace("body:not(:has(.navbar))", "body");
+        adapted = adapted.replace("'Malgun Gothic'", "'NanumGothic', 'Nanum Gothic', 'Malgun Gothic'");
+        adapted = adapted.replace("\"Malgun Gothic\"", "'NanumGothic', 'Nanum Gothic', 'Malgun Gothic'");
+        adapted = adapted.replace("font-family: Malgun Gothic", "font-family: NanumGothic, Nanum Gothic, Malgun Gothic");
+
+        // 4. PDF 전용 스타일을 일반 CSS로 추가
+        return adapted + "\n\n/* PDF 전용 스타일 (추출됨) */\n" + printStyles;
+    }
+
+    /**
+     * @media print {...} 내부 콘텐츠만 추출
+     * PDF에서는 @media 쿼리가 필요 없으므로 내부 스타일만 가져옴
+     */
+    private static String extractMediaPrintStyles(String css) {
+        StringBuilder printStyles = new StringBuilder();
+
+        Matcher matcher = MEDIA_PRINT_PATTERN.matcher(css);
+        while (matcher.find()) {
+            String innerStyles = matcher.group(1);
+            if (innerStyles != null && !innerStyles.trim().isEmpty()) {
+                printStyles.append(innerStyles.trim()).append("\n");
+            }
+        }
+
+        return printStyles.toString();
+    }
+
+    /**
+     * PDF에 불필요한 웹 전용 스타일 필터링
+     */
+    private static String filterWebOnlyStyles(String css) {
+        // .template-preview 관련 스타일 제거
+        css = css.replaceAll("(?s)/\\* 템플릿 미리보기.*?\\*/", "");
+        css = css.replaceAll("(?s)\\.template-preview[^}]*\\}", "");
+        css = css.replaceAll("(?s)\\.preset-preview-body[^}]*\\}", "");
+
+        // !important 속성 제거 (PDF에서는 불필요)
+        css = css.replaceAll("\\s*!important\\s*", "");
+
+        // 웹 전용 미디어 쿼리 제거
+        css = css.replaceAll("(?s)@media[^{]*\\{[^}]*\\}", "");
+
+        // 웹 전용 가상 클래스 제거
+        css = css.replaceAll(":hover[^{]*\\{[^}]*\\}", "");
+        css = css.replaceAll(":focus[^{]*\\{[^}]*\\}", "");
+
+        // cursor 관련 속성 제거
+        css = css.replaceAll("cursor:[^;]*;", "");
+
+        // transition 관련 속성 제거
+        css = css.replaceAll("transition:[^;]*;", "");
+
+        // transform 관련 속성 제거
+        css = css.replaceAll("transform:[^;]*;", "");
+
+        // box-shadow 관련 속성 제거 (PDF에서는 지원 안됨)
+        css = css.replaceAll("box-shadow:[^;]*;", "");
+
+        // background 관련 복잡한 속성 단순화
+        css = css.replaceAll("background:[^;]*gradient[^;]*;", "background: #fff;");
+        css = css.replaceAll("background:[^;]*rgba[^;]*;", "background: #fff;");
+
+        // PDF에서 문제가 되는 page-break 속성 정교화
+        css = css.replaceAll("page-break-after:\\s*auto;", "page-break-after: avoid;");
+        css = css.replaceAll("page-break-before:\\s*auto;", "page-break-before: avoid;");
+
+        return css;
+    }
+
+    /**
+     * 빌드된 렌더링 자산 (불변)
+     *
+     * @param version      CSS/폰트 리소스 체크섬
+     * @param stylesheet   PDF용으로 변환된 CSS
+     * @param documentHead XHTML 선언부터 body 시작 태그까지의 머리말
+     * @param fonts        파싱된 폰트 목록
+     */
+    public record Snapshot(
+            String version,
+            String stylesheet,
+            String documentHead,
+            List<LoadedFont> fonts
+    ) {
+        public Snapshot {
+            Objects.requireNonNull(version, "자산 버전은 필수입니다");
+            Objects.requireNonNull(stylesheet, "스타일시트는 필수입니다");
+            Objects.requireNonNull(documentHead, "문서 머리말은 필수입니다");
+            fonts = List.copyOf(fonts);
+        }
+
+        public boolean hasStylesheet() {
+            return !stylesheet.isEmpty();
+        }
+    }
+
+    /**
+     * 파싱된 폰트
+     *
+     * @param resource 클래스패스 리소스 경로
+     * @param path     렌더러 등록에 사용하는 경로 (iText 폰트 캐시 키)
+     * @param font     파싱된 BaseFont
+     */
+    public record LoadedFont(
+            String resource,
+            String path,
+            BaseFont font
+    ) {
+    }
+
+    private record LoadedResources(
+            String checksum,
+            List<String> stylesheets,
+            Map<String, byte[]> fonts
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.signly.contract.infrastructure.pdf;
+
+/**
+ * PDF 렌더링 대기열이 가득 차 요청을 받을 수 없을 때 발생하는 예외
+ * 호출 측은 재시도 가능한 과부하 상황(503)으로 취급한다.
+ */
+public class PdfRenderRejectedException extends PdfGenerationException {
+
+    public PdfRenderRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,271 @@
+package com.signly.contract.infrastructure.pdf;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Document;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Flying Saucer 레이아웃을 전용 워커 풀에서 실행하는 PDF 렌더링 엔진
+ * - 코어 수 기준 고정 크기 워커 풀: 렌더링이 요청/비동기 스레드의 CPU를 잠식하지 않음
+ * - 제한된 대기열 + 제출 대기 시간: 초과 시 PdfRenderRejectedException으로 명시적으로 거절
+ * - 워커별 렌더러 재사용: 폰트 등록된 ITextRenderer와 출력 버퍼를 일정 횟수까지 재사용
+ * - Micrometer 지표: 대기열 길이, 대기 시간, 렌더링 시간, 거절 수
+ */
+@Component
+public class PdfRenderingEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(PdfRenderingEngine.class);
+    private static final int MAX_RETAINED_BUFFER_BYTES = 4 * 1024 * 1024;
+
+    private final PdfRenderAssets renderAssets;
+    private final BlockingQueue<Runnable> queue;
+    private final ThreadPoolExecutor executor;
+    private final long submitTimeoutMs;
+    private final long renderTimeoutMs;
+    private final int rendererReuseLimit;
+    private final ThreadLocal<RendererSlot> rendererSlots;
+
+    private final Timer queueWaitTimer;
+    private final Timer renderTimer;
+    private final Counter rejectedCounter;
+
+    public PdfRenderingEngine(
+            PdfRenderAssets renderAssets,
+            MeterRegistry meterRegistry,
+            @Value("${app.pdf.engine.workers:0}") int workers,
+            @Value("${app.pdf.engine.queue-capacity:32}") int queueCapacity,
+            @Value("${app.pdf.engine.submit-timeout-ms:2000}") long submitTimeoutMs,
+            @Value("${app.pdf.engine.render-timeout-ms:60000}") long renderTimeoutMs,
+            @Value("${app.pdf.engine.renderer-reuse-limit:50}") int rendererReuseLimit
+    ) {
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+
+        this.renderAssets = renderAssets;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.submitTimeoutMs = submitTimeoutMs;
+        this.renderTimeoutMs = renderTimeoutMs;
+        this.rendererReuseLimit = Math.max(1, rendererReuseLimit);
+        this.rendererSlots = ThreadLocal.withInitial(RendererSlot::new);
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                queue,
+                new PdfWorkerThreadFactory(),
+                new BlockingSubmitPolicy()
+        );
+
+        this.queueWaitTimer = Timer.builder("pdf.render.queue.wait")
+                .description("PDF rendering queue wait time")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.renderTimer = Timer.builder("pdf.render.time")
+                .description("PDF layout and rendering time")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("pdf.render.rejected")
+                .description("PDF rendering requests rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("pdf.render.queue.size", queue, BlockingQueue::size)
+                .description("PDF rendering requests waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("pdf.render.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("PDF rendering workers currently busy")
+                .register(meterRegistry);
+
+        logger.info("PDF 렌더링 엔진 시작: workers={}, queueCapacity={}", poolSize, queue.remainingCapacity());
+    }
+
+    /**
+     * XHTML 문서를 워커 풀에서 PDF로 렌더링
+     * 호출 스레드는 결과를 기다리기만 하며, 대기열이 가득 차 제출 대기 시간을 넘기면 거절된다.
+     *
+     * @param xhtmlContent 완전한 XHTML 문서
+     * @return PDF 바이트
+     */
+    public byte[] render(String xhtmlContent) {
+        return submit(renderer -> renderer.setDocumentFromString(xhtmlContent));
+    }
+
+    /**
+     * 이미 구성된 XHTML DOM을 워커 풀에서 PDF로 렌더링 (문자열 직렬화/파싱 생략)
+     * 문서는 렌더링이 끝날 때까지 다른 스레드에서 수정하지 않아야 한다.
+     *
+     * @param document XHTML 네임스페이스의 DOM 문서
+     * @return PDF 바이트
+     */
+    public byte[] render(Document document) {
+        return submit(renderer -> renderer.setDocument(document, null));
+    }
+
+    private byte[] submit(Consumer<ITextRenderer> documentLoader) {
+        long enqueuedAt = System.nanoTime();
+        FutureTask<byte[]> task = new FutureTask<>(() -> {
+            queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            return renderTimer.recordCallable(() -> renderOnWorker(documentLoader));
+        });
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            logger.warn("PDF 렌더링 대기열 초과로 요청 거절: queueSize={}", queue.size());
+            throw new PdfRenderRejectedException("PDF 생성 요청이 많아 잠시 후 다시 시도해주세요");
+        }
+
+        try {
+            return task.get(renderTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            throw new PdfGenerationException("PDF 렌더링 시간이 초과되었습니다: " + renderTimeoutMs + "ms", e);
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PdfGenerationException("PDF 렌더링 대기 중 인터럽트가 발생했습니다", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof PdfGenerationException pdfEx) {
+                throw pdfEx;
+            }
+            throw new PdfGenerationException("PDF 렌더링 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 현재 대기 중인 렌더링 요청 수
+     */
+    public int queuedCount() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(20, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private byte[] renderOnWorker(Consumer<ITextRenderer> documentLoader) {
+        RendererSlot slot = rendererSlots.get();
+        ITextRenderer renderer = slot.acquire();
+        ByteArrayOutputStream buffer = slot.buffer();
+
+        try {
+            documentLoader.accept(renderer);
+            renderer.layout();
+            renderer.createPDF(buffer);
+            return buffer.toByteArray();
+        } catch (Exception e) {
+            // 실패한 렌더러는 내부 상태를 신뢰할 수 없으므로 폐기
+            slot.discard();
+            throw new PdfGenerationException("PDF 렌더링 실패: " + e.getMessage(), e);
+        } finally {
+            slot.release();
+        }
+    }
+
+    /**
+     * 워커 스레드별 렌더러 상태
+     * 폰트가 등록된 ITextRenderer를 reuse limit 또는 자산 버전 변경 전까지 재사용한다.
+     */
+    private final class RendererSlot {
+        private ITextRenderer renderer;
+        private String assetsVersion;
+        private int useCount;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+
+        ITextRenderer acquire() {
+            String currentVersion = renderAssets.version();
+            if (renderer == null || useCount >= rendererReuseLimit || !currentVersion.equals(assetsVersion)) {
+                renderer = new ITextRenderer();
+                renderAssets.registerFonts(renderer);
+                assetsVersion = currentVersion;
+                useCount = 0;
+            }
+            useCount++;
+            buffer.reset();
+            return renderer;
+        }
+
+        ByteArrayOutputStream buffer() {
+            return buffer;
+        }
+
+        void release() {
+            if (buffer.size() > MAX_RETAINED_BUFFER_BYTES) {
+                buffer = new ByteArrayOutputStream(64 * 1024);
+            } else {
+                buffer.reset();
+            }
+        }
+
+        void discard() {
+            renderer = null;
+        }
+    }
+
+    /**
+     * 대기열이 가득 찬 경우 제출 대기 시간만큼 기다렸다가 거절하는 정책 (back-pressure)
+     */
+    private final class BlockingSubmitPolicy implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(
+                Runnable task,
+                ThreadPoolExecutor executor
+        ) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("PDF 렌더링 엔진이 종료되었습니다");
+            }
+
+            try {
+                if (!executor.getQueue().offer(task, submitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new RejectedExecutionException("PDF 렌더링 대기열이 가득 찼습니다");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("PDF 렌더링 제출 대기 중 인터럽트", e);
+            }
+        }
+    }
+
+    private static final class PdfWorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "pdf-render-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
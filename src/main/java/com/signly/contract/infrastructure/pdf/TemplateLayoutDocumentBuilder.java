@@ -0,0 +1,194 @@
+package com.signly.contract.infrastructure.pdf;
+
+import com.signly.template.domain.model.CompiledTemplateLayout;
+import com.signly.template.domain.model.CompiledTemplateLayout.CompiledSection;
+import com.signly.template.domain.model.CompiledTemplateLayout.LayoutSegment;
+import com.signly.template.domain.model.CompiledTemplateLayout.LineBreak;
+import com.signly.template.domain.model.CompiledTemplateLayout.Literal;
+import com.signly.template.domain.model.CompiledTemplateLayout.Variable;
+import com.signly.template.domain.service.TemplateVariableUtils;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.TextNode;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 컴파일된 템플릿 레이아웃과 변수 값으로 Flying Saucer용 XHTML DOM을 직접 구성
+ * HTML 문자열 생성 → 정규화 → 재파싱 과정 없이 렌더 트리를 만든다.
+ * 변수 값은 텍스트 노드로 들어가므로 별도 이스케이프가 필요 없다.
+ */
+final class TemplateLayoutDocumentBuilder {
+
+    static final String XHTML_NAMESPACE = "http://www.w3.org/1999/xhtml";
+    private static final Pattern XML_NAME = Pattern.compile("[A-Za-z_:][A-Za-z0-9_:.-]*");
+    private static final String SIGNATURE_IMAGE_SUFFIX = "_SIGNATURE_IMAGE";
+
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDERS = ThreadLocal.withInitial(() -> {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            return factory.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("XML DocumentBuilder를 생성할 수 없습니다", e);
+        }
+    });
+
+    private TemplateLayoutDocumentBuilder() {
+    }
+
+    static Document build(
+            CompiledTemplateLayout layout,
+            Map<String, String> values,
+            String stylesheet
+    ) {
+        Document document = DOCUMENT_BUILDERS.get().newDocument();
+
+        Element html = element(document, "html");
+        document.appendChild(html);
+
+        Element head = element(document, "head");
+        Element style = element(document, "style");
+        style.setAttribute("type", "text/css");
+        style.appendChild(document.createTextNode(stylesheet));
+        head.appendChild(style);
+        html.appendChild(head);
+
+        Element body = element(document, "body");
+        Element container = element(document, "div");
+        container.setAttribute("class", CompiledTemplateLayout.DOCUMENT_CLASS);
+        for (CompiledSection section : layout.sections()) {
+            container.appendChild(buildSection(document, section, values));
+        }
+        body.appendChild(container);
+        html.appendChild(body);
+
+        return document;
+    }
+
+    private static Element buildSection(
+            Document document,
+            CompiledSection section,
+            Map<String, String> values
+    ) {
+        Element sectionElement = element(document, "section");
+        sectionElement.setAttribute("class", section.sectionClass());
+
+        if (section.rawHtml()) {
+            appendRawHtml(document, sectionElement, section, values);
+            return sectionElement;
+        }
+
+        Element content = element(document, section.contentTag());
+        for (LayoutSegment segment : section.segments()) {
+            switch (segment) {
+                case Literal literal -> content.appendChild(document.createTextNode(literal.text()));
+                case LineBreak ignored -> content.appendChild(element(document, "br"));
+                case Variable variable -> appendVariable(document, content, variable, values, section.lineBreaks());
+            }
+        }
+        sectionElement.appendChild(content);
+        return sectionElement;
+    }
+
+    private static void appendVariable(
+            Document document,
+            Element parent,
+            Variable variable,
+            Map<String, String> values,
+            boolean lineBreaks
+    ) {
+        String value = variable.resolve(values);
+
+        // 서명 이미지 변수에 Data URL이 주어지면 이미지로 출력
+        if (variable.name().endsWith(SIGNATURE_IMAGE_SUFFIX) && value.startsWith("data:image/")) {
+            Element image = element(document, "img");
+            image.setAttribute("src", value);
+            image.setAttribute("class", "signature-stamp-image-element");
+            image.setAttribute("alt", "서명");
+            parent.appendChild(image);
+            return;
+        }
+
+        if (!lineBreaks || value.indexOf('\n') < 0) {
+            parent.appendChild(document.createTextNode(value));
+            return;
+        }
+
+        String[] lines = value.split("\n", -1);
+        for (int i = 0; i < lines.length; i++) {
+            if (i > 0) {
+                parent.appendChild(element(document, "br"));
+            }
+            if (!lines[i].isEmpty()) {
+                parent.appendChild(document.createTextNode(lines[i]));
+            }
+        }
+    }
+
+    /**
+     * sanitize=false인 CUSTOM 섹션: 변수 값을 이스케이프하여 대입한 HTML을 파싱해 DOM으로 옮김
+     */
+    private static void appendRawHtml(
+            Document document,
+            Element parent,
+            CompiledSection section,
+            Map<String, String> values
+    ) {
+        StringBuilder html = new StringBuilder();
+        for (LayoutSegment segment : section.segments()) {
+            switch (segment) {
+                case Literal literal -> html.append(literal.text());
+                case LineBreak ignored -> html.append("<br>");
+                case Variable variable -> html.append(TemplateVariableUtils.escapeHtml(variable.resolve(values)));
+            }
+        }
+
+        for (org.jsoup.nodes.Node node : Jsoup.parseBodyFragment(html.toString()).body().childNodes()) {
+            Node converted = convert(document, node);
+            if (converted != null) {
+                parent.appendChild(converted);
+            }
+        }
+    }
+
+    private static Node convert(
+            Document document,
+            org.jsoup.nodes.Node node
+    ) {
+        if (node instanceof TextNode textNode) {
+            return document.createTextNode(textNode.getWholeText());
+        }
+        if (!(node instanceof org.jsoup.nodes.Element source) || "script".equals(source.normalName())) {
+            return null;
+        }
+
+        Element target = element(document, source.normalName());
+        for (Attribute attribute : source.attributes()) {
+            if (XML_NAME.matcher(attribute.getKey()).matches()) {
+                target.setAttribute(attribute.getKey(), attribute.getValue());
+            }
+        }
+        for (org.jsoup.nodes.Node child : source.childNodes()) {
+            Node converted = convert(document, child);
+            if (converted != null) {
+                target.appendChild(converted);
+            }
+        }
+        return target;
+    }
+
+    private static Element element(
+            Document document,
+            String name
+    ) {
+        return document.createElementNS(XHTML_NAMESPACE, name);
+    }
+}
@@ -0,0 +1,42 @@
+package com.signly.contract.infrastructure.repository;
+
+import com.signly.contract.domain.model.FinalizationJobStatus;
+import com.signly.contract.infrastructure.entity.ContractFinalizationJobEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ContractFinalizationJobJpaRepository extends JpaRepository<ContractFinalizationJobEntity, String> {
+
+    @Query("""
+            SELECT j.contractId
+            FROM ContractFinalizationJobEntity j
+            WHERE j.status IN (:statuses) AND j.nextAttemptAt <= :now
+            ORDER BY j.nextAttemptAt ASC
+            """)
+    List<String> findDueContractIds(
+            @Param("statuses") Collection<FinalizationJobStatus> statuses,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE ContractFinalizationJobEntity j
+            SET j.status = :processing, j.attempts = j.attempts + 1, j.nextAttemptAt = :leaseUntil, j.updatedAt = :now
+            WHERE j.contractId = :contractId AND j.status IN (:statuses) AND j.nextAttemptAt <= :now
+            """)
+    int claim(
+            @Param("contractId") String contractId,
+            @Param("processing") FinalizationJobStatus processing,
+            @Param("statuses") Collection<FinalizationJobStatus> statuses,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+}
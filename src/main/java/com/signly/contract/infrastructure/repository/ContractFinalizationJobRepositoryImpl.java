@@ -0,0 +1,76 @@
+package com.signly.contract.infrastructure.repository;
+
+import com.signly.contract.domain.model.ContractFinalizationJob;
+import com.signly.contract.domain.model.ContractId;
+import com.signly.contract.domain.model.FinalizationJobStatus;
+import com.signly.contract.domain.repository.ContractFinalizationJobRepository;
+import com.signly.contract.infrastructure.entity.ContractFinalizationJobEntity;
+import com.signly.contract.infrastructure.mapper.ContractFinalizationJobEntityMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+public class ContractFinalizationJobRepositoryImpl implements ContractFinalizationJobRepository {
+
+    // PROCESSING은 lease(nextAttemptAt)가 만료된 경우에만 다시 점유 대상이 됨
+    private static final Set<FinalizationJobStatus> CLAIMABLE_STATUSES =
+            EnumSet.of(FinalizationJobStatus.PENDING, FinalizationJobStatus.PROCESSING);
+
+    private final ContractFinalizationJobJpaRepository jpaRepository;
+    private final ContractFinalizationJobEntityMapper mapper;
+
+    public ContractFinalizationJobRepositoryImpl(
+            ContractFinalizationJobJpaRepository jpaRepository,
+            ContractFinalizationJobEntityMapper mapper
+    ) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public ContractFinalizationJob save(ContractFinalizationJob job) {
+        ContractFinalizationJobEntity saved = jpaRepository.save(mapper.toEntity(job));
+        return mapper.toDomain(saved);
+    }
+
+    @Override
+    public Optional<ContractFinalizationJob> findByContractId(ContractId contractId) {
+        return jpaRepository.findById(contractId.value())
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public boolean existsByContractId(ContractId contractId) {
+        return jpaRepository.existsById(contractId.value());
+    }
+
+    @Override
+    public List<ContractId> findDueContractIds(int limit) {
+        return jpaRepository.findDueContractIds(CLAIMABLE_STATUSES, LocalDateTime.now(), PageRequest.of(0, limit))
+                .stream()
+                .map(ContractId::of)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean claim(
+            ContractId contractId,
+            LocalDateTime leaseUntil
+    ) {
+        return jpaRepository.claim(
+                contractId.value(),
+                FinalizationJobStatus.PROCESSING,
+                CLAIMABLE_STATUSES,
+                LocalDateTime.now(),
+                leaseUntil
+        ) == 1;
+    }
+}
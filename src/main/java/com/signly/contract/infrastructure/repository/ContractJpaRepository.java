@@ -1,8 +1,8 @@
 package com.signly.contract.infrastructure.repository;
 
 import com.signly.contract.domain.model.ContractStatus;
+import com.signly.contract.domain.model.ContractSummary;
 import com.signly.contract.infrastructure.entity.ContractJpaEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,60 +11,137 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ContractJpaRepository extends JpaRepository<ContractJpaEntity, String> {
 
-    @EntityGraph(attributePaths = {"signatures"})
+    // 목록 조회: 표시 컬럼과 서명 수만 선택하고 커서 다음 행부터 정렬 키 인덱스 범위로 읽음 (OFFSET/COUNT 없음)
     @Query("""
-            SELECT c 
-            FROM ContractJpaEntity c 
-            WHERE c.creatorId = :creatorId 
-            ORDER BY CASE WHEN c.presetType = 'LABOR_STANDARD' THEN 0 ELSE 1 END, c.createdAt DESC
+            SELECT new com.signly.contract.domain.model.ContractSummary(
+                c.id, c.title, c.firstPartyName, c.secondPartyName, c.status, c.expiresAt,
+                SIZE(c.signatures), c.sortPriority, c.createdAt, c.updatedAt)
+            FROM ContractJpaEntity c
+            WHERE c.creatorId = :creatorId
+            AND (c.sortPriority < :priority
+                OR (c.sortPriority = :priority AND c.createdAt < :createdAt)
+                OR (c.sortPriority = :priority AND c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.sortPriority DESC, c.createdAt DESC, c.id DESC
             """)
-    Page<ContractJpaEntity> findByCreatorId(
+    List<ContractSummary> findSummariesByCreatorIdAfter(
             @Param("creatorId") String creatorId,
-            Pageable pageable
+            @Param("priority") int priority,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable limit
     );
 
-    @EntityGraph(attributePaths = {"signatures"})
     @Query("""
-            SELECT c 
-            FROM ContractJpaEntity c 
-            WHERE c.creatorId = :creatorId AND c.status = :status 
-            ORDER BY CASE WHEN c.presetType = 'LABOR_STANDARD' THEN 0 ELSE 1 END, c.createdAt DESC
+            SELECT new com.signly.contract.domain.model.ContractSummary(
+                c.id, c.title, c.firstPartyName, c.secondPartyName, c.status, c.expiresAt,
+                SIZE(c.signatures), c.sortPriority, c.createdAt, c.updatedAt)
+            FROM ContractJpaEntity c
+            WHERE c.creatorId = :creatorId AND c.status = :status
+            AND (c.sortPriority < :priority
+                OR (c.sortPriority = :priority AND c.createdAt < :createdAt)
+                OR (c.sortPriority = :priority AND c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.sortPriority DESC, c.createdAt DESC, c.id DESC
             """)
-    Page<ContractJpaEntity> findByCreatorIdAndStatus(
+    List<ContractSummary> findSummariesByCreatorIdAndStatusAfter(
             @Param("creatorId") String creatorId,
             @Param("status") ContractStatus status,
-            Pageable pageable
+            @Param("priority") int priority,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable limit
     );
 
-    // 이메일 해시로 계약 조회 (Blind Index 사용)
-    @EntityGraph(attributePaths = {"signatures"})
+    // 이메일 해시로 계약 목록 조회 (Blind Index 사용)
+    // OR 조건은 인덱스 범위 스캔이 불가능하므로 당사자 컬럼별로 나눠 조회하고 저장소에서 병합
     @Query("""
-            SELECT c 
-            FROM ContractJpaEntity c 
-            WHERE c.firstPartyEmailHash = :emailHash OR c.secondPartyEmailHash = :emailHash 
-            ORDER BY CASE WHEN c.presetType = 'LABOR_STANDARD' THEN 0 ELSE 1 END, c.createdAt DESC
+            SELECT new com.signly.contract.domain.model.ContractSummary(
+                c.id, c.title, c.firstPartyName, c.secondPartyName, c.status, c.expiresAt,
+                SIZE(c.signatures), c.sortPriority, c.createdAt, c.updatedAt)
+            FROM ContractJpaEntity c
+            WHERE c.firstPartyEmailHash = :emailHash
+            AND (c.sortPriority < :priority
+                OR (c.sortPriority = :priority AND c.createdAt < :createdAt)
+                OR (c.sortPriority = :priority AND c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.sortPriority DESC, c.createdAt DESC, c.id DESC
             """)
-    Page<ContractJpaEntity> findByPartyEmailHash(
+    List<ContractSummary> findSummariesByFirstPartyEmailHashAfter(
             @Param("emailHash") String emailHash,
-            Pageable pageable
+            @Param("priority") int priority,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable limit
     );
 
-    @EntityGraph(attributePaths = {"signatures"})
     @Query("""
-            SELECT c 
-            FROM ContractJpaEntity c 
-            WHERE (c.firstPartyEmailHash = :emailHash OR c.secondPartyEmailHash = :emailHash) AND c.status = :status 
-            ORDER BY CASE WHEN c.presetType = 'LABOR_STANDARD' THEN 0 ELSE 1 END, c.createdAt DESC
+            SELECT new com.signly.contract.domain.model.ContractSummary(
+                c.id, c.title, c.firstPartyName, c.secondPartyName, c.status, c.expiresAt,
+                SIZE(c.signatures), c.sortPriority, c.createdAt, c.updatedAt)
+            FROM ContractJpaEntity c
+            WHERE c.firstPartyEmailHash = :emailHash AND c.status = :status
+            AND (c.sortPriority < :priority
+                OR (c.sortPriority = :priority AND c.createdAt < :createdAt)
+                OR (c.sortPriority = :priority AND c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.sortPriority DESC, c.createdAt DESC, c.id DESC
             """)
-    Page<ContractJpaEntity> findByPartyEmailHashAndStatus(
+    List<ContractSummary> findSummariesByFirstPartyEmailHashAndStatusAfter(
             @Param("emailHash") String emailHash,
             @Param("status") ContractStatus status,
-            Pageable pageable
+            @Param("priority") int priority,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable limit
     );
 
+    @Query("""
+            SELECT new com.signly.contract.domain.model.ContractSummary(
+                c.id, c.title, c.firstPartyName, c.secondPartyName, c.status, c.expiresAt,
+                SIZE(c.signatures), c.sortPriority, c.createdAt, c.updatedAt)
+            FROM ContractJpaEntity c
+            WHERE c.secondPartyEmailHash = :emailHash
+            AND (c.sortPriority < :priority
+                OR (c.sortPriority = :priority AND c.createdAt < :createdAt)
+                OR (c.sortPriority = :priority AND c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.sortPriority DESC, c.createdAt DESC, c.id DESC
+            """)
+    List<ContractSummary> findSummariesBySecondPartyEmailHashAfter(
+            @Param("emailHash") String emailHash,
+            @Param("priority") int priority,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable limit
+    );
+
+    @Query("""
+            SELECT new com.signly.contract.domain.model.ContractSummary(
+                c.id, c.title, c.firstPartyName, c.secondPartyName, c.status, c.expiresAt,
+                SIZE(c.signatures), c.sortPriority, c.createdAt, c.updatedAt)
+            FROM ContractJpaEntity c
+            WHERE c.secondPartyEmailHash = :emailHash AND c.status = :status
+            AND (c.sortPriority < :priority
+                OR (c.sortPriority = :priority AND c.createdAt < :createdAt)
+                OR (c.sortPriority = :priority AND c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.sortPriority DESC, c.createdAt DESC, c.id DESC
+            """)
+    List<ContractSummary> findSummariesBySecondPartyEmailHashAndStatusAfter(
+            @Param("emailHash") String emailHash,
+            @Param("status") ContractStatus status,
+            @Param("priority") int priority,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable limit
+    );
+
+    @Query("""
+            SELECT c.status, COUNT(c)
+            FROM ContractJpaEntity c
+            WHERE c.creatorId = :creatorId
+            GROUP BY c.status""")
+    List<Object[]> countByCreatorIdGroupByStatus(@Param("creatorId") String creatorId);
+
     @EntityGraph(attributePaths = {"signatures"})
     List<ContractJpaEntity> findByTemplateId(String templateId);
 
@@ -84,6 +161,22 @@ public interface ContractJpaRepository extends JpaRepository<ContractJpaEntity,
             LocalDateTime dateTime
     );
 
+    @Query("""
+            SELECT c.id
+            FROM ContractJpaEntity c
+            JOIN c.signatures s
+            WHERE c.creatorId = :creatorId
+            AND c.status = :status
+            GROUP BY c.id, c.createdAt
+            HAVING MAX(s.signedAt) >= :signedFrom AND MAX(s.signedAt) < :signedTo
+            ORDER BY c.createdAt""")
+    List<String> findIdsByCreatorIdAndStatusAndLastSignedAtBetween(
+            @Param("creatorId") String creatorId,
+            @Param("status") ContractStatus status,
+            @Param("signedFrom") LocalDateTime signedFrom,
+            @Param("signedTo") LocalDateTime signedTo
+    );
+
     boolean existsByCreatorIdAndTitle(
             String creatorId,
             String title
@@ -104,4 +197,10 @@ public interface ContractJpaRepository extends JpaRepository<ContractJpaEntity,
             LEFT JOIN FETCH c.signatures
             WHERE c.signToken = :signToken""")
     ContractJpaEntity findBySignToken(@Param("signToken") String signToken);
-}
\ No newline at end of file
+
+    /**
+     * 저장된 PDF 경로만 조회 (영속성 컨텍스트의 엔티티가 아닌 DB 값을 읽음)
+     */
+    @Query("SELECT c.pdfPath FROM ContractJpaEntity c WHERE c.id = :id")
+    Optional<String> findPdfPathById(@Param("id") String id);
+}
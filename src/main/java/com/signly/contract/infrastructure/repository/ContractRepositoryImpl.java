@@ -1,35 +1,54 @@
 package com.signly.contract.infrastructure.repository;
 
 import com.signly.common.encryption.AesEncryptionService;
+import com.signly.common.pagination.KeysetCursor;
 import com.signly.contract.domain.model.Contract;
 import com.signly.contract.domain.model.ContractId;
 import com.signly.contract.domain.model.ContractStatus;
+import com.signly.contract.domain.model.ContractSummary;
 import com.signly.contract.domain.model.SignToken;
 import com.signly.contract.domain.repository.ContractRepository;
 import com.signly.contract.infrastructure.entity.ContractJpaEntity;
 import com.signly.contract.infrastructure.mapper.ContractEntityMapper;
 import com.signly.template.domain.model.TemplateId;
 import com.signly.user.domain.model.UserId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class ContractRepositoryImpl implements ContractRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(ContractRepositoryImpl.class);
 
+    // 목록 정렬 (정렬 우선순위 DESC, 생성 시각 DESC, ID DESC) - 키셋 조회의 ORDER BY와 같아야 함
+    private static final Comparator<ContractSummary> LIST_ORDER = Comparator
+            .comparingInt(ContractSummary::sortPriority)
+            .thenComparing(ContractSummary::createdAt)
+            .thenComparing(ContractSummary::id)
+            .reversed();
+
     private final ContractJpaRepository jpaRepository;
     private final ContractEntityMapper entityMapper;
     private final AesEncryptionService encryptionService;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public ContractRepositoryImpl(
             ContractJpaRepository jpaRepository,
             ContractEntityMapper entityMapper,
@@ -40,11 +59,35 @@ public class ContractRepositoryImpl implements ContractRepository {
         this.encryptionService = encryptionService;
     }
 
+    /**
+     * 새 계약서는 INSERT, 기존 계약서는 영속 엔티티에 변경분만 반영
+     * 기존 계약서는 같은 트랜잭션에서 이미 조회된 경우가 대부분이라 영속성 컨텍스트에서 바로 찾으며,
+     * 바뀐 컬럼만 UPDATE되고 변경되지 않은 서명 행과 암호화 컬럼은 다시 쓰지 않는다.
+     */
     @Override
+    @Transactional
     public Contract save(Contract contract) {
-        ContractJpaEntity entity = entityMapper.toEntity(contract);
-        ContractJpaEntity savedEntity = jpaRepository.save(entity);
-        return entityMapper.toDomain(savedEntity);
+        ContractJpaEntity entity = entityManager.find(ContractJpaEntity.class, contract.getId().value());
+        if (entity == null) {
+            entity = entityMapper.toEntity(contract);
+            entityManager.persist(entity);
+            return entityMapper.toDomain(entity);
+        }
+
+        if (entityMapper.applyChanges(contract, entity)) {
+            logger.debug("계약서 변경분 반영: id={}", entity.getId());
+        }
+        return entityMapper.toDomain(entity);
+    }
+
+    @Override
+    public void insertAll(List<Contract> contracts) {
+        // 할당 ID 엔티티를 save()로 저장하면 merge가 행마다 SELECT를 실행하므로 persist로 바로 INSERT
+        // (hibernate.jdbc.batch_size 단위로 묶여 전송됨)
+        for (Contract contract : contracts) {
+            entityManager.persist(entityMapper.toEntity(contract));
+        }
+        entityManager.flush();
     }
 
     @Override
@@ -54,51 +97,63 @@ public class ContractRepositoryImpl implements ContractRepository {
     }
 
     @Override
-    public void delete(Contract contract) {
-        jpaRepository.deleteById(contract.getId().value());
+    public Optional<String> findPdfPath(ContractId contractId) {
+        return jpaRepository.findPdfPathById(contractId.value());
     }
 
     @Override
-    public Page<Contract> findByCreatorId(
-            UserId creatorId,
-            Pageable pageable
-    ) {
-        Page<ContractJpaEntity> entities = jpaRepository.findByCreatorId(creatorId.value(), pageable);
-        return entities.map(entityMapper::toDomain);
+    public void delete(Contract contract) {
+        jpaRepository.deleteById(contract.getId().value());
     }
 
     @Override
-    public Page<Contract> findByCreatorIdAndStatus(
+    public List<ContractSummary> findSummariesByCreatorId(
             UserId creatorId,
             ContractStatus status,
-            Pageable pageable
+            KeysetCursor after,
+            int limit
     ) {
-        Page<ContractJpaEntity> entities = jpaRepository.findByCreatorIdAndStatus(
-                creatorId.value(), status, pageable);
-        return entities.map(entityMapper::toDomain);
-    }
-
-    @Override
-    public Page<Contract> findByPartyEmail(
-            String email,
-            Pageable pageable
-    ) {
-        // 이메일 해시로 검색 (Blind Index 사용)
-        String emailHash = encryptionService.hashEmail(email);
-        Page<ContractJpaEntity> entities = jpaRepository.findByPartyEmailHash(emailHash, pageable);
-        return entities.map(entityMapper::toDomain);
+        var page = PageRequest.of(0, limit);
+        if (status == null) {
+            return jpaRepository.findSummariesByCreatorIdAfter(
+                    creatorId.value(), after.sortPriority(), after.createdAt(), after.id(), page);
+        }
+        return jpaRepository.findSummariesByCreatorIdAndStatusAfter(
+                creatorId.value(), status, after.sortPriority(), after.createdAt(), after.id(), page);
     }
 
     @Override
-    public Page<Contract> findByPartyEmailAndStatus(
+    public List<ContractSummary> findSummariesByPartyEmail(
             String email,
             ContractStatus status,
-            Pageable pageable
+            KeysetCursor after,
+            int limit
     ) {
         // 이메일 해시로 검색 (Blind Index 사용)
         String emailHash = encryptionService.hashEmail(email);
-        Page<ContractJpaEntity> entities = jpaRepository.findByPartyEmailHashAndStatus(emailHash, status, pageable);
-        return entities.map(entityMapper::toDomain);
+        var page = PageRequest.of(0, limit);
+        List<ContractSummary> firstParty;
+        List<ContractSummary> secondParty;
+        if (status == null) {
+            firstParty = jpaRepository.findSummariesByFirstPartyEmailHashAfter(
+                    emailHash, after.sortPriority(), after.createdAt(), after.id(), page);
+            secondParty = jpaRepository.findSummariesBySecondPartyEmailHashAfter(
+                    emailHash, after.sortPriority(), after.createdAt(), after.id(), page);
+        } else {
+            firstParty = jpaRepository.findSummariesByFirstPartyEmailHashAndStatusAfter(
+                    emailHash, status, after.sortPriority(), after.createdAt(), after.id(), page);
+            secondParty = jpaRepository.findSummariesBySecondPartyEmailHashAndStatusAfter(
+                    emailHash, status, after.sortPriority(), after.createdAt(), after.id(), page);
+        }
+
+        // 양쪽 당사자가 같은 이메일인 계약서는 한 번만 포함
+        Map<String, ContractSummary> merged = new LinkedHashMap<>();
+        Stream.concat(firstParty.stream(), secondParty.stream())
+                .sorted(LIST_ORDER)
+                .forEach(summary -> merged.putIfAbsent(summary.id(), summary));
+        return merged.values().stream()
+                .limit(limit)
+                .toList();
     }
 
     @Override
@@ -130,6 +185,19 @@ public class ContractRepositoryImpl implements ContractRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<ContractId> findSignedContractIds(
+            UserId creatorId,
+            LocalDateTime signedFrom,
+            LocalDateTime signedTo
+    ) {
+        return jpaRepository.findIdsByCreatorIdAndStatusAndLastSignedAtBetween(
+                        creatorId.value(), ContractStatus.SIGNED, signedFrom, signedTo)
+                .stream()
+                .map(ContractId::of)
+                .toList();
+    }
+
     @Override
     public boolean existsByCreatorIdAndTitle(
             UserId creatorId,
@@ -151,6 +219,15 @@ public class ContractRepositoryImpl implements ContractRepository {
         return jpaRepository.countByCreatorIdAndStatus(creatorId.value(), status);
     }
 
+    @Override
+    public Map<ContractStatus, Long> countByCreatorIdGroupByStatus(UserId creatorId) {
+        Map<ContractStatus, Long> counts = new EnumMap<>(ContractStatus.class);
+        for (Object[] row : jpaRepository.countByCreatorIdGroupByStatus(creatorId.value())) {
+            counts.put((ContractStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
     @Override
     public long countByTemplateId(TemplateId templateId) {
         return jpaRepository.countByTemplateId(templateId.value());
@@ -167,48 +244,4 @@ public class ContractRepositoryImpl implements ContractRepository {
         }
         return entity != null ? Optional.of(entityMapper.toDomain(entity)) : Optional.empty();
     }
-
-    /**
-     * 도메인 모델의 변경사항을 기존 JPA 엔티티에 반영
-     */
-    private void updateEntityFromDomain(ContractJpaEntity entity, Contract contract) {
-        // EntityMapper를 사용하여 새 엔티티 생성 후 필드 복사
-        ContractJpaEntity updatedEntity = entityMapper.toEntity(contract);
-        
-        // 기존 엔티티의 필드 업데이트 (setter가 있는 필드들)
-        entity.setTitle(updatedEntity.getTitle());
-        entity.setContent(updatedEntity.getContent());
-        entity.setTemplateData(updatedEntity.getTemplateData());
-        entity.setFirstPartyEmailHash(updatedEntity.getFirstPartyEmailHash());
-        entity.setSecondPartyEmailHash(updatedEntity.getSecondPartyEmailHash());
-        entity.setStatus(updatedEntity.getStatus());
-        entity.setSignToken(updatedEntity.getSignToken());
-        entity.setExpiresAt(updatedEntity.getExpiresAt());
-        entity.setPdfPath(updatedEntity.getPdfPath());
-        entity.setPresetType(updatedEntity.getPresetType());
-        
-        // setter가 없는 필드들은 reflection으로 업데이트
-        updateField(entity, "firstPartyName", updatedEntity.getFirstPartyName());
-        updateField(entity, "firstPartyEmail", updatedEntity.getFirstPartyEmail());
-        updateField(entity, "firstPartyOrganization", updatedEntity.getFirstPartyOrganization());
-        updateField(entity, "secondPartyName", updatedEntity.getSecondPartyName());
-        updateField(entity, "secondPartyEmail", updatedEntity.getSecondPartyEmail());
-        updateField(entity, "secondPartyOrganization", updatedEntity.getSecondPartyOrganization());
-        
-        // 서명은 별도로 SignatureRepository에서 관리하므로 여기서는 건드리지 않음
-        // 기존 서명을 덮어쓰지 않고 유지하여 deviceInfo와 signaturePath를 보존
-    }
-
-    /**
-     * Reflection을 사용하여 private 필드 업데이트
-     */
-    private void updateField(Object target, String fieldName, Object value) {
-        try {
-            java.lang.reflect.Field field = target.getClass().getDeclaredField(fieldName);
-            field.setAccessible(true);
-            field.set(target, value);
-        } catch (Exception e) {
-            logger.warn("Failed to update field: " + fieldName, e);
-        }
-    }
-}
\ No newline at end of file
+}
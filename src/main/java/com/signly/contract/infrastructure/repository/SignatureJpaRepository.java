@@ -2,7 +2,11 @@ package com.signly.contract.infrastructure.repository;
 
 import com.signly.contract.infrastructure.entity.SignatureEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SignatureJpaRepository extends JpaRepository<SignatureEntity, String> {
@@ -18,4 +22,21 @@ public interface SignatureJpaRepository extends JpaRepository<SignatureEntity, S
             String contractId,
             String signerEmail
     );
+
+    /**
+     * 렌디션 체크섬이 없는 기존 서명 행에만 체크섬 기록
+     */
+    @Modifying
+    @Query("""
+            UPDATE SignatureEntity s
+            SET s.renditionChecksum = :checksum
+            WHERE s.contract.id = :contractId AND s.signerEmail = :signerEmail
+              AND s.signedAt = :signedAt AND s.renditionChecksum IS NULL
+            """)
+    int updateRenditionChecksum(
+            @Param("contractId") String contractId,
+            @Param("signerEmail") String signerEmail,
+            @Param("signedAt") LocalDateTime signedAt,
+            @Param("checksum") String checksum
+    );
 }
@@ -6,10 +6,14 @@ import com.signly.contract.domain.repository.SignatureRepository;
 import com.signly.contract.infrastructure.entity.ContractJpaEntity;
 import com.signly.contract.infrastructure.entity.SignatureEntity;
 import com.signly.contract.infrastructure.mapper.SignatureEntityMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -20,6 +24,9 @@ public class SignatureRepositoryImpl implements SignatureRepository {
     private final ContractJpaRepository contractJpaRepository;
     private final SignatureEntityMapper mapper;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public SignatureRepositoryImpl(
             SignatureJpaRepository jpaRepository,
             ContractJpaRepository contractJpaRepository,
@@ -43,6 +50,18 @@ public class SignatureRepositoryImpl implements SignatureRepository {
         jpaRepository.save(entity);
     }
 
+    @Override
+    @Transactional
+    public void insertAll(Map<ContractId, Signature> signatures) {
+        signatures.forEach((contractId, signature) -> {
+            SignatureEntity entity = mapper.toEntity(signature);
+            // 같은 트랜잭션에서 저장한 계약서는 영속성 컨텍스트에서 바로 참조 (추가 SELECT 없음)
+            entity.setContract(entityManager.getReference(ContractJpaEntity.class, contractId.value()));
+            entityManager.persist(entity);
+        });
+        entityManager.flush();
+    }
+
     @Override
     public Optional<Signature> findById(String signatureId) {
         return jpaRepository.findById(signatureId)
@@ -77,6 +96,19 @@ public class SignatureRepositoryImpl implements SignatureRepository {
         return jpaRepository.existsByContractIdAndSignerEmail(contractId.value(), signerEmail);
     }
 
+    /**
+     * 렌더링(읽기 전용 트랜잭션) 중에 호출되므로 별도 트랜잭션으로 기록
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveRenditionChecksum(
+            ContractId contractId,
+            Signature signature,
+            String checksum
+    ) {
+        jpaRepository.updateRenditionChecksum(contractId.value(), signature.signerEmail(), signature.signedAt(), checksum);
+    }
+
     @Override
     public void delete(String signatureId) {
         jpaRepository.deleteById(signatureId);
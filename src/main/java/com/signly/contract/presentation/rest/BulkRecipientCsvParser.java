@@ -0,0 +1,155 @@
+package com.signly.contract.presentation.rest;
+
+import com.signly.common.exception.ValidationException;
+import com.signly.contract.application.dto.BulkIssuanceRecipient;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 일괄 발송 수신자 CSV 파서 (RFC 4180: 큰따옴표 필드, "" 이스케이프, 필드 내 줄바꿈 허용)
+ * 첫 행은 헤더이며 name(이름), email(이메일), organization(소속)을 제외한 열은 템플릿 변수명으로 사용한다.
+ */
+final class BulkRecipientCsvParser {
+
+    private static final Map<String, String> PARTY_COLUMNS = Map.of(
+            "name", "name", "이름", "name",
+            "email", "email", "이메일", "email",
+            "organization", "organization", "소속", "organization"
+    );
+
+    private BulkRecipientCsvParser() {
+    }
+
+    static List<BulkIssuanceRecipient> parse(String csv) {
+        if (csv == null || csv.isBlank()) {
+            throw new ValidationException("수신자 CSV가 비어 있습니다");
+        }
+
+        List<List<String>> records = readRecords(csv.startsWith("\uFEFF") ? csv.substring(1) : csv);
+        if (records.isEmpty()) {
+            throw new ValidationException("수신자 CSV가 비어 있습니다");
+        }
+
+        List<String> header = records.get(0);
+        int nameIndex = -1;
+        int emailIndex = -1;
+        int organizationIndex = -1;
+        for (int i = 0; i < header.size(); i++) {
+            String column = PARTY_COLUMNS.get(header.get(i).trim().toLowerCase(Locale.ROOT));
+            if ("name".equals(column)) {
+                nameIndex = i;
+            } else if ("email".equals(column)) {
+                emailIndex = i;
+            } else if ("organization".equals(column)) {
+                organizationIndex = i;
+            }
+        }
+        if (nameIndex < 0 || emailIndex < 0) {
+            throw new ValidationException("CSV 헤더에 name(이름)과 email(이메일) 열이 필요합니다");
+        }
+
+        var recipients = new ArrayList<BulkIssuanceRecipient>(records.size() - 1);
+        for (List<String> record : records.subList(1, records.size())) {
+            var variableValues = new LinkedHashMap<String, String>();
+            for (int i = 0; i < header.size(); i++) {
+                if (i == nameIndex || i == emailIndex || i == organizationIndex) {
+                    continue;
+                }
+                String value = field(record, i);
+                if (value != null && !value.isBlank()) {
+                    variableValues.put(header.get(i).trim(), value.trim());
+                }
+            }
+            recipients.add(new BulkIssuanceRecipient(
+                    field(record, nameIndex),
+                    field(record, emailIndex),
+                    organizationIndex >= 0 ? field(record, organizationIndex) : null,
+                    variableValues
+            ));
+        }
+        return recipients;
+    }
+
+    private static String field(
+            List<String> record,
+            int index
+    ) {
+        return index < record.size() ? record.get(index) : null;
+    }
+
+    /**
+     * CSV 본문을 레코드 목록으로 분리 (빈 줄은 건너뜀)
+     */
+    private static List<List<String>> readRecords(String csv) {
+        var records = new ArrayList<List<String>>();
+        var record = new ArrayList<String>();
+        var field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStarted = false;
+
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    quoted = true;
+                    fieldStarted = true;
+                }
+                case ',' -> {
+                    record.add(field.toString());
+                    field.setLength(0);
+                    fieldStarted = true;
+                }
+                case '\r', '\n' -> {
+                    if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                        i++;
+                    }
+                    endRecord(records, record, field, fieldStarted);
+                    record = new ArrayList<>();
+                    fieldStarted = false;
+                }
+                default -> {
+                    field.append(c);
+                    fieldStarted = true;
+                }
+            }
+        }
+
+        if (quoted) {
+            throw new ValidationException("CSV의 큰따옴표가 닫히지 않았습니다");
+        }
+        endRecord(records, record, field, fieldStarted);
+        return records;
+    }
+
+    private static void endRecord(
+            List<List<String>> records,
+            List<String> record,
+            StringBuilder field,
+            boolean fieldStarted
+    ) {
+        if (!fieldStarted && record.isEmpty()) {
+            return;
+        }
+        record.add(field.toString());
+        field.setLength(0);
+        records.add(record);
+    }
+}
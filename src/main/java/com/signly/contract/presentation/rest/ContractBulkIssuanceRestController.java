@@ -0,0 +1,70 @@
+package com.signly.contract.presentation.rest;
+
+import com.signly.common.security.UserPrincipal;
+import com.signly.contract.application.ContractBulkIssuanceService;
+import com.signly.contract.application.dto.BulkIssuanceCommand;
+import com.signly.contract.application.dto.BulkIssuanceResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계약서 일괄 발송 REST API
+ * 수신자 목록은 JSON 본문 또는 CSV 본문(text/csv)으로 받으며, 응답에는 행별 결과가 입력 순서대로 담긴다.
+ * - 201: 모든 행 발송 완료
+ * - 422: 검증 실패 행이 있어 아무것도 발송하지 않음
+ */
+@RestController
+@RequestMapping("/api/contracts/bulk")
+@RequiredArgsConstructor
+public class ContractBulkIssuanceRestController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final ContractBulkIssuanceService bulkIssuanceService;
+
+    @Operation(summary = "계약서 일괄 발송 (JSON)", description = "템플릿 하나로 수신자별 변수 값을 채워 계약서를 생성하고 서명 요청을 발송합니다")
+    @PostMapping(consumes = "application/json")
+    public ResponseEntity<BulkIssuanceResult> issueFromJson(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestBody BulkIssuanceCommand command
+    ) {
+        if (userPrincipal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return toResponse(bulkIssuanceService.issue(userPrincipal.getUserId(), command));
+    }
+
+    @Operation(summary = "계약서 일괄 발송 (CSV)", description = "헤더가 name,email[,organization],변수명... 인 CSV로 계약서를 일괄 발송합니다")
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<BulkIssuanceResult> issueFromCsv(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "템플릿 ID") @RequestParam String templateId,
+            @Parameter(description = "계약서 제목 (없으면 템플릿 제목)") @RequestParam(required = false) String title,
+            @Parameter(description = "서명 만료 시각") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expiresAt,
+            @RequestBody String csv
+    ) {
+        if (userPrincipal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        var command = new BulkIssuanceCommand(templateId, title, expiresAt, BulkRecipientCsvParser.parse(csv));
+        return toResponse(bulkIssuanceService.issue(userPrincipal.getUserId(), command));
+    }
+
+    private static ResponseEntity<BulkIssuanceResult> toResponse(BulkIssuanceResult result) {
+        HttpStatus status = result.allIssued() ? HttpStatus.CREATED : HttpStatus.UNPROCESSABLE_ENTITY;
+        return ResponseEntity.status(status).body(result);
+    }
+}
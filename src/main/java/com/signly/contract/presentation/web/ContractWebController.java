@@ -4,24 +4,27 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.signly.common.exception.BusinessException;
 import com.signly.common.exception.ValidationException;
+import com.signly.common.pagination.CursorSlice;
 import com.signly.common.security.CurrentUserProvider;
 import com.signly.common.security.UserPrincipal;
 import com.signly.common.web.BaseWebController;
+import com.signly.contract.application.ContractPdfExportService;
 import com.signly.contract.application.ContractPdfService;
 import com.signly.contract.application.ContractService;
 import com.signly.contract.application.dto.ContractResponse;
+import com.signly.contract.application.dto.ContractSummaryResponse;
 import com.signly.contract.application.dto.CreateContractCommand;
 import com.signly.contract.application.dto.UpdateContractCommand;
+import com.signly.contract.domain.model.ContractId;
 import com.signly.contract.domain.model.ContractStatus;
-import com.signly.contract.domain.model.GeneratedPdf;
 import com.signly.contract.domain.model.PresetType;
+import com.signly.contract.infrastructure.pdf.PdfRenderRejectedException;
 import com.signly.signature.application.FirstPartySignatureService;
 import com.signly.template.application.TemplateService;
 import com.signly.template.application.VariableDefinitionService;
 import com.signly.template.application.dto.TemplateResponse;
-import com.signly.template.application.dto.VariableDefinitionDto;
 import com.signly.template.application.preset.TemplatePresetService;
-import com.signly.template.domain.model.TemplateStatus;
+import com.signly.template.presentation.cache.ReferenceDataResponseCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -30,11 +33,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -45,12 +48,13 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @Controller
@@ -59,11 +63,14 @@ import java.util.Map;
 public class ContractWebController extends BaseWebController {
 
     private static final Logger logger = LoggerFactory.getLogger(ContractWebController.class);
+    private static final String PDF_RETRY_AFTER_SECONDS = "5";
     private final ContractService contractService;
     private final ContractPdfService contractPdfService;
+    private final ContractPdfExportService contractPdfExportService;
     private final TemplateService templateService;
     private final TemplatePresetService templatePresetService;
     private final VariableDefinitionService variableDefinitionService;
+    private final ReferenceDataResponseCache referenceDataResponseCache;
     private final CurrentUserProvider currentUserProvider;
     private final FirstPartySignatureService firstPartySignatureService;
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -71,7 +78,7 @@ public class ContractWebController extends BaseWebController {
 
     @GetMapping
     public String contractList(
-            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "status", required = false) ContractStatus status,
             @RequestHeader(value = "X-User-Id", required = false) String userId,
@@ -81,18 +88,15 @@ public class ContractWebController extends BaseWebController {
     ) {
         return handleOperation(() -> {
             String resolvedUserId = resolveUserId(currentUserProvider, securityUser, request, userId, true);
-            PageRequest pageRequest = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
-            // 상태 필터링이 있으면 상태별로 조회, 없으면 전체 조회
-            Page<ContractResponse> contracts;
-            if (status != null) {
-                contracts = contractService.getContractsByCreatorAndStatus(resolvedUserId, status, pageRequest);
-            } else {
-                contracts = contractService.getContractsByCreator(resolvedUserId, pageRequest);
-            }
+            // 상태 필터가 없으면 전체 조회, 커서가 없으면 첫 페이지
+            CursorSlice<ContractSummaryResponse> contracts =
+                    contractService.getContractsByCreator(resolvedUserId, status, cursor, size);
 
             addPageTitle(model, "계약서 관리");
             model.addAttribute("contracts", contracts);
+            model.addAttribute("totalCount", contractService.countContractsByCreator(resolvedUserId, status));
+            model.addAttribute("firstPage", cursor == null || cursor.isBlank());
             model.addAttribute("currentStatus", status);
             model.addAttribute("statuses", ContractStatus.values());
 
@@ -185,13 +189,11 @@ public class ContractWebController extends BaseWebController {
             }
 
             // 활성 템플릿 목록 로드
-            PageRequest templatePageRequest = PageRequest.of(0, 100, Sort.by("title"));
-            Page<TemplateResponse> activeTemplates = templateService.getTemplatesByOwnerAndStatus(
-                    resolvedUserId, TemplateStatus.ACTIVE, templatePageRequest);
+            List<TemplateResponse> activeTemplates = templateService.getActiveTemplates(resolvedUserId);
 
             model.addAttribute("pageTitle", "새 계약서 생성");
             model.addAttribute("contract", form);
-            model.addAttribute("templates", activeTemplates.getContent());
+            model.addAttribute("templates", activeTemplates);
             model.addAttribute("presets", templatePresetService.getSummaries());
             addVariableDefinitionsToModel(model);
             return "contracts/form";
@@ -281,10 +283,7 @@ public class ContractWebController extends BaseWebController {
         // 템플릿 목록도 다시 로드
         if (userId != null) {
             try {
-                PageRequest templatePageRequest = PageRequest.of(0, 100, Sort.by("title"));
-                Page<TemplateResponse> activeTemplates = templateService.getTemplatesByOwnerAndStatus(
-                        userId, TemplateStatus.ACTIVE, templatePageRequest);
-                model.addAttribute("templates", activeTemplates.getContent());
+                model.addAttribute("templates", templateService.getActiveTemplates(userId));
             } catch (Exception e) {
                 logger.warn("템플릿 목록 로드 실패", e);
                 model.addAttribute("templates", java.util.Collections.emptyList());
@@ -576,141 +575,156 @@ public class ContractWebController extends BaseWebController {
     }
 
     @GetMapping("/{contractId}/pdf/download")
-    public void downloadPdf(
+    public ResponseEntity<Resource> downloadPdf(
+            @PathVariable String contractId,
+            @RequestHeader(value = "X-User-Id", required = false) String userId,
+            @AuthenticationPrincipal UserPrincipal securityUser,
+            HttpServletRequest request
+    ) {
+        return serveStoredPdf(contractId, userId, securityUser, request, false);
+    }
+
+    @GetMapping("/{contractId}/pdf/inline")
+    public ResponseEntity<Resource> viewPdfInline(
             @PathVariable String contractId,
             @RequestHeader(value = "X-User-Id", required = false) String userId,
             @AuthenticationPrincipal UserPrincipal securityUser,
+            HttpServletRequest request
+    ) {
+        return serveStoredPdf(contractId, userId, securityUser, request, true);
+    }
+
+    /**
+     * 저장된 PDF를 파일 Resource로 응답
+     * - 본문은 byte[]로 읽지 않고 스트리밍하며, Range 요청은 Spring이 ResourceRegion(206)으로 처리
+     * - 저장 시 기록한 PDF 체크섬을 strong ETag로 사용하여 If-None-Match 일치 시 304 (파일을 읽지 않음)
+     * - 저장된 PDF가 없으면 한 번 렌더링하여 저장한 뒤 응답
+     */
+    private ResponseEntity<Resource> serveStoredPdf(
+            String contractId,
+            String userId,
+            UserPrincipal securityUser,
             HttpServletRequest request,
-            HttpServletResponse response
-    ) throws IOException {
+            boolean inline
+    ) {
+        String action = inline ? "인라인 뷰" : "다운로드";
         try {
             String resolvedUserId = currentUserProvider.resolveUserId(securityUser, request, userId, true);
             ContractResponse contract = contractService.getContract(resolvedUserId, contractId);
 
-            // SIGNED 상태가 아니면 다운로드 불가
+            // SIGNED 상태가 아니면 조회/다운로드 불가
             if (contract.getStatus() != ContractStatus.SIGNED) {
-                logger.warn("서명 완료되지 않은 계약서 PDF 다운로드 시도: contractId={}, status={}",
-                        contractId, contract.getStatus());
-                response.sendError(HttpServletResponse.SC_FORBIDDEN, "서명이 완료된 계약서만 다운로드할 수 있습니다.");
-                return;
+                logger.warn("서명 완료되지 않은 계약서 PDF {} 시도: contractId={}, status={}",
+                        action, contractId, contract.getStatus());
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
-            GeneratedPdf pdf;
-
-            // 저장된 PDF가 있으면 파일에서 읽기, 없으면 생성
-            if (contract.getPdfPath() != null && !contract.getPdfPath().isEmpty()) {
-                logger.info("저장된 PDF 파일 제공: contractId={}, path={}", contractId, contract.getPdfPath());
-                try {
-                    byte[] pdfContent = fileStorageService.loadFile(contract.getPdfPath());
-                    String fileName = contract.getTitle() + "_" +
-                            LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + ".pdf";
-                    pdf = GeneratedPdf.of(pdfContent, fileName);
-                } catch (Exception e) {
-                    logger.warn("저장된 PDF 로드 실패, 새로 생성: contractId={}", contractId, e);
-                    pdf = contractPdfService.generateContractPdf(contractId);
-                }
-            } else {
-                logger.info("저장된 PDF 없음, 새로 생성: contractId={}", contractId);
-                pdf = contractPdfService.generateContractPdf(contractId);
+            String pdfPath = contract.getPdfPath();
+            if (pdfPath == null || pdfPath.isEmpty() || !fileStorageService.fileExists(pdfPath)) {
+                logger.info("저장된 PDF 없음, 생성 후 저장: contractId={}", contractId);
+                pdfPath = contractPdfService.ensureStoredPdf(contractId);
             }
 
+            Resource resource = fileStorageService.loadAsResource(pdfPath);
+            String eTag = "\"" + contractPdfService.storedPdfChecksum(contractId, pdfPath) + "\"";
+
+            String fileName = contract.getTitle() + "_" +
+                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + ".pdf";
             // 파일명 인코딩 (한글 파일명 지원)
-            String encodedFileName = URLEncoder.encode(pdf.fileName(), StandardCharsets.UTF_8)
+            String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
                     .replace("+", "%20");
-
-            // HTTP 응답 헤더 설정
-            response.setContentType(MediaType.APPLICATION_PDF_VALUE);
-            response.setContentLengthLong(pdf.sizeInBytes());
-            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
-                    "attachment; filename=\"" + encodedFileName + "\"; filename*=UTF-8''" + encodedFileName);
-
-            // PDF 바이트 스트림으로 전송
-            try (OutputStream out = response.getOutputStream()) {
-                out.write(pdf.content());
-                out.flush();
-            }
-
-            logger.info("PDF 다운로드 성공: contractId={}, fileName={}", contractId, pdf.fileName());
-
+            String disposition = inline ? "inline" : "attachment";
+
+            logger.debug("PDF {} 응답: contractId={}, path={}", action, contractId, pdfPath);
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_PDF)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            disposition + "; filename=\"" + encodedFileName + "\"; filename*=UTF-8''" + encodedFileName)
+                    .body(resource);
+
+        } catch (PdfRenderRejectedException e) {
+            logger.warn("PDF 렌더링 대기열 초과: contractId={}", contractId);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, PDF_RETRY_AFTER_SECONDS)
+                    .build();
         } catch (Exception e) {
-            logger.error("PDF 다운로드 중 오류 발생: contractId={}", contractId, e);
-            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "PDF 다운로드 중 오류가 발생했습니다.");
+            logger.error("PDF {} 중 오류 발생: contractId={}", action, contractId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-    @GetMapping("/{contractId}/pdf/inline")
-    public void viewPdfInline(
-            @PathVariable String contractId,
+    /**
+     * 기간 내 서명 완료된 계약서 PDF를 ZIP으로 일괄 다운로드
+     * 응답 본문에 바로 스트리밍하므로 보관 파일 전체를 메모리에 올리지 않는다.
+     *
+     * @param from 시작일 (서명 완료일 기준, 포함)
+     * @param to   종료일 (서명 완료일 기준, 포함)
+     */
+    @GetMapping("/export")
+    public void exportSignedPdfs(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
             @RequestHeader(value = "X-User-Id", required = false) String userId,
             @AuthenticationPrincipal UserPrincipal securityUser,
             HttpServletRequest request,
             HttpServletResponse response
     ) throws IOException {
+        List<ContractId> contractIds;
         try {
             String resolvedUserId = currentUserProvider.resolveUserId(securityUser, request, userId, true);
-            ContractResponse contract = contractService.getContract(resolvedUserId, contractId);
-
-            // SIGNED 상태가 아니면 조회 불가
-            if (contract.getStatus() != ContractStatus.SIGNED) {
-                logger.warn("서명 완료되지 않은 계약서 PDF 조회 시도: contractId={}, status={}",
-                        contractId, contract.getStatus());
-                response.sendError(HttpServletResponse.SC_FORBIDDEN, "서명이 완료된 계약서만 조회할 수 있습니다.");
-                return;
-            }
-
-            GeneratedPdf pdf;
-
-            // 저장된 PDF가 있으면 파일에서 읽기, 없으면 생성
-            if (contract.getPdfPath() != null && !contract.getPdfPath().isEmpty()) {
-                logger.info("저장된 PDF 파일 제공: contractId={}, path={}", contractId, contract.getPdfPath());
-                try {
-                    byte[] pdfContent = fileStorageService.loadFile(contract.getPdfPath());
-                    String fileName = contract.getTitle() + "_" +
-                            LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + ".pdf";
-                    pdf = GeneratedPdf.of(pdfContent, fileName);
-                } catch (Exception e) {
-                    logger.warn("저장된 PDF 로드 실패, 새로 생성: contractId={}", contractId, e);
-                    pdf = contractPdfService.generateContractPdf(contractId);
-                }
-            } else {
-                logger.info("저장된 PDF 없음, 새로 생성: contractId={}", contractId);
-                pdf = contractPdfService.generateContractPdf(contractId);
-            }
-
-            // 파일명 인코딩
-            String encodedFileName = URLEncoder.encode(pdf.fileName(), StandardCharsets.UTF_8)
-                    .replace("+", "%20");
-
-            // HTTP 응답 헤더 설정 (inline으로 표시)
-            response.setContentType(MediaType.APPLICATION_PDF_VALUE);
-            response.setContentLengthLong(pdf.sizeInBytes());
-            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
-                    "inline; filename=\"" + encodedFileName + "\"; filename*=UTF-8''" + encodedFileName);
+            contractIds = contractPdfExportService.findExportTargets(resolvedUserId, from, to);
+        } catch (ValidationException e) {
+            logger.warn("계약서 일괄 내보내기 요청 거부: {}", e.getMessage());
+            response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return;
+        }
 
-            // PDF 바이트 스트림으로 전송
-            try (OutputStream out = response.getOutputStream()) {
-                out.write(pdf.content());
-                out.flush();
-            }
+        if (contractIds.isEmpty()) {
+            response.setStatus(HttpStatus.NO_CONTENT.value());
+            return;
+        }
 
-            logger.info("PDF 인라인 뷰 성공: contractId={}, fileName={}", contractId, pdf.fileName());
+        String fileName = "contracts_" + from.format(DateTimeFormatter.BASIC_ISO_DATE) + "_"
+                + to.format(DateTimeFormatter.BASIC_ISO_DATE) + ".zip";
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
 
-        } catch (Exception e) {
-            logger.error("PDF 인라인 뷰 중 오류 발생: contractId={}", contractId, e);
-            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "PDF 조회 중 오류가 발생했습니다.");
-        }
+        logger.info("계약서 일괄 내보내기 시작: from={}, to={}, count={}", from, to, contractIds.size());
+        contractPdfExportService.writeZip(contractIds, response.getOutputStream());
     }
 
+    /**
+     * 활성 변수 정의 목록 (미리 직렬화된 본문, ETag/Cache-Control 포함)
+     */
     @GetMapping("/variables")
     @ResponseBody
-    public ResponseEntity<java.util.List<VariableDefinitionDto>> getVariableDefinitions() {
-        return ResponseEntity.ok(variableDefinitionService.getAllActiveVariables());
+    public ResponseEntity<byte[]> getVariableDefinitions() {
+        return referenceDataResponseCache.variables().toResponseEntity();
     }
 
+    /**
+     * 카테고리별 활성 변수 정의 (미리 직렬화된 본문, ETag/Cache-Control 포함)
+     */
     @GetMapping("/variables/grouped")
     @ResponseBody
-    public ResponseEntity<java.util.Map<String, java.util.List<VariableDefinitionDto>>> getVariableDefinitionsGrouped() {
-        return ResponseEntity.ok(variableDefinitionService.getVariablesByCategory());
+    public ResponseEntity<byte[]> getVariableDefinitionsGrouped() {
+        return referenceDataResponseCache.groupedVariables().toResponseEntity();
+    }
+
+    /**
+     * 계약서 입력 변수 일괄 검증 (응답: 실패한 변수명 → 오류 메시지, 모두 통과하면 빈 객체)
+     */
+    @PostMapping("/variables/validate")
+    @ResponseBody
+    public ResponseEntity<java.util.Map<String, String>> validateVariableValues(
+            @RequestBody java.util.Map<String, String> variableValues
+    ) {
+        return ResponseEntity.ok(variableDefinitionService.validateVariableValues(variableValues));
     }
 
     /**
@@ -23,7 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -93,6 +95,49 @@ public class DocumentService {
         documentRepository.save(document);
     }
 
+    /**
+     * 이미 저장된 계약서 PDF를 문서로 등록 (파일을 다시 저장하지 않음)
+     * 저장 시 계산한 체크섬을 FileMetadata에 남겨 다운로드 ETag에 재사용한다.
+     * 계약서 PDF 파일은 문서 저장소가 아닌 공용 저장소에 있으므로, 대체된 이전 PDF 파일은
+     * 삭제하지 않고 경로만 반환하여 파일을 저장한 쪽에서 정리하게 한다.
+     *
+     * @return 대체된 이전 PDF 파일 경로 (새 경로와 같은 파일은 제외)
+     */
+    public List<String> registerContractPdf(
+            Contract contract,
+            String storagePath,
+            String fileName,
+            long fileSize,
+            String checksum
+    ) {
+        ContractId contractId = contract.getId();
+        List<String> replacedPaths = new ArrayList<>();
+        for (Document document : documentRepository.findByContractIdAndType(contractId, DocumentType.CONTRACT_PDF)) {
+            if (!document.getStoragePath().equals(storagePath)) {
+                replacedPaths.add(document.getStoragePath());
+            }
+            documentRepository.delete(document);
+        }
+
+        var metadata = FileMetadata.create(ensurePdfExtension(fileName), "application/pdf", fileSize, checksum);
+        documentRepository.save(Document.create(contractId, contract.getCreatorId(), DocumentType.CONTRACT_PDF, metadata, storagePath));
+        return replacedPaths;
+    }
+
+    /**
+     * 저장된 계약서 PDF의 체크섬 (등록된 문서의 FileMetadata 기준)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findContractPdfChecksum(
+            ContractId contractId,
+            String storagePath
+    ) {
+        return documentRepository.findByContractIdAndType(contractId, DocumentType.CONTRACT_PDF).stream()
+                .filter(document -> document.getStoragePath().equals(storagePath))
+                .map(document -> document.getMetadata().checksum())
+                .findFirst();
+    }
+
     private void removeExistingContractPdf(ContractId contractId) {
         List<Document> existing = documentRepository.findByContractIdAndType(contractId, DocumentType.CONTRACT_PDF);
         for (Document document : existing) {
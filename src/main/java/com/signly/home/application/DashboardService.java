@@ -1,9 +1,9 @@
 package com.signly.home.application;
 
+import com.signly.contract.application.ContractCountCache;
 import com.signly.contract.application.ContractService;
-import com.signly.contract.application.dto.ContractResponse;
+import com.signly.contract.application.dto.ContractSummaryResponse;
 import com.signly.contract.domain.model.ContractStatus;
-import com.signly.contract.domain.repository.ContractRepository;
 import com.signly.home.application.dto.DashboardResponse;
 import com.signly.template.application.TemplateService;
 import com.signly.template.application.dto.TemplateResponse;
@@ -12,8 +12,6 @@ import com.signly.template.domain.repository.TemplateRepository;
 import com.signly.user.domain.model.UserId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,16 +33,14 @@ public class DashboardService {
     private final TemplateService templateService;
     private final ContractService contractService;
     private final TemplateRepository templateRepository;
-    private final ContractRepository contractRepository;
+    private final ContractCountCache contractCountCache;
 
     /**
      * 사용자의 대시보드 데이터를 조회합니다
      */
     public DashboardResponse getDashboardData(String userId) {
-        PageRequest recentItemsPageRequest = PageRequest.of(0, RECENT_ITEMS_SIZE, Sort.by("createdAt").descending());
-
-        var recentTemplates = getRecentTemplates(userId, recentItemsPageRequest);
-        var recentContracts = getRecentContracts(userId, recentItemsPageRequest);
+        var recentTemplates = getRecentTemplates(userId);
+        var recentContracts = getRecentContracts(userId);
         var templateStats = getTemplateStatistics(userId);
         var contractStats = getContractStatistics(userId);
 
@@ -54,12 +50,9 @@ public class DashboardService {
     /**
      * 최근 템플릿 목록 조회
      */
-    private List<TemplateResponse> getRecentTemplates(
-            String userId,
-            PageRequest pageRequest
-    ) {
+    private List<TemplateResponse> getRecentTemplates(String userId) {
         try {
-            var templates = templateService.getTemplatesByOwner(userId, pageRequest);
+            var templates = templateService.getTemplatesByOwner(userId, null, null, RECENT_ITEMS_SIZE);
             return templates.getContent();
         } catch (Exception e) {
             log.warn("최근 템플릿 조회 실패: userId={}", userId, e);
@@ -70,12 +63,9 @@ public class DashboardService {
     /**
      * 최근 계약서 목록 조회
      */
-    private List<ContractResponse> getRecentContracts(
-            String userId,
-            PageRequest pageRequest
-    ) {
+    private List<ContractSummaryResponse> getRecentContracts(String userId) {
         try {
-            var contracts = contractService.getContractsByCreator(userId, pageRequest);
+            var contracts = contractService.getContractsByCreator(userId, null, null, RECENT_ITEMS_SIZE);
             return contracts.getContent();
         } catch (Exception e) {
             log.warn("최근 계약서 조회 실패: userId={}", userId, e);
@@ -106,19 +96,19 @@ public class DashboardService {
     }
 
     /**
-     * 계약서 통계 조회 (최적화: count 쿼리 직접 사용)
+     * 계약서 통계 조회 (상태별 건수 캐시 사용)
      */
     public Map<String, Long> getContractStatistics(String userId) {
         var stats = new HashMap<String, Long>();
         var userIdObj = UserId.of(userId);
 
         try {
-            stats.put("total", contractRepository.countByCreatorId(userIdObj));
-            stats.put("draft", contractRepository.countByCreatorIdAndStatus(userIdObj, ContractStatus.DRAFT));
-            stats.put("pending", contractRepository.countByCreatorIdAndStatus(userIdObj, ContractStatus.PENDING));
-            stats.put("signed", contractRepository.countByCreatorIdAndStatus(userIdObj, ContractStatus.SIGNED));
-            stats.put("completed", contractRepository.countByCreatorIdAndStatus(userIdObj, ContractStatus.SIGNED));
-            log.info("Loaded contract stats from DB: {}", userId);
+            stats.put("total", contractCountCache.count(userIdObj, null));
+            stats.put("draft", contractCountCache.count(userIdObj, ContractStatus.DRAFT));
+            stats.put("pending", contractCountCache.count(userIdObj, ContractStatus.PENDING));
+            stats.put("signed", contractCountCache.count(userIdObj, ContractStatus.SIGNED));
+            stats.put("completed", contractCountCache.count(userIdObj, ContractStatus.SIGNED));
+            log.info("Loaded contract stats: {}", userId);
         } catch (Exception e) {
             log.warn("계약서 통계 조회 실패: userId={}", userId, e);
             stats.put("total", 0L);
@@ -1,6 +1,6 @@
 package com.signly.home.application.dto;
 
-import com.signly.contract.application.dto.ContractResponse;
+import com.signly.contract.application.dto.ContractSummaryResponse;
 import com.signly.template.application.dto.TemplateResponse;
 
 import java.util.List;
@@ -11,7 +11,7 @@ import java.util.Map;
  */
 public record DashboardResponse(
         List<TemplateResponse> recentTemplates,
-        List<ContractResponse> recentContracts,
+        List<ContractSummaryResponse> recentContracts,
         Map<String, Long> templateStats,
         Map<String, Long> contractStats
 ) {
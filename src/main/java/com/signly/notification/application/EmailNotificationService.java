@@ -3,7 +3,7 @@ package com.signly.notification.application;
 import com.signly.contract.application.ContractPdfService;
 import com.signly.contract.domain.model.Contract;
 import com.signly.contract.domain.model.GeneratedPdf;
-import com.signly.document.application.DocumentService;
+import com.signly.notification.domain.event.EmailOutboxBatchCreatedEvent;
 import com.signly.notification.domain.event.EmailOutboxCreatedEvent;
 import com.signly.notification.domain.model.EmailAttachment;
 import com.signly.notification.domain.model.EmailOutbox;
@@ -16,8 +16,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -29,44 +29,25 @@ public class EmailNotificationService {
     private final String baseUrl;
     private final String companyName;
     private final ContractPdfService contractPdfService;
-    private final DocumentService documentService;
 
     public EmailNotificationService(
             EmailOutboxRepository outboxRepository,
             ApplicationEventPublisher eventPublisher,
             @Value("${app.base-url:http://localhost:8080}") String baseUrl,
             @Value("${app.name:Signly}") String companyName,
-            ContractPdfService contractPdfService,
-            DocumentService documentService
+            ContractPdfService contractPdfService
     ) {
         this.outboxRepository = outboxRepository;
         this.eventPublisher = eventPublisher;
         this.baseUrl = baseUrl;
         this.companyName = companyName;
         this.contractPdfService = contractPdfService;
-        this.documentService = documentService;
     }
 
     @Transactional
     public void sendContractSigningRequest(Contract contract) {
         try {
-            String signingUrl = baseUrl + "/sign/" + contract.getSignToken().value();
-            var variables = new HashMap<String, Object>();
-            variables.put("contractTitle", contract.getTitle());
-            variables.put("firstPartyName", contract.getFirstParty().name());
-            variables.put("firstPartyEmail", contract.getFirstParty().email());
-            variables.put("secondPartyName", contract.getSecondParty().name());
-            variables.put("signerName", contract.getSecondParty().name());
-            variables.put("contractUrl", signingUrl);
-            variables.put("expiresAt", contract.getExpiresAt());
-            variables.put("companyName", companyName);
-
-            var outbox = EmailOutbox.create(
-                    EmailTemplate.CONTRACT_SIGNING_REQUEST,
-                    contract.getSecondParty().email(),
-                    contract.getSecondParty().name(),
-                    variables
-            );
+            var outbox = createSigningRequestOutbox(contract);
 
             EmailOutbox saved = outboxRepository.save(outbox);
 
@@ -80,75 +61,99 @@ public class EmailNotificationService {
         }
     }
 
+    /**
+     * 여러 계약서의 서명 요청 이메일을 한 번에 Outbox에 저장 (일괄 발송용)
+     * 건별 저장/이벤트 대신 배치 INSERT 후 일괄 생성 이벤트를 한 번만 발행한다.
+     * 일괄 발송 트랜잭션과 함께 커밋되어야 하므로 저장 실패는 호출자에게 전파한다.
+     */
     @Transactional
-    public void sendContractCompleted(Contract contract) {
-        try {
-            Map<String, Object> variables = new HashMap<>();
-            variables.put("contractTitle", contract.getTitle());
-            variables.put("firstPartyName", contract.getFirstParty().name());
-            variables.put("secondPartyName", contract.getSecondParty().name());
-            variables.put("completedAt", contract.getUpdatedAt());
-            variables.put("companyName", companyName);
+    public void sendContractSigningRequests(List<Contract> contracts) {
+        if (contracts.isEmpty()) {
+            return;
+        }
 
-            // 서명 이미지는 PDF에 포함되므로 이메일 템플릿 변수에는 포함하지 않음
-            // (template_variables 컬럼 크기 제한 고려)
-
-            // PDF 생성 및 첨부파일 준비
-            var attachments = new ArrayList<EmailAttachment>();
-            GeneratedPdf generatedPdf = null;
-            try {
-                generatedPdf = contractPdfService.generateContractPdf(contract.getId().value());
-                var pdfAttachment = EmailAttachment.of(
-                        generatedPdf.fileName(),
-                        generatedPdf.content(),
-                        generatedPdf.getContentType()
-                );
-                attachments.add(pdfAttachment);
-                logger.info("계약서 PDF 생성 및 첨부 준비 완료: contractId={}, fileName={}",
-                        contract.getId().value(), generatedPdf.fileName());
-            } catch (Exception ex) {
-                logger.error("계약서 PDF 생성 실패, PDF 없이 이메일 발송: contractId={}",
-                        contract.getId().value(), ex);
-            }
-
-            // 양 당사자에게 Outbox 저장 (PDF 첨부)
-            var firstPartyOutbox = EmailOutbox.create(
-                    EmailTemplate.CONTRACT_COMPLETED,
-                    contract.getFirstParty().email(),
-                    contract.getFirstParty().name(),
-                    variables,
-                    attachments
-            );
+        var outboxes = contracts.stream()
+                .map(this::createSigningRequestOutbox)
+                .toList();
 
-            var secondPartyOutbox = EmailOutbox.create(
-                    EmailTemplate.CONTRACT_COMPLETED,
-                    contract.getSecondParty().email(),
-                    contract.getSecondParty().name(),
-                    variables,
-                    attachments
-            );
+        outboxRepository.insertAll(outboxes);
 
-            EmailOutbox savedFirstParty = outboxRepository.save(firstPartyOutbox);
-            EmailOutbox savedSecondParty = outboxRepository.save(secondPartyOutbox);
+        eventPublisher.publishEvent(new EmailOutboxBatchCreatedEvent(
+                outboxes.stream().map(EmailOutbox::getId).toList()));
 
-            // 이벤트 발행 - 트랜잭션 커밋 후 처리됨
-            eventPublisher.publishEvent(new EmailOutboxCreatedEvent(savedFirstParty.getId()));
-            eventPublisher.publishEvent(new EmailOutboxCreatedEvent(savedSecondParty.getId()));
-
-            if (generatedPdf != null) {
-                try {
-                    documentService.storeContractPdf(contract, generatedPdf);
-                } catch (Exception storeEx) {
-                    logger.error("계약서 PDF 저장 실패: contractId={}", contract.getId().value(), storeEx);
-                }
-            }
+        logger.info("계약서 서명 요청 이메일 일괄 Outbox 저장 및 이벤트 발행: count={}", outboxes.size());
+    }
 
-            logger.info("계약서 완료 알림 이메일을 Outbox에 저장 및 이벤트 발행: contractId={}, PDF첨부={}",
-                    contract.getId().value(), !attachments.isEmpty());
+    private EmailOutbox createSigningRequestOutbox(Contract contract) {
+        String signingUrl = baseUrl + "/sign/" + contract.getSignToken().value();
+        var variables = new HashMap<String, Object>();
+        variables.put("contractTitle", contract.getTitle());
+        variables.put("firstPartyName", contract.getFirstParty().name());
+        variables.put("firstPartyEmail", contract.getFirstParty().email());
+        variables.put("secondPartyName", contract.getSecondParty().name());
+        variables.put("signerName", contract.getSecondParty().name());
+        variables.put("contractUrl", signingUrl);
+        variables.put("expiresAt", contract.getExpiresAt());
+        variables.put("companyName", companyName);
+
+        return EmailOutbox.create(
+                EmailTemplate.CONTRACT_SIGNING_REQUEST,
+                contract.getSecondParty().email(),
+                contract.getSecondParty().name(),
+                variables
+        );
+    }
 
-        } catch (Exception e) {
-            logger.error("계약서 완료 알림 이메일 Outbox 저장 실패: {}", contract.getId().value(), e);
-        }
+    /**
+     * 계약서 완료 알림 (양 당사자에게 저장된 PDF 첨부)
+     * 후처리 작업의 한 단계로 실행되므로 PDF 조회/Outbox 저장 실패는 호출자에게 전파하여 작업이 재시도되게 한다.
+     */
+    @Transactional
+    public void sendContractCompleted(Contract contract) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("contractTitle", contract.getTitle());
+        variables.put("firstPartyName", contract.getFirstParty().name());
+        variables.put("secondPartyName", contract.getSecondParty().name());
+        variables.put("completedAt", contract.getUpdatedAt());
+        variables.put("companyName", companyName);
+
+        // 서명 이미지는 PDF에 포함되므로 이메일 템플릿 변수에는 포함하지 않음
+        // (template_variables 컬럼 크기 제한 고려)
+
+        // 후처리 1단계에서 저장한 PDF 첨부 (다시 렌더링/저장하지 않음)
+        GeneratedPdf storedPdf = contractPdfService.loadStoredPdf(contract);
+        var attachments = List.of(EmailAttachment.of(
+                storedPdf.fileName(),
+                storedPdf.content(),
+                storedPdf.getContentType()
+        ));
+
+        // 양 당사자에게 Outbox 저장 (PDF 첨부)
+        var firstPartyOutbox = EmailOutbox.create(
+                EmailTemplate.CONTRACT_COMPLETED,
+                contract.getFirstParty().email(),
+                contract.getFirstParty().name(),
+                variables,
+                attachments
+        );
+
+        var secondPartyOutbox = EmailOutbox.create(
+                EmailTemplate.CONTRACT_COMPLETED,
+                contract.getSecondParty().email(),
+                contract.getSecondParty().name(),
+                variables,
+                attachments
+        );
+
+        EmailOutbox savedFirstParty = outboxRepository.save(firstPartyOutbox);
+        EmailOutbox savedSecondParty = outboxRepository.save(secondPartyOutbox);
+
+        // 이벤트 발행 - 트랜잭션 커밋 후 처리됨
+        eventPublisher.publishEvent(new EmailOutboxCreatedEvent(savedFirstParty.getId()));
+        eventPublisher.publishEvent(new EmailOutboxCreatedEvent(savedSecondParty.getId()));
+
+        logger.info("계약서 완료 알림 이메일을 Outbox에 저장 및 이벤트 발행: contractId={}, fileName={}",
+                contract.getId().value(), storedPdf.fileName());
     }
 
     @Transactional
@@ -1,6 +1,7 @@
 package com.signly.notification.application;
 
 import com.signly.notification.application.dto.EmailRequest;
+import com.signly.notification.domain.event.EmailOutboxBatchCreatedEvent;
 import com.signly.notification.domain.event.EmailOutboxCreatedEvent;
 import com.signly.notification.domain.model.EmailOutbox;
 import com.signly.notification.domain.model.EmailOutboxId;
@@ -43,6 +44,24 @@ public class EmailOutboxEventListener {
         }
     }
 
+    /**
+     * 일괄 생성된 Outbox를 한 작업에서 순서대로 발송 (건별 비동기 작업으로 실행기를 채우지 않음)
+     * 실패한 건은 상태만 갱신하고 다음 건을 계속 처리하며, 남은 건은 스케줄러가 재시도한다.
+     */
+    @Async("taskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleEmailOutboxBatchCreated(EmailOutboxBatchCreatedEvent event) {
+        logger.debug("EmailOutbox 일괄 생성 이벤트 수신: count={}", event.getOutboxIds().size());
+
+        for (EmailOutboxId outboxId : event.getOutboxIds()) {
+            try {
+                processEmailOutbox(outboxId);
+            } catch (Exception e) {
+                logger.error("일괄 이메일 발송 중 예외 발생 (스케줄러가 재시도 예정): outboxId={}", outboxId.value(), e);
+            }
+        }
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     protected void processEmailOutbox(EmailOutboxId outboxId) {
         var outboxOpt = outboxRepository.findById(outboxId);
@@ -0,0 +1,21 @@
+package com.signly.notification.domain.event;
+
+import com.signly.notification.domain.model.EmailOutboxId;
+
+import java.util.List;
+
+/**
+ * EmailOutbox 일괄 생성 이벤트
+ * 일괄 발송처럼 한 트랜잭션에서 여러 Outbox를 저장했을 때 건별 이벤트 대신 한 번만 발행
+ */
+public class EmailOutboxBatchCreatedEvent {
+    private final List<EmailOutboxId> outboxIds;
+
+    public EmailOutboxBatchCreatedEvent(List<EmailOutboxId> outboxIds) {
+        this.outboxIds = List.copyOf(outboxIds);
+    }
+
+    public List<EmailOutboxId> getOutboxIds() {
+        return outboxIds;
+    }
+}
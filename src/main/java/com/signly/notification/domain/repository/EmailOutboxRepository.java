@@ -9,6 +9,11 @@ import java.util.Optional;
 public interface EmailOutboxRepository {
     EmailOutbox save(EmailOutbox outbox);
 
+    /**
+     * 신규 Outbox 일괄 저장 (JDBC 배치 INSERT)
+     */
+    void insertAll(List<EmailOutbox> outboxes);
+
     Optional<EmailOutbox> findById(EmailOutboxId id);
 
     List<EmailOutbox> findPendingEmails(int limit);
@@ -84,7 +84,10 @@ public class SmtpEmailSender implements EmailSender {
         return engine;
     }
 
-    private String renderTemplate(EmailRequest request) {
+    /**
+     * 전송 없이 이메일 본문만 렌더링 (기동 워밍업 등)
+     */
+    public String renderTemplate(EmailRequest request) {
         var context = new Context(Locale.KOREAN);
         var variables = request.templateVariables();
         if (variables != null) {
@@ -6,6 +6,8 @@ import com.signly.notification.domain.model.EmailOutboxStatus;
 import com.signly.notification.domain.repository.EmailOutboxRepository;
 import com.signly.notification.infrastructure.persistence.entity.EmailOutboxEntity;
 import com.signly.notification.infrastructure.persistence.mapper.EmailOutboxEntityMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -18,6 +20,9 @@ public class EmailOutboxRepositoryImpl implements EmailOutboxRepository {
     private final EmailOutboxJpaRepository jpaRepository;
     private final EmailOutboxEntityMapper mapper;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public EmailOutboxRepositoryImpl(
             EmailOutboxJpaRepository jpaRepository,
             EmailOutboxEntityMapper mapper
@@ -33,6 +38,14 @@ public class EmailOutboxRepositoryImpl implements EmailOutboxRepository {
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public void insertAll(List<EmailOutbox> outboxes) {
+        for (EmailOutbox outbox : outboxes) {
+            entityManager.persist(mapper.toEntity(outbox));
+        }
+        entityManager.flush();
+    }
+
     @Override
     public Optional<EmailOutbox> findById(EmailOutboxId id) {
         return jpaRepository.findById(id.value())
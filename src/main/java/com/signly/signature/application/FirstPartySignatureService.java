@@ -15,9 +15,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.Optional;
 
 @Service
 @Transactional
@@ -28,6 +27,7 @@ public class FirstPartySignatureService {
 
     private final FirstPartySignatureRepository signatureRepository;
     private final FileStorageService fileStorageService;
+    private final SignatureRenditionService signatureRenditionService;
 
     @Auditable(
             entityType = EntityType.FIRST_PARTY_SIGNATURE,
@@ -48,11 +48,14 @@ public class FirstPartySignatureService {
                 buildCategory(ownerId)
         );
 
+        // PDF용 렌디션은 업로드 시점에 한 번만 생성 (원본 체크섬 기준)
+        String checksum = signatureRenditionService.createRendition(payload.data());
+
         var metadata = FileMetadata.create(
                 storedFile.originalFilename(),
                 storedFile.contentType(),
                 storedFile.size(),
-                calculateChecksum(payload.data())
+                checksum
         );
 
         UserId userId = UserId.of(ownerId);
@@ -86,6 +89,30 @@ public class FirstPartySignatureService {
         return "data:" + signature.getFileMetadata().mimeType() + ";base64," + base64;
     }
 
+    /**
+     * 등록된 갑 서명의 PDF용 렌디션 Data URL
+     * 업로드 때 만든 렌디션을 체크섬으로 참조하며, 렌디션을 만들 수 없으면 원본을 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findSignatureRenditionDataUrl(String ownerId) {
+        return signatureRepository.findByOwnerId(UserId.of(ownerId))
+                .map(signature -> signatureRenditionService
+                        .findDataUrl(
+                                signature.getFileMetadata().checksum(),
+                                () -> fileStorageService.loadFile(signature.getStoragePath())
+                        )
+                        .orElseGet(() -> getSignatureDataUrl(ownerId)));
+    }
+
+    /**
+     * 등록된 갑 서명 파일의 체크섬 조회 (파일을 읽지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findSignatureChecksum(String ownerId) {
+        return signatureRepository.findByOwnerId(UserId.of(ownerId))
+                .map(signature -> signature.getFileMetadata().checksum());
+    }
+
     @Transactional(readOnly = true)
     public void ensureSignatureExists(String ownerId) {
         if (!hasSignature(ownerId)) {
@@ -120,24 +147,6 @@ public class FirstPartySignatureService {
         return STORAGE_CATEGORY_PREFIX + "/" + ownerId;
     }
 
-    private String calculateChecksum(byte[] data) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(data);
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("체크섬 계산을 위한 알고리즘을 찾을 수 없습니다", e);
-        }
-    }
-
     private ImagePayload parseDataUrl(String dataUrl) {
         if (dataUrl == null || dataUrl.trim().isEmpty()) {
             throw new ValidationException("서명 데이터를 전달해주세요.");
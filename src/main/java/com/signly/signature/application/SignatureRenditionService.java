@@ -0,0 +1,196 @@
+package com.signly.signature.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.signly.common.image.ImageResizer;
+import com.signly.common.storage.FileStorageService;
+import com.signly.contract.domain.model.ContractId;
+import com.signly.contract.domain.model.Signature;
+import com.signly.contract.domain.repository.SignatureRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * PDF용 서명 렌디션 관리 서비스
+ * - 업로드 시점에 원본을 표준 크기 PNG로 변환하여 원본 체크섬 이름으로 저장 (내용 주소 기반, 불변)
+ * - 렌더링 경로는 체크섬으로 저장된 렌디션만 참조하며, Data URL은 메모리에 캐시
+ * - 렌디션이 없는 기존 서명은 첫 조회 때 한 번 생성하여 이후에는 이미지 처리가 일어나지 않음
+ * - 계약 서명의 원본 체크섬은 서명 행(rendition_checksum)에 저장되어 렌더링마다 원본을 디코딩/해시하지 않음
+ */
+@Service
+public class SignatureRenditionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SignatureRenditionService.class);
+    private static final String RENDITION_CATEGORY = "signatures/renditions";
+    private static final String RENDITION_MIME_TYPE = "image/png";
+    private static final String RENDITION_EXTENSION = ".png";
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+
+    private final FileStorageService fileStorageService;
+    private final ImageResizer imageResizer;
+    private final SignatureRepository signatureRepository;
+    private final Cache<String, String> dataUrls;
+
+    public SignatureRenditionService(
+            FileStorageService fileStorageService,
+            ImageResizer imageResizer,
+            SignatureRepository signatureRepository,
+            @Value("${app.signature.rendition.cache-max-bytes:16777216}") long cacheMaxBytes
+    ) {
+        this.fileStorageService = fileStorageService;
+        this.imageResizer = imageResizer;
+        this.signatureRepository = signatureRepository;
+        this.dataUrls = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxBytes)
+                .weigher((String checksum, String dataUrl) -> dataUrl.length())
+                .build();
+    }
+
+    /**
+     * 업로드된 서명 원본의 렌디션 생성 및 저장 (같은 체크섬의 렌디션이 있으면 생략)
+     * 렌디션 생성에 실패해도 업로드는 진행되며, 렌더링 시 원본을 사용한다.
+     *
+     * @param original 원본 이미지 바이트
+     * @return 원본 SHA-256 체크섬
+     */
+    public String createRendition(byte[] original) {
+        String checksum = checksum(original);
+        try {
+            ensureRendition(checksum, original);
+        } catch (Exception e) {
+            logger.warn("서명 렌디션 생성 실패, 렌더링 시 원본 사용: checksum={}", checksum, e);
+        }
+        return checksum;
+    }
+
+    /**
+     * 렌디션 Data URL 조회 (메모리 캐시 → 저장된 렌디션 → 없으면 원본으로 한 번 생성)
+     *
+     * @param checksum       원본 체크섬
+     * @param originalLoader 렌디션이 없을 때만 호출되는 원본 로더
+     * @return 렌디션 Data URL, 만들 수 없으면 empty
+     */
+    public Optional<String> findDataUrl(
+            String checksum,
+            Supplier<byte[]> originalLoader
+    ) {
+        if (checksum == null || checksum.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(dataUrls.get(checksum, key -> loadOrCreate(key, originalLoader)));
+    }
+
+    /**
+     * 계약 서명의 렌디션 Data URL (렌디션을 만들 수 없으면 원본 Data URL)
+     * 서명 행에 저장된 원본 체크섬으로 렌디션을 찾으므로 서명 데이터를 복호화하거나 해시하지 않는다.
+     * 체크섬이 없는 기존 서명만 원본으로 한 번 계산하여 서명 행에 저장한다.
+     *
+     * @param contractId 계약서 ID
+     * @param signature  계약 서명
+     */
+    public String renditionDataUrl(
+            String contractId,
+            Signature signature
+    ) {
+        String checksum = signature.renditionChecksum();
+        if (checksum != null) {
+            return findDataUrl(checksum, () -> loadOriginal(signature))
+                    .orElseGet(signature::signatureData);
+        }
+
+        byte[] original = loadOriginal(signature);
+        if (original == null) {
+            return signature.signatureData();
+        }
+        String computed = checksum(original);
+        saveChecksum(contractId, signature, computed);
+        return findDataUrl(computed, () -> original)
+                .orElseGet(signature::signatureData);
+    }
+
+    private byte[] loadOriginal(Signature signature) {
+        String signaturePath = signature.signaturePath();
+        if (signaturePath != null && !signaturePath.isBlank()) {
+            try {
+                return fileStorageService.loadFile(signaturePath);
+            } catch (Exception e) {
+                logger.warn("서명 이미지 파일을 로드할 수 없어 DB 데이터를 사용합니다: path={}", signaturePath, e);
+            }
+        }
+        return decodeDataUrl(signature.signatureData());
+    }
+
+    private void saveChecksum(
+            String contractId,
+            Signature signature,
+            String checksum
+    ) {
+        try {
+            signatureRepository.saveRenditionChecksum(ContractId.of(contractId), signature, checksum);
+            logger.info("기존 서명에 렌디션 체크섬 저장: contractId={}, checksum={}", contractId, checksum);
+        } catch (Exception e) {
+            logger.warn("서명 렌디션 체크섬 저장 실패: contractId={}", contractId, e);
+        }
+    }
+
+    private String loadOrCreate(
+            String checksum,
+            Supplier<byte[]> originalLoader
+    ) {
+        String path = RENDITION_CATEGORY + "/" + checksum + RENDITION_EXTENSION;
+        try {
+            if (!fileStorageService.fileExists(path)) {
+                logger.info("렌디션 없는 서명, 원본으로 생성: checksum={}", checksum);
+                ensureRendition(checksum, originalLoader.get());
+            }
+            byte[] rendition = fileStorageService.loadFile(path);
+            return "data:" + RENDITION_MIME_TYPE + ";base64," + Base64.getEncoder().encodeToString(rendition);
+        } catch (Exception e) {
+            logger.warn("서명 렌디션 조회 실패: checksum={}", checksum, e);
+            return null;
+        }
+    }
+
+    private void ensureRendition(
+            String checksum,
+            byte[] original
+    ) throws IOException {
+        byte[] rendition = imageResizer.toSignatureRendition(original);
+        fileStorageService.storeFileAs(rendition, checksum, RENDITION_MIME_TYPE, RENDITION_CATEGORY);
+        logger.debug("서명 렌디션 저장: checksum={}, 원본={}bytes, 렌디션={}bytes",
+                checksum, original.length, rendition.length);
+    }
+
+    private byte[] decodeDataUrl(String dataUrl) {
+        if (dataUrl == null || !dataUrl.startsWith("data:")) {
+            return null;
+        }
+        int commaIndex = dataUrl.indexOf(',');
+        if (commaIndex <= 0) {
+            return null;
+        }
+        try {
+            return Base64.getDecoder().decode(dataUrl.substring(commaIndex + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String checksum(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(CHECKSUM_ALGORITHM).digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("체크섬 계산을 위한 알고리즘이 없습니다", e);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,6 +30,7 @@ public class SignatureService {
     private final SignatureRepository signatureRepository;
     private final SignatureDtoMapper mapper;
     private final FileStorageService fileStorageService;
+    private final SignatureRenditionService signatureRenditionService;
 
     public void createSignature(CreateSignatureCommand command) {
         String normalizedEmail = normalizeEmail(command.signerEmail());
@@ -46,34 +48,95 @@ public class SignatureService {
             return;
         }
 
+        var signature = prepareSignature(command);
+        signatureRepository.save(contractId, signature);
+
+        log.info("서명 생성 완료: signerEmail={}", normalizedEmail);
+        mapper.toResponse(signature);
+    }
+
+    /**
+     * 서명 이미지 파일과 PDF용 렌디션을 저장하고 검증된 서명을 반환 (서명 행은 저장하지 않음)
+     * 계약서 애그리거트에 추가해 계약서와 함께 저장할 때 사용한다.
+     */
+    public Signature prepareSignature(CreateSignatureCommand command) {
+        String normalizedEmail = normalizeEmail(command.signerEmail());
+        String contractId = ContractId.of(command.contractId()).value();
         var payload = parseDataUrl(command.signatureData());
 
-        String category = buildCategory(contractId.value(), normalizedEmail);
-        String originalFileName = buildFileName(contractId.value(), normalizedEmail, payload.extension());
         var storedFile = fileStorageService.storeFile(
                 payload.data(),
-                originalFileName,
+                buildFileName(contractId, normalizedEmail, payload.extension()),
                 payload.contentType(),
-                category
+                buildCategory(contractId, normalizedEmail)
         );
 
+        // PDF용 렌디션은 업로드 시점에 한 번만 생성하고, 체크섬은 서명 행에 저장하여 렌더링 시 조회 키로 사용
+        String renditionChecksum = signatureRenditionService.createRendition(payload.data());
+
         var signature = Signature.create(
                 normalizedEmail,
                 command.signerName(),
                 command.signatureData(),
                 command.ipAddress(),
                 command.deviceInfo(),
-                storedFile.filePath()
+                storedFile.filePath(),
+                renditionChecksum
         );
 
         if (!signature.validate()) {
             throw new ValidationException("서명 데이터가 유효하지 않습니다");
         }
+        return signature;
+    }
 
-        signatureRepository.save(contractId, signature);
+    /**
+     * 새로 생성된 계약서들에 같은 서버측 서명(제1 당사자)을 일괄 저장
+     * 데이터 URL 해석과 렌디션 생성은 한 번만 수행하고, 계약서별 파일 저장 후 서명 행은 배치 INSERT한다.
+     * 신규 계약서 전용이므로 기존 서명 존재 여부는 확인하지 않는다.
+     */
+    public void createServerSignatures(
+            List<ContractId> contractIds,
+            String signatureData,
+            String signerEmail,
+            String signerName
+    ) {
+        if (contractIds.isEmpty()) {
+            return;
+        }
 
-        log.info("서명 생성 완료: signerEmail={}", normalizedEmail);
-        mapper.toResponse(signature);
+        String normalizedEmail = normalizeEmail(signerEmail);
+        var payload = parseDataUrl(signatureData);
+        String renditionChecksum = signatureRenditionService.createRendition(payload.data());
+
+        var signatures = new LinkedHashMap<ContractId, Signature>(contractIds.size() * 2);
+        for (ContractId contractId : contractIds) {
+            var storedFile = fileStorageService.storeFile(
+                    payload.data(),
+                    buildFileName(contractId.value(), normalizedEmail, payload.extension()),
+                    payload.contentType(),
+                    buildCategory(contractId.value(), normalizedEmail)
+            );
+
+            var signature = Signature.create(
+                    normalizedEmail,
+                    signerName,
+                    signatureData,
+                    "SERVER",
+                    "Server-initiated signature",
+                    storedFile.filePath(),
+                    renditionChecksum
+            );
+
+            if (!signature.validate()) {
+                throw new ValidationException("서명 데이터가 유효하지 않습니다");
+            }
+            signatures.put(contractId, signature);
+        }
+
+        signatureRepository.insertAll(signatures);
+
+        log.info("서버측 서명 일괄 저장 완료: count={}, signerEmail={}", signatures.size(), normalizedEmail);
     }
 
     private ImagePayload parseDataUrl(String dataUrl) {
@@ -1,6 +1,5 @@
 package com.signly.signature.presentation.web;
 
-import com.signly.common.image.ImageResizer;
 import com.signly.contract.application.ContractService;
 import com.signly.contract.application.dto.ContractResponse;
 import com.signly.signature.application.FirstPartySignatureService;
@@ -23,7 +22,6 @@ public class SigningWebController {
     private final ContractService contractService;
     private final SignatureService signatureService;
     private final FirstPartySignatureService firstPartySignatureService;
-    private final ImageResizer imageResizer;
 
     @GetMapping("/{token}")
     public String signingPage(
@@ -198,9 +196,8 @@ public class SigningWebController {
 
     private String getEmployerSignatureImage(String ownerId) {
         try {
-            // FirstPartySignatureService를 통해 파일에서 원본 서명 로드
-            String dataUrl = firstPartySignatureService.getSignatureDataUrl(ownerId);
-            return imageResizer.resizeSignatureImage(dataUrl);
+            // 업로드 시 생성된 렌디션 사용 (요청마다 이미지 처리하지 않음)
+            return firstPartySignatureService.findSignatureRenditionDataUrl(ownerId).orElse(null);
         } catch (Exception e) {
             logger.warn("갑(사업주) 서명을 찾을 수 없습니다: ownerId={}", ownerId);
             return null;
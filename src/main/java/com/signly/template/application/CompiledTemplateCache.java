@@ -0,0 +1,279 @@
+package com.signly.template.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.signly.template.domain.model.CompiledTemplateLayout;
+import com.signly.template.domain.model.ContractTemplate;
+import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.domain.service.TemplateLayoutCompiler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 템플릿 버전별 파싱/컴파일 결과 캐시
+ * - 키: 템플릿 ID + 버전. 템플릿 내용이 바뀌면 버전이 올라가므로 새 항목이 만들어진다.
+ * - 저장된 JSON이 캐시된 원문과 다르면 (버전 증가 없이 수정된 프리셋 등) 다시 파싱한다.
+ * - 섹션 변경 기록을 적용한 콘텐츠도 최종 버전 키로 보관하여 기록을 다시 읽거나 적용하지 않는다.
+ *   롤백된 변경과 구분하기 위해 템플릿 수정 시각이 같을 때만 재사용한다.
+ * - 값은 도메인 객체가 공유하므로 TemplateContent/TemplateSection은 수정하지 않고 새로 만들어 교체해야 한다.
+ * - 스냅샷 저장소(Redis 등)가 있으면 미스 시 다른 인스턴스가 파싱해 둔 결과를 먼저 찾는다.
+ * - Micrometer 지표: 적중/미스 수, 캐시 항목 수
+ */
+@Component
+public class CompiledTemplateCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompiledTemplateCache.class);
+    private static final char KEY_SEPARATOR = ':';
+
+    private final Cache<String, CompiledTemplate> templates;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final TemplateSnapshotStore snapshotStore;
+
+    public CompiledTemplateCache(
+            MeterRegistry meterRegistry,
+            long maxSize
+    ) {
+        this(meterRegistry, maxSize, (TemplateSnapshotStore) null);
+    }
+
+    @Autowired
+    public CompiledTemplateCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.template.cache.max-size:500}") long maxSize,
+            ObjectProvider<TemplateSnapshotStore> snapshotStore
+    ) {
+        this(meterRegistry, maxSize, snapshotStore.getIfAvailable());
+    }
+
+    private CompiledTemplateCache(
+            MeterRegistry meterRegistry,
+            long maxSize,
+            TemplateSnapshotStore snapshotStore
+    ) {
+        this.snapshotStore = snapshotStore;
+        this.templates = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+
+        this.hitCounter = Counter.builder("template.cache.requests")
+                .tag("result", "hit")
+                .description("Compiled template cache lookups")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("template.cache.requests")
+                .tag("result", "miss")
+                .description("Compiled template cache lookups")
+                .register(meterRegistry);
+        Gauge.builder("template.cache.size", templates, Cache::estimatedSize)
+                .description("Compiled templates held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장된 JSON의 파싱 결과 (같은 버전·같은 원문이면 한 번만 파싱)
+     *
+     * @param templateId  템플릿 ID (프리셋은 프리셋 ID)
+     * @param version     템플릿 버전
+     * @param jsonContent 저장된 템플릿 JSON
+     * @return 파싱된 템플릿 콘텐츠
+     */
+    public TemplateContent content(
+            String templateId,
+            int version,
+            String jsonContent
+    ) {
+        return compiled(templateId, version, jsonContent).content();
+    }
+
+    /**
+     * 섹션 변경 기록을 적용한 콘텐츠 (같은 버전·같은 수정 시각이면 기록을 다시 적용하지 않음)
+     *
+     * @param templateId 템플릿 ID
+     * @param version    변경 기록까지 반영된 템플릿 버전
+     * @param updatedAt  템플릿 수정 시각
+     * @param patcher    캐시에 없을 때 기본 콘텐츠에 변경 기록을 적용하는 함수
+     * @return 변경 기록이 적용된 템플릿 콘텐츠
+     */
+    public TemplateContent patchedContent(
+            String templateId,
+            int version,
+            LocalDateTime updatedAt,
+            Supplier<TemplateContent> patcher
+    ) {
+        String key = key(templateId, version);
+        CompiledTemplate cached = templates.getIfPresent(key);
+        if (cached != null && cached.isPatchedAt(updatedAt)) {
+            hitCounter.increment();
+            return cached.content();
+        }
+
+        missCounter.increment();
+        CompiledTemplate patched = new CompiledTemplate(patcher.get(), updatedAt);
+        templates.put(key, patched);
+        return patched.content();
+    }
+
+    /**
+     * 변경 기록을 적용한 콘텐츠가 캐시에 있는지 여부 (목록 조회 시 기록을 읽을 템플릿만 고르는 데 사용)
+     */
+    public boolean hasPatchedContent(
+            String templateId,
+            int version,
+            LocalDateTime updatedAt
+    ) {
+        CompiledTemplate cached = templates.getIfPresent(key(templateId, version));
+        return cached != null && cached.isPatchedAt(updatedAt);
+    }
+
+    /**
+     * 템플릿의 레이아웃 골격 (같은 버전이면 한 번만 컴파일)
+     *
+     * @param template 로드된 템플릿
+     * @return 컴파일된 레이아웃
+     */
+    public CompiledTemplateLayout layout(ContractTemplate template) {
+        String key = key(template.getTemplateId().value(), template.getVersion());
+        CompiledTemplate cached = templates.getIfPresent(key);
+        if (cached == null || cached.content() != template.getContent()) {
+            // 캐시를 거치지 않은 콘텐츠(저장 전 수정 등)는 그 자리에서 컴파일
+            return TemplateLayoutCompiler.compile(template.getContent());
+        }
+        return cached.layout();
+    }
+
+    /**
+     * 템플릿 콘텐츠의 JSON
+     * 캐시에서 꺼낸 콘텐츠 그대로이면 저장된 원문을 재사용하고, 수정된 콘텐츠만 직렬화한다.
+     *
+     * @param template 로드된 템플릿
+     * @return 템플릿 JSON
+     */
+    public String json(ContractTemplate template) {
+        CompiledTemplate cached = templates.getIfPresent(key(template.getTemplateId().value(), template.getVersion()));
+        if (cached != null && cached.content() == template.getContent()) {
+            return cached.jsonContent();
+        }
+        return template.getContent().jsonContent();
+    }
+
+    /**
+     * 템플릿의 모든 버전 항목 제거
+     *
+     * @param templateId 템플릿 ID
+     */
+    public void invalidate(String templateId) {
+        String prefix = templateId + KEY_SEPARATOR;
+        templates.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        logger.debug("컴파일된 템플릿 캐시 무효화: templateId={}", templateId);
+    }
+
+    private CompiledTemplate compiled(
+            String templateId,
+            int version,
+            String jsonContent
+    ) {
+        String key = key(templateId, version);
+        CompiledTemplate cached = templates.getIfPresent(key);
+        if (cached != null && cached.jsonContent().equals(jsonContent)) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        CompiledTemplate parsed = new CompiledTemplate(jsonContent, parse(key, jsonContent));
+        templates.put(key, parsed);
+        return parsed;
+    }
+
+    private TemplateContent parse(
+            String key,
+            String jsonContent
+    ) {
+        if (snapshotStore == null) {
+            return TemplateContent.fromJson(jsonContent);
+        }
+
+        // 같은 버전이라도 원문이 다르면 다른 스냅샷이 되도록 원문 길이와 해시를 키에 포함
+        String snapshotKey = key + KEY_SEPARATOR + jsonContent.length() + KEY_SEPARATOR + Integer.toHexString(jsonContent.hashCode());
+        var snapshot = snapshotStore.load(snapshotKey);
+        if (snapshot.isPresent()) {
+            return snapshot.get();
+        }
+
+        TemplateContent content = TemplateContent.fromJson(jsonContent);
+        snapshotStore.store(snapshotKey, content);
+        return content;
+    }
+
+    private static String key(
+            String templateId,
+            int version
+    ) {
+        return templateId + KEY_SEPARATOR + version;
+    }
+
+    /**
+     * 캐시 항목: 원문 JSON, 파싱된 콘텐츠, 필요할 때 한 번 컴파일하는 레이아웃
+     * 변경 기록을 적용한 항목은 수정 시각을 함께 보관하고, JSON은 필요할 때 한 번 직렬화한다.
+     */
+    private static final class CompiledTemplate {
+        private final TemplateContent content;
+        private final LocalDateTime patchedAt;
+        private volatile String jsonContent;
+        private volatile CompiledTemplateLayout layout;
+
+        CompiledTemplate(
+                String jsonContent,
+                TemplateContent content
+        ) {
+            this.jsonContent = Objects.requireNonNull(jsonContent);
+            this.content = content;
+            this.patchedAt = null;
+        }
+
+        CompiledTemplate(
+                TemplateContent content,
+                LocalDateTime patchedAt
+        ) {
+            this.content = Objects.requireNonNull(content);
+            this.patchedAt = patchedAt;
+        }
+
+        boolean isPatchedAt(LocalDateTime updatedAt) {
+            return patchedAt != null && patchedAt.equals(updatedAt);
+        }
+
+        String jsonContent() {
+            String json = jsonContent;
+            if (json == null) {
+                json = content.jsonContent();
+                jsonContent = json;
+            }
+            return json;
+        }
+
+        TemplateContent content() {
+            return content;
+        }
+
+        CompiledTemplateLayout layout() {
+            CompiledTemplateLayout compiled = layout;
+            if (compiled == null) {
+                compiled = TemplateLayoutCompiler.compile(content);
+                layout = compiled;
+            }
+            return compiled;
+        }
+    }
+}
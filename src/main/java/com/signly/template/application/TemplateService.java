@@ -3,36 +3,52 @@ package com.signly.template.application;
 import com.signly.common.audit.aop.Auditable;
 import com.signly.common.audit.domain.model.AuditAction;
 import com.signly.common.audit.domain.model.EntityType;
+import com.signly.common.exception.ConflictException;
 import com.signly.common.exception.ForbiddenException;
 import com.signly.common.exception.NotFoundException;
 import com.signly.common.exception.ValidationException;
+import com.signly.common.pagination.CursorSlice;
+import com.signly.common.pagination.KeysetCursor;
 import com.signly.template.application.dto.CreateTemplateCommand;
+import com.signly.template.application.dto.PatchTemplateSectionsCommand;
+import com.signly.template.application.dto.TemplateSectionChangeCommand;
 import com.signly.template.application.dto.TemplateResponse;
+import com.signly.template.application.dto.TemplateVersionResponse;
 import com.signly.template.application.dto.UpdateTemplateCommand;
 import com.signly.template.application.mapper.TemplateDtoMapper;
+import com.signly.template.domain.model.CompiledTemplateLayout;
 import com.signly.template.domain.model.ContractTemplate;
 import com.signly.template.domain.model.TemplateContent;
 import com.signly.template.domain.model.TemplateId;
+import com.signly.template.domain.model.TemplateSection;
+import com.signly.template.domain.model.TemplateSectionChange;
 import com.signly.template.domain.model.TemplateStatus;
 import com.signly.template.domain.repository.TemplateRepository;
 import com.signly.user.domain.model.UserId;
 import com.signly.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
 @Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class TemplateService {
 
+    private static final int MAX_SECTION_CHANGES = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TemplateRepository templateRepository;
     private final UserRepository userRepository;
     private final TemplateDtoMapper templateDtoMapper;
+    private final CompiledTemplateCache compiledTemplateCache;
 
     @Auditable(
             action = AuditAction.TEMPLATE_CREATED,
@@ -88,11 +104,59 @@ public class TemplateService {
         template.updateContent(newContent);
 
         var updatedTemplate = templateRepository.save(template);
+        compiledTemplateCache.invalidate(templateId);
         log.info("Updated template: {}", templateId);
 
         return templateDtoMapper.toResponse(updatedTemplate);
     }
 
+    /**
+     * 섹션 단위 수정 (추가/수정/이동/삭제)
+     * 전체 콘텐츠를 다시 쓰지 않고 변경 기록만 저장하며, 활성화 등 전체 저장 시 콘텐츠에 압축된다.
+     * 변경 기록은 버전별로 남으므로 컴파일된 템플릿 캐시를 무효화하지 않는다.
+     */
+    @Auditable(
+            action = AuditAction.TEMPLATE_UPDATED,
+            entityType = EntityType.TEMPLATE,
+            entityIdParam = "#templateId"
+    )
+    public TemplateVersionResponse patchSections(
+            String userId,
+            String templateId,
+            PatchTemplateSectionsCommand command
+    ) {
+        if (command.changes() == null || command.changes().isEmpty()) {
+            throw new ValidationException("변경 내용이 없습니다");
+        }
+        if (command.changes().size() > MAX_SECTION_CHANGES) {
+            throw new ValidationException("한 번에 적용할 수 있는 섹션 변경은 최대 " + MAX_SECTION_CHANGES + "건입니다");
+        }
+
+        var template = templateRepository.findById(TemplateId.of(templateId))
+                .orElseThrow(() -> new NotFoundException("템플릿을 찾을 수 없습니다"));
+
+        validateOwnership(userId, template);
+
+        int expectedVersion = command.expectedVersion();
+        if (template.getVersion() != expectedVersion) {
+            throw new ConflictException("템플릿이 다른 곳에서 수정되었습니다. 최신 버전을 다시 불러와주세요");
+        }
+
+        var changes = new ArrayList<TemplateSectionChange>(command.changes().size());
+        for (TemplateSectionChangeCommand changeCommand : command.changes()) {
+            var change = toSectionChange(changeCommand);
+            template.applySectionChange(change);
+            changes.add(change);
+        }
+
+        if (!templateRepository.saveSectionChanges(template, expectedVersion, changes)) {
+            throw new ConflictException("템플릿이 다른 곳에서 수정되었습니다. 최신 버전을 다시 불러와주세요");
+        }
+        log.info("Patched template sections: {}, version {} -> {}", templateId, expectedVersion, template.getVersion());
+
+        return new TemplateVersionResponse(templateId, template.getVersion());
+    }
+
     @Auditable(
             action = AuditAction.TEMPLATE_ACTIVATED,
             entityType = EntityType.TEMPLATE,
@@ -109,6 +173,7 @@ public class TemplateService {
         validateOwnership(userId, template);
         template.activate();
         templateRepository.save(template);
+        compiledTemplateCache.invalidate(templateId);
         log.info("Activated template: {}", templateId);
     }
 
@@ -128,6 +193,7 @@ public class TemplateService {
         validateOwnership(userId, template);
         template.archive();
         templateRepository.save(template);
+        compiledTemplateCache.invalidate(templateId);
         log.info("Archived template: {}", templateId);
     }
 
@@ -151,6 +217,7 @@ public class TemplateService {
         }
 
         templateRepository.delete(template);
+        compiledTemplateCache.invalidate(templateId);
         log.info("Deleted template: {}", templateId);
     }
 
@@ -171,25 +238,96 @@ public class TemplateService {
         return templateDtoMapper.toResponse(template);
     }
 
+    /**
+     * 템플릿 콘텐츠 조회 (미리보기 스트리밍용, 응답 DTO 변환 없이 소유권만 확인)
+     */
     @Transactional(readOnly = true)
-    public Page<TemplateResponse> getTemplatesByOwner(
+    public TemplateContent getTemplateContent(
             String userId,
-            Pageable pageable
+            String templateId
     ) {
-        var userIdObj = UserId.of(userId);
-        var templates = templateRepository.findByOwnerId(userIdObj, pageable);
-        return templates.map(templateDtoMapper::toResponse);
+        var template = templateRepository.findById(TemplateId.of(templateId))
+                .orElseThrow(() -> new NotFoundException("템플릿을 찾을 수 없습니다"));
+
+        validateOwnership(userId, template);
+        return template.getContent();
+    }
+
+    /**
+     * 템플릿의 컴파일된 레이아웃 조회 (PDF 직접 렌더링용, 권한 확인은 호출자 책임)
+     */
+    @Transactional(readOnly = true)
+    public CompiledTemplateLayout getCompiledLayout(String templateId) {
+        var template = templateRepository.findById(TemplateId.of(templateId))
+                .orElseThrow(() -> new NotFoundException("템플릿을 찾을 수 없습니다"));
+        return compiledTemplateCache.layout(template);
+    }
+
+    /**
+     * 지정한 버전의 컴파일된 레이아웃 조회 (템플릿이 없거나 그 뒤에 수정되었으면 empty)
+     * 계약서 본문을 렌더링한 버전과 현재 템플릿이 같은지 확인할 때 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<CompiledTemplateLayout> findCompiledLayout(
+            String templateId,
+            int version
+    ) {
+        return templateRepository.findById(TemplateId.of(templateId))
+                .filter(template -> template.getVersion() == version)
+                .map(compiledTemplateCache::layout);
     }
 
+    /**
+     * 소유자의 템플릿 목록 한 페이지
+     *
+     * @param status 상태 필터 (null이면 전체)
+     * @param cursor 이전 페이지가 준 다음 커서 (비어 있으면 첫 페이지)
+     */
     @Transactional(readOnly = true)
-    public Page<TemplateResponse> getTemplatesByOwnerAndStatus(
+    public CursorSlice<TemplateResponse> getTemplatesByOwner(
             String userId,
             TemplateStatus status,
-            Pageable pageable
+            String cursor,
+            int size
     ) {
         var userIdObj = UserId.of(userId);
-        var templates = templateRepository.findByOwnerIdAndStatus(userIdObj, status, pageable);
-        return templates.map(templateDtoMapper::toResponse);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        var templates = templateRepository.findByOwnerId(userIdObj, status, KeysetCursor.decode(cursor), pageSize + 1);
+        return CursorSlice.of(templates, pageSize, template ->
+                        new KeysetCursor(0, template.getCreatedAt(), template.getTemplateId().value()))
+                .map(templateDtoMapper::toResponse);
+    }
+
+    /**
+     * 소유자의 활성 템플릿 전체 (계약서 작성 화면의 선택 목록)
+     */
+    @Transactional(readOnly = true)
+    public List<TemplateResponse> getActiveTemplates(String userId) {
+        return templateRepository.findActiveTemplatesByOwnerId(UserId.of(userId)).stream()
+                .map(templateDtoMapper::toResponse)
+                .toList();
+    }
+
+    private static TemplateSectionChange toSectionChange(TemplateSectionChangeCommand command) {
+        if (command == null || command.operation() == null) {
+            throw new ValidationException("섹션 변경 종류는 필수입니다");
+        }
+
+        TemplateSectionChange.Operation operation;
+        try {
+            operation = TemplateSectionChange.Operation.valueOf(command.operation().trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("지원하지 않는 섹션 변경입니다: " + command.operation());
+        }
+
+        return switch (operation) {
+            case ADD -> TemplateSectionChange.add(
+                    TemplateSection.fromJson(command.sectionJson(), command.sectionId()), command.position());
+            case UPDATE -> TemplateSectionChange.update(
+                    TemplateSection.fromJson(command.sectionJson(), command.sectionId()));
+            case MOVE -> TemplateSectionChange.move(command.sectionId(), command.position());
+            case DELETE -> TemplateSectionChange.delete(command.sectionId());
+        };
     }
 
     private void validateOwnership(
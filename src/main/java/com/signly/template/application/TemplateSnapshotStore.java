@@ -0,0 +1,23 @@
+package com.signly.template.application;
+
+import com.signly.template.domain.model.TemplateContent;
+
+import java.util.Optional;
+
+/**
+ * 파싱된 템플릿 콘텐츠의 공유 스냅샷 저장소 (인스턴스 간 2차 캐시)
+ * 구현이 없으면 CompiledTemplateCache는 메모리 캐시만 사용한다.
+ */
+public interface TemplateSnapshotStore {
+
+    /**
+     * @param key 템플릿 ID, 버전, 원문 지문으로 만든 키
+     * @return 저장된 스냅샷 (없거나 읽을 수 없으면 empty)
+     */
+    Optional<TemplateContent> load(String key);
+
+    void store(
+            String key,
+            TemplateContent content
+    );
+}
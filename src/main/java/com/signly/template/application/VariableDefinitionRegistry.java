@@ -0,0 +1,262 @@
+package com.signly.template.application;
+
+import com.signly.common.validation.ValidationResult;
+import com.signly.template.application.dto.VariableDefinitionDto;
+import com.signly.template.domain.event.VariableDefinitionsChangedEvent;
+import com.signly.template.domain.model.TemplateVariableDefinition;
+import com.signly.template.domain.model.VariableCategory;
+import com.signly.template.domain.repository.VariableDefinitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * 템플릿 변수 정의 메모리 레지스트리
+ * - 모든 정의를 한 번에 적재하고 검증 정규식을 미리 컴파일해 둔다.
+ * - 목록/카테고리 조회는 활성 정의만, 변수명 조회와 검증은 비활성 정의도 포함한다 (기존 findByVariableName 동작).
+ * - 변수 하나 또는 계약서 입력 전체를 DB 조회 없이 검증한다.
+ * - 정의 변경 이벤트(커밋 후)와 주기적 재적재로 갱신하며, 조회 중에는 이전 스냅샷을 그대로 사용한다.
+ * - 데이터 버전은 적재한 정의가 실제로 달라졌을 때만 올라가므로 파생 캐시의 무효화 기준으로 쓴다.
+ */
+@Component
+public class VariableDefinitionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(VariableDefinitionRegistry.class);
+
+    private final VariableDefinitionRepository variableDefinitionRepository;
+    private volatile Snapshot snapshot;
+
+    public VariableDefinitionRegistry(VariableDefinitionRepository variableDefinitionRepository) {
+        this.variableDefinitionRepository = variableDefinitionRepository;
+    }
+
+    /**
+     * 모든 활성 변수 정의 (표시 순서)
+     */
+    public List<VariableDefinitionDto> getAll() {
+        return snapshot().definitions();
+    }
+
+    /**
+     * 카테고리 표시명별 활성 변수 정의
+     */
+    public Map<String, List<VariableDefinitionDto>> getGroupedByCategory() {
+        return snapshot().byCategoryName();
+    }
+
+    /**
+     * 카테고리의 활성 변수 정의
+     */
+    public List<VariableDefinitionDto> getByCategory(VariableCategory category) {
+        return snapshot().byCategory().getOrDefault(category, List.of());
+    }
+
+    /**
+     * 현재 정의의 데이터 버전 (이 인스턴스 안에서만 의미가 있음)
+     */
+    public long getVersion() {
+        return snapshot().version();
+    }
+
+    /**
+     * 변수명으로 변수 정의 조회 (비활성 정의 포함)
+     */
+    public Optional<VariableDefinitionDto> find(String variableName) {
+        CompiledDefinition definition = snapshot().byName().get(variableName);
+        return Optional.ofNullable(definition).map(CompiledDefinition::dto);
+    }
+
+    /**
+     * 변수 값 하나 검증 (정의가 없는 변수는 통과, 비활성 정의도 검증)
+     */
+    public ValidationResult validate(
+            String variableName,
+            String value
+    ) {
+        CompiledDefinition definition = snapshot().byName().get(variableName);
+        return definition != null ? definition.validate(value) : ValidationResult.success();
+    }
+
+    /**
+     * 계약서 입력 전체 검증
+     *
+     * @param variableValues 변수명 → 입력 값
+     * @return 검증에 실패한 변수명 → 오류 메시지 (입력 순서, 모두 통과하면 빈 Map)
+     */
+    public Map<String, String> validateAll(Map<String, String> variableValues) {
+        if (variableValues == null || variableValues.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, CompiledDefinition> byName = snapshot().byName();
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : variableValues.entrySet()) {
+            CompiledDefinition definition = byName.get(entry.getKey());
+            if (definition == null) {
+                continue;
+            }
+            ValidationResult result = definition.validate(entry.getValue());
+            if (!result.isValid()) {
+                errors.put(entry.getKey(), result.errorMessage());
+            }
+        }
+        return errors;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVariableDefinitionsChanged(VariableDefinitionsChangedEvent event) {
+        logger.info("변수 정의 변경으로 레지스트리 재적재: {}", event.getVariableName());
+        reload();
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 정의 반영
+     */
+    @Scheduled(fixedDelayString = "${app.template.variables.refresh-interval-ms:600000}",
+            initialDelayString = "${app.template.variables.refresh-interval-ms:600000}")
+    public void refresh() {
+        if (snapshot != null) {
+            reload();
+        }
+    }
+
+    /**
+     * 정의를 다시 적재 (실패하면 이전 스냅샷 유지, 적재된 적이 없으면 다음 조회 시 재시도)
+     */
+    public void reload() {
+        try {
+            Snapshot loaded = load();
+            synchronized (this) {
+                snapshot = loaded.succeeding(snapshot);
+            }
+        } catch (RuntimeException e) {
+            logger.error("변수 정의 레지스트리 재적재 실패, 이전 정의 유지", e);
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot load() {
+        List<TemplateVariableDefinition> definitions = variableDefinitionRepository.findAll().stream()
+                .sorted(Comparator.comparing(TemplateVariableDefinition::getDisplayOrder,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        Map<String, CompiledDefinition> byName = new LinkedHashMap<>(definitions.size() * 2);
+        for (TemplateVariableDefinition definition : definitions) {
+            byName.put(definition.getVariableName(), CompiledDefinition.of(definition));
+        }
+
+        List<VariableDefinitionDto> dtos = byName.values().stream()
+                .map(CompiledDefinition::dto)
+                .filter(dto -> Boolean.TRUE.equals(dto.isActive()))
+                .toList();
+        Map<VariableCategory, List<VariableDefinitionDto>> byCategory = dtos.stream()
+                .collect(Collectors.groupingBy(VariableDefinitionDto::category, LinkedHashMap::new,
+                        Collectors.toUnmodifiableList()));
+        Map<String, List<VariableDefinitionDto>> byCategoryName = dtos.stream()
+                .collect(Collectors.groupingBy(dto -> dto.category().getDisplayName(), LinkedHashMap::new,
+                        Collectors.toUnmodifiableList()));
+
+        logger.info("변수 정의 레지스트리 적재: {}건 (활성 {}건)", byName.size(), dtos.size());
+        return new Snapshot(
+                1L,
+                dtos,
+                Collections.unmodifiableMap(byName),
+                Collections.unmodifiableMap(byCategory),
+                Collections.unmodifiableMap(byCategoryName)
+        );
+    }
+
+    private record Snapshot(
+            long version,
+            List<VariableDefinitionDto> definitions,
+            Map<String, CompiledDefinition> byName,
+            Map<VariableCategory, List<VariableDefinitionDto>> byCategory,
+            Map<String, List<VariableDefinitionDto>> byCategoryName
+    ) {
+
+        /**
+         * 이전 스냅샷 다음 버전으로 지정 (정의가 같으면 이전 버전 유지)
+         */
+        Snapshot succeeding(Snapshot previous) {
+            if (previous == null) {
+                return this;
+            }
+            long next = previous.definitions().equals(definitions) ? previous.version() : previous.version() + 1;
+            return new Snapshot(next, definitions, byName, byCategory, byCategoryName);
+        }
+    }
+
+    /**
+     * 검증 정규식을 미리 컴파일한 변수 정의
+     * 정규식이 잘못된 정의는 값이 있으면 항상 검증 실패로 처리한다.
+     */
+    private record CompiledDefinition(
+            VariableDefinitionDto dto,
+            Pattern pattern,
+            boolean invalidRule,
+            String errorMessage
+    ) {
+
+        static CompiledDefinition of(TemplateVariableDefinition definition) {
+            String rule = definition.getValidationRule();
+            Pattern pattern = null;
+            boolean invalidRule = false;
+            if (rule != null && !rule.isEmpty()) {
+                try {
+                    pattern = Pattern.compile(rule);
+                } catch (PatternSyntaxException e) {
+                    logger.warn("잘못된 변수 검증 정규식: variable={}, rule={}", definition.getVariableName(), rule);
+                    invalidRule = true;
+                }
+            }
+            return new CompiledDefinition(
+                    VariableDefinitionDto.from(definition),
+                    pattern,
+                    invalidRule,
+                    definition.getValidationErrorMessage()
+            );
+        }
+
+        ValidationResult validate(String value) {
+            boolean blank = value == null || value.trim().isEmpty();
+            if (blank) {
+                return Boolean.TRUE.equals(dto.isRequired()) ?
+                        ValidationResult.failure(dto.displayName() + "은(는) 필수 항목입니다.") :
+                        ValidationResult.success();
+            }
+            if (invalidRule) {
+                return ValidationResult.failure("검증 중 오류가 발생했습니다.");
+            }
+            if (pattern != null && !pattern.matcher(value).matches()) {
+                return ValidationResult.failure(errorMessage);
+            }
+            return ValidationResult.success();
+        }
+    }
+}
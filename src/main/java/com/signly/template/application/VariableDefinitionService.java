@@ -2,6 +2,7 @@ package com.signly.template.application;
 
 import com.signly.common.validation.ValidationResult;
 import com.signly.template.application.dto.VariableDefinitionDto;
+import com.signly.template.domain.event.VariableDefinitionsChangedEvent;
 import com.signly.template.domain.model.TemplateVariableDefinition;
 import com.signly.template.domain.model.VariableCategory;
 import com.signly.template.domain.model.VariableType;
@@ -12,14 +13,13 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * 템플릿 변수 정의 서비스
+ * 조회와 검증은 VariableDefinitionRegistry(메모리)에서 처리하고, 변경 시 이벤트로 레지스트리를 갱신
  */
 @Service
 @Transactional(readOnly = true)
@@ -28,72 +28,35 @@ import java.util.stream.Collectors;
 public class VariableDefinitionService {
 
     private final VariableDefinitionRepository variableDefinitionRepository;
+    private final VariableDefinitionRegistry variableDefinitionRegistry;
     private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 활성화된 변수 정의 조회
      */
     public List<VariableDefinitionDto> getAllActiveVariables() {
-        try {
-            List<TemplateVariableDefinition> definitions = variableDefinitionRepository.findAllActive();
-            log.info("Loaded {} active variable definitions from DB", definitions.size());
-
-            return definitions.stream()
-                    .map(VariableDefinitionDto::from)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("Failed to load variable definitions from DB", e);
-            throw new RuntimeException("Failed to load variable definitions", e);
-        }
+        return variableDefinitionRegistry.getAll();
     }
 
     /**
      * 카테고리별 변수 정의 조회
      */
     public Map<String, List<VariableDefinitionDto>> getVariablesByCategory() {
-        try {
-            List<TemplateVariableDefinition> all = variableDefinitionRepository.findAllActive();
-            log.info("Loaded {} active variable definitions grouped by category from DB", all.size());
-
-            return all.stream()
-                    .map(VariableDefinitionDto::from)
-                    .collect(Collectors.groupingBy(
-                            dto -> dto.category().getDisplayName(),
-                            LinkedHashMap::new,
-                            Collectors.toList()
-                    ));
-        } catch (Exception e) {
-            log.error("Failed to load variable definitions grouped by category", e);
-            throw new RuntimeException("Failed to load variable definitions by category", e);
-        }
+        return variableDefinitionRegistry.getGroupedByCategory();
     }
 
     /**
      * 특정 변수 정의 조회
      */
     public Optional<VariableDefinitionDto> getVariableByName(String variableName) {
-        try {
-            log.info("Loading variable definition by name from DB: {}", variableName);
-            return variableDefinitionRepository.findByVariableName(variableName)
-                    .map(VariableDefinitionDto::from);
-        } catch (Exception e) {
-            log.error("Failed to load variable definition by name: {}", variableName, e);
-            return Optional.empty();
-        }
+        return variableDefinitionRegistry.find(variableName);
     }
 
     /**
      * 카테고리별 변수 정의 조회
      */
     public List<VariableDefinitionDto> getVariablesByCategory(VariableCategory category) {
-        try {
-            return variableDefinitionRepository.findByCategory(category).stream()
-                    .map(VariableDefinitionDto::from)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("Failed to load variable definitions by category: {}", category, e);
-            return List.of();
-        }
+        return variableDefinitionRegistry.getByCategory(category);
     }
 
     /**
@@ -103,46 +66,16 @@ public class VariableDefinitionService {
             String variableName,
             String value
     ) {
-        try {
-            Optional<TemplateVariableDefinition> defOpt =
-                    variableDefinitionRepository.findByVariableName(variableName);
-
-            if (defOpt.isEmpty()) {
-                // 정의가 없으면 통과 (하위 호환성)
-                log.debug("No definition found for variable: {}, passing validation", variableName);
-                return ValidationResult.success();
-            }
-
-            TemplateVariableDefinition def = defOpt.get();
-
-            // 필수값 검사
-            if (def.getIsRequired() && (value == null || value.trim().isEmpty())) {
-                String message = def.getDisplayName() + "은(는) 필수 항목입니다.";
-                log.debug("Required validation failed for variable: {}", variableName);
-                return ValidationResult.failure(message);
-            }
-
-            // 값이 없으면 검증 통과
-            if (value == null || value.trim().isEmpty()) {
-                return ValidationResult.success();
-            }
-
-            // 정규식 검증
-            if (def.getValidationRule() != null && !def.getValidationRule().isEmpty()) {
-                if (!def.isValidValue(value)) {
-                    String message = def.getValidationErrorMessage();
-                    log.debug("Pattern validation failed for variable: {}, value: {}", variableName, value);
-                    return ValidationResult.failure(message);
-                }
-            }
-
-            log.debug("Validation passed for variable: {}", variableName);
-            return ValidationResult.success();
-
-        } catch (Exception e) {
-            log.error("Error during validation for variable: {}", variableName, e);
-            return ValidationResult.failure("검증 중 오류가 발생했습니다.");
-        }
+        return variableDefinitionRegistry.validate(variableName, value);
+    }
+
+    /**
+     * 계약서 입력 변수 전체 검증
+     *
+     * @return 검증에 실패한 변수명 → 오류 메시지 (모두 통과하면 빈 Map)
+     */
+    public Map<String, String> validateVariableValues(Map<String, String> variableValues) {
+        return variableDefinitionRegistry.validateAll(variableValues);
     }
 
     /**
@@ -182,6 +115,7 @@ public class VariableDefinitionService {
 
         TemplateVariableDefinition saved = variableDefinitionRepository.save(definition);
         log.info("Created new variable definition: {}", saved.getVariableName());
+        eventPublisher.publishEvent(new VariableDefinitionsChangedEvent(saved.getVariableName()));
 
         return VariableDefinitionDto.from(saved);
     }
@@ -215,6 +149,7 @@ public class VariableDefinitionService {
 
         TemplateVariableDefinition saved = variableDefinitionRepository.save(definition);
         log.info("Updated variable definition: {}", saved.getVariableName());
+        eventPublisher.publishEvent(new VariableDefinitionsChangedEvent(saved.getVariableName()));
 
         return VariableDefinitionDto.from(saved);
     }
@@ -239,5 +174,6 @@ public class VariableDefinitionService {
         }
 
         variableDefinitionRepository.save(definition);
+        eventPublisher.publishEvent(new VariableDefinitionsChangedEvent(definition.getVariableName()));
     }
 }
\ No newline at end of file
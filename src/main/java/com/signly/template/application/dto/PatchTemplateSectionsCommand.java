@@ -0,0 +1,22 @@
+package com.signly.template.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * 템플릿 섹션 단위 수정 요청
+ *
+ * @param expectedVersion 클라이언트가 마지막으로 읽은 템플릿 버전
+ * @param changes         적용 순서대로의 변경 목록
+ */
+public record PatchTemplateSectionsCommand(
+        @NotNull(message = "템플릿 버전은 필수입니다")
+        Integer expectedVersion,
+
+        @NotEmpty(message = "변경 내용이 없습니다")
+        List<@Valid TemplateSectionChangeCommand> changes
+) {
+}
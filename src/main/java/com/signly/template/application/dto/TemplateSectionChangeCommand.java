@@ -0,0 +1,23 @@
+package com.signly.template.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 섹션 단위 변경 요청 한 건
+ *
+ * @param operation   ADD, UPDATE, MOVE, DELETE
+ * @param sectionId   대상 섹션 ID
+ * @param sectionJson ADD/UPDATE 시 섹션 JSON
+ * @param position    ADD/MOVE 시 위치 (0부터, ADD에서 생략하면 마지막)
+ */
+public record TemplateSectionChangeCommand(
+        @NotBlank(message = "변경 종류는 필수입니다")
+        String operation,
+
+        String sectionId,
+
+        String sectionJson,
+
+        Integer position
+) {
+}
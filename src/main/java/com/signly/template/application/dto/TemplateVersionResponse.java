@@ -0,0 +1,7 @@
+package com.signly.template.application.dto;
+
+public record TemplateVersionResponse(
+        String templateId,
+        int version
+) {
+}
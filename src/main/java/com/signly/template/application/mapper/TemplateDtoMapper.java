@@ -1,5 +1,6 @@
 package com.signly.template.application.mapper;
 
+import com.signly.template.application.CompiledTemplateCache;
 import com.signly.template.application.dto.TemplateResponse;
 import com.signly.template.application.dto.TemplateSectionDto;
 import com.signly.template.application.dto.TemplateVariableDto;
@@ -18,6 +19,7 @@ import java.util.stream.Collectors;
 public class TemplateDtoMapper {
 
     private final UnifiedTemplateRenderer unifiedTemplateRenderer;
+    private final CompiledTemplateCache compiledTemplateCache;
 
     public TemplateResponse toResponse(ContractTemplate template) {
         TemplateContent content = template.getContent();
@@ -38,7 +40,7 @@ public class TemplateDtoMapper {
                 template.getTemplateId().value(),
                 template.getOwnerId().value(),
                 template.getTitle(),
-                content.jsonContent(),
+                compiledTemplateCache.json(template),
                 template.getVersion(),
                 template.getStatus(),
                 template.getCreatedAt(),
@@ -4,6 +4,7 @@ import com.signly.template.domain.model.*;
 import com.signly.template.infrastructure.entity.TemplateEntity;
 import com.signly.template.infrastructure.repository.TemplateJpaRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Element;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -15,47 +16,73 @@ import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 
+/**
+ * 기동 시 프리셋 템플릿을 DB에 동기화하고 프리셋 카탈로그를 적재
+ * 원본 HTML의 해시가 저장된 값과 같으면 파싱과 재저장을 건너뛴다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PresetInitializationService {
 
+    /**
+     * 원본 → TemplateContent 변환 규칙 버전 (변환 로직을 바꾸면 올려서 기존 해시를 무효화)
+     */
+    static final String PARSER_VERSION = "1";
+
+    private static final String STANDARD_EMPLOYMENT_PRESET_ID = "standard-employment-contract";
+
     private final TemplateJpaRepository templateRepository;
     private final ResourceLoader resourceLoader;
+    private final TemplatePresetCatalog presetCatalog;
 
     @EventListener(ApplicationReadyEvent.class)
     @Transactional
     public void initializePresets() {
         // 표준근로계약서 프리셋 생성 또는 업데이트
         createOrUpdateStandardEmploymentContractPreset();
+        presetCatalog.reload();
     }
 
     private void createOrUpdateStandardEmploymentContractPreset() {
         try {
             var resource = resourceLoader.getResource("classpath:presets/templates/standard-employment-contract.html");
-            String html;
+            byte[] source;
             try (var inputStream = resource.getInputStream()) {
-                html = StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+                source = StreamUtils.copyToByteArray(inputStream);
+            }
+            String sourceHash = sourceHash(source);
+
+            // 기존 프리셋 찾기
+            var existingPreset = templateRepository.findByIsPresetTrueAndPresetId(STANDARD_EMPLOYMENT_PRESET_ID);
+            if (existingPreset.isPresent() && sourceHash.equals(existingPreset.get().getSourceHash())) {
+                log.info("표준 근로계약서 프리셋 변경 없음, 재적재 생략");
+                return;
             }
 
             // Parse HTML into TemplateContent using domain model
-            TemplateContent templateContent = parseEmploymentContractToTemplateContent(html);
+            TemplateContent templateContent = parseEmploymentContractToTemplateContent(
+                    new String(source, StandardCharsets.UTF_8));
             String jsonContent = templateContent.toJson();
 
-            // 기존 프리셋 찾기
-            var existingPreset = templateRepository.findByIsPresetTrueAndPresetId("standard-employment-contract");
-
             if (existingPreset.isPresent()) {
-                // 기존 프리셋 업데이트
+                // 기존 프리셋 업데이트 (버전을 올려 파싱/컴파일 캐시 키를 바꿈)
                 var preset = existingPreset.get();
                 preset.setContent(jsonContent);
+                preset.setVersion(preset.getVersion() + 1);
+                preset.setContentVersion(preset.getVersion());
+                preset.setSourceHash(sourceHash);
                 preset.setUpdatedAt(LocalDateTime.now());
                 templateRepository.save(preset);
-                System.out.println("✅ 표준 근로계약서 프리셋이 업데이트되었습니다.");
+                log.info("표준 근로계약서 프리셋이 업데이트되었습니다.");
             } else {
                 // 새 프리셋 생성
                 var preset = new TemplateEntity(
@@ -64,21 +91,34 @@ public class PresetInitializationService {
                         "표준 근로계약서",
                         jsonContent,
                         templateContent.sections().size(),
+                        templateContent.sections().size(),
                         TemplateStatus.ACTIVE,
                         true, // is_preset
-                        "standard-employment-contract", // preset_id
+                        STANDARD_EMPLOYMENT_PRESET_ID, // preset_id
+                        sourceHash,
                         LocalDateTime.now(),
                         LocalDateTime.now()
                 );
 
                 templateRepository.save(preset);
-                System.out.println("✅ 표준 근로계약서 프리셋이 생성되었습니다.");
+                log.info("표준 근로계약서 프리셋이 생성되었습니다.");
             }
         } catch (IOException e) {
             throw new RuntimeException("Failed to load standard employment contract preset", e);
         }
     }
 
+    static String sourceHash(byte[] source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(PARSER_VERSION.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ':');
+            return HexFormat.of().formatHex(digest.digest(source));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private TemplateContent parseEmploymentContractToTemplateContent(String html) {
         var sections = new ArrayList<TemplateSection>();
         var doc = Jsoup.parse(html);
@@ -4,9 +4,10 @@ import com.signly.template.domain.service.TemplateVariableUtils;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 템플릿 프리셋 클래스
@@ -24,9 +25,30 @@ public final class TemplatePreset {
      * 프리셋을 HTML로 렌더링 (미리보기용)
      */
     public String renderHtml() {
-        return sections.stream()
+        int estimatedLength = sections.stream().mapToInt(section -> section.getContent() == null ? 0 : section.getContent().length()).sum();
+        StringBuilder html = new StringBuilder(estimatedLength + estimatedLength / 4 + 16);
+        try {
+            writeHtml(html);
+        } catch (IOException e) {
+            // StringBuilder는 IOException을 던지지 않음
+            throw new UncheckedIOException(e);
+        }
+        return html.toString();
+    }
+
+    /**
+     * 프리셋 미리보기 HTML을 출력 대상에 바로 기록
+     */
+    public void writeHtml(Appendable out) throws IOException {
+        List<PresetSection> sorted = sections.stream()
                 .sorted(Comparator.comparingInt(PresetSection::getOrder))
-                .map(section -> TemplateVariableUtils.convertVariablesToUnderlines(section.getContent()))
-                .collect(Collectors.joining("\n"));
+                .toList();
+
+        for (int i = 0; i < sorted.size(); i++) {
+            if (i > 0) {
+                out.append('\n');
+            }
+            TemplateVariableUtils.appendVariablesAsUnderlines(out, sorted.get(i).getContent(), false);
+        }
     }
 }
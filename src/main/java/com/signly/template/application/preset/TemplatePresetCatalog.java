@@ -0,0 +1,136 @@
+package com.signly.template.application.preset;
+
+import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.domain.model.TemplateSection;
+import com.signly.template.infrastructure.entity.TemplateEntity;
+import com.signly.template.infrastructure.repository.TemplateJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 프리셋 카탈로그 메모리 스냅샷
+ * - 프리셋 목록과 파싱된 섹션을 불변 스냅샷으로 보관하여 조회 시 DB 접근과 JSON 파싱이 없다.
+ * - 프리셋 초기화가 끝나면 다시 적재되며, 그 전에 조회되면 DB에서 한 번 적재한다.
+ * - ETag는 프리셋별 ID/버전/원본 해시로 계산하므로 프리셋이 바뀔 때만 달라진다.
+ */
+@Component
+public class TemplatePresetCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(TemplatePresetCatalog.class);
+    private static final String PRESET_DESCRIPTION = "프리셋 템플릿";
+
+    private final TemplateJpaRepository templateRepository;
+    private volatile Snapshot snapshot;
+
+    public TemplatePresetCatalog(TemplateJpaRepository templateRepository) {
+        this.templateRepository = templateRepository;
+    }
+
+    public List<TemplatePresetSummary> getSummaries() {
+        return snapshot().summaries();
+    }
+
+    public Optional<TemplatePreset> getPreset(String presetId) {
+        return Optional.ofNullable(snapshot().presets().get(presetId));
+    }
+
+    /**
+     * 카탈로그 전체에 대한 강한 ETag (따옴표 포함)
+     */
+    public String getETag() {
+        return snapshot().eTag();
+    }
+
+    /**
+     * DB의 활성 프리셋으로 스냅샷을 다시 만듦
+     */
+    public synchronized void reload() {
+        snapshot = load();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot load() {
+        List<TemplateEntity> entities = templateRepository.findAllActivePresets();
+
+        var summaries = new ArrayList<TemplatePresetSummary>(entities.size());
+        var presets = new LinkedHashMap<String, TemplatePreset>(entities.size() * 2);
+        MessageDigest digest = sha256();
+
+        for (TemplateEntity entity : entities) {
+            summaries.add(new TemplatePresetSummary(entity.getPresetId(), entity.getTitle(), PRESET_DESCRIPTION));
+            presets.put(entity.getPresetId(), toPreset(entity));
+
+            String version = entity.getPresetId() + ':' + entity.getVersion() + ':' +
+                    (entity.getSourceHash() != null ? entity.getSourceHash() : entity.getContent());
+            digest.update(version.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+
+        String eTag = "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        logger.info("프리셋 카탈로그 적재: {}건, etag={}", presets.size(), eTag);
+        return new Snapshot(List.copyOf(summaries), Collections.unmodifiableMap(presets), eTag);
+    }
+
+    private static TemplatePreset toPreset(TemplateEntity entity) {
+        try {
+            TemplateContent content = TemplateContent.fromJson(entity.getContent());
+            List<PresetSection> sections = content.sections().stream()
+                    .map(TemplatePresetCatalog::toPresetSection)
+                    .toList();
+            return new TemplatePreset(entity.getPresetId(), entity.getTitle(), PRESET_DESCRIPTION, sections);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse preset template: " + entity.getPresetId(), e);
+        }
+    }
+
+    private static PresetSection toPresetSection(TemplateSection section) {
+        Map<String, Object> metadata = section.getMetadata() != null ?
+                Collections.unmodifiableMap(new LinkedHashMap<>(section.getMetadata())) : Map.of();
+        return new PresetSection(
+                section.getSectionId(),
+                section.getType().name(),
+                section.getOrder(),
+                section.getContent(),
+                metadata
+        );
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Snapshot(
+            List<TemplatePresetSummary> summaries,
+            Map<String, TemplatePreset> presets,
+            String eTag
+    ) {
+    }
+}
@@ -1,67 +1,33 @@
 package com.signly.template.application.preset;
 
-import com.signly.template.domain.model.TemplateContent;
-import com.signly.template.domain.model.TemplateSection;
-import com.signly.template.infrastructure.entity.TemplateEntity;
-import com.signly.template.infrastructure.repository.TemplateJpaRepository;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
 
-@Slf4j
+/**
+ * 프리셋 조회 서비스
+ * 프리셋은 기동 시 적재된 메모리 카탈로그에서 제공하므로 조회 시 DB에 접근하지 않는다.
+ */
 @Service
 @RequiredArgsConstructor
 public class TemplatePresetService {
 
-    private final TemplateJpaRepository templateRepository;
+    private final TemplatePresetCatalog presetCatalog;
 
     public List<TemplatePresetSummary> getSummaries() {
-        log.info("Loading preset template summaries from DB");
-        return templateRepository.findAllActivePresets().stream()
-                .map(entity -> new TemplatePresetSummary(
-                        entity.getPresetId(),
-                        entity.getTitle(),
-                        "프리셋 템플릿" // description은 별도 필드로 추가 가능
-                ))
-                .toList();
+        return presetCatalog.getSummaries();
     }
 
     public Optional<TemplatePreset> getPreset(String presetId) {
-        log.info("Loading preset template from DB: {}", presetId);
-        return templateRepository.findByIsPresetTrueAndPresetId(presetId)
-                .map(entity -> {
-                    List<PresetSection> sections = parsePresetSections(entity);
-                    return new TemplatePreset(
-                            entity.getPresetId(),
-                            entity.getTitle(),
-                            "프리셋 템플릿",
-                            sections
-                    );
-                });
+        return presetCatalog.getPreset(presetId);
     }
 
-    private List<PresetSection> parsePresetSections(TemplateEntity entity) {
-        try {
-            // TemplateContent 도메인 모델을 사용하여 파싱
-            var templateContent = TemplateContent.fromJson(entity.getContent());
-
-            // TemplateSection을 PresetSection으로 변환
-            return templateContent.sections().stream().map(this::convertToPresetSection).toList();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse preset template: " + entity.getPresetId(), e);
-        }
-    }
-
-    private PresetSection convertToPresetSection(TemplateSection templateSection) {
-        return new PresetSection(
-                templateSection.getSectionId(),
-                templateSection.getType().name(),
-                templateSection.getOrder(),
-                templateSection.getContent(),
-                templateSection.getMetadata()
-        );
+    /**
+     * 프리셋 카탈로그 ETag (프리셋이 바뀔 때만 달라짐)
+     */
+    public String getCatalogETag() {
+        return presetCatalog.getETag();
     }
 }
@@ -0,0 +1,17 @@
+package com.signly.template.domain.event;
+
+/**
+ * 템플릿 변수 정의 변경 이벤트
+ * 생성/수정/활성화 상태 변경 후 발행되어 변수 정의 레지스트리를 다시 적재
+ */
+public class VariableDefinitionsChangedEvent {
+    private final String variableName;
+
+    public VariableDefinitionsChangedEvent(String variableName) {
+        this.variableName = variableName;
+    }
+
+    public String getVariableName() {
+        return variableName;
+    }
+}
@@ -0,0 +1,97 @@
+package com.signly.template.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 템플릿 버전별로 미리 컴파일된 레이아웃 골격 (불변)
+ * 섹션 순서, 섹션별 마크업 구조(CSS 클래스, 본문 태그)와 본문을 리터럴/변수/줄바꿈 조각으로 나눈 결과를 보관하여
+ * 렌더링 시에는 변수 값만 채워 넣으면 된다.
+ *
+ * @param sections 정렬된 섹션 목록
+ */
+public record CompiledTemplateLayout(
+        List<CompiledSection> sections
+) {
+
+    public static final String DOCUMENT_CLASS = "template-document";
+
+    public CompiledTemplateLayout {
+        sections = List.copyOf(sections);
+    }
+
+    /**
+     * 레이아웃에 해당 변수 자리가 있는지 여부
+     */
+    public boolean hasVariable(String name) {
+        for (CompiledSection section : sections) {
+            for (LayoutSegment segment : section.segments()) {
+                if (segment instanceof Variable variable && variable.name().equals(name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 컴파일된 섹션
+     *
+     * @param type         섹션 타입
+     * @param sectionClass section 요소의 CSS 클래스
+     * @param contentTag   본문 요소 태그 (h1~h6, p), 원본 HTML 섹션이면 null
+     * @param lineBreaks   변수 값의 줄바꿈도 br로 출력하는지 여부
+     * @param segments     본문 조각
+     */
+    public record CompiledSection(
+            TemplateSectionType type,
+            String sectionClass,
+            String contentTag,
+            boolean lineBreaks,
+            List<LayoutSegment> segments
+    ) {
+        public CompiledSection {
+            segments = List.copyOf(segments);
+        }
+
+        /**
+         * 본문을 HTML 그대로 출력하는 섹션인지 여부 (sanitize=false인 CUSTOM)
+         */
+        public boolean rawHtml() {
+            return contentTag == null;
+        }
+    }
+
+    /**
+     * 섹션 본문 조각
+     */
+    public sealed interface LayoutSegment permits Literal, Variable, LineBreak {
+    }
+
+    /**
+     * 고정 텍스트 (원본 HTML 섹션에서는 HTML 조각)
+     */
+    public record Literal(String text) implements LayoutSegment {
+    }
+
+    /**
+     * 변수 자리 ([VARIABLE_NAME])
+     */
+    public record Variable(String name) implements LayoutSegment {
+
+        /**
+         * 변수 값 조회 (값이 없으면 원래 표기 그대로)
+         */
+        public String resolve(Map<String, String> values) {
+            String value = values.get(name);
+            return value != null ? value : "[" + name + "]";
+        }
+    }
+
+    /**
+     * 줄바꿈 (br)
+     */
+    public record LineBreak() implements LayoutSegment {
+        public static final LineBreak INSTANCE = new LineBreak();
+    }
+}
@@ -15,6 +15,7 @@ public class ContractTemplate extends AggregateRoot {
     private String title;
     private TemplateContent content;
     private int version;
+    private int loadedVersion;  // 저장소에서 읽은 시점의 버전 (전체 저장 시 낙관적 잠금 기준)
     private TemplateStatus status;
 
     protected ContractTemplate() {
@@ -37,6 +38,7 @@ public class ContractTemplate extends AggregateRoot {
         this.title = title;
         this.content = content;
         this.version = version;
+        this.loadedVersion = version;
         this.status = status;
     }
 
@@ -96,6 +98,19 @@ public class ContractTemplate extends AggregateRoot {
         updateTimestamp();
     }
 
+    /**
+     * 섹션 단위 변경 적용 (변경 하나당 버전 1 증가)
+     */
+    public void applySectionChange(TemplateSectionChange change) {
+        if (this.status == TemplateStatus.ACTIVE) {
+            throw new ValidationException("활성화된 템플릿은 수정할 수 없습니다");
+        }
+
+        this.content = this.content.apply(change);
+        this.version++;
+        updateTimestamp();
+    }
+
     public void activate() {
         if (this.status == TemplateStatus.ACTIVE) {
             throw new ValidationException("이미 활성화된 템플릿입니다");
@@ -163,9 +178,9 @@ public class ContractTemplate extends AggregateRoot {
         var sections = new java.util.ArrayList<>(this.content.sections());
         boolean found = false;
 
-        for (TemplateSection section : sections) {
-            if (section.getSectionId().equals(sectionId)) {
-                section.setContent(newContent);
+        for (int i = 0; i < sections.size(); i++) {
+            if (sections.get(i).getSectionId().equals(sectionId)) {
+                sections.set(i, sections.get(i).withContent(newContent));
                 found = true;
                 break;
             }
@@ -203,8 +218,7 @@ public class ContractTemplate extends AggregateRoot {
                     .findFirst()
                     .orElseThrow(() -> new ValidationException("섹션을 찾을 수 없습니다: " + sectionId));
 
-            found.setOrder(order++);
-            reorderedSections.add(found);
+            reorderedSections.add(found.withOrder(order++));
         }
 
         this.content = TemplateContent.of(
@@ -231,14 +245,15 @@ public class ContractTemplate extends AggregateRoot {
             throw new ValidationException("최소 한 개 이상의 섹션이 필요합니다");
         }
 
+        var renumberedSections = new java.util.ArrayList<TemplateSection>(sections.size());
         int order = 0;
         for (TemplateSection section : sections) {
-            section.setOrder(order++);
+            renumberedSections.add(section.withOrder(order++));
         }
 
         this.content = TemplateContent.of(
                 this.content.metadata(),
-                sections
+                renumberedSections
         );
         this.version++;
         updateTimestamp();
@@ -53,6 +53,66 @@ public record TemplateContent(
         return new TemplateContent(VERSION, metadata, sortedSections);
     }
 
+    /**
+     * 섹션 하나를 추가/수정/이동/삭제한 새 콘텐츠 (원본은 캐시에서 공유되므로 수정하지 않음)
+     * 변경 후 섹션 순서는 0부터 다시 매긴다.
+     */
+    public TemplateContent apply(TemplateSectionChange change) {
+        List<TemplateSection> ordered = sections.stream()
+                .sorted(Comparator.comparingInt(TemplateSection::getOrder))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        int index = indexOf(ordered, change.sectionId());
+        if (change.operation() == TemplateSectionChange.Operation.ADD) {
+            if (index >= 0) {
+                throw new ValidationException("이미 존재하는 섹션입니다: " + change.sectionId());
+            }
+        } else if (index < 0) {
+            throw new ValidationException("섹션을 찾을 수 없습니다: " + change.sectionId());
+        }
+
+        switch (change.operation()) {
+            case ADD -> ordered.add(insertPosition(change.position(), ordered.size()), change.section());
+            case UPDATE -> ordered.set(index, change.section());
+            case MOVE -> {
+                TemplateSection moved = ordered.remove(index);
+                ordered.add(insertPosition(change.position(), ordered.size()), moved);
+            }
+            case DELETE -> {
+                if (ordered.size() == 1) {
+                    throw new ValidationException("최소 한 개 이상의 섹션이 필요합니다");
+                }
+                ordered.remove(index);
+            }
+        }
+
+        List<TemplateSection> renumbered = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            TemplateSection section = ordered.get(i);
+            renumbered.add(section.getOrder() == i ? section : section.withOrder(i));
+        }
+        return new TemplateContent(version, metadata, renumbered);
+    }
+
+    private static int indexOf(
+            List<TemplateSection> sections,
+            String sectionId
+    ) {
+        for (int i = 0; i < sections.size(); i++) {
+            if (sections.get(i).getSectionId().equals(sectionId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int insertPosition(
+            Integer position,
+            int size
+    ) {
+        return position == null ? size : Math.min(position, size);
+    }
+
     /**
      * JSON 문자열로 변환
      */
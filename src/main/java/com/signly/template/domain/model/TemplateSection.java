@@ -1,6 +1,8 @@
 package com.signly.template.domain.model;
 
 import com.signly.common.exception.ValidationException;
+import com.signly.template.domain.service.TemplateContentParser;
+import com.signly.template.domain.service.TemplateContentSerializer;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,6 +12,9 @@ import java.util.Map;
 
 public class TemplateSection {
 
+    private static final TemplateContentParser parser = new TemplateContentParser();
+    private static final TemplateContentSerializer serializer = new TemplateContentSerializer();
+
     @Getter
     private final String sectionId;
     @Setter
@@ -64,4 +69,35 @@ public class TemplateSection {
     public void setContent(String content) {
         this.content = content == null ? "" : content;
     }
+
+    /**
+     * 본문만 바꾼 새 섹션 (파싱된 템플릿 콘텐츠는 캐시에서 공유되므로 원본을 수정하지 않음)
+     */
+    public TemplateSection withContent(String newContent) {
+        return new TemplateSection(sectionId, type, order, newContent, metadata, variables);
+    }
+
+    /**
+     * 순서만 바꾼 새 섹션
+     */
+    public TemplateSection withOrder(int newOrder) {
+        return new TemplateSection(sectionId, type, newOrder, content, metadata, variables);
+    }
+
+    /**
+     * 섹션 JSON 객체로부터 생성 (sectionId가 없으면 defaultSectionId 사용)
+     */
+    public static TemplateSection fromJson(
+            String sectionJson,
+            String defaultSectionId
+    ) {
+        return parser.parseSection(sectionJson, defaultSectionId);
+    }
+
+    /**
+     * 섹션 하나를 JSON 문자열로 변환
+     */
+    public String toJson() {
+        return serializer.serializeSection(this);
+    }
 }
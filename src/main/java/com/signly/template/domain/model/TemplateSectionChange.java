@@ -0,0 +1,70 @@
+package com.signly.template.domain.model;
+
+import com.signly.common.exception.ValidationException;
+
+/**
+ * 섹션 단위 템플릿 변경 (추가/수정/이동/삭제)
+ * 변경 하나가 템플릿 버전 하나에 대응하며, 활성화 전까지 변경 기록으로 저장된다.
+ *
+ * @param operation 변경 종류
+ * @param sectionId 대상 섹션 ID
+ * @param section   추가/수정할 섹션 (ADD, UPDATE)
+ * @param position  삽입/이동 위치 (0부터, ADD에서 없으면 맨 뒤)
+ */
+public record TemplateSectionChange(
+        Operation operation,
+        String sectionId,
+        TemplateSection section,
+        Integer position
+) {
+
+    public enum Operation {
+        ADD,
+        UPDATE,
+        MOVE,
+        DELETE
+    }
+
+    public TemplateSectionChange {
+        if (operation == null) {
+            throw new ValidationException("섹션 변경 종류는 필수입니다");
+        }
+        if (sectionId == null || sectionId.isBlank()) {
+            throw new ValidationException("섹션 ID는 필수입니다");
+        }
+        if ((operation == Operation.ADD || operation == Operation.UPDATE) && section == null) {
+            throw new ValidationException("추가/수정할 섹션 내용이 필요합니다");
+        }
+        if (section != null && !section.getSectionId().equals(sectionId)) {
+            throw new ValidationException("섹션 ID가 일치하지 않습니다: " + sectionId);
+        }
+        if (operation == Operation.MOVE && position == null) {
+            throw new ValidationException("이동할 위치가 필요합니다");
+        }
+        if (position != null && position < 0) {
+            throw new ValidationException("섹션 위치는 0 이상이어야 합니다");
+        }
+    }
+
+    public static TemplateSectionChange add(
+            TemplateSection section,
+            Integer position
+    ) {
+        return new TemplateSectionChange(Operation.ADD, section != null ? section.getSectionId() : null, section, position);
+    }
+
+    public static TemplateSectionChange update(TemplateSection section) {
+        return new TemplateSectionChange(Operation.UPDATE, section != null ? section.getSectionId() : null, section, null);
+    }
+
+    public static TemplateSectionChange move(
+            String sectionId,
+            int position
+    ) {
+        return new TemplateSectionChange(Operation.MOVE, sectionId, null, position);
+    }
+
+    public static TemplateSectionChange delete(String sectionId) {
+        return new TemplateSectionChange(Operation.DELETE, sectionId, null, null);
+    }
+}
@@ -1,11 +1,11 @@
 package com.signly.template.domain.repository;
 
+import com.signly.common.pagination.KeysetCursor;
 import com.signly.template.domain.model.ContractTemplate;
 import com.signly.template.domain.model.TemplateId;
+import com.signly.template.domain.model.TemplateSectionChange;
 import com.signly.template.domain.model.TemplateStatus;
 import com.signly.user.domain.model.UserId;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,17 +14,35 @@ public interface TemplateRepository {
 
     ContractTemplate save(ContractTemplate template);
 
-    Optional<ContractTemplate> findById(TemplateId templateId);
-
-    Page<ContractTemplate> findByOwnerId(
-            UserId ownerId,
-            Pageable pageable
+    /**
+     * 섹션 단위 변경만 기록하고 버전을 올림 (content 전체를 다시 쓰지 않음)
+     * 변경 하나당 버전이 1씩 증가하며, 현재 버전이 expectedVersion과 다르면 아무것도 저장하지 않는다.
+     *
+     * @param template        변경이 적용된 템플릿
+     * @param expectedVersion 변경 전 버전
+     * @param changes         적용한 순서대로의 변경 목록
+     * @return 버전 충돌로 저장하지 못했으면 false
+     */
+    boolean saveSectionChanges(
+            ContractTemplate template,
+            int expectedVersion,
+            List<TemplateSectionChange> changes
     );
 
-    Page<ContractTemplate> findByOwnerIdAndStatus(
+    Optional<ContractTemplate> findById(TemplateId templateId);
+
+    /**
+     * 소유자의 템플릿 목록 (키셋 페이지네이션, 생성 시각 역순)
+     *
+     * @param status 상태 필터 (null이면 전체)
+     * @param after  이 커서 다음 행부터 조회 (정렬 우선순위는 사용하지 않음)
+     * @param limit  최대 조회 건수
+     */
+    List<ContractTemplate> findByOwnerId(
             UserId ownerId,
             TemplateStatus status,
-            Pageable pageable
+            KeysetCursor after,
+            int limit
     );
 
     List<ContractTemplate> findActiveTemplatesByOwnerId(UserId ownerId);
@@ -1,25 +1,29 @@
 package com.signly.template.domain.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.signly.common.exception.ValidationException;
 import com.signly.common.util.UlidGenerator;
 import com.signly.template.domain.model.*;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
  * 템플릿 콘텐츠 파싱 서비스
  * SRP: JSON 파싱 및 객체 변환 담당
+ * JsonNode 트리를 만들지 않고 토큰 스트림에서 바로 도메인 객체를 만든다.
+ * 읽기는 JsonParser 단위이므로 같은 구조의 바이너리 포맷(Smile 등)도 그대로 읽을 수 있다.
  */
 public class TemplateContentParser {
 
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
     private static final String DEFAULT_VERSION = "1.0";
 
     /**
@@ -30,100 +34,286 @@ public class TemplateContentParser {
             throw new ValidationException("템플릿 내용은 필수입니다");
         }
 
-        try {
-            JsonNode root = MAPPER.readTree(jsonContent);
-
-            String version = root.has("version") ? root.get("version").asText() : DEFAULT_VERSION;
-            TemplateMetadata metadata = parseMetadata(root.get("metadata"));
-            List<TemplateSection> sections = parseSections(root.get("sections"));
-
-            return new TemplateContentData(version, metadata, sections);
-        } catch (JsonProcessingException e) {
+        try (JsonParser parser = JSON_FACTORY.createParser(jsonContent)) {
+            return read(parser);
+        } catch (IOException e) {
             throw new ValidationException("JSON 파싱 실패: " + e.getMessage());
         }
     }
 
     /**
-     * 메타데이터 파싱
+     * 토큰 스트림에서 템플릿 콘텐츠 읽기 (JSON, Smile 공용)
+     *
+     * @param parser 아직 첫 토큰을 읽지 않은 파서
      */
-    private TemplateMetadata parseMetadata(JsonNode metadataNode) {
-        if (metadataNode == null || metadataNode.isNull()) {
-            return TemplateMetadata.of("", "", "", new HashMap<>());
+    public TemplateContentData read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new ValidationException("sections 배열이 필요합니다");
         }
 
-        String title = metadataNode.has("title") ? metadataNode.get("title").asText() : "";
-        String description = metadataNode.has("description") ? metadataNode.get("description").asText() : "";
-        String createdBy = metadataNode.has("createdBy") ? metadataNode.get("createdBy").asText() : "";
+        String version = DEFAULT_VERSION;
+        TemplateMetadata metadata = null;
+        List<TemplateSection> sections = null;
 
-        Map<String, TemplateVariable> variables = new HashMap<>();
-        if (metadataNode.has("variables") && metadataNode.get("variables").isObject()) {
-            JsonNode variablesNode = metadataNode.get("variables");
-            variablesNode.fields().forEachRemaining(entry -> {
-                String varName = entry.getKey();
-                JsonNode varNode = entry.getValue();
-
-                String label = varNode.has("label") ? varNode.get("label").asText() : varName;
-                String typeStr = varNode.has("type") ? varNode.get("type").asText() : "TEXT";
-                boolean required = varNode.has("required") && varNode.get("required").asBoolean();
-                String defaultValue = varNode.has("defaultValue") ? varNode.get("defaultValue").asText() : "";
-
-                TemplateVariableType type;
-                try {
-                    type = TemplateVariableType.valueOf(typeStr.toUpperCase());
-                } catch (IllegalArgumentException e) {
-                    type = TemplateVariableType.TEXT;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "version" -> version = readText(parser, DEFAULT_VERSION);
+                case "metadata" -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        metadata = readMetadata(parser);
+                    } else {
+                        parser.skipChildren();
+                        metadata = null;
+                    }
                 }
-
-                variables.put(varName, TemplateVariable.of(label, type, required, defaultValue));
-            });
+                case "sections" -> {
+                    if (token == JsonToken.START_ARRAY) {
+                        sections = readSections(parser);
+                    } else {
+                        parser.skipChildren();
+                        sections = null;
+                    }
+                }
+                default -> parser.skipChildren();
+            }
         }
 
-        return TemplateMetadata.of(title, description, createdBy, variables);
+        if (sections == null) {
+            throw new ValidationException("sections 배열이 필요합니다");
+        }
+        if (metadata == null) {
+            metadata = TemplateMetadata.of("", "", "", new HashMap<>());
+        }
+        return new TemplateContentData(version, metadata, sections);
     }
 
     /**
-     * 섹션 목록 파싱
+     * 메타데이터 파싱 (현재 토큰: START_OBJECT)
      */
-    private List<TemplateSection> parseSections(JsonNode sectionsNode) {
-        if (sectionsNode == null || !sectionsNode.isArray()) {
-            throw new ValidationException("sections 배열이 필요합니다");
+    private TemplateMetadata readMetadata(JsonParser parser) throws IOException {
+        String title = "";
+        String description = "";
+        String createdBy = "";
+        Map<String, TemplateVariable> variables = new HashMap<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "title" -> title = readText(parser, "");
+                case "description" -> description = readText(parser, "");
+                case "createdBy" -> createdBy = readText(parser, "");
+                case "variables" -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        variables = readVariables(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
         }
 
-        List<TemplateSection> sections = new ArrayList<>();
-        int index = 0;
-        for (JsonNode sectionNode : sectionsNode) {
-            String sectionId = sectionNode.has("sectionId") ?
-                    sectionNode.get("sectionId").asText() :
-                    UlidGenerator.generate();
+        return TemplateMetadata.of(title, description, createdBy, variables);
+    }
+
+    private Map<String, TemplateVariable> readVariables(JsonParser parser) throws IOException {
+        Map<String, TemplateVariable> variables = new HashMap<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String varName = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                variables.put(varName, TemplateVariable.of(varName, TemplateVariableType.TEXT, false, ""));
+                continue;
+            }
+
+            String label = varName;
+            String typeStr = "TEXT";
+            boolean required = false;
+            String defaultValue = "";
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "label" -> label = readText(parser, varName);
+                    case "type" -> typeStr = readText(parser, "TEXT");
+                    case "required" -> required = parser.getValueAsBoolean();
+                    case "defaultValue" -> defaultValue = readText(parser, "");
+                    default -> parser.skipChildren();
+                }
+            }
 
-            String typeStr = sectionNode.has("type") ? sectionNode.get("type").asText() : "PARAGRAPH";
-            TemplateSectionType type;
+            TemplateVariableType type;
             try {
-                type = TemplateSectionType.valueOf(typeStr.toUpperCase());
+                type = TemplateVariableType.valueOf(typeStr.toUpperCase(Locale.ROOT));
             } catch (IllegalArgumentException e) {
-                type = TemplateSectionType.PARAGRAPH;
+                type = TemplateVariableType.TEXT;
             }
 
-            int order = sectionNode.has("order") ? sectionNode.get("order").asInt() : index;
-            String content = sectionNode.has("content") ? sectionNode.get("content").asText() : "";
+            variables.put(varName, TemplateVariable.of(label, type, required, defaultValue));
+        }
+
+        return variables;
+    }
 
-            Map<String, Object> metadata = new HashMap<>();
-            if (sectionNode.has("metadata") && sectionNode.get("metadata").isObject()) {
-                metadata = MAPPER.convertValue(sectionNode.get("metadata"), new TypeReference<>() {});
+    /**
+     * 섹션 목록 파싱 (현재 토큰: START_ARRAY)
+     */
+    private List<TemplateSection> readSections(JsonParser parser) throws IOException {
+        List<TemplateSection> sections = new ArrayList<>();
+        int index = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                sections.add(readSection(parser, index, null));
+            } else {
+                // 객체가 아닌 항목은 기본값 섹션으로 취급 (기존 트리 파서와 동일)
+                parser.skipChildren();
+                sections.add(TemplateSection.of(UlidGenerator.generate(), TemplateSectionType.PARAGRAPH, index, "",
+                        new HashMap<>(), new ArrayList<>()));
             }
+            index++;
+        }
 
-            List<String> variables = new ArrayList<>();
-            if (sectionNode.has("variables") && sectionNode.get("variables").isArray()) {
-                for (JsonNode varNode : sectionNode.get("variables")) {
-                    variables.add(varNode.asText());
+        return sections;
+    }
+
+    /**
+     * 섹션 하나를 JSON 문자열에서 파싱 (섹션 단위 변경용)
+     *
+     * @param sectionJson      섹션 JSON 객체
+     * @param defaultSectionId sectionId가 없을 때 사용할 ID (null이면 새로 생성)
+     */
+    public TemplateSection parseSection(
+            String sectionJson,
+            String defaultSectionId
+    ) {
+        if (sectionJson == null || sectionJson.isBlank()) {
+            throw new ValidationException("섹션 내용은 필수입니다");
+        }
+
+        try (JsonParser parser = JSON_FACTORY.createParser(sectionJson)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ValidationException("섹션은 JSON 객체여야 합니다");
+            }
+            return readSection(parser, 0, defaultSectionId);
+        } catch (IOException e) {
+            throw new ValidationException("JSON 파싱 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 섹션 파싱 (현재 토큰: START_OBJECT)
+     */
+    private TemplateSection readSection(
+            JsonParser parser,
+            int defaultOrder,
+            String defaultSectionId
+    ) throws IOException {
+        String sectionId = null;
+        String typeStr = "PARAGRAPH";
+        int order = defaultOrder;
+        String content = "";
+        Map<String, Object> metadata = new HashMap<>();
+        List<String> variables = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "sectionId" -> sectionId = readText(parser, null);
+                case "type" -> typeStr = readText(parser, "PARAGRAPH");
+                case "order" -> order = parser.getValueAsInt(0);
+                case "content" -> content = readText(parser, "");
+                case "metadata" -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        metadata = readObject(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
                 }
+                case "variables" -> {
+                    if (token == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            variables.add(readText(parser, ""));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
             }
+        }
 
-            sections.add(TemplateSection.of(sectionId, type, order, content, metadata, variables));
-            index++;
+        if (sectionId == null) {
+            sectionId = defaultSectionId != null ? defaultSectionId : UlidGenerator.generate();
         }
 
-        return sections;
+        TemplateSectionType type;
+        try {
+            type = TemplateSectionType.valueOf(typeStr.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            type = TemplateSectionType.PARAGRAPH;
+        }
+
+        return TemplateSection.of(sectionId, type, order, content, metadata, variables);
+    }
+
+    /**
+     * 임의 JSON 객체를 Map으로 읽기 (현재 토큰: START_OBJECT)
+     * 값 타입은 ObjectMapper 기본 매핑과 같다 (정수 → Integer/Long, 실수 → Double, 객체 → LinkedHashMap, 배열 → ArrayList).
+     */
+    private static Map<String, Object> readObject(JsonParser parser) throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            map.put(field, readValue(parser));
+        }
+        return map;
+    }
+
+    private static Object readValue(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case START_OBJECT -> readObject(parser);
+            case START_ARRAY -> {
+                List<Object> list = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readValue(parser));
+                }
+                yield list;
+            }
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_EMBEDDED_OBJECT -> parser.getEmbeddedObject();
+            default -> null;
+        };
+    }
+
+    /**
+     * 스칼라 값을 문자열로 읽기 (숫자/불리언은 문자열로 변환, null·객체·배열은 기본값)
+     */
+    private static String readText(
+            JsonParser parser,
+            String defaultValue
+    ) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return defaultValue;
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return defaultValue;
+        }
+        String text = parser.getValueAsString();
+        return text != null ? text : defaultValue;
     }
 
     /**
@@ -134,4 +324,4 @@ public class TemplateContentParser {
             TemplateMetadata metadata,
             List<TemplateSection> sections
     ) {}
-}
\ No newline at end of file
+}
@@ -1,24 +1,31 @@
 package com.signly.template.domain.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.signly.common.exception.ValidationException;
 import com.signly.template.domain.model.TemplateMetadata;
 import com.signly.template.domain.model.TemplateSection;
+import com.signly.template.domain.model.TemplateVariable;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 템플릿 콘텐츠 직렬화 서비스
  * SRP: 객체를 JSON으로 변환 담당
+ * 중간 Map을 만들지 않고 JsonGenerator에 바로 기록한다.
+ * 쓰기는 JsonGenerator 단위이므로 같은 구조의 바이너리 포맷(Smile 등)으로도 그대로 기록할 수 있다.
  */
 public class TemplateContentSerializer {
 
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonFactory JSON_FACTORY = new ObjectMapper().getFactory();
+    private static final int INITIAL_BUFFER_CHARS = 4 * 1024;
 
     /**
      * TemplateContentData를 JSON 문자열로 직렬화
@@ -28,57 +35,94 @@ public class TemplateContentSerializer {
             TemplateMetadata metadata,
             List<TemplateSection> sections
     ) {
-        try {
-            Map<String, Object> root = new HashMap<>();
-            root.put("version", version);
-            root.put("metadata", buildMetadataMap(metadata));
-            root.put("sections", buildSectionsArray(sections));
-
-            return MAPPER.writeValueAsString(root);
-        } catch (JsonProcessingException e) {
+        StringWriter out = new StringWriter(INITIAL_BUFFER_CHARS);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            write(generator, version, metadata, sections);
+        } catch (IOException e) {
             throw new ValidationException("JSON 직렬화 실패: " + e.getMessage());
         }
+        return out.toString();
     }
 
     /**
-     * 메타데이터를 Map으로 변환
+     * 템플릿 콘텐츠를 생성기에 기록 (JSON, Smile 공용)
+     * 섹션 메타데이터의 임의 값은 생성기의 ObjectCodec으로 기록하므로 ObjectMapper에서 만든 생성기를 사용해야 한다.
      */
-    private Map<String, Object> buildMetadataMap(TemplateMetadata metadata) {
-        Map<String, Object> metadataMap = new HashMap<>();
-        metadataMap.put("title", metadata.title());
-        metadataMap.put("description", metadata.description());
-        metadataMap.put("createdBy", metadata.createdBy());
+    public void write(
+            JsonGenerator generator,
+            String version,
+            TemplateMetadata metadata,
+            List<TemplateSection> sections
+    ) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("version", version);
+        generator.writeFieldName("metadata");
+        writeMetadata(generator, metadata);
 
-        Map<String, Map<String, Object>> variablesMap = new HashMap<>();
-        metadata.variables().forEach((key, var) -> {
-            Map<String, Object> varMap = new HashMap<>();
-            varMap.put("label", var.label());
-            varMap.put("type", var.type().name().toLowerCase());
-            varMap.put("required", var.required());
-            varMap.put("defaultValue", var.defaultValue());
-            variablesMap.put(key, varMap);
-        });
-        metadataMap.put("variables", variablesMap);
+        generator.writeArrayFieldStart("sections");
+        List<TemplateSection> sorted = new ArrayList<>(sections);
+        sorted.sort(Comparator.comparingInt(TemplateSection::getOrder));
+        for (TemplateSection section : sorted) {
+            writeSection(generator, section);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
 
-        return metadataMap;
+    private void writeMetadata(
+            JsonGenerator generator,
+            TemplateMetadata metadata
+    ) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("title", metadata.title());
+        generator.writeStringField("description", metadata.description());
+        generator.writeStringField("createdBy", metadata.createdBy());
+
+        generator.writeObjectFieldStart("variables");
+        for (Map.Entry<String, TemplateVariable> entry : metadata.variables().entrySet()) {
+            TemplateVariable variable = entry.getValue();
+            generator.writeObjectFieldStart(entry.getKey());
+            generator.writeStringField("label", variable.label());
+            generator.writeStringField("type", variable.type().name().toLowerCase(Locale.ROOT));
+            generator.writeBooleanField("required", variable.required());
+            generator.writeStringField("defaultValue", variable.defaultValue());
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+
+        generator.writeEndObject();
     }
 
     /**
-     * 섹션 목록을 배열로 변환
+     * 섹션 하나를 JSON 문자열로 직렬화 (섹션 단위 변경 기록용)
      */
-    private List<Map<String, Object>> buildSectionsArray(List<TemplateSection> sections) {
-        return sections.stream()
-                .sorted(Comparator.comparingInt(TemplateSection::getOrder))
-                .map(section -> {
-                    Map<String, Object> sectionMap = new HashMap<>();
-                    sectionMap.put("sectionId", section.getSectionId());
-                    sectionMap.put("type", section.getType().name());
-                    sectionMap.put("order", section.getOrder());
-                    sectionMap.put("content", section.getContent());
-                    sectionMap.put("metadata", section.getMetadata());
-                    sectionMap.put("variables", section.getVariables());
-                    return sectionMap;
-                })
-                .collect(Collectors.toList());
+    public String serializeSection(TemplateSection section) {
+        StringWriter out = new StringWriter(INITIAL_BUFFER_CHARS);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            writeSection(generator, section);
+        } catch (IOException e) {
+            throw new ValidationException("JSON 직렬화 실패: " + e.getMessage());
+        }
+        return out.toString();
+    }
+
+    private void writeSection(
+            JsonGenerator generator,
+            TemplateSection section
+    ) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("sectionId", section.getSectionId());
+        generator.writeStringField("type", section.getType().name());
+        generator.writeNumberField("order", section.getOrder());
+        generator.writeStringField("content", section.getContent());
+        generator.writeFieldName("metadata");
+        generator.writeObject(section.getMetadata());
+
+        generator.writeArrayFieldStart("variables");
+        for (String variable : section.getVariables()) {
+            generator.writeString(variable);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
     }
-}
\ No newline at end of file
+}
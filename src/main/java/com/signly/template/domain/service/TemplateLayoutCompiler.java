@@ -0,0 +1,148 @@
+package com.signly.template.domain.service;
+
+import com.signly.template.domain.model.CompiledTemplateLayout;
+import com.signly.template.domain.model.CompiledTemplateLayout.CompiledSection;
+import com.signly.template.domain.model.CompiledTemplateLayout.LayoutSegment;
+import com.signly.template.domain.model.CompiledTemplateLayout.LineBreak;
+import com.signly.template.domain.model.CompiledTemplateLayout.Literal;
+import com.signly.template.domain.model.CompiledTemplateLayout.Variable;
+import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.domain.model.TemplateSection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 템플릿 콘텐츠를 레이아웃 골격으로 컴파일
+ * 마크업 규칙은 UnifiedTemplateRenderer.renderWithVariables와 같다.
+ * - HEADER: template-heading + 정렬, h{level}
+ * - PARAGRAPH: template-paragraph (+ indent) + 정렬, p, 줄바꿈 → br
+ * - DOTTED_BOX: template-dotted-box + 정렬, p, 줄바꿈 → br
+ * - FOOTER: template-footer + 정렬, p, 줄바꿈 → br
+ * - CUSTOM: template-custom, sanitize=false이면 본문을 HTML로 출력
+ */
+public final class TemplateLayoutCompiler {
+
+    private TemplateLayoutCompiler() {
+    }
+
+    public static CompiledTemplateLayout compile(TemplateContent templateContent) {
+        List<CompiledSection> sections = templateContent.sections().stream()
+                .sorted(Comparator.comparingInt(TemplateSection::getOrder))
+                .map(TemplateLayoutCompiler::compileSection)
+                .toList();
+        return new CompiledTemplateLayout(sections);
+    }
+
+    private static CompiledSection compileSection(TemplateSection section) {
+        Map<String, Object> metadata = section.getMetadata();
+        String content = section.getContent();
+
+        return switch (section.getType()) {
+            case HEADER -> {
+                int level = metadata != null && metadata.containsKey("level") ? ((Number) metadata.get("level")).intValue() : 1;
+                level = Math.max(1, Math.min(6, level));
+                yield new CompiledSection(section.getType(),
+                        "template-heading" + alignmentClass(metadata, "center"),
+                        "h" + level,
+                        false,
+                        segments(content, false));
+            }
+            case PARAGRAPH -> {
+                boolean indent = metadata != null && metadata.containsKey("indent") && (Boolean) metadata.get("indent");
+                yield new CompiledSection(section.getType(),
+                        "template-paragraph" + (indent ? " template-paragraph-indent" : "") + alignmentClass(metadata, "left"),
+                        "p",
+                        true,
+                        segments(content, true));
+            }
+            case DOTTED_BOX -> new CompiledSection(section.getType(),
+                    "template-dotted-box" + alignmentClass(metadata, "left"),
+                    "p",
+                    true,
+                    segments(content, true));
+            case FOOTER -> new CompiledSection(section.getType(),
+                    "template-footer" + alignmentClass(metadata, "center"),
+                    "p",
+                    true,
+                    segments(content, true));
+            case CUSTOM -> {
+                boolean sanitize = metadata == null || !metadata.containsKey("sanitize") || (Boolean) metadata.get("sanitize");
+                yield new CompiledSection(section.getType(),
+                        "template-custom",
+                        sanitize ? "p" : null,
+                        false,
+                        segments(content, false));
+            }
+        };
+    }
+
+    /**
+     * 본문을 리터럴/변수/줄바꿈 조각으로 분리 (변수 표기: [VARIABLE_NAME])
+     */
+    static List<LayoutSegment> segments(
+            String content,
+            boolean lineBreaks
+    ) {
+        List<LayoutSegment> segments = new ArrayList<>();
+        if (content == null || content.isEmpty()) {
+            return segments;
+        }
+
+        int literalStart = 0;
+        int open;
+        while ((open = TemplateVariableUtils.nextVariableStart(content, literalStart)) >= 0) {
+            int close = content.indexOf(']', open + 2);
+            addLiteral(segments, content.substring(literalStart, open), lineBreaks);
+            segments.add(new Variable(content.substring(open + 1, close)));
+            literalStart = close + 1;
+        }
+        addLiteral(segments, content.substring(literalStart), lineBreaks);
+        return segments;
+    }
+
+    private static void addLiteral(
+            List<LayoutSegment> segments,
+            String text,
+            boolean lineBreaks
+    ) {
+        if (text.isEmpty()) {
+            return;
+        }
+        if (!lineBreaks) {
+            segments.add(new Literal(text));
+            return;
+        }
+
+        int start = 0;
+        int newline;
+        while ((newline = text.indexOf('\n', start)) >= 0) {
+            if (newline > start) {
+                segments.add(new Literal(text.substring(start, newline)));
+            }
+            segments.add(LineBreak.INSTANCE);
+            start = newline + 1;
+        }
+        if (start < text.length()) {
+            segments.add(new Literal(text.substring(start)));
+        }
+    }
+
+    private static String alignmentClass(
+            Map<String, Object> metadata,
+            String defaultAlignment
+    ) {
+        String alignment = metadata != null && metadata.containsKey("alignment") ? (String) metadata.get("alignment") : defaultAlignment;
+        if (alignment == null || alignment.isEmpty()) {
+            return "";
+        }
+        return switch (alignment.toLowerCase()) {
+            case "center" -> " text-center";
+            case "right" -> " text-right";
+            case "justify" -> " text-justify";
+            default -> "";  // left는 기본값이므로 클래스 불필요
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package com.signly.template.domain.service;
+
+import com.signly.template.domain.model.CompiledTemplateLayout;
+import com.signly.template.domain.model.CompiledTemplateLayout.CompiledSection;
+import com.signly.template.domain.model.CompiledTemplateLayout.LayoutSegment;
+import com.signly.template.domain.model.CompiledTemplateLayout.LineBreak;
+import com.signly.template.domain.model.CompiledTemplateLayout.Literal;
+import com.signly.template.domain.model.CompiledTemplateLayout.Variable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * 컴파일된 레이아웃에 변수 값을 채워 HTML로 출력
+ * 조각 배열을 순서대로 출력 대상(StringBuilder, 응답 Writer 등)에 바로 기록하며, 리터럴과 변수 값은 각각 한 번만 이스케이프한다.
+ * (sanitize=false인 CUSTOM 섹션은 리터럴을 HTML 그대로 출력하고 변수 값만 이스케이프)
+ */
+public final class TemplateLayoutHtmlRenderer {
+
+    private static final String LINE_BREAK = "<br>";
+    private static final int SECTION_MARKUP_LENGTH = 64;
+    private static final int VARIABLE_VALUE_LENGTH = 24;
+
+    private TemplateLayoutHtmlRenderer() {
+    }
+
+    /**
+     * 레이아웃 전체를 template-document 컨테이너로 감싸 렌더링
+     *
+     * @param layout         컴파일된 레이아웃
+     * @param variableValues 변수명 → 값 (없는 변수는 [변수명] 그대로 출력)
+     * @return 렌더링된 HTML
+     */
+    public static String render(
+            CompiledTemplateLayout layout,
+            Map<String, String> variableValues
+    ) {
+        StringBuilder html = new StringBuilder(estimateLength(layout));
+        try {
+            write(layout, variableValues, html);
+        } catch (IOException e) {
+            // StringBuilder는 IOException을 던지지 않음
+            throw new UncheckedIOException(e);
+        }
+        return html.toString();
+    }
+
+    /**
+     * 레이아웃 전체를 출력 대상에 바로 기록 (문서 전체 문자열을 만들지 않음)
+     *
+     * @param layout         컴파일된 레이아웃
+     * @param variableValues 변수명 → 값 (없는 변수는 [변수명] 그대로 출력)
+     * @param out            출력 대상
+     * @throws IOException 출력 중 오류
+     */
+    public static void write(
+            CompiledTemplateLayout layout,
+            Map<String, String> variableValues,
+            Appendable out
+    ) throws IOException {
+        out.append("<div class=\"").append(CompiledTemplateLayout.DOCUMENT_CLASS).append("\">\n");
+        for (CompiledSection section : layout.sections()) {
+            writeSection(out, section, variableValues);
+            out.append('\n');
+        }
+        out.append("</div>");
+    }
+
+    private static void writeSection(
+            Appendable out,
+            CompiledSection section,
+            Map<String, String> variableValues
+    ) throws IOException {
+        out.append("<section class=\"").append(section.sectionClass()).append("\">");
+
+        if (section.rawHtml()) {
+            for (LayoutSegment segment : section.segments()) {
+                switch (segment) {
+                    case Literal literal -> out.append(literal.text());
+                    case LineBreak ignored -> out.append('\n');
+                    case Variable variable -> writeValue(out, variable.resolve(variableValues), false);
+                }
+            }
+            out.append("</section>");
+            return;
+        }
+
+        out.append('<').append(section.contentTag()).append('>');
+        for (LayoutSegment segment : section.segments()) {
+            switch (segment) {
+                case Literal literal -> TemplateVariableUtils.appendEscaped(out, literal.text(), 0, literal.text().length());
+                case LineBreak ignored -> out.append(LINE_BREAK);
+                case Variable variable -> writeValue(out, variable.resolve(variableValues), section.lineBreaks());
+            }
+        }
+        out.append("</").append(section.contentTag()).append("></section>");
+    }
+
+    private static void writeValue(
+            Appendable out,
+            String value,
+            boolean lineBreaks
+    ) throws IOException {
+        if (!lineBreaks) {
+            TemplateVariableUtils.appendEscaped(out, value, 0, value.length());
+            return;
+        }
+
+        int start = 0;
+        int newline;
+        while ((newline = value.indexOf('\n', start)) >= 0) {
+            TemplateVariableUtils.appendEscaped(out, value, start, newline);
+            out.append(LINE_BREAK);
+            start = newline + 1;
+        }
+        TemplateVariableUtils.appendEscaped(out, value, start, value.length());
+    }
+
+    /**
+     * 렌더링 결과 길이 추정 (출력 버퍼 초기 크기)
+     */
+    public static int estimateLength(CompiledTemplateLayout layout) {
+        int length = SECTION_MARKUP_LENGTH;
+        for (CompiledSection section : layout.sections()) {
+            length += SECTION_MARKUP_LENGTH;
+            for (LayoutSegment segment : section.segments()) {
+                length += switch (segment) {
+                    case Literal literal -> literal.text().length() + (literal.text().length() >> 4);
+                    case LineBreak ignored -> LINE_BREAK.length();
+                    case Variable ignored -> VARIABLE_VALUE_LENGTH;
+                };
+            }
+        }
+        return length;
+    }
+}
@@ -2,6 +2,8 @@ package com.signly.template.domain.service;
 
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -16,6 +18,7 @@ public class TemplateVariableUtils {
     // 표준 변수 패턴 [VARIABLE_NAME]
     private static final Pattern STANDARD_VARIABLE_PATTERN =
             Pattern.compile("\\[([^\\]]+)\\]");
+    private static final String SIGNATURE_IMAGE_SUFFIX = "_SIGNATURE_IMAGE";
 
     /**
      * HTML 특수문자 이스케이프
@@ -27,11 +30,69 @@ public class TemplateVariableUtils {
         if (text == null) {
             return "";
         }
-        return text.replace("&", "&amp;")
-                .replace("<", "&lt;")
-                .replace(">", "&gt;")
-                .replace("\"", "&quot;")
-                .replace("'", "&#39;");
+        int first = firstEscapeIndex(text);
+        if (first < 0) {
+            return text;
+        }
+        StringBuilder result = new StringBuilder(text.length() + 16);
+        result.append(text, 0, first);
+        appendEscaped(result, text, first, text.length());
+        return result.toString();
+    }
+
+    /**
+     * HTML 특수문자를 이스케이프하며 한 번에 이어 붙이기 (& < > " ')
+     *
+     * @param target 출력 버퍼
+     * @param text   이스케이프할 텍스트
+     * @param start  시작 위치 (포함)
+     * @param end    끝 위치 (제외)
+     */
+    public static void appendEscaped(
+            StringBuilder target,
+            CharSequence text,
+            int start,
+            int end
+    ) {
+        try {
+            appendEscaped((Appendable) target, text, start, end);
+        } catch (IOException e) {
+            // StringBuilder는 IOException을 던지지 않음
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * HTML 특수문자를 이스케이프하며 출력 대상(Writer 등)에 바로 기록
+     *
+     * @param target 출력 대상
+     * @param text   이스케이프할 텍스트
+     * @param start  시작 위치 (포함)
+     * @param end    끝 위치 (제외)
+     * @throws IOException 출력 중 오류
+     */
+    public static void appendEscaped(
+            Appendable target,
+            CharSequence text,
+            int start,
+            int end
+    ) throws IOException {
+        int literalStart = start;
+        for (int i = start; i < end; i++) {
+            String entity = switch (text.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (entity != null) {
+                target.append(text, literalStart, i).append(entity);
+                literalStart = i + 1;
+            }
+        }
+        target.append(text, literalStart, end);
     }
 
     /**
@@ -59,25 +120,50 @@ public class TemplateVariableUtils {
             return "";
         }
 
-        Matcher matcher = STANDARD_VARIABLE_PATTERN.matcher(content);
-        StringBuffer result = new StringBuffer();
+        StringBuilder result = new StringBuilder(content.length() + 64);
+        try {
+            appendVariablesAsUnderlines(result, content, excludeSignatureImages);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
 
-        while (matcher.find()) {
-            String variableName = matcher.group(1);
+    /**
+     * 변수를 밑줄로 변환하며 출력 대상에 바로 기록 (리터럴은 그대로 출력)
+     *
+     * @param target                 출력 대상
+     * @param content                템플릿 콘텐츠
+     * @param excludeSignatureImages 서명 이미지 변수 제외 여부
+     * @throws IOException 출력 중 오류
+     */
+    public static void appendVariablesAsUnderlines(
+            Appendable target,
+            String content,
+            boolean excludeSignatureImages
+    ) throws IOException {
+        if (content == null) {
+            return;
+        }
+
+        int literalStart = 0;
+        int open;
+        while ((open = nextVariableStart(content, literalStart)) >= 0) {
+            int close = content.indexOf(']', open + 2);
+            target.append(content, literalStart, open);
 
             // 서명 이미지 변수 제외
-            if (excludeSignatureImages && variableName.endsWith("_SIGNATURE_IMAGE")) {
-                matcher.appendReplacement(result, matcher.group(0));
-                continue;
+            int suffixStart = close - SIGNATURE_IMAGE_SUFFIX.length();
+            if (excludeSignatureImages && suffixStart > open && content.startsWith(SIGNATURE_IMAGE_SUFFIX, suffixStart)) {
+                target.append(content, open, close + 1);
+            } else {
+                target.append("<span class=\"blank-line\" data-variable-name=\"");
+                appendEscaped(target, content, open + 1, close);
+                target.append("\"></span>");
             }
-
-            String replacement = "<span class=\"blank-line\" data-variable-name=\"" +
-                    escapeHtml(variableName) + "\"></span>";
-            matcher.appendReplacement(result, replacement);
+            literalStart = close + 1;
         }
-        matcher.appendTail(result);
-
-        return result.toString();
+        target.append(content, literalStart, content.length());
     }
 
     /**
@@ -95,17 +181,59 @@ public class TemplateVariableUtils {
             return "";
         }
 
-        Matcher matcher = STANDARD_VARIABLE_PATTERN.matcher(content);
-        StringBuffer result = new StringBuffer();
+        StringBuilder result = new StringBuilder(content.length() + 64);
+        int literalStart = 0;
+        int open;
+        while ((open = nextVariableStart(content, literalStart)) >= 0) {
+            int close = content.indexOf(']', open + 2);
+            String variableName = content.substring(open + 1, close);
+            String value = variableValues.get(variableName);
+            result.append(content, literalStart, open);
+            if (value != null) {
+                appendEscaped(result, value, 0, value.length());
+            } else {
+                result.append('[');
+                appendEscaped(result, variableName, 0, variableName.length());
+                result.append(']');
+            }
+            literalStart = close + 1;
+        }
+        return result.append(content, literalStart, content.length()).toString();
+    }
 
-        while (matcher.find()) {
-            String variableName = matcher.group(1);
-            String value = variableValues.getOrDefault(variableName, "[" + variableName + "]");
-            matcher.appendReplacement(result, Matcher.quoteReplacement(escapeHtml(value)));
+    /**
+     * from 이후 첫 변수([이름])의 시작 위치, 없으면 -1
+     * 정규식 \[([^\]]+)\]와 같은 규칙: "[]"는 변수가 아니며 이름에는 ']'가 올 수 없다.
+     */
+    static int nextVariableStart(
+            String content,
+            int from
+    ) {
+        int open = content.indexOf('[', from);
+        while (open >= 0) {
+            int close = content.indexOf(']', open + 1);
+            if (close < 0) {
+                return -1;
+            }
+            if (close > open + 1) {
+                return open;
+            }
+            open = content.indexOf('[', open + 1);
         }
-        matcher.appendTail(result);
+        return -1;
+    }
 
-        return result.toString();
+    private static int firstEscapeIndex(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            switch (text.charAt(i)) {
+                case '&', '<', '>', '"', '\'' -> {
+                    return i;
+                }
+                default -> {
+                }
+            }
+        }
+        return -1;
     }
 
     /**
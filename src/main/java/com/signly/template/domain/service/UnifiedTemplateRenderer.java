@@ -1,10 +1,12 @@
 package com.signly.template.domain.service;
 
+import com.signly.template.domain.model.CompiledTemplateLayout;
 import com.signly.template.domain.model.TemplateContent;
 import com.signly.template.domain.model.TemplateSection;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.HtmlUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -13,11 +15,17 @@ import java.util.stream.Collectors;
 /**
  * 통합 템플릿 렌더러
  * SRP: 모든 템플릿 렌더링 요구사항을 단일 진실 공급원으로 처리
+ * - 모든 렌더링은 Appendable에 바로 기록하므로 응답 Writer로 스트리밍할 수 있다.
+ * - 문자열이 필요한 호출자를 위해 스레드별 출력 버퍼를 재사용한다.
  */
 @Service
 public class UnifiedTemplateRenderer {
 
+    private static final int INITIAL_BUFFER_CHARS = 16 * 1024;
+    private static final int MAX_RETAINED_BUFFER_CHARS = 512 * 1024;
+
     private final HtmlSectionRenderer sectionRenderer;
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_CHARS));
 
     public UnifiedTemplateRenderer(HtmlSectionRenderer sectionRenderer) {
         this.sectionRenderer = sectionRenderer;
@@ -27,21 +35,31 @@ public class UnifiedTemplateRenderer {
      * 템플릿 콘텐츠를 미리보기 HTML로 렌더링
      */
     public String renderPreview(TemplateContent templateContent) {
-        return renderSections(templateContent.sections(), RenderMode.PREVIEW);
+        return renderToString(out -> writeSections(templateContent.sections(), RenderMode.PREVIEW, out));
+    }
+
+    /**
+     * 템플릿 콘텐츠를 미리보기 HTML로 출력 대상에 바로 기록
+     */
+    public void renderPreview(
+            TemplateContent templateContent,
+            Appendable out
+    ) throws IOException {
+        writeSections(templateContent.sections(), RenderMode.PREVIEW, out);
     }
 
     /**
      * 템플릿 콘텐츠를 계약서 HTML로 렌더링
      */
     public String renderContract(TemplateContent templateContent) {
-        return renderSections(templateContent.sections(), RenderMode.CONTRACT);
+        return renderToString(out -> writeSections(templateContent.sections(), RenderMode.CONTRACT, out));
     }
 
     /**
      * 템플릿 콘텐츠를 PDF용 HTML로 렌더링
      */
     public String renderPdf(TemplateContent templateContent) {
-        return renderSections(templateContent.sections(), RenderMode.PDF);
+        return renderToString(out -> writeSections(templateContent.sections(), RenderMode.PDF, out));
     }
 
     /**
@@ -51,20 +69,28 @@ public class UnifiedTemplateRenderer {
             TemplateContent templateContent,
             Map<String, String> variableValues
     ) {
-        List<TemplateSection> sections = templateContent.sections().stream()
-                .sorted(Comparator.comparingInt(TemplateSection::getOrder))
-                .toList();
-
-        var html = new StringBuilder();
-        html.append("<div class=\"template-document\">\n");
+        return renderWithVariables(TemplateLayoutCompiler.compile(templateContent), variableValues);
+    }
 
-        for (var section : sections) {
-            html.append(renderSectionWithVariables(section, variableValues));
-            html.append("\n");
-        }
+    /**
+     * 미리 컴파일된 레이아웃에 변수 값을 대입하여 렌더링 (템플릿 버전별 캐시와 함께 사용)
+     */
+    public String renderWithVariables(
+            CompiledTemplateLayout layout,
+            Map<String, String> variableValues
+    ) {
+        return renderToString(out -> TemplateLayoutHtmlRenderer.write(layout, variableValues, out));
+    }
 
-        html.append("</div>");
-        return html.toString();
+    /**
+     * 미리 컴파일된 레이아웃에 변수 값을 대입하여 출력 대상에 바로 기록
+     */
+    public void renderWithVariables(
+            CompiledTemplateLayout layout,
+            Map<String, String> variableValues,
+            Appendable out
+    ) throws IOException {
+        TemplateLayoutHtmlRenderer.write(layout, variableValues, out);
     }
 
     /**
@@ -79,122 +105,49 @@ public class UnifiedTemplateRenderer {
     }
 
     /**
-     * 섹션 목록을 지정된 모드로 렌더링
+     * 섹션 목록을 지정된 모드로 렌더링 (섹션 사이는 줄바꿈)
      */
-    private String renderSections(
+    private void writeSections(
             List<TemplateSection> sections,
-            RenderMode mode
-    ) {
-        return sections.stream()
+            RenderMode mode,
+            Appendable out
+    ) throws IOException {
+        List<TemplateSection> sorted = sections.stream()
                 .sorted(Comparator.comparingInt(TemplateSection::getOrder))
-                .map(section -> sectionRenderer.renderSection(section, mode))
-                .collect(Collectors.joining("\n"));
-    }
+                .toList();
 
-    /**
-     * 개별 섹션을 변수 값 대입하여 렌더링
-     */
-    private String renderSectionWithVariables(
-            TemplateSection section,
-            Map<String, String> variableValues
-    ) {
-        String content = TemplateVariableUtils.substituteVariables(section.getContent(), variableValues);
-        return renderAdvancedSection(section.getType(), content, section.getMetadata());
+        for (int i = 0; i < sorted.size(); i++) {
+            if (i > 0) {
+                out.append('\n');
+            }
+            out.append(sectionRenderer.renderSection(sorted.get(i), mode));
+        }
     }
 
     /**
-     * 고급 섹션 렌더링 (메타데이터 기반)
+     * 스레드별 버퍼에 렌더링한 뒤 결과 문자열만 복사
+     * 지나치게 커진 버퍼는 보관하지 않는다.
      */
-    private String renderAdvancedSection(
-            com.signly.template.domain.model.TemplateSectionType type,
-            String content,
-            Map<String, Object> metadata
-    ) {
-        return switch (type) {
-            case HEADER -> renderHeader(content, metadata);
-            case PARAGRAPH -> renderParagraph(content, metadata);
-            case DOTTED_BOX -> renderDottedBox(content, metadata);
-            case FOOTER -> renderFooter(content, metadata);
-            case CUSTOM -> renderCustom(content, metadata);
-        };
-    }
-
-    private String renderHeader(
-            String content,
-            Map<String, Object> metadata
-    ) {
-        int level = metadata != null && metadata.containsKey("level") ? ((Number) metadata.get("level")).intValue() : 1;
-        level = Math.max(1, Math.min(6, level));
-
-        String alignment = metadata != null && metadata.containsKey("alignment") ? (String) metadata.get("alignment") : "center";
-        String escaped = HtmlUtils.htmlEscape(content);
-        String alignmentClass = getAlignmentClass(alignment);
-
-        return String.format("<section class=\"template-heading%s\"><h%d>%s</h%d></section>",
-                alignmentClass, level, escaped, level);
-    }
-
-    private String renderParagraph(
-            String content,
-            Map<String, Object> metadata
-    ) {
-        boolean indent = metadata != null && metadata.containsKey("indent") && (Boolean) metadata.get("indent");
-        String alignment = metadata != null && metadata.containsKey("alignment") ? (String) metadata.get("alignment") : "left";
-        String escaped = HtmlUtils.htmlEscape(content).replace("\n", "<br>");
-
-        String indentClass = indent ? " template-paragraph-indent" : "";
-        String alignmentClass = getAlignmentClass(alignment);
-
-        return String.format("<section class=\"template-paragraph%s%s\"><p>%s</p></section>",
-                indentClass, alignmentClass, escaped);
-    }
-
-    private String renderDottedBox(
-            String content,
-            Map<String, Object> metadata
-    ) {
-        String alignment = metadata != null && metadata.containsKey("alignment") ? (String) metadata.get("alignment") : "left";
-        String escaped = HtmlUtils.htmlEscape(content).replace("\n", "<br>");
-        String alignmentClass = getAlignmentClass(alignment);
-
-        return String.format("<section class=\"template-dotted-box%s\"><p>%s</p></section>",
-                alignmentClass, escaped);
-    }
-
-    private String renderFooter(
-            String content,
-            Map<String, Object> metadata
-    ) {
-        String alignment = metadata != null && metadata.containsKey("alignment") ? (String) metadata.get("alignment") : "center";
-        String escaped = HtmlUtils.htmlEscape(content).replace("\n", "<br>");
-        String alignmentClass = getAlignmentClass(alignment);
-
-        return String.format("<section class=\"template-footer%s\"><p>%s</p></section>",
-                alignmentClass, escaped);
-    }
-
-    private String renderCustom(
-            String content,
-            Map<String, Object> metadata
-    ) {
-        boolean sanitize = metadata == null || !metadata.containsKey("sanitize") || (Boolean) metadata.get("sanitize");
-
-        if (sanitize) {
-            return "<section class=\"template-custom\"><p>" + HtmlUtils.htmlEscape(content) + "</p></section>";
-        } else {
-            return "<section class=\"template-custom\">" + content + "</section>";
+    private String renderToString(HtmlWriter writer) {
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        try {
+            writer.write(buffer);
+            return buffer.toString();
+        } catch (IOException e) {
+            // StringBuilder는 IOException을 던지지 않음
+            throw new UncheckedIOException(e);
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_CHARS) {
+                buffers.remove();
+            } else {
+                buffer.setLength(0);
+            }
         }
     }
 
-    private String getAlignmentClass(String alignment) {
-        if (alignment == null || alignment.isEmpty()) {
-            return "";
-        }
-        return switch (alignment.toLowerCase()) {
-            case "center" -> " text-center";
-            case "right" -> " text-right";
-            case "justify" -> " text-justify";
-            default -> "";  // left는 기본값이므로 클래스 불필요
-        };
+    @FunctionalInterface
+    private interface HtmlWriter {
+        void write(Appendable out) throws IOException;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package com.signly.template.infrastructure.cache;
+
+import com.signly.template.application.TemplateSnapshotStore;
+import com.signly.template.domain.model.TemplateContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Redis에 Smile 스냅샷으로 파싱된 템플릿 공유 (app.template.cache.redis.enabled=true일 때만)
+ * 키에 템플릿 버전과 원문 지문이 들어가므로 무효화 없이 TTL로만 정리한다.
+ * Redis 오류는 캐시 미스로 취급하고 원문을 파싱한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.template.cache.redis.enabled", havingValue = "true")
+public class RedisTemplateSnapshotStore implements TemplateSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisTemplateSnapshotStore.class);
+    private static final String KEY_PREFIX = "template:snapshot:";
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final Duration ttl;
+
+    public RedisTemplateSnapshotStore(
+            RedisConnectionFactory connectionFactory,
+            @Value("${app.template.cache.redis.ttl:7d}") Duration ttl
+    ) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        this.redisTemplate = template;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<TemplateContent> load(String key) {
+        try {
+            byte[] snapshot = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            return snapshot != null ? Optional.of(TemplateContentSmileCodec.decode(snapshot)) : Optional.empty();
+        } catch (RuntimeException e) {
+            logger.warn("템플릿 스냅샷 조회 실패, 원문 파싱으로 대체: key={}, error={}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void store(
+            String key,
+            TemplateContent content
+    ) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, TemplateContentSmileCodec.encode(content), ttl);
+        } catch (RuntimeException e) {
+            logger.warn("템플릿 스냅샷 저장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+}
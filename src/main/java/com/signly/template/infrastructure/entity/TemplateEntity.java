@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
         @Index(name = "idx_template_is_preset", columnList = "is_preset"),
         @Index(name = "idx_template_preset_id", columnList = "preset_id"),
         @Index(name = "idx_template_owner_status", columnList = "owner_id, status"),
-        @Index(name = "idx_template_created_at", columnList = "created_at")
+        @Index(name = "idx_template_created_at", columnList = "created_at"),
+        @Index(name = "idx_template_owner_sort", columnList = "owner_id, created_at, template_id"),
+        @Index(name = "idx_template_owner_status_sort", columnList = "owner_id, status, created_at, template_id")
 })
 @Getter
 @Setter
@@ -37,6 +39,12 @@ public class TemplateEntity {
     @Column(name = "version", nullable = false)
     private int version;
 
+    /**
+     * content 컬럼이 반영하는 버전 (version보다 작으면 이후 변경은 template_section_changes에 있음)
+     */
+    @Column(name = "content_version", nullable = false)
+    private int contentVersion;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 20, nullable = false)
     private TemplateStatus status;
@@ -47,6 +55,12 @@ public class TemplateEntity {
     @Column(name = "preset_id", length = 100, nullable = true)
     private String presetId;
 
+    /**
+     * 프리셋 원본 해시 (원본이 바뀌지 않았으면 기동 시 재적재 생략)
+     */
+    @Column(name = "source_hash", length = 64, nullable = true)
+    private String sourceHash;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,55 @@
+package com.signly.template.infrastructure.entity;
+
+import com.signly.template.domain.model.TemplateSectionChange;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 템플릿 섹션 단위 변경 기록
+ * contract_templates.content는 content_version 시점의 전체 JSON이며, 이후 버전의 변경은 이 테이블에 한 행씩 쌓인다.
+ * 전체 콘텐츠를 다시 저장(활성화 등)하면 기록은 압축되어 삭제된다.
+ */
+@Entity
+@Table(name = "template_section_changes")
+@IdClass(TemplateSectionChangeEntity.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TemplateSectionChangeEntity {
+
+    @Id
+    @Column(name = "template_id", length = 26)
+    private String templateId;
+
+    @Id
+    @Column(name = "version")
+    private int version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", length = 20, nullable = false)
+    private TemplateSectionChange.Operation operation;
+
+    @Column(name = "section_id", length = 100, nullable = false)
+    private String sectionId;
+
+    @Column(name = "target_position")
+    private Integer position;
+
+    @Column(name = "section_json", columnDefinition = "JSON")
+    private String sectionJson;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String templateId;
+        private int version;
+    }
+}
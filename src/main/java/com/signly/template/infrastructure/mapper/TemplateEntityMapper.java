@@ -1,41 +1,73 @@
 package com.signly.template.infrastructure.mapper;
 
+import com.signly.template.application.CompiledTemplateCache;
 import com.signly.template.domain.model.ContractTemplate;
 import com.signly.template.domain.model.TemplateContent;
 import com.signly.template.domain.model.TemplateId;
+import com.signly.template.domain.model.TemplateSection;
+import com.signly.template.domain.model.TemplateSectionChange;
 import com.signly.template.infrastructure.entity.TemplateEntity;
+import com.signly.template.infrastructure.entity.TemplateSectionChangeEntity;
 import com.signly.user.domain.model.UserId;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
 @Component
+@RequiredArgsConstructor
 public class TemplateEntityMapper {
 
+    private final CompiledTemplateCache compiledTemplateCache;
+
     public TemplateEntity toEntity(ContractTemplate template) {
         return new TemplateEntity(
                 template.getTemplateId().value(),
                 template.getOwnerId().value(),
                 template.getTitle(),
-                template.getContent().jsonContent(),
+                compiledTemplateCache.json(template),
+                template.getVersion(),
                 template.getVersion(),
                 template.getStatus(),
                 false, // isPreset - 사용자 템플릿은 프리셋이 아님
                 null,  // presetId
+                null,  // sourceHash
                 template.getCreatedAt(),
                 template.getUpdatedAt()
         );
     }
 
     public ContractTemplate toDomain(TemplateEntity entity) {
+        return toDomain(entity, List::of);
+    }
+
+    /**
+     * content 컬럼(content_version 시점)에 이후 섹션 변경 기록을 순서대로 적용하여 복원
+     * 같은 버전의 적용 결과가 캐시에 있으면 변경 기록을 조회하지 않는다.
+     *
+     * @param changes content_version 이후의 변경 기록 (캐시 미스일 때만 호출)
+     */
+    public ContractTemplate toDomain(
+            TemplateEntity entity,
+            Supplier<List<TemplateSectionChangeEntity>> changes
+    ) {
         // 프리셋은 도메인 객체로 변환하지 않음 (프리셋은 읽기 전용)
         if (entity.isPreset()) {
             throw new IllegalStateException("Preset templates cannot be converted to domain objects");
         }
 
+        TemplateContent content = hasSectionChanges(entity) ?
+                compiledTemplateCache.patchedContent(entity.getTemplateId(), entity.getVersion(), entity.getUpdatedAt(),
+                        () -> applyChanges(baseContent(entity), changes.get())) :
+                baseContent(entity);
+
         return ContractTemplate.restore(
                 TemplateId.of(entity.getTemplateId()),
                 UserId.of(entity.getOwnerId()),
                 entity.getTitle(),
-                TemplateContent.fromJson(entity.getContent()),
+                content,
                 entity.getVersion(),
                 entity.getStatus(),
                 entity.getCreatedAt(),
@@ -43,14 +75,67 @@ public class TemplateEntityMapper {
         );
     }
 
+    /**
+     * content 컬럼 이후의 섹션 변경 기록이 있는지 여부
+     */
+    public boolean hasSectionChanges(TemplateEntity entity) {
+        return entity.getContentVersion() < entity.getVersion();
+    }
+
+    /**
+     * 변경 기록을 적용한 콘텐츠가 이미 캐시에 있는지 여부
+     */
+    public boolean hasCachedSectionChanges(TemplateEntity entity) {
+        return compiledTemplateCache.hasPatchedContent(entity.getTemplateId(), entity.getVersion(), entity.getUpdatedAt());
+    }
+
     public void updateEntity(
             TemplateEntity entity,
             ContractTemplate template
     ) {
         entity.setTitle(template.getTitle());
-        entity.setContent(template.getContent().jsonContent());
+        entity.setContent(compiledTemplateCache.json(template));
         entity.setVersion(template.getVersion());
+        entity.setContentVersion(template.getVersion());
         entity.setStatus(template.getStatus());
         entity.setUpdatedAt(template.getUpdatedAt());
     }
-}
\ No newline at end of file
+
+    public TemplateSectionChangeEntity toChangeEntity(
+            String templateId,
+            int version,
+            TemplateSectionChange change
+    ) {
+        return new TemplateSectionChangeEntity(
+                templateId,
+                version,
+                change.operation(),
+                change.sectionId(),
+                change.position(),
+                change.section() != null ? change.section().toJson() : null,
+                LocalDateTime.now()
+        );
+    }
+
+    // 같은 버전의 템플릿 JSON은 한 번만 파싱
+    private TemplateContent baseContent(TemplateEntity entity) {
+        return compiledTemplateCache.content(entity.getTemplateId(), entity.getContentVersion(), entity.getContent());
+    }
+
+    private TemplateContent applyChanges(
+            TemplateContent content,
+            List<TemplateSectionChangeEntity> changes
+    ) {
+        TemplateContent patched = content;
+        for (TemplateSectionChangeEntity change : changes) {
+            patched = patched.apply(toChange(change));
+        }
+        return patched;
+    }
+
+    private TemplateSectionChange toChange(TemplateSectionChangeEntity entity) {
+        TemplateSection section = entity.getSectionJson() != null ?
+                TemplateSection.fromJson(entity.getSectionJson(), entity.getSectionId()) : null;
+        return new TemplateSectionChange(entity.getOperation(), entity.getSectionId(), section, entity.getPosition());
+    }
+}
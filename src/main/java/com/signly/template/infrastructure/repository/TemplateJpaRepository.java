@@ -2,38 +2,46 @@ package com.signly.template.infrastructure.repository;
 
 import com.signly.template.domain.model.TemplateStatus;
 import com.signly.template.infrastructure.entity.TemplateEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface TemplateJpaRepository extends JpaRepository<TemplateEntity, String> {
 
+    // 소유자 템플릿은 프리셋이 아니므로 (생성 시각, ID) 역순 키셋 조회로 인덱스 범위만 읽음
     @Query("""
-            SELECT t 
-             FROM TemplateEntity t 
-             WHERE t.ownerId = :ownerId 
-             ORDER BY CASE WHEN t.isPreset = true THEN 0 ELSE 1 END, t.createdAt DESC
+            SELECT t
+            FROM TemplateEntity t
+            WHERE t.ownerId = :ownerId
+            AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.templateId < :id))
+            ORDER BY t.createdAt DESC, t.templateId DESC
             """)
-    Page<TemplateEntity> findByOwnerId(
+    List<TemplateEntity> findByOwnerIdAfter(
             @Param("ownerId") String ownerId,
-            Pageable pageable
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable limit
     );
 
     @Query("""
-           SELECT t 
-            FROM TemplateEntity t 
-            WHERE t.ownerId = :ownerId AND t.status = :status 
-           ORDER BY CASE WHEN t.isPreset = true THEN 0 ELSE 1 END, t.createdAt DESC
+            SELECT t
+            FROM TemplateEntity t
+            WHERE t.ownerId = :ownerId AND t.status = :status
+            AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.templateId < :id))
+            ORDER BY t.createdAt DESC, t.templateId DESC
             """)
-    Page<TemplateEntity> findByOwnerIdAndStatus(
+    List<TemplateEntity> findByOwnerIdAndStatusAfter(
             @Param("ownerId") String ownerId,
             @Param("status") TemplateStatus status,
-            Pageable pageable
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable limit
     );
 
     @Query("""
@@ -56,6 +64,38 @@ public interface TemplateJpaRepository extends JpaRepository<TemplateEntity, Str
             TemplateStatus status
     );
 
+    /**
+     * 버전이 expectedVersion일 때만 버전을 올림 (섹션 단위 변경의 낙관적 잠금)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE TemplateEntity t
+            SET t.version = :newVersion, t.updatedAt = :updatedAt
+            WHERE t.templateId = :templateId AND t.version = :expectedVersion AND t.isPreset = false
+            """)
+    int advanceVersion(
+            @Param("templateId") String templateId,
+            @Param("expectedVersion") int expectedVersion,
+            @Param("newVersion") int newVersion,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    /**
+     * 버전이 expectedVersion일 때만 newVersion으로 바꿈 (전체 저장의 낙관적 잠금)
+     * 행 잠금을 잡으므로 같은 버전을 읽은 동시 저장 중 하나만 성공한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE TemplateEntity t
+            SET t.version = :newVersion
+            WHERE t.templateId = :templateId AND t.version = :expectedVersion
+            """)
+    int claimVersion(
+            @Param("templateId") String templateId,
+            @Param("expectedVersion") int expectedVersion,
+            @Param("newVersion") int newVersion
+    );
+
     // 프리셋 관련 메서드
     @Query("""
            SELECT t 
@@ -1,17 +1,22 @@
 package com.signly.template.infrastructure.repository;
 
+import com.signly.common.exception.ConflictException;
+import com.signly.common.pagination.KeysetCursor;
 import com.signly.template.domain.model.ContractTemplate;
 import com.signly.template.domain.model.TemplateId;
+import com.signly.template.domain.model.TemplateSectionChange;
 import com.signly.template.domain.model.TemplateStatus;
 import com.signly.template.domain.repository.TemplateRepository;
 import com.signly.template.infrastructure.entity.TemplateEntity;
+import com.signly.template.infrastructure.entity.TemplateSectionChangeEntity;
 import com.signly.template.infrastructure.mapper.TemplateEntityMapper;
 import com.signly.user.domain.model.UserId;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -19,13 +24,16 @@ import java.util.stream.Collectors;
 public class TemplateRepositoryImpl implements TemplateRepository {
 
     private final TemplateJpaRepository templateJpaRepository;
+    private final TemplateSectionChangeJpaRepository sectionChangeJpaRepository;
     private final TemplateEntityMapper templateEntityMapper;
 
     public TemplateRepositoryImpl(
             TemplateJpaRepository templateJpaRepository,
+            TemplateSectionChangeJpaRepository sectionChangeJpaRepository,
             TemplateEntityMapper templateEntityMapper
     ) {
         this.templateJpaRepository = templateJpaRepository;
+        this.sectionChangeJpaRepository = sectionChangeJpaRepository;
         this.templateEntityMapper = templateEntityMapper;
     }
 
@@ -35,8 +43,19 @@ public class TemplateRepositoryImpl implements TemplateRepository {
 
         if (existingEntity.isPresent()) {
             TemplateEntity entity = existingEntity.get();
+            boolean hadSectionChanges = entity.getContentVersion() < entity.getVersion();
+            // 읽은 뒤 다른 곳에서 수정되었으면 덮어쓰지 않음 (변경 기록 삭제 전에 확인)
+            int claimed = templateJpaRepository.claimVersion(
+                    entity.getTemplateId(), template.getLoadedVersion(), template.getVersion());
+            if (claimed == 0) {
+                throw new ConflictException("템플릿이 다른 곳에서 수정되었습니다. 최신 버전을 다시 불러와주세요");
+            }
             templateEntityMapper.updateEntity(entity, template);
             TemplateEntity savedEntity = templateJpaRepository.save(entity);
+            if (hadSectionChanges) {
+                // 전체 콘텐츠에 반영되었으므로 변경 기록 압축
+                sectionChangeJpaRepository.deleteByTemplateId(entity.getTemplateId());
+            }
             return templateEntityMapper.toDomain(savedEntity);
         } else {
             TemplateEntity entity = templateEntityMapper.toEntity(template);
@@ -46,36 +65,51 @@ public class TemplateRepositoryImpl implements TemplateRepository {
     }
 
     @Override
-    public Optional<ContractTemplate> findById(TemplateId templateId) {
-        return templateJpaRepository.findById(templateId.value())
-                .map(templateEntityMapper::toDomain);
+    public boolean saveSectionChanges(
+            ContractTemplate template,
+            int expectedVersion,
+            List<TemplateSectionChange> changes
+    ) {
+        String templateId = template.getTemplateId().value();
+        int updated = templateJpaRepository.advanceVersion(
+                templateId, expectedVersion, expectedVersion + changes.size(), template.getUpdatedAt());
+        if (updated == 0) {
+            return false;
+        }
+
+        int version = expectedVersion;
+        var entities = new ArrayList<TemplateSectionChangeEntity>(changes.size());
+        for (TemplateSectionChange change : changes) {
+            entities.add(templateEntityMapper.toChangeEntity(templateId, ++version, change));
+        }
+        sectionChangeJpaRepository.saveAll(entities);
+        return true;
     }
 
     @Override
-    public Page<ContractTemplate> findByOwnerId(
-            UserId ownerId,
-            Pageable pageable
-    ) {
-        Page<TemplateEntity> entities = templateJpaRepository.findByOwnerId(ownerId.value(), pageable);
-        return entities.map(templateEntityMapper::toDomain);
+    public Optional<ContractTemplate> findById(TemplateId templateId) {
+        return templateJpaRepository.findById(templateId.value())
+                .map(this::toDomain);
     }
 
     @Override
-    public Page<ContractTemplate> findByOwnerIdAndStatus(
+    public List<ContractTemplate> findByOwnerId(
             UserId ownerId,
             TemplateStatus status,
-            Pageable pageable
+            KeysetCursor after,
+            int limit
     ) {
-        Page<TemplateEntity> entities = templateJpaRepository.findByOwnerIdAndStatus(ownerId.value(), status, pageable);
-        return entities.map(templateEntityMapper::toDomain);
+        var page = PageRequest.of(0, limit);
+        List<TemplateEntity> entities = status == null ?
+                templateJpaRepository.findByOwnerIdAfter(ownerId.value(), after.createdAt(), after.id(), page) :
+                templateJpaRepository.findByOwnerIdAndStatusAfter(ownerId.value(), status, after.createdAt(), after.id(), page);
+        return toDomainList(entities);
     }
 
     @Override
     public List<ContractTemplate> findActiveTemplatesByOwnerId(UserId ownerId) {
         List<TemplateEntity> entities = templateJpaRepository.findActiveTemplatesByOwnerId(ownerId.value());
-        return entities.stream()
-                .map(templateEntityMapper::toDomain)
-                .collect(Collectors.toList());
+        return toDomainList(entities);
     }
 
     @Override
@@ -88,6 +122,7 @@ public class TemplateRepositoryImpl implements TemplateRepository {
 
     @Override
     public void delete(ContractTemplate template) {
+        sectionChangeJpaRepository.deleteByTemplateId(template.getTemplateId().value());
         templateJpaRepository.deleteById(template.getTemplateId().value());
     }
 
@@ -100,4 +135,33 @@ public class TemplateRepositoryImpl implements TemplateRepository {
     public long countByOwnerIdAndStatus(UserId ownerId, TemplateStatus status) {
         return templateJpaRepository.countByOwnerIdAndStatus(ownerId.value(), status);
     }
-}
\ No newline at end of file
+
+    /**
+     * 섹션 변경 기록이 남아 있고 적용 결과가 캐시에 없는 템플릿만 기록을 조회하여 적용
+     */
+    private ContractTemplate toDomain(TemplateEntity entity) {
+        return templateEntityMapper.toDomain(entity,
+                () -> sectionChangeJpaRepository.findChangesAfter(entity.getTemplateId(), entity.getContentVersion()));
+    }
+
+    /**
+     * 목록 변환: 변경 기록이 필요한 템플릿의 기록을 한 번의 조회로 가져와 템플릿별로 나눠 적용
+     */
+    private List<ContractTemplate> toDomainList(List<TemplateEntity> entities) {
+        List<String> pendingIds = entities.stream()
+                .filter(entity -> templateEntityMapper.hasSectionChanges(entity) && !templateEntityMapper.hasCachedSectionChanges(entity))
+                .map(TemplateEntity::getTemplateId)
+                .toList();
+        Map<String, List<TemplateSectionChangeEntity>> changesByTemplate = pendingIds.isEmpty() ?
+                Map.of() :
+                sectionChangeJpaRepository.findChangesByTemplateIds(pendingIds).stream()
+                        .collect(Collectors.groupingBy(TemplateSectionChangeEntity::getTemplateId));
+
+        return entities.stream()
+                .map(entity -> templateEntityMapper.toDomain(entity, () -> changesByTemplate
+                        .getOrDefault(entity.getTemplateId(), List.of()).stream()
+                        .filter(change -> change.getVersion() > entity.getContentVersion())
+                        .toList()))
+                .toList();
+    }
+}
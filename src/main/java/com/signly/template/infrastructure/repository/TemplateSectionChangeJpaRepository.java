@@ -0,0 +1,40 @@
+package com.signly.template.infrastructure.repository;
+
+import com.signly.template.infrastructure.entity.TemplateSectionChangeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TemplateSectionChangeJpaRepository
+        extends JpaRepository<TemplateSectionChangeEntity, TemplateSectionChangeEntity.Key> {
+
+    @Query("""
+            SELECT c
+            FROM TemplateSectionChangeEntity c
+            WHERE c.templateId = :templateId AND c.version > :afterVersion
+            ORDER BY c.version ASC
+            """)
+    List<TemplateSectionChangeEntity> findChangesAfter(
+            @Param("templateId") String templateId,
+            @Param("afterVersion") int afterVersion
+    );
+
+    /**
+     * 여러 템플릿의 변경 기록을 한 번에 조회 (목록 조회용)
+     */
+    @Query("""
+            SELECT c
+            FROM TemplateSectionChangeEntity c
+            WHERE c.templateId IN :templateIds
+            ORDER BY c.templateId ASC, c.version ASC
+            """)
+    List<TemplateSectionChangeEntity> findChangesByTemplateIds(@Param("templateIds") Collection<String> templateIds);
+
+    @Modifying
+    @Query("DELETE FROM TemplateSectionChangeEntity c WHERE c.templateId = :templateId")
+    int deleteByTemplateId(@Param("templateId") String templateId);
+}
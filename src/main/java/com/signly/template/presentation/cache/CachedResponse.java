@@ -0,0 +1,66 @@
+package com.signly.template.presentation.cache;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 미리 직렬화된 JSON 응답 본문과 강한 ETag
+ * ETag는 본문 바이트의 SHA-256이므로 같은 데이터면 재적재 여부나 인스턴스와 관계없이 같은 값이다.
+ */
+public record CachedResponse(
+        byte[] body,
+        String eTag,
+        CacheControl cacheControl
+) {
+
+    static CachedResponse of(
+            byte[] body,
+            CacheControl cacheControl
+    ) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return new CachedResponse(body, "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"", cacheControl);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * If-None-Match 헤더 값이 이 응답의 ETag와 일치하는지 확인 (약한 비교, 목록과 * 허용)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 200 응답 (본문은 다시 직렬화하지 않고 그대로 기록)
+     */
+    public ResponseEntity<byte[]> toResponseEntity() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(body);
+    }
+}
@@ -0,0 +1,77 @@
+package com.signly.template.presentation.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 참조 데이터 조회의 조건부 요청 처리
+ * If-None-Match가 캐시된 응답의 ETag와 같으면 컨트롤러를 호출하지 않고 바로 304를 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCacheInterceptor implements HandlerInterceptor {
+
+    public static final String VARIABLES_PATH = "/contracts/variables";
+    public static final String GROUPED_VARIABLES_PATH = "/contracts/variables/grouped";
+    public static final String PRESETS_PATH = "/api/templates/presets";
+    public static final String PRESET_PATH = "/api/templates/preset/{presetId}";
+
+    private final ReferenceDataResponseCache responseCache;
+
+    @Override
+    public boolean preHandle(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler
+    ) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return true;
+        }
+
+        Optional<CachedResponse> cached = lookup(request);
+        if (cached.isEmpty() || !cached.get().matches(ifNoneMatch)) {
+            return true;
+        }
+
+        response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        response.setHeader(HttpHeaders.ETAG, cached.get().eTag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cached.get().cacheControl().getHeaderValue());
+        return false;
+    }
+
+    /**
+     * 매핑된 핸들러 경로 패턴으로 캐시된 응답 찾기
+     */
+    @SuppressWarnings("unchecked")
+    private Optional<CachedResponse> lookup(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return Optional.empty();
+        }
+
+        return switch (pattern.toString()) {
+            case VARIABLES_PATH -> Optional.of(responseCache.variables());
+            case GROUPED_VARIABLES_PATH -> Optional.of(responseCache.groupedVariables());
+            case PRESETS_PATH -> Optional.of(responseCache.presets());
+            case PRESET_PATH -> {
+                var variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+                yield variables != null && variables.get("presetId") != null ?
+                        responseCache.preset(variables.get("presetId")) : Optional.empty();
+            }
+            default -> Optional.empty();
+        };
+    }
+}
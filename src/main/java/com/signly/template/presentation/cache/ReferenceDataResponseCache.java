@@ -0,0 +1,176 @@
+package com.signly.template.presentation.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.signly.template.application.VariableDefinitionRegistry;
+import com.signly.template.application.preset.TemplatePreset;
+import com.signly.template.application.preset.TemplatePresetService;
+import com.signly.template.application.preset.TemplatePresetSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 참조 데이터 조회 응답 캐시
+ * 변수 정의와 프리셋처럼 거의 바뀌지 않는 응답 본문을 미리 직렬화해 두어 요청마다 DTO 변환과 JSON 직렬화를 하지 않는다.
+ * - 원본의 데이터 버전(변수 정의 레지스트리 버전, 프리셋 카탈로그 ETag)이 바뀌면 다음 조회 때 다시 만든다.
+ * - 변수 정의는 로그인 사용자에게만 제공되므로 private, 프리셋은 공개 응답이므로 public으로 캐시를 허용한다.
+ * - If-None-Match 처리는 {@link ReferenceDataCacheInterceptor}가 컨트롤러 앞에서 수행한다.
+ */
+@Component
+public class ReferenceDataResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataResponseCache.class);
+
+    private final VariableDefinitionRegistry variableRegistry;
+    private final TemplatePresetService presetService;
+    private final ObjectMapper objectMapper;
+    private final CacheControl variablesCacheControl;
+    private final CacheControl presetsCacheControl;
+
+    private volatile VariableResponses variableResponses;
+    private volatile PresetResponses presetResponses;
+
+    public ReferenceDataResponseCache(
+            VariableDefinitionRegistry variableRegistry,
+            TemplatePresetService presetService,
+            ObjectMapper objectMapper,
+            @Value("${app.web.reference-cache.variables-max-age:5m}") Duration variablesMaxAge,
+            @Value("${app.web.reference-cache.presets-max-age:10m}") Duration presetsMaxAge
+    ) {
+        this.variableRegistry = variableRegistry;
+        this.presetService = presetService;
+        this.objectMapper = objectMapper;
+        this.variablesCacheControl = CacheControl.maxAge(variablesMaxAge).cachePrivate();
+        this.presetsCacheControl = CacheControl.maxAge(presetsMaxAge).cachePublic();
+    }
+
+    /**
+     * GET /contracts/variables
+     */
+    public CachedResponse variables() {
+        return variableResponses().all();
+    }
+
+    /**
+     * GET /contracts/variables/grouped
+     */
+    public CachedResponse groupedVariables() {
+        return variableResponses().grouped();
+    }
+
+    /**
+     * GET /api/templates/presets
+     */
+    public CachedResponse presets() {
+        return presetResponses().summaries();
+    }
+
+    /**
+     * GET /api/templates/preset/{presetId}
+     */
+    public Optional<CachedResponse> preset(String presetId) {
+        return Optional.ofNullable(presetResponses().details().get(presetId));
+    }
+
+    private VariableResponses variableResponses() {
+        long version = variableRegistry.getVersion();
+        VariableResponses current = variableResponses;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+        synchronized (this) {
+            if (variableResponses == null || variableResponses.version() != version) {
+                variableResponses = new VariableResponses(
+                        version,
+                        CachedResponse.of(serialize(variableRegistry.getAll()), variablesCacheControl),
+                        CachedResponse.of(serialize(variableRegistry.getGroupedByCategory()), variablesCacheControl)
+                );
+                logger.info("변수 정의 응답 캐시 갱신: version={}, etag={}", version, variableResponses.all().eTag());
+            }
+            return variableResponses;
+        }
+    }
+
+    private PresetResponses presetResponses() {
+        String version = presetService.getCatalogETag();
+        PresetResponses current = presetResponses;
+        if (current != null && current.version().equals(version)) {
+            return current;
+        }
+        synchronized (this) {
+            if (presetResponses == null || !presetResponses.version().equals(version)) {
+                presetResponses = buildPresetResponses(version);
+                logger.info("프리셋 응답 캐시 갱신: version={}, presets={}", version, presetResponses.details().size());
+            }
+            return presetResponses;
+        }
+    }
+
+    private PresetResponses buildPresetResponses(String version) {
+        List<TemplatePresetSummary> summaries = presetService.getSummaries();
+
+        List<Map<String, Object>> summaryBodies = summaries.stream()
+                .map(summary -> {
+                    Map<String, Object> body = new LinkedHashMap<>();
+                    body.put("presetId", summary.getId());
+                    body.put("title", summary.getName());
+                    body.put("description", summary.getDescription());
+                    return body;
+                })
+                .toList();
+
+        Map<String, CachedResponse> details = new LinkedHashMap<>(summaries.size() * 2);
+        for (TemplatePresetSummary summary : summaries) {
+            presetService.getPreset(summary.getId())
+                    .ifPresent(preset -> details.put(preset.getId(),
+                            CachedResponse.of(serialize(presetBody(preset)), presetsCacheControl)));
+        }
+
+        return new PresetResponses(
+                version,
+                CachedResponse.of(serialize(summaryBodies), presetsCacheControl),
+                Collections.unmodifiableMap(details)
+        );
+    }
+
+    private static Map<String, Object> presetBody(TemplatePreset preset) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("presetId", preset.getId());
+        body.put("title", preset.getName());
+        body.put("description", preset.getDescription());
+        body.put("renderedHtml", preset.renderHtml());
+        return body;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("참조 데이터 응답 직렬화 실패", e);
+        }
+    }
+
+    private record VariableResponses(
+            long version,
+            CachedResponse all,
+            CachedResponse grouped
+    ) {
+    }
+
+    private record PresetResponses(
+            String version,
+            CachedResponse summaries,
+            Map<String, CachedResponse> details
+    ) {
+    }
+}
@@ -1,27 +1,33 @@
 package com.signly.template.presentation.rest;
 
+import com.signly.common.pagination.CursorSlice;
 import com.signly.template.application.TemplateService;
+import com.signly.template.application.dto.PatchTemplateSectionsCommand;
 import com.signly.template.application.dto.TemplateResponse;
+import com.signly.template.application.dto.TemplateVersionResponse;
 import com.signly.template.application.preset.TemplatePresetService;
 import com.signly.template.domain.model.TemplateStatus;
+import com.signly.template.presentation.cache.CachedResponse;
+import com.signly.template.presentation.cache.ReferenceDataResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 /**
- * 템플릿 조회 전용 REST API
- * 템플릿 생성/수정/삭제는 TemplateWebController에서 처리
+ * 템플릿 REST API
+ * 조회와 섹션 단위 수정을 제공하며, 템플릿 생성/전체 수정/삭제는 TemplateWebController에서 처리
  */
 @RestController
 @RequestMapping("/api/templates")
@@ -29,20 +35,24 @@ public class TemplateRestController {
 
     private final TemplateService templateService;
     private final TemplatePresetService presetService;
+    private final ReferenceDataResponseCache responseCache;
 
     public TemplateRestController(
             TemplateService templateService,
-            TemplatePresetService presetService
+            TemplatePresetService presetService,
+            ReferenceDataResponseCache responseCache
     ) {
         this.templateService = templateService;
         this.presetService = presetService;
+        this.responseCache = responseCache;
     }
 
     @Operation(summary = "템플릿 목록 조회", description = "사용자의 템플릿 목록을 조회합니다 (계약서 생성 시 템플릿 선택용)")
     @GetMapping
-    public ResponseEntity<Page<TemplateResponse>> getTemplates(
+    public ResponseEntity<CursorSlice<TemplateResponse>> getTemplates(
             @Parameter(description = "템플릿 상태") @RequestParam(required = false) TemplateStatus status,
-            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "이전 응답의 nextCursor (비어 있으면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
             HttpServletRequest request
     ) {
         // 인증된 사용자 ID 추출
@@ -51,43 +61,62 @@ public class TemplateRestController {
             return ResponseEntity.badRequest().build();
         }
 
-        Page<TemplateResponse> response = status != null ?
-                templateService.getTemplatesByOwnerAndStatus(userId, status, pageable) :
-                templateService.getTemplatesByOwner(userId, pageable);
+        return ResponseEntity.ok(templateService.getTemplatesByOwner(userId, status, cursor, size));
+    }
+
+    @Operation(summary = "템플릿 섹션 단위 수정", description = "섹션 추가/수정/이동/삭제를 전체 콘텐츠 저장 없이 적용합니다. expectedVersion이 현재 버전과 다르면 409를 반환합니다")
+    @PatchMapping("/{templateId}/sections")
+    public ResponseEntity<TemplateVersionResponse> patchSections(
+            @PathVariable String templateId,
+            @Valid @RequestBody PatchTemplateSectionsCommand command,
+            HttpServletRequest request
+    ) {
+        String userId = extractUserIdFromRequest(request);
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
 
-        return ResponseEntity.ok(response);
+        TemplateVersionResponse response = templateService.patchSections(userId, templateId, command);
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(response.version()))
+                .body(response);
     }
 
     @Operation(summary = "프리셋 템플릿 목록 조회", description = "사용 가능한 프리셋 템플릿 목록을 조회합니다")
     @GetMapping("/presets")
-    public ResponseEntity<List<Map<String, Object>>> getPresetTemplates() {
-        List<Map<String, Object>> presets = presetService.getSummaries().stream()
-                .map(summary -> {
-                    Map<String, Object> response = new HashMap<>();
-                    response.put("presetId", summary.getId());
-                    response.put("title", summary.getName());
-                    response.put("description", summary.getDescription());
-                    return response;
-                })
-                .toList();
-        return ResponseEntity.ok(presets);
+    public ResponseEntity<byte[]> getPresetTemplates() {
+        return responseCache.presets().toResponseEntity();
     }
 
     @Operation(summary = "프리셋 템플릿 상세 조회", description = "프리셋 템플릿의 상세 정보를 조회합니다")
     @GetMapping("/preset/{presetId}")
-    public ResponseEntity<Map<String, Object>> getPresetTemplate(@PathVariable String presetId) {
-        return presetService.getPreset(presetId)
-                .map(preset -> {
-                    Map<String, Object> response = new HashMap<>();
-                    response.put("presetId", preset.getId());
-                    response.put("title", preset.getName());
-                    response.put("description", preset.getDescription());
-                    response.put("renderedHtml", preset.renderHtml());
-                    return ResponseEntity.ok(response);
-                })
+    public ResponseEntity<byte[]> getPresetTemplate(@PathVariable String presetId) {
+        return responseCache.preset(presetId)
+                .map(CachedResponse::toResponseEntity)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "프리셋 템플릿 미리보기", description = "프리셋 템플릿의 미리보기 HTML을 스트리밍합니다")
+    @GetMapping(value = "/preset/{presetId}/preview", produces = MediaType.TEXT_HTML_VALUE)
+    public void streamPresetPreview(
+            @PathVariable String presetId,
+            HttpServletResponse response
+    ) throws IOException {
+        var preset = presetService.getPreset(presetId);
+        if (preset.isEmpty()) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        response.setContentType(MediaType.TEXT_HTML_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        // 문서 전체 문자열을 만들지 않고 응답 Writer에 바로 기록
+        Writer writer = response.getWriter();
+        preset.get().writeHtml(writer);
+        writer.flush();
+    }
+
     /**
      * 요청에서 인증된 사용자 ID 추출
      */
@@ -4,9 +4,13 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.signly.common.exception.BusinessException;
 import com.signly.common.exception.ValidationException;
+import com.signly.common.pagination.CursorSlice;
 import com.signly.common.security.CurrentUserProvider;
 import com.signly.common.security.UserPrincipal;
 import com.signly.common.web.BaseWebController;
+import com.signly.contract.domain.model.GeneratedPdf;
+import com.signly.contract.domain.service.PdfGenerator;
+import com.signly.contract.infrastructure.pdf.PdfRenderRejectedException;
 import com.signly.template.application.TemplateService;
 import com.signly.template.application.VariableDefinitionService;
 import com.signly.template.application.dto.CreateTemplateCommand;
@@ -16,17 +20,21 @@ import com.signly.template.application.dto.VariableDefinitionDto;
 import com.signly.template.application.preset.PresetSection;
 import com.signly.template.application.preset.TemplatePresetService;
 import com.signly.template.application.preset.TemplatePresetSummary;
+import com.signly.template.domain.model.TemplateContent;
 import com.signly.template.domain.model.TemplateStatus;
+import com.signly.template.domain.service.UnifiedTemplateRenderer;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -35,7 +43,11 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 
 @Controller
@@ -44,11 +56,14 @@ import java.util.List;
 public class TemplateWebController extends BaseWebController {
 
     private static final Logger logger = LoggerFactory.getLogger(TemplateWebController.class);
+    private static final String PDF_RETRY_AFTER_SECONDS = "5";
     private final TemplateService templateService;
     private final CurrentUserProvider currentUserProvider;
     private final TemplatePresetService templatePresetService;
     private final VariableDefinitionService variableDefinitionService;
     private final ObjectMapper objectMapper;
+    private final PdfGenerator pdfGenerator;
+    private final UnifiedTemplateRenderer unifiedTemplateRenderer;
 
     /**
      * 변수 정의를 JSON 문자열로 변환하여 Model에 추가
@@ -68,7 +83,7 @@ public class TemplateWebController extends BaseWebController {
 
     @GetMapping
     public String templateList(
-            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "status", required = false) TemplateStatus status,
             @RequestHeader(value = "X-User-Id", required = false) String userId,
@@ -78,14 +93,12 @@ public class TemplateWebController extends BaseWebController {
     ) {
         return handleOperation(() -> {
             String resolvedUserId = resolveUserId(currentUserProvider, securityUser, request, userId, true);
-            PageRequest pageRequest = PageRequest.of(page, size, Sort.by("createdAt").descending());
-
-            Page<TemplateResponse> templates = status != null ?
-                    templateService.getTemplatesByOwnerAndStatus(resolvedUserId, status, pageRequest) :
-                    templateService.getTemplatesByOwner(resolvedUserId, pageRequest);
+            CursorSlice<TemplateResponse> templates =
+                    templateService.getTemplatesByOwner(resolvedUserId, status, cursor, size);
 
             addPageTitle(model, "템플릿 관리");
             model.addAttribute("templates", templates);
+            model.addAttribute("firstPage", cursor == null || cursor.isBlank());
             model.addAttribute("currentStatus", status);
             model.addAttribute("statuses", TemplateStatus.values());
 
@@ -162,6 +175,76 @@ public class TemplateWebController extends BaseWebController {
         }
     }
 
+    /**
+     * 템플릿 미리보기 HTML 조각 (변수는 밑줄로 표시)
+     * 렌더링 결과를 문자열로 모으지 않고 응답 Writer에 바로 기록한다.
+     */
+    @GetMapping(value = "/{templateId}/preview", produces = MediaType.TEXT_HTML_VALUE)
+    public void previewTemplateHtml(
+            @PathVariable String templateId,
+            @RequestHeader(value = "X-User-Id", required = false) String userId,
+            @AuthenticationPrincipal UserPrincipal securityUser,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        TemplateContent content;
+        try {
+            String resolvedUserId = currentUserProvider.resolveUserId(securityUser, request, userId, true);
+            content = templateService.getTemplateContent(resolvedUserId, templateId);
+        } catch (BusinessException e) {
+            logger.warn("템플릿 미리보기 불가: templateId={}, reason={}", templateId, e.getMessage());
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        response.setContentType(MediaType.TEXT_HTML_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+
+        Writer writer = response.getWriter();
+        unifiedTemplateRenderer.renderPreview(content, writer);
+        writer.flush();
+    }
+
+    /**
+     * 템플릿 PDF 미리보기 (변수는 [변수명] 그대로 표시)
+     * 컴파일된 템플릿 레이아웃으로 바로 렌더링한다.
+     */
+    @GetMapping("/{templateId}/pdf-preview")
+    @ResponseBody
+    public ResponseEntity<byte[]> previewTemplatePdf(
+            @PathVariable String templateId,
+            @RequestHeader(value = "X-User-Id", required = false) String userId,
+            @AuthenticationPrincipal UserPrincipal securityUser,
+            HttpServletRequest request
+    ) {
+        try {
+            String resolvedUserId = currentUserProvider.resolveUserId(securityUser, request, userId, true);
+            // 소유권 확인
+            templateService.getTemplate(resolvedUserId, templateId);
+
+            GeneratedPdf pdf = pdfGenerator.generateFromTemplate(templateId, Map.of(), "template-preview.pdf");
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_PDF)
+                    .cacheControl(CacheControl.noStore())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + pdf.fileName() + "\"")
+                    .body(pdf.content());
+
+        } catch (PdfRenderRejectedException e) {
+            logger.warn("PDF 렌더링 대기열 초과: templateId={}", templateId);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, PDF_RETRY_AFTER_SECONDS)
+                    .build();
+        } catch (BusinessException e) {
+            logger.warn("템플릿 PDF 미리보기 불가: templateId={}, reason={}", templateId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            logger.error("템플릿 PDF 미리보기 중 오류 발생: templateId={}", templateId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @GetMapping("/{templateId}/edit")
     public String editTemplateForm(
             @PathVariable String templateId,
@@ -257,7 +340,7 @@ public class TemplateWebController extends BaseWebController {
                     String renderedHtml = preset.getSections().stream()
                             .map(section -> section.getContent() != null ? section.getContent() : "")
                             .collect(java.util.stream.Collectors.joining("\n"));
-                    return ResponseEntity.ok(
+                    return presetResponse().body(
                             new TemplatePresetResponse(preset.getId(), preset.getName(), preset.getSections(), renderedHtml)
                     );
                 })
@@ -267,14 +350,14 @@ public class TemplateWebController extends BaseWebController {
     @GetMapping({"/presets", "/presets/"})
     @ResponseBody
     public ResponseEntity<java.util.List<TemplatePresetSummary>> getPresets() {
-        return ResponseEntity.ok(templatePresetService.getSummaries());
+        return presetResponse().body(templatePresetService.getSummaries());
     }
 
     @GetMapping("/presets/{presetId}/sections")
     @ResponseBody
     public ResponseEntity<TemplatePresetSectionsResponse> getPresetSections(@PathVariable String presetId) {
         return templatePresetService.getPreset(presetId)
-                .map(preset -> ResponseEntity.ok(
+                .map(preset -> presetResponse().body(
                         new TemplatePresetSectionsResponse(preset.getId(), preset.getName(), preset.getSections())
                 ))
                 .orElseGet(() -> ResponseEntity.notFound().build());
@@ -293,6 +376,15 @@ public class TemplateWebController extends BaseWebController {
     }
 
 
+    /**
+     * 프리셋 카탈로그 ETag를 붙인 응답 (If-None-Match가 같으면 304)
+     */
+    private ResponseEntity.BodyBuilder presetResponse() {
+        return ResponseEntity.ok()
+                .eTag(templatePresetService.getCatalogETag())
+                .cacheControl(CacheControl.noCache());
+    }
+
     private record TemplatePresetSectionsResponse(String id, String name,
                                                   java.util.List<com.signly.template.application.preset.PresetSection> sections) {}
 
@@ -0,0 +1,20 @@
+-- V19: 계약서 후처리 작업 테이블 생성
+-- Description: 서명 완료 후 PDF 생성/저장 및 완료 알림을 서명 요청과 분리하여 워커가 처리 (계약서당 1건)
+
+CREATE TABLE IF NOT EXISTS contract_finalization_jobs (
+    contract_id VARCHAR(26) NOT NULL COMMENT '계약서 ID (contracts.id)',
+    status VARCHAR(20) NOT NULL COMMENT 'PENDING, PROCESSING, COMPLETED, FAILED',
+    pdf_stored BOOLEAN NOT NULL DEFAULT FALSE COMMENT 'PDF 저장 단계 완료 여부',
+    notification_sent BOOLEAN NOT NULL DEFAULT FALSE COMMENT '완료 알림 Outbox 등록 단계 완료 여부',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '처리 시도 횟수',
+    max_attempts INT NOT NULL COMMENT '최대 시도 횟수',
+    last_error TEXT NULL COMMENT '마지막 실패 사유',
+    next_attempt_at DATETIME(6) NULL COMMENT '다음 처리 시각 (PROCESSING이면 점유 만료 시각)',
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    completed_at DATETIME(6) NULL,
+
+    PRIMARY KEY (contract_id),
+    INDEX idx_finalization_status_next_attempt (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='서명 완료 계약서 후처리 작업';
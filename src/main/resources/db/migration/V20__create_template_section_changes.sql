@@ -0,0 +1,25 @@
+-- V20: 템플릿 섹션 단위 변경 기록
+-- Description: 섹션 수정 시 전체 content JSON을 다시 쓰지 않고 변경 한 건만 기록 (활성화 등 전체 저장 시 압축)
+
+ALTER TABLE contract_templates
+    ADD COLUMN content_version INT NULL COMMENT 'content 컬럼이 반영하는 버전 (이후 버전은 template_section_changes에 기록)';
+
+UPDATE contract_templates SET content_version = version;
+
+ALTER TABLE contract_templates
+    MODIFY COLUMN content_version INT NOT NULL COMMENT 'content 컬럼이 반영하는 버전 (이후 버전은 template_section_changes에 기록)';
+
+CREATE TABLE IF NOT EXISTS template_section_changes (
+    template_id VARCHAR(26) NOT NULL COMMENT '템플릿 ID (contract_templates.template_id)',
+    version INT NOT NULL COMMENT '변경 적용 후 템플릿 버전',
+    operation VARCHAR(20) NOT NULL COMMENT 'ADD, UPDATE, MOVE, DELETE',
+    section_id VARCHAR(100) NOT NULL COMMENT '대상 섹션 ID',
+    target_position INT NULL COMMENT '삽입/이동 위치 (0부터)',
+    section_json JSON NULL COMMENT '추가/수정된 섹션 (ADD, UPDATE)',
+    created_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (template_id, version),
+    CONSTRAINT fk_section_changes_template FOREIGN KEY (template_id)
+        REFERENCES contract_templates (template_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='템플릿 섹션 단위 변경 기록 (활성화 시 content로 압축)';
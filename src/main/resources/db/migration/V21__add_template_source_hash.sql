@@ -0,0 +1,5 @@
+-- V21: 프리셋 원본 해시
+-- Description: 기동 시 프리셋 원본(HTML)이 바뀌지 않았으면 파싱과 재저장을 건너뛰기 위한 해시
+
+ALTER TABLE contract_templates
+    ADD COLUMN source_hash VARCHAR(64) NULL COMMENT '프리셋 원본 SHA-256 (사용자 템플릿은 NULL)';
@@ -0,0 +1,17 @@
+-- V22: 목록 키셋 페이지네이션
+-- Description: 목록 정렬(CASE preset_type ...)을 저장 컬럼으로 바꾸고 정렬 키 전체를 포함한 복합 인덱스 추가
+-- 목록은 (sort_priority DESC, created_at DESC, id DESC) 순서로 인덱스를 역방향 범위 스캔하므로 filesort와 OFFSET이 없다.
+
+ALTER TABLE contracts
+    ADD COLUMN sort_priority TINYINT NOT NULL DEFAULT 0 COMMENT '목록 정렬 우선순위 (표준근로계약서 1, 그 외 0)';
+
+UPDATE contracts SET sort_priority = 1 WHERE preset_type = 'LABOR_STANDARD';
+
+CREATE INDEX idx_contract_creator_sort ON contracts (creator_id, sort_priority, created_at, id);
+CREATE INDEX idx_contract_creator_status_sort ON contracts (creator_id, status, sort_priority, created_at, id);
+CREATE INDEX idx_contract_first_party_sort ON contracts (first_party_email_hash, sort_priority, created_at, id);
+CREATE INDEX idx_contract_second_party_sort ON contracts (second_party_email_hash, sort_priority, created_at, id);
+
+-- 사용자 템플릿은 프리셋이 아니므로(프리셋은 owner_id가 NULL) 정렬 우선순위 없이 생성 시각 순
+CREATE INDEX idx_template_owner_sort ON contract_templates (owner_id, created_at, template_id);
+CREATE INDEX idx_template_owner_status_sort ON contract_templates (owner_id, status, created_at, template_id);
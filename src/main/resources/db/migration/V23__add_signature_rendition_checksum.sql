@@ -0,0 +1,7 @@
+-- V23: 서명 렌디션 체크섬 저장
+-- Description: 업로드 시 계산한 서명 원본 SHA-256 체크섬(렌디션 파일 이름)을 서명 행에 저장
+-- PDF 렌더링은 이 컬럼으로 렌디션을 바로 찾으므로 서명 파일 체크섬 조회나 암호화된 서명 데이터 복호화/해시가 필요 없다.
+-- 기존 서명은 NULL이며, 처음 렌더링할 때 한 번 계산하여 채운다.
+
+ALTER TABLE contract_signatures
+    ADD COLUMN rendition_checksum VARCHAR(64) NULL COMMENT '서명 원본 SHA-256 체크섬 (렌디션 파일 이름)';
@@ -0,0 +1,6 @@
+-- V24: 계약서 본문 해시 저장
+-- Description: 본문 저장 시 계산한 SHA-256을 저장하여 PDF 캐시 키 계산 때 암호화된 본문을 복호화/해시하지 않음
+-- 기존 계약서는 NULL이며, 본문을 읽은 뒤 다음 저장 때 채운다.
+
+ALTER TABLE contracts
+    ADD COLUMN content_hash CHAR(64) NULL COMMENT '본문 SHA-256 (PDF 캐시 키용)';
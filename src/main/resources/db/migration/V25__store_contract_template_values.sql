@@ -0,0 +1,8 @@
+-- V25: 계약서 템플릿 변수 값 저장
+-- Description: 템플릿으로 만든 계약서의 변수 값과 템플릿 버전을 저장하여 PDF를 컴파일된 템플릿 레이아웃으로 바로 렌더링
+-- template_data는 암호화된 문자열({ENC}...)로 저장되므로 JSON 타입에서 LONGTEXT로 변경한다 (기존 값은 모두 NULL).
+-- template_version은 본문을 렌더링한 템플릿 버전이며, 본문을 직접 수정하면 NULL로 되돌린다.
+
+ALTER TABLE contracts
+    MODIFY COLUMN template_data LONGTEXT NULL COMMENT '템플릿 변수 값 JSON (암호화)',
+    ADD COLUMN template_version INT NULL COMMENT '본문을 렌더링한 템플릿 버전';
@@ -92,21 +92,16 @@
                                                                                 <c:out value="${contract.title}" />
                                                                             </strong>
                                                                         </a>
-                                                                        <c:if
-                                                                            test="${not empty contract.content and contract.content.length() > 100}">
-                                                                            <br>
-                                                                            <small class="text-muted">...</small>
-                                                                        </c:if>
                                                                     </td>
                                                                     <td>
                                                                         <div class="small">
                                                                             <strong>갑:</strong>
                                                                             <c:out
-                                                                                value="${contract.firstParty.name}" />
+                                                                                value="${contract.firstPartyName}" />
                                                                             <br>
                                                                             <strong>을:</strong>
                                                                             <c:out
-                                                                                value="${contract.secondParty.name}" />
+                                                                                value="${contract.secondPartyName}" />
                                                                         </div>
                                                                     </td>
                                                                     <td>
@@ -222,34 +217,24 @@
                                                     </table>
                                                 </div>
 
-                                                <!-- 페이지네이션 -->
-                                                <c:if test="${contracts.totalPages > 1}">
-                                                    <nav aria-label="계약서 목록 페이지네이션" class="mt-4">
+                                                <!-- 페이지네이션 (커서 기반: 처음 / 다음) -->
+                                                <p class="text-center text-muted small mt-4 mb-0">전체 <c:out value="${totalCount}" />건</p>
+                                                <c:if test="${not firstPage or contracts.hasNext()}">
+                                                    <nav aria-label="계약서 목록 페이지네이션" class="mt-2">
                                                         <ul class="pagination justify-content-center">
-                                                            <c:if test="${contracts.hasPrevious()}">
+                                                            <c:if test="${not firstPage}">
                                                                 <li class="page-item">
-                                                                    <a class="page-link"
-                                                                        href="?page=${contracts.number - 1}&status=${param.status}">
-                                                                        <i class="bi bi-chevron-left"></i>
+                                                                    <a class="page-link" href="?status=${param.status}">
+                                                                        <i class="bi bi-chevron-double-left"></i> 처음
                                                                     </a>
                                                                 </li>
                                                             </c:if>
 
-                                                            <c:forEach begin="0" end="${contracts.totalPages - 1}"
-                                                                var="i">
-                                                                <li
-                                                                    class="page-item ${i == contracts.number ? 'active' : ''}">
-                                                                    <a class="page-link"
-                                                                        href="?page=${i}&status=${param.status}">${i +
-                                                                        1}</a>
-                                                                </li>
-                                                            </c:forEach>
-
                                                             <c:if test="${contracts.hasNext()}">
                                                                 <li class="page-item">
                                                                     <a class="page-link"
-                                                                        href="?page=${contracts.number + 1}&status=${param.status}">
-                                                                        <i class="bi bi-chevron-right"></i>
+                                                                        href="?cursor=${contracts.nextCursor}&status=${param.status}">
+                                                                        다음 <i class="bi bi-chevron-right"></i>
                                                                     </a>
                                                                 </li>
                                                             </c:if>
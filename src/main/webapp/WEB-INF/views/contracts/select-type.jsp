@@ -118,7 +118,7 @@
                         const userInfo = JSON.parse(localStorage.getItem('signly_user_info'));
                         const userId = userInfo?.userId;
                         // 최신순 정렬 (createdAt DESC)
-                        const response = await fetch('/api/templates?status=ACTIVE&size=100&sort=createdAt,desc', {
+                        const response = await fetch('/api/templates?status=ACTIVE&size=100', {
                             headers: {
                                 'X-User-Id': userId
                             }
@@ -172,32 +172,23 @@
                                         </c:forEach>
                                     </div>
 
-                                    <!-- 페이지네이션 -->
-                                    <c:if test="${templates.totalPages > 1}">
+                                    <!-- 페이지네이션 (커서 기반: 처음 / 다음) -->
+                                    <c:if test="${not firstPage or templates.hasNext()}">
                                         <nav aria-label="템플릿 목록 페이지네이션" class="mt-4">
                                             <ul class="pagination justify-content-center">
-                                                <c:if test="${templates.hasPrevious()}">
+                                                <c:if test="${not firstPage}">
                                                     <li class="page-item">
-                                                        <a class="page-link"
-                                                            href="?page=${templates.number - 1}&status=${param.status}">
-                                                            <i class="bi bi-chevron-left"></i>
+                                                        <a class="page-link" href="?status=${param.status}">
+                                                            <i class="bi bi-chevron-double-left"></i> 처음
                                                         </a>
                                                     </li>
                                                 </c:if>
 
-                                                <c:forEach begin="0" end="${templates.totalPages - 1}" var="i">
-                                                    <li class="page-item ${i == templates.number ? 'active' : ''}">
-                                                        <a class="page-link"
-                                                            href="?page=${i}&status=${param.status}">${i +
-                                                            1}</a>
-                                                    </li>
-                                                </c:forEach>
-
                                                 <c:if test="${templates.hasNext()}">
                                                     <li class="page-item">
                                                         <a class="page-link"
-                                                            href="?page=${templates.number + 1}&status=${param.status}">
-                                                            <i class="bi bi-chevron-right"></i>
+                                                            href="?cursor=${templates.nextCursor}&status=${param.status}">
+                                                            다음 <i class="bi bi-chevron-right"></i>
                                                         </a>
                                                     </li>
                                                 </c:if>
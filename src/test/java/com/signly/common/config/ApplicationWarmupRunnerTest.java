@@ -0,0 +1,79 @@
+package com.signly.common.config;
+
+import com.signly.common.encryption.AesEncryptionService;
+import com.signly.contract.domain.service.PdfGenerator;
+import com.signly.notification.infrastructure.gateway.SmtpEmailSender;
+import com.signly.template.domain.service.UnifiedTemplateRenderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationWarmupRunnerTest {
+
+    @Mock
+    private PdfGenerator pdfGenerator;
+
+    @Mock
+    private UnifiedTemplateRenderer templateRenderer;
+
+    @Mock
+    private AesEncryptionService encryptionService;
+
+    @Mock
+    private ObjectProvider<SmtpEmailSender> emailSenderProvider;
+
+    @Mock
+    private WarmupMetrics warmupMetrics;
+
+    @Test
+    @DisplayName("비활성화되어 있으면 아무 경로도 실행하지 않음")
+    void warmUp_disabled() {
+        runner(false, 3).warmUp();
+
+        verifyNoInteractions(pdfGenerator, templateRenderer, encryptionService, warmupMetrics);
+    }
+
+    @Test
+    @DisplayName("반복 횟수만큼 실행하고, 실패한 단계는 중단한 채 나머지 단계를 계속 실행")
+    void warmUp_runsStepsAndIsolatesFailures() {
+        when(encryptionService.encrypt(anyString())).thenReturn("encrypted");
+        when(pdfGenerator.generateFromXhtml(anyString(), anyString())).thenThrow(new IllegalStateException("폰트 없음"));
+
+        runner(true, 3).warmUp();
+
+        verify(encryptionService, times(3)).decrypt("encrypted");
+        verify(templateRenderer, times(3)).renderWithVariables(any(), any());
+        verify(pdfGenerator, times(1)).generateFromXhtml(anyString(), eq("warmup.pdf"));
+        verify(warmupMetrics, times(2)).recordWarmupSuccess(anyLong());
+        verify(warmupMetrics).recordWarmupFailure(anyLong(), contains("pdf"));
+    }
+
+    private ApplicationWarmupRunner runner(
+            boolean enabled,
+            int maxIterations
+    ) {
+        return new ApplicationWarmupRunner(
+                pdfGenerator,
+                templateRenderer,
+                encryptionService,
+                emailSenderProvider,
+                new DefaultResourceLoader(),
+                warmupMetrics,
+                enabled,
+                60_000L,
+                maxIterations
+        );
+    }
+}
@@ -6,7 +6,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Base64;
+import java.util.HexFormat;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -512,4 +515,19 @@ class AesEncryptionServiceTest {
         // Then
         assertNotEquals(hash1, hash2);
     }
-}
\ No newline at end of file
+
+    // ==================== Engine Tests ====================
+
+    @Test
+    @DisplayName("해시는 기존 방식(원문+Salt 문자열의 SHA-256 hex)과 같은 값을 만든다")
+    void hash_matches_previous_format() throws Exception {
+        // Given
+        String rawText = "test@example.com";
+        byte[] expected = MessageDigest.getInstance("SHA-256")
+                .digest((rawText + "testSaltForHashing123").getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertEquals(HexFormat.of().formatHex(expected), encryptionService.hash(rawText));
+        assertEquals(encryptionService.hash(rawText), encryptionService.hash(rawText));
+    }
+}
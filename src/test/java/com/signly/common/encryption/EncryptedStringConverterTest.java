@@ -0,0 +1,115 @@
+package com.signly.common.encryption;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("접근 시점 복호화 컬럼 변환")
+class EncryptedStringConverterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AesEncryptionService encryptionService;
+    private EncryptedStringConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        EncryptionProperties properties = new EncryptionProperties();
+        properties.setEnabled(true);
+        properties.setAlgorithm("AES/GCM/NoPadding");
+        properties.setIvLength(12);
+        properties.setTagLength(128);
+        properties.setCharset("UTF-8");
+        properties.setSecretKey(Base64.getEncoder().encodeToString("12345678901234567890123456789012".getBytes()));
+        properties.setSalt("testSaltForHashing123");
+
+        meterRegistry = new SimpleMeterRegistry();
+        encryptionService = new AesEncryptionService(properties);
+        converter = new EncryptedStringConverter(encryptionService, new DecryptionMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("로딩 시에는 복호화하지 않고 처음 읽을 때 한 번만 복호화")
+    void decryptsOnFirstAccessOnly() {
+        EncryptedString loaded = converter.convertToEntityAttribute(encryptionService.encrypt("<p>본문</p>"));
+
+        assertThat(loaded.isDecrypted()).isFalse();
+        assertThat(lazyDecrypts()).isZero();
+
+        assertThat(loaded.get()).isEqualTo("<p>본문</p>");
+        assertThat(loaded.get()).isEqualTo("<p>본문</p>");
+        assertThat(lazyDecrypts()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("읽어온 값을 그대로 저장하면 기존 암호문을 재사용")
+    void reusesStoredCiphertext() {
+        String ciphertext = encryptionService.encrypt("서명 데이터");
+        EncryptedString loaded = converter.convertToEntityAttribute(ciphertext);
+
+        assertThat(converter.convertToDatabaseColumn(loaded)).isEqualTo(ciphertext);
+        assertThat(loaded).isEqualTo(converter.convertToEntityAttribute(ciphertext));
+        assertThat(lazyDecrypts()).isZero();
+    }
+
+    @Test
+    @DisplayName("새 값은 암호화해 저장하고 다시 읽으면 같은 평문")
+    void encryptsNewValue() {
+        EncryptedString value = EncryptedString.ofPlaintext("새 본문");
+
+        String stored = converter.convertToDatabaseColumn(value);
+
+        assertThat(encryptionService.isEncrypted(stored)).isTrue();
+        assertThat(converter.convertToEntityAttribute(stored).get()).isEqualTo("새 본문");
+        assertThat(value).isEqualTo(EncryptedString.ofPlaintext("새 본문"));
+    }
+
+    @Test
+    @DisplayName("암호화 이전 평문 값은 그대로 읽고 저장 시 암호화")
+    void encryptsLegacyPlaintextOnWrite() {
+        EncryptedString legacy = converter.convertToEntityAttribute("암호화 이전 평문");
+
+        String stored = converter.convertToDatabaseColumn(legacy);
+
+        assertThat(legacy.get()).isEqualTo("암호화 이전 평문");
+        assertThat(encryptionService.isEncrypted(stored)).isTrue();
+        assertThat(encryptionService.decrypt(stored)).isEqualTo("암호화 이전 평문");
+    }
+
+    @Test
+    @DisplayName("읽어온 값의 동등성/해시는 복호화하지 않고 저장된 암호문으로 판단")
+    void comparesStoredValuesWithoutDecrypting() {
+        String ciphertext = encryptionService.encrypt("서명 데이터");
+        EncryptedString first = converter.convertToEntityAttribute(ciphertext);
+        EncryptedString second = converter.convertToEntityAttribute(ciphertext);
+        EncryptedString reEncrypted = converter.convertToEntityAttribute(encryptionService.encrypt("서명 데이터"));
+
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+        assertThat(first).isNotEqualTo(reEncrypted);
+        assertThat(first).isNotEqualTo(EncryptedString.ofPlaintext("서명 데이터"));
+        assertThat(first.isDecrypted()).isFalse();
+        assertThat(lazyDecrypts()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 단위로 복호화 횟수를 기록")
+    void recordsDecryptsPerRequest() {
+        DecryptionMetrics metrics = new DecryptionMetrics(meterRegistry);
+        converter = new EncryptedStringConverter(encryptionService, metrics);
+
+        metrics.beginRequest();
+        converter.convertToEntityAttribute(encryptionService.encrypt("a")).get();
+        converter.convertToEntityAttribute(encryptionService.encrypt("b"));
+
+        assertThat(metrics.endRequest()).isEqualTo(1);
+        assertThat(meterRegistry.get("encryption.decrypt.per_request").summary().count()).isEqualTo(1);
+    }
+
+    private double lazyDecrypts() {
+        return meterRegistry.get("encryption.decrypt").tag("mode", "lazy").counter().count();
+    }
+}
@@ -0,0 +1,61 @@
+package com.signly.common.html;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("XhtmlNormalizer 단위 테스트")
+class XhtmlNormalizerTest {
+
+    @Test
+    @DisplayName("문서 헤더, script, meta, title 제거 후 본문 유지")
+    void toXhtmlFragment_removesDocumentWrappers() {
+        String html = "<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>표준근로계약서</title></head>"
+                + "<body><div class=\"title\">표준근로계약서</div><script>alert('x')</script></body></html>";
+
+        String result = XhtmlNormalizer.toXhtmlFragment(html);
+
+        assertThat(result).isEqualTo("<div class=\"title\">표준근로계약서</div>");
+    }
+
+    @Test
+    @DisplayName("void 요소는 self-closing으로 직렬화")
+    void toXhtmlFragment_closesVoidElements() {
+        String html = "<p>첫 줄<br>둘째 줄</br></p><hr><img src=\"a.png\"><input type=\"checkbox\" checked>";
+
+        String result = XhtmlNormalizer.toXhtmlFragment(html);
+
+        assertThat(result).contains("<br />", "<hr />", "<img src=\"a.png\" />");
+        assertThat(result).contains("checked=\"\"");
+        assertThat(result).doesNotContain("</br>");
+    }
+
+    @Test
+    @DisplayName("이중 인코딩된 대괄호 entity와 BOM 정규화")
+    void toXhtmlFragment_normalizesEntities() {
+        String html = "\uFEFF<div>&amp;#91;EMPLOYEE&amp;#93; &#91;EMPLOYER&#93; &lbrack;X&rbrack;</div>";
+
+        String result = XhtmlNormalizer.toXhtmlFragment(html);
+
+        assertThat(result).isEqualTo("<div>[EMPLOYEE] [EMPLOYER] [X]</div>");
+    }
+
+    @Test
+    @DisplayName("XML에서 정의되지 않은 named entity는 유효한 문자 참조로 출력")
+    void toXhtmlFragment_escapesForXml() {
+        String html = "<p>A&nbsp;&amp;&nbsp;B &lt;조항&gt;</p>";
+
+        String result = XhtmlNormalizer.toXhtmlFragment(html);
+
+        assertThat(result).doesNotContain("&nbsp;");
+        assertThat(result).contains("&amp;", "&lt;조항&gt;");
+    }
+
+    @Test
+    @DisplayName("null 또는 빈 문자열은 빈 문자열 반환")
+    void toXhtmlFragment_emptyInput() {
+        assertThat(XhtmlNormalizer.toXhtmlFragment(null)).isEmpty();
+        assertThat(XhtmlNormalizer.toXhtmlFragment("  ")).isEmpty();
+    }
+}
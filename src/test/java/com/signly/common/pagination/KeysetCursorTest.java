@@ -0,0 +1,45 @@
+package com.signly.common.pagination;
+
+import com.signly.common.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 같은 정렬 키로 복원")
+    void roundTrip() {
+        var cursor = new KeysetCursor(1, LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_456_000), "01H8X9Y2Z3W4V5U6T7R8S9Q0C1");
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지, 해석할 수 없으면 검증 오류")
+    void blankAndInvalidTokens() {
+        assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.first());
+        assertThat(KeysetCursor.decode(" ")).isEqualTo(KeysetCursor.first());
+
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("한 건 더 읽었을 때만 마지막 행의 키로 다음 커서를 만듦")
+    void sliceNextCursor() {
+        var rows = List.of("a", "b", "c");
+
+        var last = CursorSlice.of(rows, 3, row -> KeysetCursor.first());
+        var partial = CursorSlice.of(rows, 2, row -> new KeysetCursor(0, LocalDateTime.of(2025, 1, 1, 0, 0), row));
+
+        assertThat(last.hasNext()).isFalse();
+        assertThat(partial.getContent()).containsExactly("a", "b");
+        assertThat(KeysetCursor.decode(partial.getNextCursor()).id()).isEqualTo("b");
+    }
+}
@@ -0,0 +1,193 @@
+package com.signly.contract.application;
+
+import com.signly.common.exception.ValidationException;
+import com.signly.contract.application.dto.BulkIssuanceCommand;
+import com.signly.contract.application.dto.BulkIssuanceRecipient;
+import com.signly.contract.application.dto.BulkIssuanceResult;
+import com.signly.contract.application.dto.BulkIssuanceRowResult;
+import com.signly.contract.domain.model.Contract;
+import com.signly.contract.domain.model.ContractStatus;
+import com.signly.contract.domain.repository.ContractRepository;
+import com.signly.notification.application.EmailNotificationService;
+import com.signly.signature.application.FirstPartySignatureService;
+import com.signly.signature.application.SignatureService;
+import com.signly.template.application.CompiledTemplateCache;
+import com.signly.template.domain.model.ContractTemplate;
+import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.domain.model.TemplateMetadata;
+import com.signly.template.domain.model.TemplateSection;
+import com.signly.template.domain.model.TemplateSectionType;
+import com.signly.template.domain.model.TemplateVariable;
+import com.signly.template.domain.model.TemplateVariableType;
+import com.signly.template.domain.repository.TemplateRepository;
+import com.signly.template.domain.service.HtmlSectionRenderer;
+import com.signly.template.domain.service.UnifiedTemplateRenderer;
+import com.signly.user.domain.model.Email;
+import com.signly.user.domain.model.User;
+import com.signly.user.domain.model.UserId;
+import com.signly.user.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContractBulkIssuanceServiceTest {
+
+    private static final String USER_ID = "01HZX3J5Q8W6V4N2M7K9P0R1ST";
+    private static final String SIGNATURE_DATA_URL = "data:image/png;base64,iVBORw0KGgo=";
+
+    @Mock
+    private ContractRepository contractRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TemplateRepository templateRepository;
+
+    @Mock
+    private FirstPartySignatureService firstPartySignatureService;
+
+    @Mock
+    private SignatureService signatureService;
+
+    @Mock
+    private EmailNotificationService emailNotificationService;
+
+    private ContractTemplate template;
+    private ContractBulkIssuanceService bulkIssuanceService;
+
+    @BeforeEach
+    void setUp() {
+        bulkIssuanceService = new ContractBulkIssuanceService(
+                contractRepository,
+                userRepository,
+                templateRepository,
+                firstPartySignatureService,
+                signatureService,
+                emailNotificationService,
+                new UnifiedTemplateRenderer(mock(HtmlSectionRenderer.class)),
+                new CompiledTemplateCache(new SimpleMeterRegistry(), 10),
+                new ContractAuthorizationService(),
+                mock(ContractCountCache.class),
+                Runnable::run,
+                5
+        );
+
+        TemplateContent content = TemplateContent.of(
+                TemplateMetadata.of("근로계약서", "설명", "테스터", Map.of(
+                        "WORKPLACE", TemplateVariable.of("근무장소", TemplateVariableType.TEXT, true, null))),
+                List.of(TemplateSection.of("body", TemplateSectionType.PARAGRAPH, 0,
+                        "[EMPLOYEE]의 근무장소는 [WORKPLACE]이다.", null, List.of()))
+        );
+        template = ContractTemplate.create(UserId.of(USER_ID), "근로계약서", content);
+    }
+
+    private void givenOwnerAndTemplate() {
+        User owner = mock(User.class);
+        when(owner.canCreateContract()).thenReturn(true);
+        when(owner.getName()).thenReturn("김사장");
+        when(owner.getEmail()).thenReturn(Email.of("owner@signly.com"));
+        when(userRepository.findById(any())).thenReturn(Optional.of(owner));
+        when(templateRepository.findById(template.getTemplateId())).thenReturn(Optional.of(template));
+    }
+
+    @Test
+    @DisplayName("모든 행이 유효하면 병렬 렌더링 후 계약서/서명/이메일을 일괄 저장")
+    void issue_rendersAndSavesAllRows() {
+        givenOwnerAndTemplate();
+        when(firstPartySignatureService.getSignatureDataUrl(USER_ID)).thenReturn(SIGNATURE_DATA_URL);
+
+        BulkIssuanceResult result = bulkIssuanceService.issue(USER_ID, command(
+                recipient("홍길동", "hong@example.com", "서울 본사"),
+                recipient("이몽룡", "lee@example.com", "부산 <지점>")
+        ));
+
+        assertThat(result.allIssued()).isTrue();
+        assertThat(result.rows()).extracting(BulkIssuanceRowResult::status)
+                .containsOnly(BulkIssuanceRowResult.Status.ISSUED);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Contract>> contracts = ArgumentCaptor.forClass(List.class);
+        verify(contractRepository).insertAll(contracts.capture());
+        assertThat(contracts.getValue()).hasSize(2)
+                .allSatisfy(contract -> assertThat(contract.getStatus()).isEqualTo(ContractStatus.PENDING));
+        assertThat(contracts.getValue().get(0).getTitle()).isEqualTo("시즌 근로계약서 - 홍길동");
+        assertThat(contracts.getValue().get(0).getContent().content()).contains("홍길동의 근무장소는 서울 본사이다.");
+        assertThat(contracts.getValue().get(1).getContent().content()).contains("부산 &lt;지점&gt;");
+        assertThat(contracts.getValue().get(1).getTemplateData().templateVersion()).isEqualTo(template.getVersion());
+        assertThat(contracts.getValue().get(1).getTemplateData().values()).containsValue("부산 <지점>");
+        assertThat(result.rows().get(1).contractId()).isEqualTo(contracts.getValue().get(1).getId().value());
+
+        verify(signatureService).createServerSignatures(anyList(), eq(SIGNATURE_DATA_URL), eq("owner@signly.com"), eq("김사장"));
+        verify(emailNotificationService).sendContractSigningRequests(contracts.getValue());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 행이 있으면 아무것도 저장하지 않고 행별 사유를 반환")
+    void issue_rejectsWholeBatchWhenAnyRowIsInvalid() {
+        givenOwnerAndTemplate();
+        BulkIssuanceResult result = bulkIssuanceService.issue(USER_ID, command(
+                recipient("홍길동", "hong@example.com", "서울 본사"),
+                recipient("이몽룡", "lee@example.com", " "),
+                recipient("홍길순", "HONG@example.com", "대전 지점"),
+                recipient("성춘향", "not-an-email", "광주 지점")
+        ));
+
+        assertThat(result.issuedCount()).isZero();
+        assertThat(result.rows()).extracting(BulkIssuanceRowResult::status).containsExactly(
+                BulkIssuanceRowResult.Status.SKIPPED,
+                BulkIssuanceRowResult.Status.INVALID,
+                BulkIssuanceRowResult.Status.INVALID,
+                BulkIssuanceRowResult.Status.INVALID
+        );
+        assertThat(result.rows().get(1).message()).contains("근무장소");
+
+        verify(contractRepository, never()).insertAll(any());
+        verifyNoInteractions(signatureService, emailNotificationService);
+    }
+
+    @Test
+    @DisplayName("최대 수신자 수를 넘으면 거부")
+    void issue_rejectsTooManyRecipients() {
+        BulkIssuanceRecipient[] recipients = IntStream.range(0, 6)
+                .mapToObj(i -> recipient("근로자" + i, "worker" + i + "@example.com", "본사"))
+                .toArray(BulkIssuanceRecipient[]::new);
+
+        assertThatThrownBy(() -> bulkIssuanceService.issue(USER_ID, command(recipients)))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    private BulkIssuanceCommand command(BulkIssuanceRecipient... recipients) {
+        return new BulkIssuanceCommand(template.getTemplateId().value(), "시즌 근로계약서", null, List.of(recipients));
+    }
+
+    private static BulkIssuanceRecipient recipient(
+            String name,
+            String email,
+            String workplace
+    ) {
+        return new BulkIssuanceRecipient(name, email, null, Map.of("EMPLOYEE", name, "WORKPLACE", workplace));
+    }
+}
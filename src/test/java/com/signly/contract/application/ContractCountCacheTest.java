@@ -0,0 +1,78 @@
+package com.signly.contract.application;
+
+import com.signly.contract.domain.model.ContractStatus;
+import com.signly.contract.domain.repository.ContractRepository;
+import com.signly.user.domain.model.UserId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContractCountCacheTest {
+
+    private static final UserId CREATOR_ID = UserId.generate();
+
+    @Mock
+    private ContractRepository contractRepository;
+
+    private ContractCountCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ContractCountCache(contractRepository, Duration.ofMinutes(5), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 상태 변경은 커밋 후에 작성자 건수를 비움")
+    void evictsAfterCommit() {
+        when(contractRepository.countByCreatorIdGroupByStatus(CREATOR_ID))
+                .thenReturn(Map.of(ContractStatus.DRAFT, 1L))
+                .thenReturn(Map.of(ContractStatus.PENDING, 1L));
+        assertThat(cache.count(CREATOR_ID, ContractStatus.DRAFT)).isEqualTo(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evict(CREATOR_ID);
+
+        // 커밋 전에는 이전 건수 유지
+        assertThat(cache.count(CREATOR_ID, ContractStatus.DRAFT)).isEqualTo(1);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.count(CREATOR_ID, ContractStatus.PENDING)).isEqualTo(1);
+        assertThat(cache.count(CREATOR_ID, ContractStatus.DRAFT)).isZero();
+        verify(contractRepository, times(2)).countByCreatorIdGroupByStatus(CREATOR_ID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 비움")
+    void evictsImmediatelyWithoutTransaction() {
+        when(contractRepository.countByCreatorIdGroupByStatus(CREATOR_ID)).thenReturn(Map.of(ContractStatus.DRAFT, 2L));
+        cache.count(CREATOR_ID, null);
+
+        cache.evict(CREATOR_ID);
+        cache.count(CREATOR_ID, null);
+
+        verify(contractRepository, times(2)).countByCreatorIdGroupByStatus(CREATOR_ID);
+    }
+}
@@ -0,0 +1,85 @@
+package com.signly.contract.application;
+
+import com.signly.contract.domain.model.Contract;
+import com.signly.contract.domain.model.ContractFinalizationJob;
+import com.signly.contract.domain.model.ContractId;
+import com.signly.contract.domain.model.FinalizationJobStatus;
+import com.signly.contract.domain.repository.ContractFinalizationJobRepository;
+import com.signly.contract.domain.repository.ContractRepository;
+import com.signly.notification.application.EmailNotificationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContractFinalizationServiceTest {
+
+    @Mock
+    private ContractFinalizationJobRepository jobRepository;
+
+    @Mock
+    private ContractRepository contractRepository;
+
+    @Mock
+    private ContractPdfService contractPdfService;
+
+    @Mock
+    private EmailNotificationService emailNotificationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ContractFinalizationService finalizationService;
+
+    @Test
+    @DisplayName("완료 알림 저장이 실패하면 예외를 전파하고 작업을 완료로 기록하지 않음")
+    void completionNoticeFailurePropagates() {
+        ContractFinalizationJob job = job();
+        Contract contract = mock(Contract.class);
+        when(contractRepository.findById(job.getContractId())).thenReturn(Optional.of(contract));
+        doThrow(new IllegalStateException("pdf missing")).when(emailNotificationService).sendContractCompleted(contract);
+
+        assertThatThrownBy(() -> finalizationService.sendCompletionNotice(job))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(job.isNotificationSent()).isFalse();
+        assertThat(job.isCompleted()).isFalse();
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("완료 알림이 저장되면 알림 발송과 작업 완료를 함께 기록")
+    void completionNoticeMarksJobCompleted() {
+        ContractFinalizationJob job = job();
+        Contract contract = mock(Contract.class);
+        when(contractRepository.findById(job.getContractId())).thenReturn(Optional.of(contract));
+
+        finalizationService.sendCompletionNotice(job);
+
+        assertThat(job.isNotificationSent()).isTrue();
+        assertThat(job.isCompleted()).isTrue();
+        verify(jobRepository).save(job);
+    }
+
+    private static ContractFinalizationJob job() {
+        return ContractFinalizationJob.restore(ContractId.generate(), FinalizationJobStatus.PROCESSING, true, false,
+                1, 5, null, LocalDateTime.now().plusMinutes(10), LocalDateTime.now(), null);
+    }
+}
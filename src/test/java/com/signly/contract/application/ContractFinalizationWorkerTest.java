@@ -0,0 +1,95 @@
+package com.signly.contract.application;
+
+import com.signly.contract.domain.model.ContractFinalizationJob;
+import com.signly.contract.domain.model.ContractId;
+import com.signly.contract.domain.model.FinalizationJobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContractFinalizationWorkerTest {
+
+    @Mock
+    private ContractFinalizationService finalizationService;
+
+    private ContractFinalizationWorker worker;
+    private ContractId contractId;
+
+    @BeforeEach
+    void setUp() {
+        worker = new ContractFinalizationWorker(finalizationService, Runnable::run, 10);
+        contractId = ContractId.generate();
+    }
+
+    @Test
+    @DisplayName("점유하지 못한 작업은 처리하지 않음")
+    void skipsUnclaimedJob() {
+        when(finalizationService.claim(eq(contractId), any(LocalDateTime.class))).thenReturn(Optional.empty());
+
+        worker.finalizeContract(contractId);
+
+        verify(finalizationService, never()).storePdf(any());
+        verify(finalizationService, never()).sendCompletionNotice(any());
+    }
+
+    @Test
+    @DisplayName("점유한 작업은 PDF 저장 후 완료 알림 순서로 처리")
+    void runsBothSteps() {
+        ContractFinalizationJob job = job(false, 1);
+        when(finalizationService.claim(eq(contractId), any(LocalDateTime.class))).thenReturn(Optional.of(job));
+
+        worker.finalizeContract(contractId);
+
+        verify(finalizationService).storePdf(job);
+        verify(finalizationService).sendCompletionNotice(job);
+        verify(finalizationService, never()).markFailed(any(), any());
+    }
+
+    @Test
+    @DisplayName("재시도 시 이미 끝난 PDF 저장 단계는 건너뜀")
+    void skipsStoredPdfOnRetry() {
+        ContractFinalizationJob job = job(true, 2);
+        when(finalizationService.claim(eq(contractId), any(LocalDateTime.class))).thenReturn(Optional.of(job));
+
+        worker.finalizeContract(contractId);
+
+        verify(finalizationService, never()).storePdf(any());
+        verify(finalizationService).sendCompletionNotice(job);
+    }
+
+    @Test
+    @DisplayName("완료 알림이 실패하면 작업을 완료 처리하지 않고 실패로 기록해 재시도")
+    void recordsFailureWhenNoticeFails() {
+        ContractFinalizationJob job = job(true, 1);
+        when(finalizationService.claim(eq(contractId), any(LocalDateTime.class))).thenReturn(Optional.of(job));
+        RuntimeException failure = new IllegalStateException("outbox unavailable");
+        doThrow(failure).when(finalizationService).sendCompletionNotice(job);
+        when(finalizationService.markFailed(contractId, failure)).thenReturn(Optional.empty());
+
+        worker.finalizeContract(contractId);
+
+        verify(finalizationService).markFailed(contractId, failure);
+    }
+
+    private ContractFinalizationJob job(
+            boolean pdfStored,
+            int attempts
+    ) {
+        return ContractFinalizationJob.restore(contractId, FinalizationJobStatus.PROCESSING, pdfStored, false,
+                attempts, 5, null, LocalDateTime.now().plusMinutes(10), LocalDateTime.now(), null);
+    }
+}
@@ -0,0 +1,96 @@
+package com.signly.contract.application;
+
+import com.signly.contract.domain.model.GeneratedPdf;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ContractPdfCache 단위 테스트")
+class ContractPdfCacheTest {
+
+    private final ContractPdfCache cache = new ContractPdfCache(new SimpleMeterRegistry(), 1024 * 1024, 30);
+
+    @Test
+    @DisplayName("같은 키는 한 번만 렌더링하고 이후에는 캐시를 반환한다")
+    void getOrRender_returnsCachedPdf() {
+        AtomicInteger renderCount = new AtomicInteger();
+
+        GeneratedPdf first = cache.getOrRender("key", () -> render(renderCount));
+        GeneratedPdf second = cache.getOrRender("key", () -> render(renderCount));
+
+        assertThat(second).isSameAs(first);
+        assertThat(renderCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 요청은 하나의 렌더링 결과를 공유한다")
+    void getOrRender_sharesInFlightRender() throws Exception {
+        AtomicInteger renderCount = new AtomicInteger();
+        CountDownLatch renderStarted = new CountDownLatch(1);
+        CountDownLatch releaseRender = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<GeneratedPdf>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.getOrRender("key", () -> {
+                renderStarted.countDown();
+                await(releaseRender);
+                return render(renderCount);
+            })));
+            assertThat(renderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.getOrRender("key", () -> render(renderCount))));
+            }
+            releaseRender.countDown();
+
+            GeneratedPdf expected = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<GeneratedPdf> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+            }
+            assertThat(renderCount.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("렌더링 실패는 캐시되지 않는다")
+    void getOrRender_doesNotCacheFailure() {
+        AtomicInteger renderCount = new AtomicInteger();
+
+        assertThatThrownBy(() -> cache.getOrRender("key", () -> {
+            throw new IllegalStateException("render failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        GeneratedPdf pdf = cache.getOrRender("key", () -> render(renderCount));
+
+        assertThat(pdf).isNotNull();
+        assertThat(renderCount.get()).isEqualTo(1);
+    }
+
+    private GeneratedPdf render(AtomicInteger renderCount) {
+        renderCount.incrementAndGet();
+        return GeneratedPdf.of(new byte[]{1, 2, 3}, "contract.pdf");
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.signly.contract.application;
+
+import com.signly.common.exception.ValidationException;
+import com.signly.common.storage.FileStorageService;
+import com.signly.contract.application.dto.StoredContractPdf;
+import com.signly.contract.domain.model.ContractId;
+import com.signly.contract.domain.repository.ContractRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContractPdfExportServiceTest {
+
+    private static final String USER_ID = "01HZX3J5Q8W6V4N2M7K9P0R1ST";
+
+    @Mock
+    private ContractRepository contractRepository;
+
+    @Mock
+    private ContractPdfService contractPdfService;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ContractPdfExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        exportService = new ContractPdfExportService(
+                contractRepository,
+                contractPdfService,
+                fileStorageService,
+                Runnable::run,
+                meterRegistry,
+                2,
+                10
+        );
+    }
+
+    @Test
+    @DisplayName("저장된 PDF를 ZIP 엔트리로 기록하고 실패한 계약서는 오류 목록에 남김")
+    void writeZip_writesEntriesAndErrorReport() throws Exception {
+        ContractId stored = ContractId.of("01HSTORED00000000000000000");
+        ContractId rendered = ContractId.of("01HRENDERED0000000000000000");
+        ContractId broken = ContractId.of("01HBROKEN00000000000000000");
+
+        when(contractPdfService.ensureStoredPdfForExport(stored))
+                .thenReturn(new StoredContractPdf(stored.value(), "근로계약서/홍길동", "contracts/completed/a.pdf", false));
+        when(contractPdfService.ensureStoredPdfForExport(rendered))
+                .thenReturn(new StoredContractPdf(rendered.value(), "근로계약서", "contracts/completed/b.pdf", true));
+        when(contractPdfService.ensureStoredPdfForExport(broken))
+                .thenThrow(new IllegalStateException("렌더링 실패"));
+        when(fileStorageService.loadAsResource("contracts/completed/a.pdf"))
+                .thenReturn(new ByteArrayResource("pdf-a".getBytes(StandardCharsets.UTF_8)));
+        when(fileStorageService.loadAsResource("contracts/completed/b.pdf"))
+                .thenReturn(new ByteArrayResource("pdf-b".getBytes(StandardCharsets.UTF_8)));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.writeZip(List.of(stored, rendered, broken), output);
+
+        Map<String, String> entries = readZip(output.toByteArray());
+        assertThat(entries).containsEntry("근로계약서_홍길동_" + stored.value() + ".pdf", "pdf-a");
+        assertThat(entries).containsEntry("근로계약서_" + rendered.value() + ".pdf", "pdf-b");
+        assertThat(entries.get("export-errors.txt")).contains(broken.value(), "렌더링 실패");
+
+        assertThat(meterRegistry.get("contract.export.entries").tag("result", "stored").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("contract.export.entries").tag("result", "rendered").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("contract.export.entries").tag("result", "failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("contract.export.bytes").counter().count()).isEqualTo(10);
+        assertThat(meterRegistry.get("contract.export.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료일이 시작일보다 앞서면 조회하지 않고 거부")
+    void findExportTargets_rejectsInvertedRange() {
+        assertThatThrownBy(() -> exportService.findExportTargets(
+                USER_ID, LocalDate.of(2026, 3, 31), LocalDate.of(2026, 1, 1)))
+                .isInstanceOf(ValidationException.class);
+
+        verifyNoInteractions(contractRepository);
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘으면 기간을 나누도록 거부")
+    void findExportTargets_rejectsTooManyContracts() {
+        List<ContractId> tooMany = IntStream.range(0, 11)
+                .mapToObj(i -> ContractId.of(String.format("01HCONTRACT%015d", i)))
+                .toList();
+        when(contractRepository.findSignedContractIds(any(), any(), any())).thenReturn(tooMany);
+
+        assertThatThrownBy(() -> exportService.findExportTargets(
+                USER_ID, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31)))
+                .isInstanceOf(ValidationException.class);
+
+        verify(contractRepository).findSignedContractIds(
+                any(),
+                eq(LocalDate.of(2026, 1, 1).atStartOfDay()),
+                eq(LocalDate.of(2026, 4, 1).atStartOfDay())
+        );
+    }
+
+    private Map<String, String> readZip(byte[] zipBytes) throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(zipBytes), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
@@ -1,14 +1,20 @@
 package com.signly.contract.application;
 
-import com.signly.common.image.ImageResizer;
 import com.signly.common.storage.FileStorageService;
+import com.signly.common.storage.StoredFile;
 import com.signly.contract.domain.model.*;
 import com.signly.contract.domain.repository.ContractRepository;
 import com.signly.contract.domain.service.PdfGenerator;
+import com.signly.document.application.DocumentService;
 import com.signly.contract.domain.model.Signature;
 import com.signly.contract.domain.repository.SignatureRepository;
+import com.signly.signature.application.SignatureRenditionService;
+import com.signly.template.application.TemplateService;
+import com.signly.template.domain.model.CompiledTemplateLayout;
 import com.signly.template.domain.model.TemplateId;
+import com.signly.template.domain.model.TemplateSectionType;
 import com.signly.user.domain.model.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,11 +23,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,7 +52,13 @@ class ContractPdfServiceTest {
     private FileStorageService fileStorageService;
 
     @Mock
-    private ImageResizer imageResizer;
+    private SignatureRenditionService signatureRenditionService;
+
+    @Mock
+    private DocumentService documentService;
+
+    @Mock
+    private TemplateService templateService;
 
     private com.signly.signature.application.FirstPartySignatureService firstPartySignatureService;
 
@@ -50,7 +68,8 @@ class ContractPdfServiceTest {
     void setUp() {
         // 수동으로 FirstPartySignatureService mock 생성
         firstPartySignatureService = org.mockito.Mockito.mock(com.signly.signature.application.FirstPartySignatureService.class);
-        contractPdfService = new ContractPdfService(contractRepository, signatureRepository, pdfGenerator, fileStorageService, imageResizer, firstPartySignatureService);
+        contractPdfService = new ContractPdfService(contractRepository, signatureRepository, pdfGenerator, fileStorageService, firstPartySignatureService, signatureRenditionService,
+                new ContractPdfCache(new SimpleMeterRegistry(), 64L * 1024 * 1024, 30), documentService, templateService);
     }
 
     @Test
@@ -92,12 +111,12 @@ class ContractPdfServiceTest {
         when(signatureRepository.findByContractIdAndSignerEmail(contractId, secondParty.email()))
                 .thenReturn(Optional.of(signature));
 
-        // ImageResizer mock: 입력 그대로 반환
-        when(imageResizer.resizeSignatureImage(anyString()))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        // 렌디션 mock: 원본 Data URL 그대로 반환
+        when(signatureRenditionService.renditionDataUrl(anyString(), any(Signature.class)))
+                .thenAnswer(invocation -> invocation.<Signature>getArgument(1).signatureData());
 
         ArgumentCaptor<String> htmlCaptor = ArgumentCaptor.forClass(String.class);
-        when(pdfGenerator.generateFromHtml(htmlCaptor.capture(), anyString()))
+        when(pdfGenerator.generateFromXhtml(htmlCaptor.capture(), anyString()))
                 .thenReturn(GeneratedPdf.of(new byte[]{1}, "dummy.pdf"));
 
         contractPdfService.generateContractPdf(contractId.value());
@@ -161,12 +180,12 @@ class ContractPdfServiceTest {
         when(signatureRepository.findByContractIdAndSignerEmail(contractId, secondParty.email()))
                 .thenReturn(Optional.of(secondSignature));
 
-        // ImageResizer mock: 입력 그대로 반환
-        when(imageResizer.resizeSignatureImage(anyString()))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        // 렌디션 mock: 원본 Data URL 그대로 반환
+        when(signatureRenditionService.renditionDataUrl(anyString(), any(Signature.class)))
+                .thenAnswer(invocation -> invocation.<Signature>getArgument(1).signatureData());
 
         ArgumentCaptor<String> htmlCaptor = ArgumentCaptor.forClass(String.class);
-        when(pdfGenerator.generateFromHtml(htmlCaptor.capture(), anyString()))
+        when(pdfGenerator.generateFromXhtml(htmlCaptor.capture(), anyString()))
                 .thenReturn(GeneratedPdf.of(new byte[]{1}, "dummy.pdf"));
 
         contractPdfService.generateContractPdf(contractId.value());
@@ -176,4 +195,284 @@ class ContractPdfServiceTest {
         assertThat(finalHtml).doesNotContain("data:image/png;base64,Zmlyc3Q="); // 첫 번째 서명 없음
         assertThat(finalHtml).contains("data:image/png;base64,c2Vjb25k"); // 두 번째 서명 있음
     }
+
+    @Test
+    void generateContractPdf_reusesCachedPdfForSameContent() {
+        ContractId contractId = ContractId.generate();
+        PartyInfo firstParty = PartyInfo.of("갑", "owner@example.com", "회사");
+        PartyInfo secondParty = PartyInfo.of("을", "employee@example.com", null);
+        Contract contract = Contract.restore(
+                contractId,
+                UserId.generate(),
+                TemplateId.generate(),
+                "고용 계약서",
+                ContractContent.of("<div>[EMPLOYEE_SIGNATURE_IMAGE]</div>"),
+                firstParty,
+                secondParty,
+                ContractStatus.SIGNED,
+                List.of(),
+                SignToken.generate(),
+                LocalDateTime.now().plusDays(1),
+                PresetType.NONE,
+                null,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+
+        when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
+        when(signatureRepository.findByContractIdAndSignerEmail(contractId, secondParty.email()))
+                .thenReturn(Optional.empty());
+        when(pdfGenerator.generateFromXhtml(anyString(), anyString()))
+                .thenReturn(GeneratedPdf.of(new byte[]{1}, "dummy.pdf"));
+
+        GeneratedPdf first = contractPdfService.generateContractPdf(contractId.value());
+        GeneratedPdf second = contractPdfService.generateContractPdf(contractId.value());
+
+        assertThat(second).isSameAs(first);
+        verify(pdfGenerator, times(1)).generateFromXhtml(anyString(), anyString());
+    }
+
+    @Test
+    void generateContractPdf_cacheHitDoesNotReadContentOrSignatureData() {
+        ContractId contractId = ContractId.generate();
+        PartyInfo secondParty = PartyInfo.of("을", "employee@example.com", null);
+        AtomicInteger contentReads = new AtomicInteger();
+        AtomicInteger signatureReads = new AtomicInteger();
+        Contract contract = Contract.restore(
+                contractId,
+                UserId.generate(),
+                TemplateId.generate(),
+                "고용 계약서",
+                ContractContent.restore(() -> {
+                    contentReads.incrementAndGet();
+                    return "<div>[EMPLOYEE_SIGNATURE_IMAGE]</div>";
+                }, "content-hash"),
+                PartyInfo.of("갑", "owner@example.com", "회사"),
+                secondParty,
+                ContractStatus.SIGNED,
+                List.of(),
+                SignToken.generate(),
+                LocalDateTime.now().plusDays(1),
+                PresetType.NONE,
+                null,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+        Signature signature = Signature.restore(secondParty.email(), "을", LocalDateTime.now(),
+                () -> {
+                    signatureReads.incrementAndGet();
+                    return "data:image/png;base64,aGVsbG8=";
+                },
+                "127.0.0.1", () -> null, () -> null, "rendition-checksum");
+
+        when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
+        when(signatureRepository.findByContractIdAndSignerEmail(contractId, secondParty.email()))
+                .thenReturn(Optional.of(signature));
+        when(signatureRenditionService.renditionDataUrl(anyString(), any(Signature.class)))
+                .thenReturn("data:image/png;base64,cmVuZGl0aW9u");
+        when(pdfGenerator.generateFromXhtml(anyString(), anyString()))
+                .thenReturn(GeneratedPdf.of(new byte[]{1}, "dummy.pdf"));
+
+        contractPdfService.generateContractPdf(contractId.value());
+        int contentReadsAfterRender = contentReads.get();
+        contractPdfService.generateContractPdf(contractId.value());
+
+        assertThat(contentReads).hasValue(contentReadsAfterRender);
+        assertThat(signatureReads).hasValue(0);
+        verify(pdfGenerator, times(1)).generateFromXhtml(anyString(), anyString());
+    }
+
+    @Test
+    void generateContractPdf_rendersTemplateContractFromCompiledLayout() {
+        ContractId contractId = ContractId.generate();
+        TemplateId templateId = TemplateId.generate();
+        PartyInfo secondParty = PartyInfo.of("을", "employee@example.com", null);
+        Contract contract = templateContract(contractId, templateId, secondParty);
+        Signature signature = Signature.create(secondParty.email(), "을", "data:image/png;base64,aGVsbG8=", "127.0.0.1");
+
+        when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
+        when(signatureRepository.findByContractIdAndSignerEmail(contractId, secondParty.email()))
+                .thenReturn(Optional.of(signature));
+        when(signatureRenditionService.renditionDataUrl(anyString(), any(Signature.class)))
+                .thenReturn("data:image/png;base64,cmVuZGl0aW9u");
+        when(templateService.findCompiledLayout(templateId.value(), 3))
+                .thenReturn(Optional.of(layoutWith("EMPLOYEE_NAME", "EMPLOYEE_SIGNATURE_IMAGE")));
+        when(pdfGenerator.generateFromTemplate(eq(templateId.value()), any(), anyString()))
+                .thenReturn(GeneratedPdf.of(new byte[]{1}, "dummy.pdf"));
+
+        contractPdfService.generateContractPdf(contractId.value());
+
+        verify(pdfGenerator).generateFromTemplate(eq(templateId.value()), eq(Map.of(
+                "EMPLOYEE_NAME", "홍길동",
+                "EMPLOYER_SIGNATURE_IMAGE", "",
+                "EMPLOYEE_SIGNATURE_IMAGE", "data:image/png;base64,cmVuZGl0aW9u"
+        )), anyString());
+        verify(pdfGenerator, never()).generateFromXhtml(anyString(), anyString());
+    }
+
+    @Test
+    void generateContractPdf_fallsBackToContentWhenTemplateChanged() {
+        ContractId contractId = ContractId.generate();
+        TemplateId templateId = TemplateId.generate();
+        PartyInfo secondParty = PartyInfo.of("을", "employee@example.com", null);
+        Contract contract = templateContract(contractId, templateId, secondParty);
+
+        when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
+        when(signatureRepository.findByContractIdAndSignerEmail(contractId, secondParty.email()))
+                .thenReturn(Optional.empty());
+        when(templateService.findCompiledLayout(templateId.value(), 3)).thenReturn(Optional.empty());
+        when(pdfGenerator.generateFromXhtml(anyString(), anyString()))
+                .thenReturn(GeneratedPdf.of(new byte[]{1}, "dummy.pdf"));
+
+        contractPdfService.generateContractPdf(contractId.value());
+
+        verify(pdfGenerator).generateFromXhtml(anyString(), anyString());
+        verify(pdfGenerator, never()).generateFromTemplate(anyString(), any(), anyString());
+    }
+
+    private static Contract templateContract(
+            ContractId contractId,
+            TemplateId templateId,
+            PartyInfo secondParty
+    ) {
+        return Contract.restore(
+                contractId,
+                UserId.generate(),
+                templateId,
+                "고용 계약서",
+                ContractContent.of("<div>홍길동 [EMPLOYEE_SIGNATURE_IMAGE]</div>"),
+                PartyInfo.of("갑", "owner@example.com", "회사"),
+                secondParty,
+                ContractStatus.SIGNED,
+                List.of(),
+                SignToken.generate(),
+                LocalDateTime.now().plusDays(1),
+                PresetType.NONE,
+                null,
+                ContractTemplateData.of(3, Map.of("EMPLOYEE_NAME", "홍길동")),
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+
+    private static CompiledTemplateLayout layoutWith(String... variableNames) {
+        List<CompiledTemplateLayout.LayoutSegment> segments = Arrays.stream(variableNames)
+                .<CompiledTemplateLayout.LayoutSegment>map(CompiledTemplateLayout.Variable::new)
+                .toList();
+        return new CompiledTemplateLayout(List.of(new CompiledTemplateLayout.CompiledSection(
+                TemplateSectionType.PARAGRAPH, "template-paragraph", "p", false, segments)));
+    }
+
+    @Test
+    void loadStoredPdf_attachesStoredFileWithoutRendering() {
+        ContractId contractId = ContractId.generate();
+        Contract contract = Contract.restore(
+                contractId,
+                UserId.generate(),
+                TemplateId.generate(),
+                "고용 계약서",
+                ContractContent.of("<div>본문</div>"),
+                PartyInfo.of("갑", "owner@example.com", "회사"),
+                PartyInfo.of("을", "employee@example.com", null),
+                ContractStatus.SIGNED,
+                List.of(),
+                SignToken.generate(),
+                LocalDateTime.now().plusDays(1),
+                PresetType.NONE,
+                "contracts/completed/stored.pdf",
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+
+        when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
+        when(fileStorageService.fileExists("contracts/completed/stored.pdf")).thenReturn(true);
+        when(fileStorageService.loadFile("contracts/completed/stored.pdf")).thenReturn(new byte[]{7});
+
+        GeneratedPdf pdf = contractPdfService.loadStoredPdf(contractId.value());
+
+        assertThat(pdf.content()).containsExactly(7);
+        assertThat(pdf.fileName()).isEqualTo("고용_계약서_" + contractId.value() + ".pdf");
+        verifyNoInteractions(pdfGenerator);
+    }
+
+    @Test
+    void storeContractPdf_reusesPdfStoredAfterContractWasLoaded() {
+        ContractId contractId = ContractId.generate();
+        Contract staleContract = Contract.restore(
+                contractId,
+                UserId.generate(),
+                TemplateId.generate(),
+                "고용 계약서",
+                ContractContent.of("<div>본문</div>"),
+                PartyInfo.of("갑", "owner@example.com", "회사"),
+                PartyInfo.of("을", "employee@example.com", null),
+                ContractStatus.SIGNED,
+                List.of(),
+                SignToken.generate(),
+                LocalDateTime.now().plusDays(1),
+                PresetType.NONE,
+                null,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+
+        when(contractRepository.findPdfPath(contractId)).thenReturn(Optional.of("contracts/completed/stored.pdf"));
+        when(fileStorageService.fileExists("contracts/completed/stored.pdf")).thenReturn(true);
+
+        String path = contractPdfService.storeContractPdf(staleContract);
+
+        assertThat(path).isEqualTo("contracts/completed/stored.pdf");
+        assertThat(staleContract.getPdfPath()).isEqualTo("contracts/completed/stored.pdf");
+        verifyNoInteractions(pdfGenerator, documentService);
+        verify(fileStorageService, never()).storeFile(any(byte[].class), anyString(), anyString(), anyString());
+        verify(contractRepository, never()).save(any());
+    }
+
+    @Test
+    void storeContractPdf_deletesReplacedPdfFromSameStorage() {
+        ContractId contractId = ContractId.generate();
+        Contract contract = Contract.restore(
+                contractId,
+                UserId.generate(),
+                TemplateId.generate(),
+                "고용 계약서",
+                ContractContent.of("<div>본문</div>"),
+                PartyInfo.of("갑", "owner@example.com", "회사"),
+                PartyInfo.of("을", "employee@example.com", null),
+                ContractStatus.SIGNED,
+                List.of(),
+                SignToken.generate(),
+                LocalDateTime.now().plusDays(1),
+                PresetType.NONE,
+                "contracts/completed/old.pdf",
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+
+        when(fileStorageService.fileExists("contracts/completed/old.pdf")).thenReturn(false);
+        when(pdfGenerator.generateFromXhtml(anyString(), anyString()))
+                .thenReturn(GeneratedPdf.of(new byte[]{1}, "dummy.pdf"));
+        when(fileStorageService.storeFile(any(byte[].class), anyString(), anyString(), eq("contracts/completed")))
+                .thenReturn(new StoredFile("new.pdf", "dummy.pdf", "contracts/completed/new.pdf",
+                        "application/pdf", 1, LocalDateTime.now()));
+        when(documentService.registerContractPdf(eq(contract), eq("contracts/completed/new.pdf"), anyString(), anyLong(), anyString()))
+                .thenReturn(List.of("contracts/completed/old.pdf"));
+
+        String path = contractPdfService.storeContractPdf(contract);
+
+        assertThat(path).isEqualTo("contracts/completed/new.pdf");
+        verify(fileStorageService).deleteFile("contracts/completed/old.pdf");
+    }
+
+    @Test
+    void storedPdfChecksum_usesRecordedChecksumWithoutReadingFile() {
+        ContractId contractId = ContractId.generate();
+        when(documentService.findContractPdfChecksum(contractId, "contracts/completed/stored.pdf"))
+                .thenReturn(Optional.of("abc123"));
+
+        String checksum = contractPdfService.storedPdfChecksum(contractId.value(), "contracts/completed/stored.pdf");
+
+        assertThat(checksum).isEqualTo("abc123");
+        verify(fileStorageService, never()).getChecksum(anyString());
+    }
 }
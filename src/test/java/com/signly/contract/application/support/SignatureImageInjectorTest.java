@@ -0,0 +1,58 @@
+package com.signly.contract.application.support;
+
+import com.signly.common.html.XhtmlNormalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignatureImageInjectorTest {
+
+    private static final String EMPLOYER = "data:image/png;base64,ZW1wbG95ZXI=";
+    private static final String EMPLOYEE = "data:image/png;base64,ZW1wbG95ZWU=";
+
+    @Test
+    @DisplayName("플레이스홀더를 서명 이미지로 교체")
+    void replacesPlaceholders() {
+        String html = "<div>갑: [EMPLOYER_SIGNATURE_IMAGE] / 을: [EMPLOYEE_SIGNATURE_IMAGE]</div>";
+
+        String result = XhtmlNormalizer.toXhtmlFragment(html, new SignatureImageInjector(EMPLOYER, EMPLOYEE));
+
+        assertThat(result).isEqualTo("<div>갑: <img src=\"" + EMPLOYER + "\" class=\"signature-stamp-image-element\" alt=\"서명\" />"
+                + " / 을: <img src=\"" + EMPLOYEE + "\" class=\"signature-stamp-image-element\" alt=\"서명\" /></div>");
+    }
+
+    @Test
+    @DisplayName("서명이 없으면 플레이스홀더만 제거")
+    void removesPlaceholderWithoutSignature() {
+        String html = "<span>[EMPLOYER_SIGNATURE_IMAGE]</span><span>[EMPLOYEE_SIGNATURE_IMAGE]</span>";
+
+        String result = XhtmlNormalizer.toXhtmlFragment(html, new SignatureImageInjector(null, EMPLOYEE));
+
+        assertThat(result).doesNotContain("EMPLOYER_SIGNATURE_IMAGE", "EMPLOYEE_SIGNATURE_IMAGE");
+        assertThat(result).contains(EMPLOYEE);
+    }
+
+    @Test
+    @DisplayName("기존 서명 이미지는 당사자별로 각각 교체")
+    void replacesExistingImagesInOrder() {
+        String html = "<img class=\"signature-stamp-image-element\" src=\"old1\"><img class=\"signature-stamp-image-element\" src=\"old2\">";
+
+        String result = XhtmlNormalizer.toXhtmlFragment(html, new SignatureImageInjector(EMPLOYER, EMPLOYEE));
+
+        assertThat(result).doesNotContain("old1", "old2");
+        assertThat(result.indexOf(EMPLOYER)).isLessThan(result.indexOf(EMPLOYEE));
+    }
+
+    @Test
+    @DisplayName("플레이스홀더와 기존 이미지가 없으면 비어 있는 wrapper에 삽입")
+    void insertsIntoEmptyWrapper() {
+        String html = "<span class=\"signature-stamp-wrapper\">&nbsp;</span>"
+                + "<span class=\"signature-stamp-wrapper\">(인)</span>";
+
+        String result = XhtmlNormalizer.toXhtmlFragment(html, new SignatureImageInjector(EMPLOYER, EMPLOYEE));
+
+        assertThat(result).contains(EMPLOYER);
+        assertThat(result).doesNotContain(EMPLOYEE);
+    }
+}
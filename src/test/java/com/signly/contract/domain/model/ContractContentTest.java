@@ -98,4 +98,22 @@ class ContractContentTest {
 
         assertThat(contractContent.toString()).isEqualTo(content);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 저장된_체크섬이_있으면_본문을_읽지_않는다() {
+        ContractContent contractContent = ContractContent.restore(() -> {
+            throw new AssertionError("본문을 읽으면 안 됨");
+        }, "stored-hash");
+
+        assertThat(contractContent.checksum()).isEqualTo("stored-hash");
+        assertThat(contractContent.isLoaded()).isFalse();
+    }
+
+    @Test
+    void 체크섬은_본문의_SHA256이다() {
+        ContractContent contractContent = ContractContent.of("계약서 내용");
+        ContractContent restored = ContractContent.restore(() -> "계약서 내용");
+
+        assertThat(contractContent.checksum()).hasSize(64).isEqualTo(restored.checksum());
+    }
+}
@@ -0,0 +1,72 @@
+package com.signly.contract.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractFinalizationJobTest {
+
+    @Test
+    void 생성하면_즉시_처리_대기_상태다() {
+        ContractFinalizationJob job = ContractFinalizationJob.create(ContractId.generate());
+
+        assertThat(job.getStatus()).isEqualTo(FinalizationJobStatus.PENDING);
+        assertThat(job.isPdfStored()).isFalse();
+        assertThat(job.isNotificationSent()).isFalse();
+        assertThat(job.getNextAttemptAt()).isNotNull();
+    }
+
+    @Test
+    void 실패하면_재시도_시각을_뒤로_미루고_대기_상태로_돌아간다() {
+        ContractFinalizationJob job = restoreWithAttempts(1, 5);
+
+        job.markFailed("render error");
+
+        assertThat(job.getStatus()).isEqualTo(FinalizationJobStatus.PENDING);
+        assertThat(job.getLastError()).isEqualTo("render error");
+        assertThat(job.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    void 최대_시도_횟수에_도달하면_실패_상태가_된다() {
+        ContractFinalizationJob job = restoreWithAttempts(5, 5);
+
+        job.markFailed("render error");
+
+        assertThat(job.getStatus()).isEqualTo(FinalizationJobStatus.FAILED);
+        assertThat(job.getNextAttemptAt()).isNull();
+    }
+
+    @Test
+    void 완료하면_완료_시각이_기록되고_재시도_대상이_아니다() {
+        ContractFinalizationJob job = restoreWithAttempts(1, 5);
+        job.markPdfStored();
+        job.markNotificationSent();
+
+        job.markCompleted();
+
+        assertThat(job.isCompleted()).isTrue();
+        assertThat(job.getCompletedAt()).isNotNull();
+        assertThat(job.getNextAttemptAt()).isNull();
+    }
+
+    private ContractFinalizationJob restoreWithAttempts(
+            int attempts,
+            int maxAttempts
+    ) {
+        return ContractFinalizationJob.restore(
+                ContractId.generate(),
+                FinalizationJobStatus.PROCESSING,
+                false,
+                false,
+                attempts,
+                maxAttempts,
+                null,
+                LocalDateTime.now().plusMinutes(10),
+                LocalDateTime.now(),
+                null
+        );
+    }
+}
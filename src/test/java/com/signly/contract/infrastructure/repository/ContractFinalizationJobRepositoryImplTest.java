@@ -0,0 +1,69 @@
+package com.signly.contract.infrastructure.repository;
+
+import com.signly.common.encryption.EncryptionConfig;
+import com.signly.contract.domain.model.ContractFinalizationJob;
+import com.signly.contract.domain.model.ContractId;
+import com.signly.contract.domain.model.FinalizationJobStatus;
+import com.signly.contract.infrastructure.mapper.ContractFinalizationJobEntityMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EncryptionConfig.class, ContractFinalizationJobRepositoryImpl.class, ContractFinalizationJobEntityMapper.class})
+@TestPropertySource(properties = {
+        "app.encryption.enabled=true",
+        "app.encryption.secret-key=MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=",
+        "app.encryption.salt=testSaltForIntegrationTest123"
+})
+@DisplayName("계약서 후처리 작업 점유/재시도")
+class ContractFinalizationJobRepositoryImplTest {
+
+    @Autowired
+    private ContractFinalizationJobRepositoryImpl jobRepository;
+
+    @Test
+    @DisplayName("점유한 작업은 lease가 끝날 때까지 다른 워커가 점유하지 못함")
+    void claimIsExclusiveUntilLeaseExpires() {
+        ContractId contractId = ContractId.generate();
+        jobRepository.save(ContractFinalizationJob.create(contractId));
+
+        assertThat(jobRepository.claim(contractId, LocalDateTime.now().plusMinutes(10))).isTrue();
+        assertThat(jobRepository.claim(contractId, LocalDateTime.now().plusMinutes(10))).isFalse();
+        assertThat(jobRepository.findDueContractIds(10)).doesNotContain(contractId);
+
+        ContractFinalizationJob claimed = jobRepository.findByContractId(contractId).orElseThrow();
+        assertThat(claimed.getStatus()).isEqualTo(FinalizationJobStatus.PROCESSING);
+        assertThat(claimed.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 재시도 시각 전에는 점유되지 않고, 완료된 작업은 다시 점유되지 않음")
+    void failedJobWaitsForBackoffAndCompletedJobIsNotClaimed() {
+        ContractId failedId = ContractId.generate();
+        jobRepository.save(ContractFinalizationJob.create(failedId));
+        jobRepository.claim(failedId, LocalDateTime.now().plusMinutes(10));
+        ContractFinalizationJob failed = jobRepository.findByContractId(failedId).orElseThrow();
+        failed.markFailed("outbox unavailable");
+        jobRepository.save(failed);
+
+        ContractId completedId = ContractId.generate();
+        ContractFinalizationJob completed = ContractFinalizationJob.create(completedId);
+        completed.markCompleted();
+        jobRepository.save(completed);
+
+        assertThat(jobRepository.findByContractId(failedId).orElseThrow().getStatus()).isEqualTo(FinalizationJobStatus.PENDING);
+        assertThat(jobRepository.claim(failedId, LocalDateTime.now().plusMinutes(10))).isFalse();
+        assertThat(jobRepository.claim(completedId, LocalDateTime.now().plusMinutes(10))).isFalse();
+        assertThat(jobRepository.findDueContractIds(10)).doesNotContain(failedId, completedId);
+    }
+}
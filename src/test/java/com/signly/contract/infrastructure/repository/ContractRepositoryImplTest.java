@@ -0,0 +1,191 @@
+package com.signly.contract.infrastructure.repository;
+
+import com.signly.common.encryption.EncryptionConfig;
+import com.signly.contract.domain.model.Contract;
+import com.signly.contract.domain.model.ContractContent;
+import com.signly.contract.domain.model.ContractStatus;
+import com.signly.contract.domain.model.ContractTemplateData;
+import com.signly.contract.domain.model.PartyInfo;
+import com.signly.contract.domain.model.PresetType;
+import com.signly.contract.domain.model.Signature;
+import com.signly.contract.domain.service.ContractSigningService;
+import com.signly.contract.infrastructure.entity.ContractJpaEntity;
+import com.signly.contract.infrastructure.entity.SignatureEntity;
+import com.signly.contract.infrastructure.mapper.ContractEntityMapper;
+import com.signly.contract.infrastructure.mapper.SignatureEntityMapper;
+import com.signly.template.domain.model.TemplateId;
+import com.signly.user.domain.model.UserId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+        EncryptionConfig.class,
+        ContractRepositoryImpl.class,
+        ContractEntityMapper.class,
+        SignatureRepositoryImpl.class,
+        SignatureEntityMapper.class
+})
+@TestPropertySource(properties = {
+        "app.encryption.enabled=true",
+        "app.encryption.secret-key=MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=",
+        "app.encryption.salt=testSaltForIntegrationTest123"
+})
+@DisplayName("계약서 저장소 변경분 저장")
+class ContractRepositoryImplTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ContractRepositoryImpl contractRepository;
+
+    @Autowired
+    private SignatureRepositoryImpl signatureRepository;
+
+    @Test
+    @DisplayName("기존 계약서를 저장하면 변경된 필드만 반영하고 기존 서명 행은 유지")
+    void savesChangesWithoutRewritingSignatures() {
+        Contract contract = Contract.create(
+                UserId.generate(),
+                null,
+                "근로계약서",
+                ContractContent.of("<p>본문</p>"),
+                PartyInfo.of("갑", "first@example.com", null),
+                PartyInfo.of("을", "second@example.com", null),
+                LocalDateTime.now().plusDays(7),
+                PresetType.NONE
+        );
+        contractRepository.save(contract);
+        flushAndClear();
+
+        Contract pending = contractRepository.findById(contract.getId()).orElseThrow();
+        pending.sendForSigning();
+        pending.addSignature(Signature.create("first@example.com", "갑", "data:image/png;base64,AAAA", "127.0.0.1"));
+        contractRepository.save(pending);
+        flushAndClear();
+
+        SignatureEntity firstSignature = signatures(contract).get(0);
+
+        Contract signed = contractRepository.findById(contract.getId()).orElseThrow();
+        signed.addSignature(Signature.create("second@example.com", "을", "data:image/png;base64,BBBB", "127.0.0.1"));
+        signed.markAsFullySigned();
+        contractRepository.save(signed);
+        flushAndClear();
+
+        ContractJpaEntity stored = entityManager.find(ContractJpaEntity.class, contract.getId().value());
+        assertThat(stored.getStatus()).isEqualTo(ContractStatus.SIGNED);
+        assertThat(stored.getFirstPartyEmailHash()).isNotBlank();
+        assertThat(signatures(contract))
+                .hasSize(2)
+                .filteredOn(signature -> signature.getSignerEmail().equals("first@example.com"))
+                .singleElement()
+                .satisfies(signature -> {
+                    assertThat(signature.getSignatureId()).isEqualTo(firstSignature.getSignatureId());
+                    assertThat(signature.getSignedAt()).isEqualTo(firstSignature.getSignedAt());
+                });
+    }
+
+    @Test
+    @DisplayName("서명 링크로 서명하면 서명자마다 서명 행은 하나만 저장")
+    void storesOneSignatureRowPerSigner() {
+        Contract contract = Contract.create(
+                UserId.generate(),
+                null,
+                "근로계약서",
+                ContractContent.of("<p>본문</p>"),
+                PartyInfo.of("갑", "first@example.com", null),
+                PartyInfo.of("을", "second@example.com", null),
+                LocalDateTime.now().plusDays(7),
+                PresetType.NONE
+        );
+        contractRepository.save(contract);
+        flushAndClear();
+
+        // 서명 요청: 제1 당사자 서명 행은 서명 저장소로 저장
+        Contract draft = contractRepository.findById(contract.getId()).orElseThrow();
+        signatureRepository.save(draft.getId(), Signature.create(
+                "first@example.com", "갑", "data:image/png;base64,AAAA", "SERVER", "Server-initiated signature", null));
+        draft.sendForSigning();
+        contractRepository.save(draft);
+        flushAndClear();
+
+        // 서명 링크 처리: 준비된 서명을 계약서에 추가하고 계약서와 함께 저장
+        Contract pending = contractRepository.findBySignToken(draft.getSignToken()).orElseThrow();
+        Signature secondSignature = Signature.create(
+                "second@example.com", "을", "data:image/png;base64,BBBB", "127.0.0.1", null, "signatures/second.png");
+        var result = new ContractSigningService().processSigning(pending, secondSignature);
+        contractRepository.save(pending);
+        flushAndClear();
+
+        assertThat(result.isFullySigned()).isTrue();
+        assertThat(signatures(contract))
+                .extracting(SignatureEntity::getSignerEmail)
+                .containsExactlyInAnyOrder("first@example.com", "second@example.com");
+        assertThat(entityManager.find(ContractJpaEntity.class, contract.getId().value()).getStatus())
+                .isEqualTo(ContractStatus.SIGNED);
+    }
+
+    @Test
+    @DisplayName("템플릿 데이터는 암호화 저장 후 복원되고, 본문을 직접 수정하면 제거")
+    void storesTemplateDataUntilContentIsEdited() {
+        Contract contract = Contract.create(
+                UserId.generate(),
+                TemplateId.generate(),
+                "근로계약서",
+                ContractContent.of("<p>홍길동</p>"),
+                PartyInfo.of("갑", "first@example.com", null),
+                PartyInfo.of("을", "second@example.com", null),
+                LocalDateTime.now().plusDays(7),
+                PresetType.NONE
+        );
+        contract.recordTemplateData(ContractTemplateData.of(2, Map.of("EMPLOYEE", "홍길동")));
+        contractRepository.save(contract);
+        flushAndClear();
+
+        Contract restored = contractRepository.findById(contract.getId()).orElseThrow();
+        assertThat(restored.getTemplateData().templateVersion()).isEqualTo(2);
+        assertThat(restored.getTemplateData().values()).containsEntry("EMPLOYEE", "홍길동");
+        assertThat(storedTemplateData(contract)).startsWith("{ENC}").doesNotContain("홍길동");
+
+        restored.updateContent(ContractContent.of("<p>직접 수정</p>"));
+        contractRepository.save(restored);
+        flushAndClear();
+
+        ContractJpaEntity stored = entityManager.find(ContractJpaEntity.class, contract.getId().value());
+        assertThat(stored.getTemplateVersion()).isNull();
+        assertThat(stored.getTemplateData()).isNull();
+    }
+
+    private List<SignatureEntity> signatures(Contract contract) {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT s FROM SignatureEntity s WHERE s.contract.id = :id ORDER BY s.signedAt", SignatureEntity.class)
+                .setParameter("id", contract.getId().value())
+                .getResultList();
+    }
+
+    private String storedTemplateData(Contract contract) {
+        return (String) entityManager.getEntityManager()
+                .createNativeQuery("SELECT CAST(template_data AS VARCHAR(4000)) FROM contracts WHERE id = :id")
+                .setParameter("id", contract.getId().value())
+                .getSingleResult();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,173 @@
+package com.signly.contract.infrastructure.repository;
+
+import com.signly.common.encryption.EncryptionConfig;
+import com.signly.common.pagination.KeysetCursor;
+import com.signly.common.util.UlidGenerator;
+import com.signly.contract.domain.model.ContractStatus;
+import com.signly.contract.domain.model.ContractSummary;
+import com.signly.contract.domain.model.PresetType;
+import com.signly.contract.infrastructure.entity.ContractJpaEntity;
+import com.signly.contract.infrastructure.entity.SignatureEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EncryptionConfig.class)
+@TestPropertySource(properties = {
+        "app.encryption.enabled=true",
+        "app.encryption.secret-key=MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=",
+        "app.encryption.salt=testSaltForIntegrationTest123"
+})
+@DisplayName("계약서 목록 읽기 모델 조회")
+class ContractSummaryQueryTest {
+
+    private static final String CREATOR_ID = "01H8X9Y2Z3W4V5U6T7R8S9Q0C1";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ContractJpaRepository contractRepository;
+
+    @Test
+    @DisplayName("표시 컬럼을 복호화하고 서명 수를 세며 정렬 키 순서로 커서 다음 행부터 조회")
+    void readsSummariesAfterCursor() {
+        LocalDateTime now = LocalDateTime.now();
+        ContractJpaEntity signed = contract(CREATOR_ID, "근로계약서", PresetType.NONE, ContractStatus.SIGNED);
+        signed.addSignature(signature(now));
+        signed.addSignature(signature(now));
+        entityManager.persist(signed);
+        entityManager.persist(contract(CREATOR_ID, "표준근로계약서", PresetType.LABOR_STANDARD, ContractStatus.PENDING));
+        entityManager.persist(contract(CREATOR_ID, "용역계약서", PresetType.NONE, ContractStatus.DRAFT));
+        entityManager.persist(contract("01H8X9Y2Z3W4V5U6T7R8S9Q0C2", "다른 사용자", PresetType.NONE, ContractStatus.DRAFT));
+        entityManager.flush();
+        entityManager.clear();
+
+        KeysetCursor first = KeysetCursor.first();
+        List<ContractSummary> firstPage = contractRepository.findSummariesByCreatorIdAfter(
+                CREATOR_ID, first.sortPriority(), first.createdAt(), first.id(), PageRequest.of(0, 2));
+
+        assertThat(firstPage).hasSize(2);
+        assertThat(firstPage.get(0).title()).isEqualTo("표준근로계약서");
+        assertThat(firstPage.get(0).sortPriority()).isEqualTo(1);
+        assertThat(firstPage.get(0).firstPartyName()).isEqualTo("갑");
+
+        KeysetCursor next = firstPage.get(1).cursor();
+        List<ContractSummary> secondPage = contractRepository.findSummariesByCreatorIdAfter(
+                CREATOR_ID, next.sortPriority(), next.createdAt(), next.id(), PageRequest.of(0, 2));
+
+        assertThat(secondPage).singleElement()
+                .satisfies(summary -> assertThat(summary.id()).isNotIn(firstPage.get(0).id(), firstPage.get(1).id()));
+
+        List<ContractSummary> signedOnly = contractRepository.findSummariesByCreatorIdAndStatusAfter(
+                CREATOR_ID, ContractStatus.SIGNED, first.sortPriority(), first.createdAt(), first.id(), PageRequest.of(0, 10));
+
+        assertThat(signedOnly).singleElement()
+                .satisfies(summary -> {
+                    assertThat(summary.title()).isEqualTo("근로계약서");
+                    assertThat(summary.secondPartyName()).isEqualTo("을");
+                    assertThat(summary.signatureCount()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    @DisplayName("당사자 이메일 해시로 전체 또는 상태별 목록 조회")
+    void readsPartySummariesWithAndWithoutStatus() {
+        ContractJpaEntity pending = contract(CREATOR_ID, "서명 대기", PresetType.NONE, ContractStatus.PENDING);
+        pending.updateSecondParty("을", "second@example.com", null, "party-hash");
+        ContractJpaEntity signed = contract(CREATOR_ID, "서명 완료", PresetType.NONE, ContractStatus.SIGNED);
+        signed.updateFirstParty("갑", "first@example.com", null, "party-hash");
+        entityManager.persist(pending);
+        entityManager.persist(signed);
+        entityManager.persist(contract(CREATOR_ID, "다른 당사자", PresetType.NONE, ContractStatus.PENDING));
+        entityManager.flush();
+        entityManager.clear();
+
+        KeysetCursor first = KeysetCursor.first();
+        PageRequest page = PageRequest.of(0, 10);
+
+        assertThat(contractRepository.findSummariesByFirstPartyEmailHashAfter(
+                "party-hash", first.sortPriority(), first.createdAt(), first.id(), page))
+                .extracting(ContractSummary::title).containsExactly("서명 완료");
+        assertThat(contractRepository.findSummariesBySecondPartyEmailHashAfter(
+                "party-hash", first.sortPriority(), first.createdAt(), first.id(), page))
+                .extracting(ContractSummary::title).containsExactly("서명 대기");
+        assertThat(contractRepository.findSummariesByFirstPartyEmailHashAndStatusAfter(
+                "party-hash", ContractStatus.PENDING, first.sortPriority(), first.createdAt(), first.id(), page))
+                .isEmpty();
+        assertThat(contractRepository.findSummariesBySecondPartyEmailHashAndStatusAfter(
+                "party-hash", ContractStatus.PENDING, first.sortPriority(), first.createdAt(), first.id(), page))
+                .extracting(ContractSummary::title).containsExactly("서명 대기");
+    }
+
+    @Test
+    @DisplayName("상태별 계약서 수를 한 번에 집계")
+    void countsByStatus() {
+        entityManager.persist(contract(CREATOR_ID, "계약서1", PresetType.NONE, ContractStatus.DRAFT));
+        entityManager.persist(contract(CREATOR_ID, "계약서2", PresetType.NONE, ContractStatus.DRAFT));
+        entityManager.persist(contract(CREATOR_ID, "계약서3", PresetType.NONE, ContractStatus.PENDING));
+        entityManager.flush();
+
+        List<Object[]> rows = contractRepository.countByCreatorIdGroupByStatus(CREATOR_ID);
+
+        assertThat(rows).extracting(row -> row[0], row -> row[1])
+                .containsExactlyInAnyOrder(
+                        tuple(ContractStatus.DRAFT, 2L),
+                        tuple(ContractStatus.PENDING, 1L));
+    }
+
+    private static ContractJpaEntity contract(
+            String creatorId,
+            String title,
+            PresetType presetType,
+            ContractStatus status
+    ) {
+        return new ContractJpaEntity(
+                UlidGenerator.generate(),
+                creatorId,
+                null,
+                title,
+                "<p>본문</p>",
+                null,
+                "갑",
+                "first@example.com",
+                null,
+                "을",
+                "second@example.com",
+                null,
+                status,
+                UlidGenerator.generate(),
+                LocalDateTime.now().plusDays(7),
+                presetType
+        );
+    }
+
+    private static SignatureEntity signature(LocalDateTime signedAt) {
+        return new SignatureEntity(
+                UlidGenerator.generate(),
+                null,
+                "signer@example.com",
+                "서명자",
+                "data:image/png;base64,AAAA",
+                signedAt,
+                "127.0.0.1",
+                null,
+                null,
+                null
+        );
+    }
+}
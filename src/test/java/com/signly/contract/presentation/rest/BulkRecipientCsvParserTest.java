@@ -0,0 +1,50 @@
+package com.signly.contract.presentation.rest;
+
+import com.signly.common.exception.ValidationException;
+import com.signly.contract.application.dto.BulkIssuanceRecipient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkRecipientCsvParserTest {
+
+    @Test
+    @DisplayName("헤더의 당사자 열을 제외한 열은 변수 값으로 읽음")
+    void parse_readsPartyColumnsAndVariables() {
+        String csv = "\uFEFF이름,이메일,소속,WORKPLACE,WAGE\r\n" +
+                "홍길동,hong@example.com,본사,\"서울 중구, 세종대로\",\"2,500,000\"\r\n" +
+                "\r\n" +
+                "이몽룡,lee@example.com,,\"부산 \"\"지점\"\"\n2층\",\n";
+
+        List<BulkIssuanceRecipient> recipients = BulkRecipientCsvParser.parse(csv);
+
+        assertThat(recipients).hasSize(2);
+        assertThat(recipients.get(0).name()).isEqualTo("홍길동");
+        assertThat(recipients.get(0).organization()).isEqualTo("본사");
+        assertThat(recipients.get(0).variableValues())
+                .containsEntry("WORKPLACE", "서울 중구, 세종대로")
+                .containsEntry("WAGE", "2,500,000");
+        assertThat(recipients.get(1).email()).isEqualTo("lee@example.com");
+        assertThat(recipients.get(1).variableValues())
+                .containsOnlyKeys("WORKPLACE")
+                .containsEntry("WORKPLACE", "부산 \"지점\"\n2층");
+    }
+
+    @Test
+    @DisplayName("이름 또는 이메일 열이 없으면 거부")
+    void parse_requiresNameAndEmailColumns() {
+        assertThatThrownBy(() -> BulkRecipientCsvParser.parse("name,WORKPLACE\n홍길동,서울\n"))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 큰따옴표는 거부")
+    void parse_rejectsUnterminatedQuote() {
+        assertThatThrownBy(() -> BulkRecipientCsvParser.parse("name,email\n\"홍길동,hong@example.com\n"))
+                .isInstanceOf(ValidationException.class);
+    }
+}
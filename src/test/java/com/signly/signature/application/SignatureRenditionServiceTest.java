@@ -0,0 +1,146 @@
+package com.signly.signature.application;
+
+import com.signly.common.image.ImageResizer;
+import com.signly.common.storage.FileStorageService;
+import com.signly.contract.domain.model.ContractId;
+import com.signly.contract.domain.model.Signature;
+import com.signly.contract.domain.repository.SignatureRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SignatureRenditionServiceTest {
+
+    private static final byte[] ORIGINAL = {1, 2, 3};
+    private static final byte[] RENDITION = {9, 9};
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private ImageResizer imageResizer;
+
+    @Mock
+    private SignatureRepository signatureRepository;
+
+    private SignatureRenditionService renditionService;
+
+    @BeforeEach
+    void setUp() {
+        renditionService = new SignatureRenditionService(fileStorageService, imageResizer, signatureRepository, 1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("업로드 시 원본 체크섬 이름으로 렌디션을 저장")
+    void createRendition_storesUnderChecksum() throws Exception {
+        when(imageResizer.toSignatureRendition(ORIGINAL)).thenReturn(RENDITION);
+
+        String checksum = renditionService.createRendition(ORIGINAL);
+
+        assertThat(checksum).hasSize(64);
+        verify(fileStorageService).storeFileAs(RENDITION, checksum, "image/png", "signatures/renditions");
+    }
+
+    @Test
+    @DisplayName("렌디션 생성에 실패해도 체크섬은 반환")
+    void createRendition_toleratesInvalidImage() throws Exception {
+        when(imageResizer.toSignatureRendition(ORIGINAL)).thenThrow(new java.io.IOException("invalid"));
+
+        String checksum = renditionService.createRendition(ORIGINAL);
+
+        assertThat(checksum).hasSize(64);
+        verify(fileStorageService, never()).storeFileAs(any(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("저장된 렌디션은 한 번만 읽고 이후에는 메모리에서 제공")
+    void findDataUrl_readsStoredRenditionOnce() throws Exception {
+        when(fileStorageService.fileExists("signatures/renditions/abc.png")).thenReturn(true);
+        when(fileStorageService.loadFile("signatures/renditions/abc.png")).thenReturn(RENDITION);
+
+        Optional<String> first = renditionService.findDataUrl("abc", () -> ORIGINAL);
+        Optional<String> second = renditionService.findDataUrl("abc", () -> ORIGINAL);
+
+        String expected = "data:image/png;base64," + Base64.getEncoder().encodeToString(RENDITION);
+        assertThat(first).contains(expected);
+        assertThat(second).contains(expected);
+        verify(fileStorageService, times(1)).loadFile("signatures/renditions/abc.png");
+        verify(imageResizer, never()).toSignatureRendition(any());
+    }
+
+    @Test
+    @DisplayName("렌디션이 없는 기존 서명은 원본으로 한 번 생성")
+    void findDataUrl_backfillsMissingRendition() throws Exception {
+        when(fileStorageService.fileExists("signatures/renditions/abc.png")).thenReturn(false);
+        when(imageResizer.toSignatureRendition(ORIGINAL)).thenReturn(RENDITION);
+        when(fileStorageService.loadFile("signatures/renditions/abc.png")).thenReturn(RENDITION);
+
+        Optional<String> dataUrl = renditionService.findDataUrl("abc", () -> ORIGINAL);
+
+        assertThat(dataUrl).isPresent();
+        verify(fileStorageService).storeFileAs(eq(RENDITION), eq("abc"), eq("image/png"), eq("signatures/renditions"));
+    }
+
+    @Test
+    @DisplayName("저장된 렌디션 체크섬이 있으면 서명 데이터를 읽거나 해시하지 않음")
+    void renditionDataUrl_usesStoredChecksum() throws Exception {
+        AtomicInteger dataReads = new AtomicInteger();
+        String dataUrl = "data:image/png;base64," + Base64.getEncoder().encodeToString(ORIGINAL);
+        when(fileStorageService.fileExists("signatures/renditions/abc.png")).thenReturn(true);
+        when(fileStorageService.loadFile("signatures/renditions/abc.png")).thenReturn(RENDITION);
+
+        String first = renditionService.renditionDataUrl("contract-1", signature(dataUrl, dataReads, "abc"));
+        String second = renditionService.renditionDataUrl("contract-1", signature(dataUrl, dataReads, "abc"));
+
+        assertThat(second).isEqualTo(first).startsWith("data:image/png;base64,");
+        assertThat(dataReads).hasValue(0);
+        verify(fileStorageService, times(1)).loadFile(anyString());
+        verify(fileStorageService, never()).getChecksum(anyString());
+        verifyNoInteractions(signatureRepository);
+    }
+
+    @Test
+    @DisplayName("체크섬이 없는 기존 서명은 한 번 계산하여 서명 행에 저장")
+    void renditionDataUrl_backfillsChecksumForLegacySignature() throws Exception {
+        AtomicInteger dataReads = new AtomicInteger();
+        String dataUrl = "data:image/png;base64," + Base64.getEncoder().encodeToString(ORIGINAL);
+        when(fileStorageService.fileExists(anyString())).thenReturn(true);
+        when(fileStorageService.loadFile(anyString())).thenReturn(RENDITION);
+        Signature legacy = signature(dataUrl, dataReads, null);
+
+        String dataUrlResult = renditionService.renditionDataUrl("contract-1", legacy);
+
+        assertThat(dataUrlResult).startsWith("data:image/png;base64,");
+        assertThat(dataReads).hasValue(1);
+        verify(signatureRepository).saveRenditionChecksum(eq(ContractId.of("contract-1")), eq(legacy), argThat(c -> c.length() == 64));
+    }
+
+    private static Signature signature(
+            String dataUrl,
+            AtomicInteger dataReads,
+            String renditionChecksum
+    ) {
+        return Signature.restore("signer@example.com", "서명자", LocalDateTime.now(),
+                () -> {
+                    dataReads.incrementAndGet();
+                    return dataUrl;
+                },
+                "127.0.0.1", () -> null, () -> null, renditionChecksum);
+    }
+}
@@ -22,11 +22,14 @@ class SignatureServiceTest {
     @Mock
     private FileStorageService fileStorageService;
 
+    @Mock
+    private SignatureRenditionService signatureRenditionService;
+
     private SignatureService signatureService;
 
     @BeforeEach
     void setUp() {
-        signatureService = new SignatureService(signatureRepository, new SignatureDtoMapper(), fileStorageService);
+        signatureService = new SignatureService(signatureRepository, new SignatureDtoMapper(), fileStorageService, signatureRenditionService);
     }
 
 //    @Test
@@ -0,0 +1,138 @@
+package com.signly.template.application;
+
+import com.signly.template.domain.model.ContractTemplate;
+import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.domain.model.TemplateId;
+import com.signly.template.domain.model.TemplateMetadata;
+import com.signly.template.domain.model.TemplateSection;
+import com.signly.template.domain.model.TemplateSectionType;
+import com.signly.template.domain.model.TemplateStatus;
+import com.signly.user.domain.model.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledTemplateCacheTest {
+
+    private static final String TEMPLATE_ID = "01HZX3J5Q8W6V4N2M7K9P0R1ST";
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompiledTemplateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CompiledTemplateCache(meterRegistry, 100);
+    }
+
+    @Test
+    @DisplayName("같은 버전과 원문이면 파싱 결과를 재사용")
+    void reusesParsedContentForSameVersion() {
+        String json = templateJson("근로계약서");
+
+        TemplateContent first = cache.content(TEMPLATE_ID, 1, json);
+        TemplateContent second = cache.content(TEMPLATE_ID, 1, json);
+
+        assertThat(second).isSameAs(first);
+        assertThat(requests("hit")).isEqualTo(1.0);
+        assertThat(requests("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("버전 증가 없이 원문이 바뀌면 다시 파싱")
+    void reparsesWhenJsonChangesWithoutVersionBump() {
+        TemplateContent first = cache.content(TEMPLATE_ID, 1, templateJson("근로계약서"));
+        TemplateContent second = cache.content(TEMPLATE_ID, 1, templateJson("용역계약서"));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.sections().get(0).getContent()).isEqualTo("용역계약서");
+        assertThat(requests("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("무효화하면 해당 템플릿의 모든 버전 제거")
+    void invalidateRemovesAllVersions() {
+        String json = templateJson("근로계약서");
+        TemplateContent version1 = cache.content(TEMPLATE_ID, 1, json);
+        TemplateContent version2 = cache.content(TEMPLATE_ID, 2, json);
+
+        cache.invalidate(TEMPLATE_ID);
+
+        assertThat(cache.content(TEMPLATE_ID, 1, json)).isNotSameAs(version1);
+        assertThat(cache.content(TEMPLATE_ID, 2, json)).isNotSameAs(version2);
+        assertThat(requests("hit")).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시에서 꺼낸 콘텐츠는 저장된 원문 JSON을 다시 직렬화하지 않고 재사용")
+    void reusesStoredJsonForCachedContent() {
+        String json = templateJson("근로계약서");
+        TemplateContent cached = cache.content(TEMPLATE_ID, 1, json);
+
+        ContractTemplate unchanged = template(cached, 1);
+        ContractTemplate modified = template(TemplateContent.fromJson(templateJson("용역계약서")), 1);
+
+        assertThat(cache.json(unchanged)).isSameAs(json);
+        assertThat(cache.json(modified)).isNotSameAs(json).contains("용역계약서");
+    }
+
+    @Test
+    @DisplayName("변경 기록을 적용한 콘텐츠는 같은 버전·수정 시각이면 다시 적용하지 않음")
+    void reusesPatchedContentForSameVersionAndTimestamp() {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        AtomicInteger patches = new AtomicInteger();
+        Supplier<TemplateContent> patcher = () -> {
+            patches.incrementAndGet();
+            return TemplateContent.fromJson(templateJson("용역계약서"));
+        };
+
+        TemplateContent first = cache.patchedContent(TEMPLATE_ID, 3, updatedAt, patcher);
+        TemplateContent second = cache.patchedContent(TEMPLATE_ID, 3, updatedAt, patcher);
+        TemplateContent afterRollback = cache.patchedContent(TEMPLATE_ID, 3, updatedAt.plusSeconds(1), patcher);
+
+        assertThat(second).isSameAs(first);
+        assertThat(afterRollback).isNotSameAs(first);
+        assertThat(patches).hasValue(2);
+        assertThat(cache.hasPatchedContent(TEMPLATE_ID, 3, updatedAt.plusSeconds(1))).isTrue();
+        assertThat(cache.json(template(afterRollback, 3))).contains("용역계약서");
+    }
+
+    private static ContractTemplate template(
+            TemplateContent content,
+            int version
+    ) {
+        return ContractTemplate.restore(
+                TemplateId.of(TEMPLATE_ID),
+                UserId.of("01HZX3J5Q8W6V4N2M7K9P0R1SV"),
+                "근로계약서",
+                content,
+                version,
+                TemplateStatus.DRAFT,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("template.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static String templateJson(String title) {
+        return TemplateContent.of(
+                TemplateMetadata.of("테스트", "설명", "테스터", Map.of()),
+                List.of(
+                        TemplateSection.of("title", TemplateSectionType.HEADER, 0, title, Map.of("level", 1), List.of()),
+                        TemplateSection.of("body", TemplateSectionType.PARAGRAPH, 1, "[EMPLOYER]와 [EMPLOYEE]", null, List.of())
+                )
+        ).toJson();
+    }
+}
@@ -0,0 +1,125 @@
+package com.signly.template.application;
+
+import com.signly.template.domain.event.VariableDefinitionsChangedEvent;
+import com.signly.template.domain.model.TemplateVariableDefinition;
+import com.signly.template.domain.model.VariableCategory;
+import com.signly.template.domain.model.VariableType;
+import com.signly.template.domain.repository.VariableDefinitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VariableDefinitionRegistryTest {
+
+    private VariableDefinitionRepository repository;
+    private VariableDefinitionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(VariableDefinitionRepository.class);
+        registry = new VariableDefinitionRegistry(repository);
+        when(repository.findAll()).thenReturn(List.of(
+                definition("EMPLOYEE_PHONE", "연락처", true, "^01[0-9]-\\d{3,4}-\\d{4}$", "전화번호 형식이 올바르지 않습니다."),
+                definition("WORKPLACE", "근무장소", false, null, null),
+                definition("BROKEN", "잘못된 규칙", false, "[", null)
+        ));
+    }
+
+    @Test
+    @DisplayName("정의는 한 번만 적재하고 이후 검증은 DB를 조회하지 않음")
+    void loadsDefinitionsOnce() {
+        registry.validate("EMPLOYEE_PHONE", "010-1234-5678");
+        registry.validate("WORKPLACE", "서울");
+        registry.getAll();
+
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("입력 전체 검증 시 실패한 변수만 메시지와 함께 반환")
+    void validateAllReturnsFailures() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("EMPLOYEE_PHONE", "1234");
+        values.put("WORKPLACE", "");
+        values.put("UNKNOWN", "아무 값");
+        values.put("BROKEN", "x");
+
+        Map<String, String> errors = registry.validateAll(values);
+
+        assertThat(errors).containsOnlyKeys("EMPLOYEE_PHONE", "BROKEN");
+        assertThat(errors.get("EMPLOYEE_PHONE")).isEqualTo("전화번호 형식이 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("비활성 정의는 목록에서 빠지지만 변수명 조회와 검증에는 사용")
+    void inactiveDefinitionsAreLookedUpButNotListed() {
+        when(repository.findAll()).thenReturn(List.of(
+                definition("WORKPLACE", "근무장소", false, null, null),
+                definition("OLD_PHONE", "이전 연락처", true, "^\\d+$", "숫자만 입력하세요.").deactivate()
+        ));
+
+        assertThat(registry.getAll()).extracting("variableName").containsExactly("WORKPLACE");
+        assertThat(registry.find("OLD_PHONE")).hasValueSatisfying(dto -> assertThat(dto.isActive()).isFalse());
+        assertThat(registry.validate("OLD_PHONE", "abc").errorMessage()).isEqualTo("숫자만 입력하세요.");
+    }
+
+    @Test
+    @DisplayName("필수 변수가 비어 있으면 실패")
+    void requiredValueMissing() {
+        var result = registry.validate("EMPLOYEE_PHONE", " ");
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.errorMessage()).isEqualTo("연락처은(는) 필수 항목입니다.");
+    }
+
+    @Test
+    @DisplayName("변경 이벤트를 받으면 정의를 다시 적재")
+    void reloadsOnChangeEvent() {
+        registry.getAll();
+        when(repository.findAll()).thenReturn(List.of(
+                definition("WORKPLACE", "근무장소", true, null, null)
+        ));
+
+        registry.onVariableDefinitionsChanged(new VariableDefinitionsChangedEvent("WORKPLACE"));
+
+        assertThat(registry.getAll()).extracting("variableName").containsExactly("WORKPLACE");
+        assertThat(registry.validate("WORKPLACE", "").isValid()).isFalse();
+        assertThat(registry.validate("EMPLOYEE_PHONE", "1234").isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("재적재한 정의가 같으면 데이터 버전을 유지하고 달라지면 올림")
+    void versionChangesOnlyWhenDefinitionsChange() {
+        long initial = registry.getVersion();
+
+        registry.refresh();
+        assertThat(registry.getVersion()).isEqualTo(initial);
+
+        when(repository.findAll()).thenReturn(List.of(
+                definition("WORKPLACE", "근무장소", true, null, null)
+        ));
+        registry.refresh();
+        assertThat(registry.getVersion()).isEqualTo(initial + 1);
+    }
+
+    private static TemplateVariableDefinition definition(
+            String name,
+            String displayName,
+            boolean required,
+            String rule,
+            String message
+    ) {
+        return TemplateVariableDefinition.create(name, displayName, VariableCategory.values()[0], VariableType.TEXT)
+                .update(displayName, null, null, 10, null, null, required, rule, message, null, 0);
+    }
+}
@@ -0,0 +1,72 @@
+package com.signly.template.application.preset;
+
+import com.signly.template.infrastructure.entity.TemplateEntity;
+import com.signly.template.infrastructure.repository.TemplateJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PresetInitializationServiceTest {
+
+    private static final String PRESET_ID = "standard-employment-contract";
+
+    private TemplateJpaRepository templateRepository;
+    private TemplatePresetCatalog presetCatalog;
+    private PresetInitializationService service;
+
+    @BeforeEach
+    void setUp() {
+        templateRepository = mock(TemplateJpaRepository.class);
+        presetCatalog = mock(TemplatePresetCatalog.class);
+        service = new PresetInitializationService(templateRepository, new DefaultResourceLoader(), presetCatalog);
+    }
+
+    @Test
+    @DisplayName("원본 해시가 같으면 프리셋을 다시 저장하지 않고 카탈로그만 적재")
+    void skipsUnchangedPreset() throws IOException {
+        TemplateEntity existing = mock(TemplateEntity.class);
+        when(existing.getSourceHash()).thenReturn(currentHash());
+        when(templateRepository.findByIsPresetTrueAndPresetId(PRESET_ID)).thenReturn(Optional.of(existing));
+
+        service.initializePresets();
+
+        verify(templateRepository, never()).save(any());
+        verify(existing, never()).setContent(any());
+        verify(presetCatalog).reload();
+    }
+
+    @Test
+    @DisplayName("원본 해시가 다르면 콘텐츠, 버전, 해시를 갱신")
+    void updatesChangedPreset() throws IOException {
+        TemplateEntity existing = mock(TemplateEntity.class);
+        when(existing.getSourceHash()).thenReturn("outdated");
+        when(existing.getVersion()).thenReturn(11);
+        when(templateRepository.findByIsPresetTrueAndPresetId(PRESET_ID)).thenReturn(Optional.of(existing));
+
+        service.initializePresets();
+
+        verify(existing).setContent(any());
+        verify(existing).setVersion(12);
+        verify(existing).setSourceHash(currentHash());
+        verify(templateRepository).save(existing);
+        verify(presetCatalog).reload();
+    }
+
+    private static String currentHash() throws IOException {
+        var resource = new DefaultResourceLoader().getResource("classpath:presets/templates/standard-employment-contract.html");
+        try (var inputStream = resource.getInputStream()) {
+            return PresetInitializationService.sourceHash(StreamUtils.copyToByteArray(inputStream));
+        }
+    }
+}
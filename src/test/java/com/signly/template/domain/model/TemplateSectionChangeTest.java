@@ -0,0 +1,121 @@
+package com.signly.template.domain.model;
+
+import com.signly.common.exception.ValidationException;
+import com.signly.user.domain.model.UserId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TemplateSectionChangeTest {
+
+    @Test
+    @DisplayName("섹션 추가 후 순서를 0부터 다시 매김")
+    void addRenumbersSections() {
+        TemplateContent content = content("a", "b", "c");
+
+        TemplateContent changed = content.apply(TemplateSectionChange.add(section("new", 99), 1));
+
+        assertThat(sectionIds(changed)).containsExactly("a", "new", "b", "c");
+        assertThat(changed.sections()).extracting(TemplateSection::getOrder).containsExactly(0, 1, 2, 3);
+        assertThat(sectionIds(content)).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("위치 없이 추가하면 마지막에 붙음")
+    void addWithoutPositionAppends() {
+        TemplateContent changed = content("a", "b").apply(TemplateSectionChange.add(section("new", 0), null));
+
+        assertThat(sectionIds(changed)).containsExactly("a", "b", "new");
+    }
+
+    @Test
+    @DisplayName("섹션 이동과 삭제")
+    void moveAndDelete() {
+        TemplateContent moved = content("a", "b", "c").apply(TemplateSectionChange.move("c", 0));
+        TemplateContent deleted = moved.apply(TemplateSectionChange.delete("a"));
+
+        assertThat(sectionIds(moved)).containsExactly("c", "a", "b");
+        assertThat(sectionIds(deleted)).containsExactly("c", "b");
+        assertThat(deleted.sections()).extracting(TemplateSection::getOrder).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("섹션 수정은 위치를 유지하고 내용만 교체")
+    void updateKeepsPosition() {
+        TemplateSection updated = TemplateSection.of("b", TemplateSectionType.PARAGRAPH, 0, "수정됨", Map.of(), List.of());
+
+        TemplateContent changed = content("a", "b", "c").apply(TemplateSectionChange.update(updated));
+
+        assertThat(sectionIds(changed)).containsExactly("a", "b", "c");
+        assertThat(changed.sections().get(1).getContent()).isEqualTo("수정됨");
+        assertThat(changed.sections().get(1).getOrder()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 있는 섹션 추가, 없는 섹션 변경, 마지막 섹션 삭제는 거부")
+    void rejectsInvalidChanges() {
+        TemplateContent content = content("a");
+
+        assertThatThrownBy(() -> content.apply(TemplateSectionChange.add(section("a", 0), null)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> content.apply(TemplateSectionChange.move("missing", 0)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> content.apply(TemplateSectionChange.delete("a")))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("변경 하나당 템플릿 버전이 1 증가하며, 활성화된 템플릿은 수정할 수 없음")
+    void templateVersionAndStatus() {
+        ContractTemplate draft = template(TemplateStatus.DRAFT);
+        draft.applySectionChange(TemplateSectionChange.delete("b"));
+        draft.applySectionChange(TemplateSectionChange.move("a", 1));
+
+        assertThat(draft.getVersion()).isEqualTo(5);
+        assertThat(sectionIds(draft.getContent())).containsExactly("c", "a");
+
+        ContractTemplate active = template(TemplateStatus.ACTIVE);
+        assertThatThrownBy(() -> active.applySectionChange(TemplateSectionChange.delete("b")))
+                .isInstanceOf(ValidationException.class);
+        assertThat(active.getVersion()).isEqualTo(3);
+    }
+
+    private static ContractTemplate template(TemplateStatus status) {
+        return ContractTemplate.restore(
+                TemplateId.of("01HZX3J5Q8W6V4N2M7K9P0R1ST"),
+                UserId.of("01HZX3J5Q8W6V4N2M7K9P0R1SV"),
+                "근로계약서",
+                content("a", "b", "c"),
+                3,
+                status,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+
+    private static TemplateContent content(String... sectionIds) {
+        var sections = new ArrayList<TemplateSection>();
+        for (int i = 0; i < sectionIds.length; i++) {
+            sections.add(section(sectionIds[i], i));
+        }
+        return TemplateContent.of(TemplateMetadata.of("근로계약서", "", "", Map.of()), sections);
+    }
+
+    private static TemplateSection section(
+            String sectionId,
+            int order
+    ) {
+        return TemplateSection.of(sectionId, TemplateSectionType.PARAGRAPH, order, "섹션 " + sectionId, Map.of(), List.of());
+    }
+
+    private static List<String> sectionIds(TemplateContent content) {
+        return content.sections().stream().map(TemplateSection::getSectionId).toList();
+    }
+}
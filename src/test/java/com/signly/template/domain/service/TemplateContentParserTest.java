@@ -0,0 +1,92 @@
+package com.signly.template.domain.service;
+
+import com.signly.common.exception.ValidationException;
+import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.domain.model.TemplateMetadata;
+import com.signly.template.domain.model.TemplateSection;
+import com.signly.template.domain.model.TemplateSectionType;
+import com.signly.template.domain.model.TemplateVariable;
+import com.signly.template.domain.model.TemplateVariableType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TemplateContentParserTest {
+
+    private final TemplateContentParser parser = new TemplateContentParser();
+
+    @Test
+    @DisplayName("직렬화한 JSON을 다시 읽으면 같은 콘텐츠")
+    void roundTrip() {
+        TemplateContent original = TemplateContent.of(
+                TemplateMetadata.of("근로계약서", "설명", "tester",
+                        Map.of("EMPLOYEE", TemplateVariable.of("근로자", TemplateVariableType.TEXT, true, ""))),
+                List.of(
+                        TemplateSection.of("title", TemplateSectionType.HEADER, 0, "표준근로계약서",
+                                Map.of("level", 1, "align", "center"), List.of()),
+                        TemplateSection.of("body", TemplateSectionType.PARAGRAPH, 1, "근로자: [EMPLOYEE] \"따옴표\"\n줄바꿈",
+                                Map.of("ratio", 0.5, "tags", List.of("a", "b"), "nested", Map.of("on", true)),
+                                List.of("EMPLOYEE"))
+                )
+        );
+
+        TemplateContent parsed = TemplateContent.fromJson(original.toJson());
+
+        assertThat(parsed.metadata().title()).isEqualTo("근로계약서");
+        assertThat(parsed.metadata().variables().get("EMPLOYEE").required()).isTrue();
+        assertThat(parsed.sections()).extracting(TemplateSection::getSectionId).containsExactly("title", "body");
+        TemplateSection body = parsed.sections().get(1);
+        assertThat(body.getContent()).isEqualTo("근로자: [EMPLOYEE] \"따옴표\"\n줄바꿈");
+        assertThat(body.getMetadata()).containsEntry("ratio", 0.5)
+                .containsEntry("tags", List.of("a", "b"))
+                .containsEntry("nested", Map.of("on", true));
+        assertThat(body.getVariables()).containsExactly("EMPLOYEE");
+        assertThat(parsed.sections().get(0).getMetadata()).containsEntry("level", 1);
+    }
+
+    @Test
+    @DisplayName("누락/형식이 다른 필드와 알 수 없는 필드는 트리 파서와 같이 기본값으로 처리")
+    void lenientFields() {
+        String json = """
+                {"unknown": {"deep": [1, 2, {"x": null}]},
+                 "metadata": {"title": 7, "variables": {"AMOUNT": {"type": "number", "required": "true"}, "FLAG": 1}},
+                 "sections": [{"type": "header", "order": "3", "content": 10, "metadata": [], "extra": {}},
+                              {"sectionId": "s2", "type": "UNKNOWN_TYPE"}]}
+                """;
+
+        TemplateContentParser.TemplateContentData data = parser.parseFromJson(json);
+
+        assertThat(data.version()).isEqualTo("1.0");
+        assertThat(data.metadata().title()).isEqualTo("7");
+        assertThat(data.metadata().variables().get("AMOUNT").type()).isEqualTo(TemplateVariableType.NUMBER);
+        assertThat(data.metadata().variables().get("AMOUNT").required()).isTrue();
+        assertThat(data.metadata().variables().get("FLAG").label()).isEqualTo("FLAG");
+
+        TemplateSection first = data.sections().get(0);
+        assertThat(first.getSectionId()).isNotBlank();
+        assertThat(first.getType()).isEqualTo(TemplateSectionType.HEADER);
+        assertThat(first.getOrder()).isEqualTo(3);
+        assertThat(first.getContent()).isEqualTo("10");
+        assertThat(first.getMetadata()).isEmpty();
+
+        TemplateSection second = data.sections().get(1);
+        assertThat(second.getType()).isEqualTo(TemplateSectionType.PARAGRAPH);
+        assertThat(second.getOrder()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("sections 배열이 없거나 JSON이 깨지면 검증 오류")
+    void rejectsInvalidDocuments() {
+        assertThatThrownBy(() -> parser.parseFromJson("{\"metadata\": {}}"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("sections");
+        assertThatThrownBy(() -> parser.parseFromJson("{\"sections\": [}"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("JSON 파싱 실패");
+    }
+}
@@ -0,0 +1,102 @@
+package com.signly.template.domain.service;
+
+import com.signly.template.domain.model.CompiledTemplateLayout;
+import com.signly.template.domain.model.CompiledTemplateLayout.CompiledSection;
+import com.signly.template.domain.model.CompiledTemplateLayout.LayoutSegment;
+import com.signly.template.domain.model.CompiledTemplateLayout.LineBreak;
+import com.signly.template.domain.model.CompiledTemplateLayout.Literal;
+import com.signly.template.domain.model.CompiledTemplateLayout.Variable;
+import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.domain.model.TemplateMetadata;
+import com.signly.template.domain.model.TemplateSection;
+import com.signly.template.domain.model.TemplateSectionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TemplateLayoutCompilerTest {
+
+    @Test
+    @DisplayName("본문을 리터럴/변수 조각으로 분리")
+    void segmentsSplitsLiteralsAndVariables() {
+        List<LayoutSegment> segments = TemplateLayoutCompiler.segments("갑: [EMPLOYER], 을: [EMPLOYEE]", false);
+
+        assertThat(segments).containsExactly(
+                new Literal("갑: "),
+                new Variable("EMPLOYER"),
+                new Literal(", 을: "),
+                new Variable("EMPLOYEE")
+        );
+    }
+
+    @Test
+    @DisplayName("빈 대괄호와 닫히지 않은 대괄호는 리터럴로 유지")
+    void segmentsKeepsEmptyAndUnclosedBrackets() {
+        assertThat(TemplateLayoutCompiler.segments("체크 [] [NAME] [미완", false)).containsExactly(
+                new Literal("체크 [] "),
+                new Variable("NAME"),
+                new Literal(" [미완")
+        );
+    }
+
+    @Test
+    @DisplayName("줄바꿈 처리 섹션은 개행을 LineBreak로 분리")
+    void segmentsSplitsLineBreaks() {
+        assertThat(TemplateLayoutCompiler.segments("첫째 줄\n[NAME]\n", true)).containsExactly(
+                new Literal("첫째 줄"),
+                LineBreak.INSTANCE,
+                new Variable("NAME"),
+                LineBreak.INSTANCE
+        );
+        assertThat(TemplateLayoutCompiler.segments("a\nb", false)).containsExactly(new Literal("a\nb"));
+    }
+
+    @Test
+    @DisplayName("섹션 순서대로 정렬하고 유형별 클래스와 태그를 지정")
+    void compileAssignsClassesAndTags() {
+        TemplateContent content = TemplateContent.of(
+                TemplateMetadata.of("테스트", "설명", "테스터", Map.of()),
+                List.of(
+                        TemplateSection.of("footer", TemplateSectionType.FOOTER, 3, "[EMPLOYER]", null, null),
+                        TemplateSection.of("title", TemplateSectionType.HEADER, 1, "근로계약서", Map.of("level", 2), null),
+                        TemplateSection.of("body", TemplateSectionType.PARAGRAPH, 2, "내용",
+                                Map.of("indent", true, "alignment", "justify"), null),
+                        TemplateSection.of("raw", TemplateSectionType.CUSTOM, 4, "<b>[NAME]</b>", Map.of("sanitize", false), null)
+                )
+        );
+
+        CompiledTemplateLayout layout = TemplateLayoutCompiler.compile(content);
+
+        assertThat(layout.sections()).extracting(CompiledSection::type).containsExactly(
+                TemplateSectionType.HEADER,
+                TemplateSectionType.PARAGRAPH,
+                TemplateSectionType.FOOTER,
+                TemplateSectionType.CUSTOM
+        );
+
+        CompiledSection header = layout.sections().get(0);
+        assertThat(header.sectionClass()).isEqualTo("template-heading text-center");
+        assertThat(header.contentTag()).isEqualTo("h2");
+
+        CompiledSection paragraph = layout.sections().get(1);
+        assertThat(paragraph.sectionClass()).isEqualTo("template-paragraph template-paragraph-indent text-justify");
+        assertThat(paragraph.lineBreaks()).isTrue();
+
+        CompiledSection custom = layout.sections().get(3);
+        assertThat(custom.rawHtml()).isTrue();
+        assertThat(custom.segments()).contains(new Variable("NAME"));
+    }
+
+    @Test
+    @DisplayName("값이 없는 변수는 [변수명] 그대로 출력")
+    void variableResolveFallsBackToPlaceholder() {
+        Variable variable = new Variable("NAME");
+
+        assertThat(variable.resolve(Map.of("NAME", "홍길동"))).isEqualTo("홍길동");
+        assertThat(variable.resolve(Map.of())).isEqualTo("[NAME]");
+    }
+}
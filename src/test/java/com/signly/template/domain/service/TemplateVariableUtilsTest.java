@@ -156,4 +156,31 @@ class TemplateVariableUtilsTest {
                           .contains("[PARTY_A_SIGNATURE_IMAGE]")
                           .contains("[PARTY_B_SIGNATURE_IMAGE]");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("빈 대괄호는 변수로 취급하지 않고 값은 한 번만 이스케이프")
+    void substituteVariablesEdgeCasesTest() {
+        // Given
+        String input = "체크 [] [NAME] [미완";
+        Map<String, String> values = Map.of("NAME", "A&B <주>");
+
+        // When
+        String result = TemplateVariableUtils.substituteVariables(input, values);
+
+        // Then
+        assertThat(result).isEqualTo("체크 [] A&amp;B &lt;주&gt; [미완");
+    }
+
+    @Test
+    @DisplayName("이스케이프할 문자가 없으면 원본 문자열 반환")
+    void escapeHtmlUnchangedTest() {
+        // Given
+        String input = "홍길동 (주)";
+
+        // When
+        String result = TemplateVariableUtils.escapeHtml(input);
+
+        // Then
+        assertThat(result).isSameAs(input);
+    }
+}
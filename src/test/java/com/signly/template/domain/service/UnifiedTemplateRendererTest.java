@@ -108,6 +108,24 @@ class UnifiedTemplateRendererTest {
                           .contains("template-document");
     }
 
+    @Test
+    @DisplayName("변수 값은 한 번만 이스케이프하고 줄바꿈은 br로 변환")
+    void renderWithVariablesEscapesValuesOnceTest() {
+        // Given
+        TemplateMetadata templateMetadata = TemplateMetadata.of("테스트", "설명", "테스터", Map.of());
+        TemplateSection section = TemplateSection.of("sec1", TemplateSectionType.PARAGRAPH, 1, "<갑> [EMPLOYER]", null, null);
+        TemplateContent content = TemplateContent.of(templateMetadata, List.of(section));
+        Map<String, String> variables = Map.of("EMPLOYER", "A&B\n본사");
+
+        // When
+        String result = renderer.renderWithVariables(content, variables);
+
+        // Then
+        assertThat(result).isEqualTo("<div class=\"template-document\">\n" +
+                "<section class=\"template-paragraph\"><p>&lt;갑&gt; A&amp;B<br>본사</p></section>\n" +
+                "</div>");
+    }
+
     @Test
     @DisplayName("일반 텍스트 렌더링 테스트")
     void renderPlainTextTest() {
@@ -0,0 +1,43 @@
+package com.signly.template.infrastructure.cache;
+
+import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.domain.model.TemplateMetadata;
+import com.signly.template.domain.model.TemplateSection;
+import com.signly.template.domain.model.TemplateSectionType;
+import com.signly.template.domain.model.TemplateVariable;
+import com.signly.template.domain.model.TemplateVariableType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TemplateContentSmileCodecTest {
+
+    @Test
+    @DisplayName("Smile 스냅샷은 JSON보다 작고 같은 콘텐츠로 복원")
+    void roundTripIsSmallerThanJson() {
+        var sections = new ArrayList<TemplateSection>();
+        for (int i = 0; i < 20; i++) {
+            sections.add(TemplateSection.of("section-" + i, TemplateSectionType.PARAGRAPH, i,
+                    i + ". [EMPLOYER]과(와) [EMPLOYEE]은 다음과 같이 근로계약을 체결한다.",
+                    Map.of("title", "제" + i + "조", "clauseNumber", i), List.of("EMPLOYER", "EMPLOYEE")));
+        }
+        TemplateContent content = TemplateContent.of(
+                TemplateMetadata.of("근로계약서", "", "system",
+                        Map.of("EMPLOYER", TemplateVariable.of("사업주", TemplateVariableType.TEXT, true, ""))),
+                sections
+        );
+
+        byte[] snapshot = TemplateContentSmileCodec.encode(content);
+        TemplateContent decoded = TemplateContentSmileCodec.decode(snapshot);
+
+        assertThat(snapshot.length).isLessThan(content.toJson().getBytes(StandardCharsets.UTF_8).length);
+        assertThat(decoded.toJson()).isEqualTo(content.toJson());
+        assertThat(decoded.sections().get(3).getMetadata()).containsEntry("clauseNumber", 3);
+    }
+}
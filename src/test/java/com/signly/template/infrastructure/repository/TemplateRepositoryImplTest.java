@@ -0,0 +1,176 @@
+package com.signly.template.infrastructure.repository;
+
+import com.signly.common.encryption.EncryptionConfig;
+import com.signly.common.exception.ConflictException;
+import com.signly.common.pagination.KeysetCursor;
+import com.signly.template.application.CompiledTemplateCache;
+import com.signly.template.domain.model.ContractTemplate;
+import com.signly.template.domain.model.TemplateContent;
+import com.signly.template.domain.model.TemplateId;
+import com.signly.template.domain.model.TemplateMetadata;
+import com.signly.template.domain.model.TemplateSection;
+import com.signly.template.domain.model.TemplateSectionChange;
+import com.signly.template.domain.model.TemplateSectionType;
+import com.signly.template.domain.model.TemplateStatus;
+import com.signly.template.infrastructure.entity.TemplateEntity;
+import com.signly.template.infrastructure.mapper.TemplateEntityMapper;
+import com.signly.user.domain.model.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EncryptionConfig.class, TemplateRepositoryImpl.class, TemplateEntityMapper.class,
+        TemplateRepositoryImplTest.CacheConfig.class})
+@TestPropertySource(properties = {
+        "app.encryption.enabled=true",
+        "app.encryption.secret-key=MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=",
+        "app.encryption.salt=testSaltForIntegrationTest123"
+})
+@DisplayName("템플릿 섹션 변경 기록 저장")
+class TemplateRepositoryImplTest {
+
+    private static final UserId OWNER_ID = UserId.generate();
+
+    @Autowired
+    private TemplateRepositoryImpl templateRepository;
+
+    @Autowired
+    private TemplateSectionChangeJpaRepository sectionChangeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @TestConfiguration
+    static class CacheConfig {
+        @Bean
+        CompiledTemplateCache compiledTemplateCache() {
+            return new CompiledTemplateCache(new SimpleMeterRegistry(), 100);
+        }
+    }
+
+    @Test
+    @DisplayName("읽은 버전이 이미 바뀌었으면 변경 기록을 저장하지 않음 (409 경로)")
+    void rejectsStaleVersion() {
+        ContractTemplate template = templateRepository.save(draft());
+        ContractTemplate first = templateRepository.findById(template.getTemplateId()).orElseThrow();
+        ContractTemplate second = templateRepository.findById(template.getTemplateId()).orElseThrow();
+
+        assertThat(patch(first, TemplateSectionChange.delete("body"))).isTrue();
+        assertThat(patch(second, TemplateSectionChange.move("body", 0))).isFalse();
+        entityManager.clear();
+
+        ContractTemplate reloaded = templateRepository.findById(template.getTemplateId()).orElseThrow();
+        assertThat(reloaded.getVersion()).isEqualTo(2);
+        assertThat(reloaded.getContent().sections()).extracting(TemplateSection::getSectionId).containsExactly("title");
+        assertThat(sectionChangeRepository.findChangesAfter(template.getTemplateId().value(), 0)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전체 저장 시 변경 기록을 콘텐츠에 압축하고 기록 행을 삭제")
+    void compactsChangesOnFullSave() {
+        ContractTemplate template = templateRepository.save(draft());
+        ContractTemplate loaded = templateRepository.findById(template.getTemplateId()).orElseThrow();
+        patch(loaded, TemplateSectionChange.add(section("note", "추가 조항"), null));
+        entityManager.clear();
+
+        ContractTemplate patched = templateRepository.findById(template.getTemplateId()).orElseThrow();
+        patched.updateTitle("근로계약서 (수정)");
+        templateRepository.save(patched);
+        entityManager.flush();
+        entityManager.clear();
+
+        String templateId = template.getTemplateId().value();
+        assertThat(sectionChangeRepository.findChangesAfter(templateId, 0)).isEmpty();
+        TemplateEntity entity = entityManager.find(TemplateEntity.class, templateId);
+        assertThat(entity.getContentVersion()).isEqualTo(entity.getVersion());
+        assertThat(entity.getContent()).contains("추가 조항");
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 섹션 변경이 저장되었으면 전체 저장을 거부하고 변경 기록을 유지 (409 경로)")
+    void rejectsFullSaveOverNewerVersion() {
+        ContractTemplate template = templateRepository.save(draft());
+        ContractTemplate stale = templateRepository.findById(template.getTemplateId()).orElseThrow();
+        patch(templateRepository.findById(template.getTemplateId()).orElseThrow(),
+                TemplateSectionChange.delete("body"));
+        entityManager.clear();
+
+        stale.updateTitle("근로계약서 (수정)");
+        assertThatThrownBy(() -> templateRepository.save(stale))
+                .isInstanceOf(ConflictException.class);
+        entityManager.clear();
+
+        String templateId = template.getTemplateId().value();
+        TemplateEntity entity = entityManager.find(TemplateEntity.class, templateId);
+        assertThat(entity.getVersion()).isEqualTo(2);
+        assertThat(entity.getTitle()).isEqualTo("근로계약서");
+        assertThat(sectionChangeRepository.findChangesAfter(templateId, 0)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("목록 조회는 변경 기록이 있는 템플릿의 기록을 한 번에 읽어 적용")
+    void appliesChangesToListPage() {
+        ContractTemplate patchedTemplate = templateRepository.save(draft());
+        templateRepository.save(draft());
+        patch(templateRepository.findById(patchedTemplate.getTemplateId()).orElseThrow(),
+                TemplateSectionChange.delete("body"));
+        entityManager.clear();
+
+        List<ContractTemplate> page = templateRepository.findByOwnerId(OWNER_ID, null, KeysetCursor.first(), 10);
+
+        assertThat(page).hasSize(2);
+        assertThat(page).filteredOn(template -> template.getTemplateId().equals(patchedTemplate.getTemplateId()))
+                .singleElement()
+                .satisfies(template -> assertThat(template.getContent().sections())
+                        .extracting(TemplateSection::getSectionId).containsExactly("title"));
+    }
+
+    private boolean patch(
+            ContractTemplate template,
+            TemplateSectionChange change
+    ) {
+        int expectedVersion = template.getVersion();
+        template.applySectionChange(change);
+        return templateRepository.saveSectionChanges(template, expectedVersion, List.of(change));
+    }
+
+    private static ContractTemplate draft() {
+        return ContractTemplate.restore(
+                TemplateId.generate(),
+                OWNER_ID,
+                "근로계약서",
+                TemplateContent.of(
+                        TemplateMetadata.of("테스트", "설명", "테스터", Map.of()),
+                        List.of(section("title", "근로계약서"), section("body", "[EMPLOYER]와 [EMPLOYEE]"))
+                ),
+                1,
+                TemplateStatus.DRAFT,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+
+    private static TemplateSection section(
+            String sectionId,
+            String content
+    ) {
+        return TemplateSection.of(sectionId, TemplateSectionType.PARAGRAPH, 0, content, null, List.of());
+    }
+}
@@ -0,0 +1,107 @@
+package com.signly.template.presentation.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.signly.template.application.VariableDefinitionRegistry;
+import com.signly.template.application.dto.VariableDefinitionDto;
+import com.signly.template.application.preset.TemplatePresetService;
+import com.signly.template.domain.model.VariableCategory;
+import com.signly.template.domain.model.VariableType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReferenceDataResponseCacheTest {
+
+    private VariableDefinitionRegistry registry;
+    private ReferenceDataResponseCache cache;
+    private ReferenceDataCacheInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        registry = mock(VariableDefinitionRegistry.class);
+        cache = new ReferenceDataResponseCache(registry, mock(TemplatePresetService.class), new ObjectMapper(),
+                Duration.ofMinutes(5), Duration.ofMinutes(10));
+        interceptor = new ReferenceDataCacheInterceptor(cache);
+
+        when(registry.getVersion()).thenReturn(1L);
+        when(registry.getAll()).thenReturn(List.of(definition("WORKPLACE", "근무장소")));
+        when(registry.getGroupedByCategory()).thenReturn(Map.of());
+    }
+
+    @Test
+    @DisplayName("데이터 버전이 같으면 미리 직렬화한 본문을 재사용")
+    void reusesBodyWhileVersionUnchanged() {
+        CachedResponse first = cache.variables();
+        CachedResponse second = cache.variables();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.cacheControl().getHeaderValue()).contains("private");
+        verify(registry, times(1)).getAll();
+    }
+
+    @Test
+    @DisplayName("데이터 버전이 바뀌면 본문과 ETag를 다시 만듦")
+    void rebuildsWhenVersionChanges() {
+        String before = cache.variables().eTag();
+
+        when(registry.getVersion()).thenReturn(2L);
+        when(registry.getAll()).thenReturn(List.of(definition("WORKPLACE", "근무 장소")));
+
+        assertThat(cache.variables().eTag()).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 컨트롤러 전에 304 응답")
+    void interceptorAnswersNotModified() {
+        CachedResponse cached = cache.variables();
+        var request = variablesRequest("W/" + cached.eTag());
+        var response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(cached.eTag());
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo(cached.cacheControl().getHeaderValue());
+    }
+
+    @Test
+    @DisplayName("ETag가 다르면 컨트롤러로 진행")
+    void interceptorPassesStaleETag() {
+        var response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(variablesRequest("\"stale\""), response, new Object());
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    private static MockHttpServletRequest variablesRequest(String ifNoneMatch) {
+        var request = new MockHttpServletRequest("GET", ReferenceDataCacheInterceptor.VARIABLES_PATH);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ReferenceDataCacheInterceptor.VARIABLES_PATH);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return request;
+    }
+
+    private static VariableDefinitionDto definition(
+            String name,
+            String displayName
+    ) {
+        return new VariableDefinitionDto(1L, name, displayName, VariableCategory.WORK_CONDITION, VariableType.TEXT,
+                null, null, 10, null, null, false, null, null, null, 0, true, "text");
+    }
+}
@@ -1,24 +1,30 @@
 package com.signly.template.presentation.rest;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.signly.common.pagination.CursorSlice;
+import com.signly.common.pagination.KeysetCursor;
 import com.signly.template.application.TemplateService;
+import com.signly.template.application.VariableDefinitionRegistry;
 import com.signly.template.application.dto.TemplateResponse;
+import com.signly.template.application.preset.PresetSection;
 import com.signly.template.application.preset.TemplatePresetService;
 import com.signly.template.application.preset.TemplatePresetSummary;
 import com.signly.template.application.preset.TemplatePreset;
 import com.signly.template.domain.model.TemplateStatus;
+import com.signly.template.presentation.cache.ReferenceDataResponseCache;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -26,7 +32,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 class TemplateRestControllerTest {
@@ -34,6 +40,7 @@ class TemplateRestControllerTest {
     private TemplateRestController controller;
     private TemplateService templateService;
     private TemplatePresetService presetService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
     private HttpServletRequest request;
     private SecurityContext securityContext;
     private Authentication authentication;
@@ -46,7 +53,10 @@ class TemplateRestControllerTest {
         securityContext = mock(SecurityContext.class);
         authentication = mock(Authentication.class);
 
-        controller = new TemplateRestController(templateService, presetService);
+        when(presetService.getCatalogETag()).thenReturn("\"catalog-v1\"");
+        var responseCache = new ReferenceDataResponseCache(mock(VariableDefinitionRegistry.class), presetService,
+                objectMapper, Duration.ofMinutes(5), Duration.ofMinutes(10));
+        controller = new TemplateRestController(templateService, presetService, responseCache);
 
         // SecurityContext 모의 설정
         SecurityContextHolder.setContext(securityContext);
@@ -65,21 +75,22 @@ class TemplateRestControllerTest {
                 new TemplateResponse("2", userId, "Template 2", "Content 2", 1, TemplateStatus.ACTIVE,
                         LocalDateTime.now(), LocalDateTime.now(), List.of(), "rendered", "preview", Map.of())
         );
-        Page<TemplateResponse> expectedPage = new PageImpl<>(templates);
+        CursorSlice<TemplateResponse> expectedPage = CursorSlice.of(templates, 20, template -> KeysetCursor.first());
 
         when(request.getAttribute("userId")).thenReturn(userId);
-        when(templateService.getTemplatesByOwner(eq(userId), any(Pageable.class)))
+        when(templateService.getTemplatesByOwner(userId, null, null, 20))
                 .thenReturn(expectedPage);
 
         // When
-        ResponseEntity<Page<TemplateResponse>> response = controller.getTemplates(
-                null, org.springframework.data.domain.PageRequest.of(0, 20), request);
+        ResponseEntity<CursorSlice<TemplateResponse>> response = controller.getTemplates(
+                null, null, 20, request);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody()).isEqualTo(expectedPage);
-        verify(templateService).getTemplatesByOwner(eq(userId), any(Pageable.class));
+        assertThat(response.getBody().hasNext()).isFalse();
+        verify(templateService).getTemplatesByOwner(userId, null, null, 20);
     }
 
     @Test
@@ -89,12 +100,12 @@ class TemplateRestControllerTest {
         when(request.getAttribute("userId")).thenReturn(null);
 
         // When
-        ResponseEntity<Page<TemplateResponse>> response = controller.getTemplates(
-                null, null, request);
+        ResponseEntity<CursorSlice<TemplateResponse>> response = controller.getTemplates(
+                null, null, 20, request);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-        verify(templateService, never()).getTemplatesByOwner(any(), any());
+        verify(templateService, never()).getTemplatesByOwner(any(), any(), any(), anyInt());
     }
 
     @Test
@@ -107,26 +118,26 @@ class TemplateRestControllerTest {
                 new TemplateResponse("1", userId, "Active Template", "Content", 1, status,
                         LocalDateTime.now(), LocalDateTime.now(), List.of(), "rendered", "preview", Map.of())
         );
-        Page<TemplateResponse> expectedPage = new PageImpl<>(templates);
+        CursorSlice<TemplateResponse> expectedPage = CursorSlice.of(templates, 20, template -> KeysetCursor.first());
 
         when(request.getAttribute("userId")).thenReturn(userId);
-        when(templateService.getTemplatesByOwnerAndStatus(eq(userId), eq(status), any(Pageable.class)))
+        when(templateService.getTemplatesByOwner(userId, status, null, 20))
                 .thenReturn(expectedPage);
 
         // When
-        ResponseEntity<Page<TemplateResponse>> response = controller.getTemplates(
-                status, org.springframework.data.domain.PageRequest.of(0, 20), request);
+        ResponseEntity<CursorSlice<TemplateResponse>> response = controller.getTemplates(
+                status, null, 20, request);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody()).isEqualTo(expectedPage);
-        verify(templateService).getTemplatesByOwnerAndStatus(eq(userId), eq(status), any(Pageable.class));
+        verify(templateService).getTemplatesByOwner(userId, status, null, 20);
     }
 
     @Test
     @DisplayName("프리셋 템플릿 목록은 인증 없이 조회할 수 있다")
-    void getPresetTemplates_NoAuthentication_ReturnsPresets() {
+    void getPresetTemplates_NoAuthentication_ReturnsPresets() throws Exception {
         // Given
         var summaries = List.of(
                 new TemplatePresetSummary("preset1", "Standard Contract", "Standard employment contract"),
@@ -136,13 +147,16 @@ class TemplateRestControllerTest {
         when(presetService.getSummaries()).thenReturn(summaries);
 
         // When
-        ResponseEntity<List<Map<String, Object>>> response = controller.getPresetTemplates();
+        ResponseEntity<byte[]> response = controller.getPresetTemplates();
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).hasSize(2);
-        
-        Map<String, Object> firstPreset = response.getBody().get(0);
+        assertThat(response.getHeaders().getETag()).startsWith("\"");
+        assertThat(response.getHeaders().getCacheControl()).contains("public");
+        List<Map<String, Object>> body = objectMapper.readValue(response.getBody(), new TypeReference<>() {});
+        assertThat(body).hasSize(2);
+
+        Map<String, Object> firstPreset = body.get(0);
         assertThat(firstPreset.get("presetId")).isEqualTo("preset1");
         assertThat(firstPreset.get("title")).isEqualTo("Standard Contract");
         assertThat(firstPreset.get("description")).isEqualTo("Standard employment contract");
@@ -150,7 +164,7 @@ class TemplateRestControllerTest {
 
     @Test
     @DisplayName("존재하는 프리셋 템플릿은 상세 조회할 수 있다")
-    void getPresetTemplate_ExistingPreset_ReturnsPresetDetails() {
+    void getPresetTemplate_ExistingPreset_ReturnsPresetDetails() throws Exception {
         // Given
         String presetId = "preset1";
         var preset = mock(TemplatePreset.class);
@@ -160,14 +174,16 @@ class TemplateRestControllerTest {
         when(preset.getDescription()).thenReturn("Standard employment contract");
         when(preset.renderHtml()).thenReturn("<html><body>Contract Content</body></html>");
         
+        when(presetService.getSummaries()).thenReturn(List.of(
+                new TemplatePresetSummary(presetId, "Standard Contract", "Standard employment contract")));
         when(presetService.getPreset(presetId)).thenReturn(Optional.of(preset));
 
         // When
-        ResponseEntity<Map<String, Object>> response = controller.getPresetTemplate(presetId);
+        ResponseEntity<byte[]> response = controller.getPresetTemplate(presetId);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        Map<String, Object> responseBody = response.getBody();
+        Map<String, Object> responseBody = objectMapper.readValue(response.getBody(), new TypeReference<>() {});
         assertThat(responseBody.get("presetId")).isEqualTo(presetId);
         assertThat(responseBody.get("title")).isEqualTo("Standard Contract");
         assertThat(responseBody.get("description")).isEqualTo("Standard employment contract");
@@ -179,12 +195,48 @@ class TemplateRestControllerTest {
     void getPresetTemplate_NonExistingPreset_ReturnsNotFound() {
         // Given
         String presetId = "nonexistent";
+        when(presetService.getSummaries()).thenReturn(List.of());
         when(presetService.getPreset(presetId)).thenReturn(Optional.empty());
 
         // When
-        ResponseEntity<Map<String, Object>> response = controller.getPresetTemplate(presetId);
+        ResponseEntity<byte[]> response = controller.getPresetTemplate(presetId);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("프리셋 미리보기 HTML은 응답 Writer로 스트리밍된다")
+    void streamPresetPreview_ExistingPreset_WritesHtml() throws Exception {
+        // Given
+        String presetId = "preset1";
+        var preset = new TemplatePreset(presetId, "Standard Contract", "Standard employment contract", List.of(
+                new PresetSection("s2", "PARAGRAPH", 2, "근로자: [EMPLOYEE]", Map.of()),
+                new PresetSection("s1", "HEADER", 1, "근로계약서", Map.of())
+        ));
+        when(presetService.getPreset(presetId)).thenReturn(Optional.of(preset));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        controller.streamPresetPreview(presetId, response);
+
+        // Then
+        assertThat(response.getContentType()).startsWith("text/html");
+        assertThat(response.getContentAsString()).isEqualTo(
+                "근로계약서\n근로자: <span class=\"blank-line\" data-variable-name=\"EMPLOYEE\"></span>");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 프리셋 미리보기는 404를 반환한다")
+    void streamPresetPreview_NonExistingPreset_ReturnsNotFound() throws Exception {
+        // Given
+        when(presetService.getPreset("nonexistent")).thenReturn(Optional.empty());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        controller.streamPresetPreview("nonexistent", response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+}